@@ -1,5 +1,7 @@
 package com.workhub.checklist.event;
 
+import com.workhub.global.outbox.OutboxEvent;
+
 public record CheckListCommentCreatedEvent(
         Long projectId,
         Long nodeId,
@@ -10,5 +12,5 @@ public record CheckListCommentCreatedEvent(
         Long checklistOwnerId,
         Long parentCommentAuthorId,
         Long authorId
-) {
+) implements OutboxEvent {
 }
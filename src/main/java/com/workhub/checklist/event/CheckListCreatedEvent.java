@@ -1,4 +1,6 @@
 package com.workhub.checklist.event;
 
-public record CheckListCreatedEvent(Long projectId, Long nodeId) {
+import com.workhub.global.outbox.OutboxEvent;
+
+public record CheckListCreatedEvent(Long projectId, Long nodeId) implements OutboxEvent {
 }
@@ -1,6 +1,7 @@
 package com.workhub.checklist.event;
 
 import com.workhub.checklist.dto.checkList.CheckListItemStatus;
+import com.workhub.global.outbox.OutboxEvent;
 
 public record CheckListItemStatusChangedEvent(
         Long projectId,
@@ -9,5 +10,5 @@ public record CheckListItemStatusChangedEvent(
         Long checkListItemId,
         String itemContent,
         CheckListItemStatus status
-) {
+) implements OutboxEvent {
 }
@@ -1,4 +1,6 @@
 package com.workhub.checklist.event;
 
-public record CheckListUpdatedEvent(Long projectId, Long nodeId, String message) {
+import com.workhub.global.outbox.OutboxEvent;
+
+public record CheckListUpdatedEvent(Long projectId, Long nodeId, String message) implements OutboxEvent {
 }
@@ -5,11 +5,11 @@ import com.workhub.checklist.event.CheckListItemStatusChangedEvent;
 import com.workhub.checklist.event.CheckListUpdatedEvent;
 import com.workhub.global.notification.NotificationPublisher;
 import com.workhub.global.notification.NotificationTargetFinder;
+import com.workhub.global.outbox.OutboxDelivery;
 import com.workhub.projectNotification.entity.NotificationType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
-import org.springframework.transaction.event.TransactionPhase;
 
 import java.util.Set;
 
@@ -20,8 +20,9 @@ public class CheckListNotificationEventHandler {
     private final NotificationTargetFinder targetFinder;
     private final NotificationPublisher notificationPublisher;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onCreated(CheckListCreatedEvent event) {
+    @EventListener
+    public void onCreated(OutboxDelivery<CheckListCreatedEvent> delivery) {
+        CheckListCreatedEvent event = delivery.event();
         Set<Long> receivers = targetFinder.findAllMembersOfProject(event.projectId());
         if (receivers.isEmpty()) return;
 
@@ -36,13 +37,15 @@ public class CheckListNotificationEventHandler {
         );
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onUpdated(CheckListUpdatedEvent event) {
+    @EventListener
+    public void onUpdated(OutboxDelivery<CheckListUpdatedEvent> delivery) {
+        CheckListUpdatedEvent event = delivery.event();
         Set<Long> receivers = targetFinder.findAllClientMembersOfProject(event.projectId());
         if (receivers.isEmpty()) return;
 
         String url = buildUrl(event.projectId(), event.nodeId());
         notificationPublisher.publishProjectNode(
+                event.projectId(),
                 receivers,
                 NotificationType.CHECKLIST_UPDATED,
                 "체크리스트가 업데이트되었습니다.",
@@ -52,8 +55,9 @@ public class CheckListNotificationEventHandler {
         );
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onItemStatusChanged(CheckListItemStatusChangedEvent event) {
+    @EventListener
+    public void onItemStatusChanged(OutboxDelivery<CheckListItemStatusChangedEvent> delivery) {
+        CheckListItemStatusChangedEvent event = delivery.event();
         Set<Long> receivers = targetFinder.findAllDevMembersOfProject(event.projectId());
         if (receivers.isEmpty()) return;
 
@@ -62,6 +66,7 @@ public class CheckListNotificationEventHandler {
         String title = event.itemContent() == null ? "체크리스트 항목 상태 변경" : event.itemContent();
 
         notificationPublisher.publishProjectNode(
+                event.projectId(),
                 receivers,
                 NotificationType.CHECKLIST_ITEM_STATUS_CHANGED,
                 title,
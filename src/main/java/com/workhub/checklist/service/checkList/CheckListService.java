@@ -174,7 +174,8 @@ public class CheckListService {
      */
     public void snapShotAndRecordHistory(CheckListItem checkListItem, Long checkListItemId, ActionType actionType) {
         CheckListItemHistorySnapShot snapshot = CheckListItemHistorySnapShot.from(checkListItem);
-        historyRecorder.recordHistory(HistoryType.CHECK_LIST_ITEM, checkListItemId, actionType, snapshot);
+        historyRecorder.recordHistory(HistoryType.CHECK_LIST_ITEM, checkListItemId, actionType, snapshot,
+                checkListItem.getUserId());
     }
 
     /**
@@ -185,7 +186,8 @@ public class CheckListService {
      */
     public void snapShotAndRecordHistory(CheckListItemComment comment, Long commentId, ActionType actionType) {
         CheckListItemCommentHistorySnapShot snapshot = CheckListItemCommentHistorySnapShot.from(comment);
-        historyRecorder.recordHistory(HistoryType.CHECK_LIST_ITEM_COMMENT, commentId, actionType, snapshot);
+        historyRecorder.recordHistory(HistoryType.CHECK_LIST_ITEM_COMMENT, commentId, actionType, snapshot,
+                comment.getUserId());
     }
 
     /**
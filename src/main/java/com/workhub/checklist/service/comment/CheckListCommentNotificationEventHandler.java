@@ -2,11 +2,11 @@ package com.workhub.checklist.service.comment;
 
 import com.workhub.checklist.event.CheckListCommentCreatedEvent;
 import com.workhub.global.notification.NotificationPublisher;
+import com.workhub.global.outbox.OutboxDelivery;
 import com.workhub.projectNotification.entity.NotificationType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
-import org.springframework.transaction.event.TransactionPhase;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -17,8 +17,9 @@ public class CheckListCommentNotificationEventHandler {
 
     private final NotificationPublisher notificationPublisher;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onCommentCreated(CheckListCommentCreatedEvent event) {
+    @EventListener
+    public void onCommentCreated(OutboxDelivery<CheckListCommentCreatedEvent> delivery) {
+        CheckListCommentCreatedEvent event = delivery.event();
         Set<Long> receivers = new HashSet<>();
         if (event.checklistOwnerId() != null) {
             receivers.add(event.checklistOwnerId());
@@ -76,6 +76,6 @@ public class CsPostService {
      */
     public void snapShotAndRecordHistory(CsPost csPost, Long csPostId, ActionType actionType) {
         CsPostHistorySnapshot snapshot = CsPostHistorySnapshot.from(csPost);
-        historyRecorder.recordHistory(HistoryType.CS_POST, csPostId, actionType, snapshot);
+        historyRecorder.recordHistory(HistoryType.CS_POST, csPostId, actionType, snapshot, csPost.getUserId());
     }
 }
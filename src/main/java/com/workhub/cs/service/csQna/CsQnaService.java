@@ -90,6 +90,6 @@ public class CsQnaService {
      */
     public void snapShotAndRecordHistory(CsQna CsQna, Long csPostId, ActionType actionType) {
         CsQnaHistorySnapShot snapshot = CsQnaHistorySnapShot.from(CsQna);
-        historyRecorder.recordHistory(HistoryType.CS_QNA, csPostId, actionType, snapshot);
+        historyRecorder.recordHistory(HistoryType.CS_QNA, csPostId, actionType, snapshot, CsQna.getUserId());
     }
 }
@@ -1,5 +1,6 @@
 package com.workhub.file.service;
 
+import com.workhub.global.notification.SenderProfileCache;
 import com.workhub.global.util.SecurityUtil;
 import com.workhub.userTable.entity.UserTable;
 import com.workhub.userTable.service.UserService;
@@ -17,6 +18,7 @@ public class UpdateProfileService {
 
     private final ProfileImageService profileImageService;
     private final UserService userService;
+    private final SenderProfileCache senderProfileCache;
 
     public String updateProfile(MultipartFile file) {
 
@@ -27,6 +29,7 @@ public class UpdateProfileService {
         String newProfile = profileImageService.uploadProfileImage(file);
 
         user.updateProfile(newProfile);
+        senderProfileCache.invalidate(userID);
 
         // 기존 프로필 이미지가 있으면 삭제
         if (oldProfile != null && !oldProfile.isBlank()) {
@@ -0,0 +1,54 @@
+package com.workhub.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workhub.project.bus.RedisMembershipInvalidationBus;
+import com.workhub.projectNotification.bus.RedisNotificationBus;
+import com.workhub.projectNotification.service.NotificationEmitterService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 멀티 인스턴스 알림 전달 및 프로젝트 멤버 캐시 무효화용 Redis Pub/Sub 설정.
+ * workhub.notification.bus.type=redis 일 때만 활성화된다. (기본값 memory)
+ */
+@Configuration
+@ConditionalOnProperty(name = "workhub.notification.bus.type", havingValue = "redis")
+public class NotificationBusConfig {
+
+    @Bean
+    public RedisMessageListenerContainer notificationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    public RedisNotificationBus redisNotificationBus(
+            @Value("${workhub.notification.bus.channel:workhub:notifications}") String channel,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer notificationListenerContainer,
+            ObjectMapper objectMapper,
+            NotificationEmitterService emitterService,
+            MeterRegistry meterRegistry
+    ) {
+        return new RedisNotificationBus(channel, redisTemplate, notificationListenerContainer,
+                objectMapper, emitterService, meterRegistry);
+    }
+
+    @Bean
+    public RedisMembershipInvalidationBus redisMembershipInvalidationBus(
+            @Value("${workhub.notification.bus.channel:workhub:notifications}") String channel,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer notificationListenerContainer,
+            MeterRegistry meterRegistry
+    ) {
+        return new RedisMembershipInvalidationBus(channel + ":membership", redisTemplate,
+                notificationListenerContainer, meterRegistry);
+    }
+}
@@ -48,4 +48,11 @@ public abstract class BaseHistoryEntity {
 
     @Column(name = "user_agent", length = 255)
     private String userAgent;
+
+    /**
+     * 저장 직전에 before_data를 인코딩된 값(HistorySnapshotCodec)으로 바꾼다.
+     */
+    public void updateBeforeData(String encodedBeforeData) {
+        this.beforeData = encodedBeforeData;
+    }
 }
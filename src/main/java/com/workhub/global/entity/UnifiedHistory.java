@@ -2,6 +2,8 @@ package com.workhub.global.entity;
 
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Immutable;
@@ -15,13 +17,17 @@ import java.time.LocalDateTime;
  *
  * changeLogId는 각 히스토리 테이블마다 독립적으로 증가하므로
  * historyType과 함께 복합 키로 사용
+ *
+ * 커서 조회는 View 대신 히스토리 테이블을 직접 읽으므로 빌더로 생성한다.
  */
 @Entity
 @Table(name = "unified_history_view")
 @IdClass(UnifiedHistoryId.class)
 @Immutable
 @Getter
+@Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class UnifiedHistory {
 
     @Id
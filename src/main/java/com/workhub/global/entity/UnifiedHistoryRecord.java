@@ -0,0 +1,80 @@
+package com.workhub.global.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통합 히스토리 테이블 엔티티
+ * unified_history_view와 같은 컬럼을 가진 실제 테이블로, 히스토리를 저장할 때 HistoryBatchWriter가 함께 기록한다.
+ * 조회 전용이므로 수정 불가 (@Immutable)
+ *
+ * changeLogId는 원본 히스토리 테이블의 ID이므로 historyType과 함께 복합 키로 사용
+ */
+@Entity
+@Table(name = "unified_history")
+@IdClass(UnifiedHistoryId.class)
+@Immutable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UnifiedHistoryRecord {
+
+    @Id
+    @Column(name = "change_log_id")
+    private Long changeLogId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "history_type", length = 50)
+    private HistoryType historyType;
+
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action_type")
+    private ActionType actionType;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "before_data")
+    private String beforeData;
+
+    @Column(name = "created_by")
+    private Long createdBy;
+
+    @Column(name = "updated_by")
+    private Long updatedBy;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "ip_address", length = 50)
+    private String ipAddress;
+
+    @Column(name = "user_agent", length = 255)
+    private String userAgent;
+
+    /**
+     * View 엔티티와 같은 응답 변환을 쓰도록 UnifiedHistory로 옮긴다.
+     */
+    public UnifiedHistory toUnifiedHistory() {
+        return UnifiedHistory.builder()
+                .changeLogId(changeLogId)
+                .historyType(historyType)
+                .targetId(targetId)
+                .actionType(actionType)
+                .beforeData(beforeData)
+                .createdBy(createdBy)
+                .updatedBy(updatedBy)
+                .updatedAt(updatedAt)
+                .ipAddress(ipAddress)
+                .userAgent(userAgent)
+                .build();
+    }
+}
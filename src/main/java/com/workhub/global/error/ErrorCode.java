@@ -122,6 +122,9 @@ public enum ErrorCode {
 
     //알림
     NOTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "NF-001", "알림을 찾을 수 없습니다."),
+    INVALID_NOTIFICATION_READ_REQUEST(HttpStatus.BAD_REQUEST, "NF-002", "upToId와 ids는 함께 지정할 수 없습니다."),
+    INVALID_NOTIFICATION_PAGE_REQUEST(HttpStatus.BAD_REQUEST, "NF-003", "before와 after는 함께 지정할 수 없습니다."),
+    INVALID_NOTIFICATION_PREFERENCE_REQUEST(HttpStatus.BAD_REQUEST, "NF-004", "알림 타입과 수신 방식을 모두 지정해야 합니다."),
 
     // 체크리스트
     NOT_EXISTS_CHECK_LIST(HttpStatus.BAD_REQUEST, "CH-001", "존재하지 않는 체크리스트입니다."),
@@ -148,7 +151,12 @@ public enum ErrorCode {
     CHECK_LIST_FILE_MAPPING_NOT_FOUND(HttpStatus.BAD_REQUEST, "CH-020", "요청한 파일 정보를 찾을 수 없습니다."),
     ALREADY_DELETED_CHECK_LIST_ITEM_COMMENT(HttpStatus.BAD_REQUEST, "CH-021", "이미 삭제된 체크리스트 댓글입니다."),
     CHECK_LIST_TEMPLATE_NOT_FOUND(HttpStatus.NOT_FOUND, "CH-022", "체크리스트 템플릿을 찾을 수 없습니다."),
-    CHECK_LIST_OPTION_NOT_SELECTED(HttpStatus.BAD_REQUEST, "CH-023", "동의하려면 최소 1개의 옵션을 선택해야 합니다.");
+    CHECK_LIST_OPTION_NOT_SELECTED(HttpStatus.BAD_REQUEST, "CH-023", "동의하려면 최소 1개의 옵션을 선택해야 합니다."),
+
+    // 히스토리
+    INVALID_HISTORY_CURSOR(HttpStatus.BAD_REQUEST, "HI-001", "유효하지 않은 히스토리 커서입니다."),
+    HISTORY_NOT_FOUND(HttpStatus.NOT_FOUND, "HI-002", "히스토리를 찾을 수 없습니다."),
+    INVALID_HISTORY_EXPORT_RANGE(HttpStatus.BAD_REQUEST, "HI-003", "내보내기 기간의 시작은 끝보다 앞서야 합니다.");
 
     private final HttpStatus httpStatus;
     private final String errorCode;
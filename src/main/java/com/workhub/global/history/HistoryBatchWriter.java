@@ -0,0 +1,131 @@
+package com.workhub.global.history;
+
+import com.workhub.global.entity.BaseHistoryEntity;
+import com.workhub.global.entity.HistoryType;
+import jakarta.persistence.Table;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 히스토리 엔티티를 테이블별 JDBC 배치 INSERT로 저장한다.
+ * 히스토리 PK가 IDENTITY라 Hibernate는 INSERT를 배치로 묶지 못하므로, 여러 건을 한 번에 쓸 때 사용한다.
+ * JPA 트랜잭션의 커넥션을 그대로 사용하므로 호출한 트랜잭션과 함께 커밋/롤백된다.
+ *
+ * 통합 히스토리 테이블 쓰기를 켜면 히스토리 테이블 INSERT ... RETURNING 결과를 같은 문장에서 unified_history에도 넣는다.
+ * 생성된 change_log_id를 그대로 옮기므로 두 테이블의 행이 항상 함께 커밋/롤백된다.
+ */
+@Component
+public class HistoryBatchWriter {
+
+    private static final String COLUMNS = "target_id, action_type, before_data, created_by, updated_by, "
+            + "updated_at, ip_address, user_agent";
+
+    private static final String INSERT_SQL = "INSERT INTO %s (" + COLUMNS + ") VALUES (?, ?, CAST(? AS jsonb), ?, ?, ?, ?, ?)";
+
+    private static final String ROW_VALUES = "(?, ?, CAST(? AS jsonb), ?, ?, ?, ?, ?)";
+
+    private static final String DUAL_INSERT_SQL = """
+            WITH inserted AS (
+                INSERT INTO %s (%s) VALUES %s
+                RETURNING change_log_id, %s
+            )
+            INSERT INTO unified_history (history_type, change_log_id, %s)
+            SELECT '%s', change_log_id, %s FROM inserted
+            """;
+
+    /**
+     * 통합 테이블 동시 INSERT 한 문장에 담는 최대 행 수 (바인딩 파라미터 수 제한 대비)
+     */
+    static final int DUAL_INSERT_CHUNK = 500;
+
+    private static final int PARAMS_PER_ROW = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean unifiedWriteEnabled;
+    private final Map<Class<?>, String> tableNameCache = new ConcurrentHashMap<>();
+
+    public HistoryBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${workhub.history.unified-table.write-enabled:false}") boolean unifiedWriteEnabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.unifiedWriteEnabled = unifiedWriteEnabled;
+    }
+
+    /**
+     * unified_history 테이블에도 함께 기록하는지 여부. 켜져 있으면 건별 저장도 이 클래스를 거쳐야 한다.
+     */
+    public boolean writesUnified() {
+        return unifiedWriteEnabled;
+    }
+
+    /**
+     * 같은 히스토리 테이블의 엔티티들을 배치 하나로 저장한다. 기록 순서대로 INSERT하므로 change_log_id 순서도 유지된다.
+     *
+     * @param type 히스토리 타입 (통합 테이블의 history_type 값)
+     * @param entityType 히스토리 엔티티 클래스 (@Table 이름으로 테이블을 정한다)
+     */
+    public void insert(HistoryType type, Class<? extends BaseHistoryEntity> entityType, List<BaseHistoryEntity> histories) {
+        if (histories.isEmpty()) return;
+        String table = tableName(entityType);
+        if (!unifiedWriteEnabled) {
+            jdbcTemplate.batchUpdate(INSERT_SQL.formatted(table), histories, histories.size(), this::bind);
+            return;
+        }
+        for (int from = 0; from < histories.size(); from += DUAL_INSERT_CHUNK) {
+            List<BaseHistoryEntity> chunk = histories.subList(from, Math.min(from + DUAL_INSERT_CHUNK, histories.size()));
+            jdbcTemplate.update(dualInsertSql(type, table, chunk.size()), ps -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    bind(ps, chunk.get(i), i * PARAMS_PER_ROW);
+                }
+            });
+        }
+    }
+
+    static String dualInsertSql(HistoryType type, String table, int rows) {
+        String values = String.join(", ", Collections.nCopies(rows, ROW_VALUES));
+        return DUAL_INSERT_SQL.formatted(table, COLUMNS, values, COLUMNS, COLUMNS, type.name(), COLUMNS);
+    }
+
+    private String tableName(Class<?> entityType) {
+        return tableNameCache.computeIfAbsent(entityType, type -> {
+            Table table = type.getAnnotation(Table.class);
+            if (table == null || table.name().isBlank()) {
+                throw new IllegalStateException("History entity must declare @Table(name): " + type.getName());
+            }
+            return table.name();
+        });
+    }
+
+    private void bind(PreparedStatement ps, BaseHistoryEntity history) throws SQLException {
+        bind(ps, history, 0);
+    }
+
+    private void bind(PreparedStatement ps, BaseHistoryEntity history, int offset) throws SQLException {
+        setLong(ps, offset + 1, history.getTargetId());
+        ps.setString(offset + 2, history.getActionType() == null ? null : history.getActionType().name());
+        ps.setString(offset + 3, history.getBeforeData());
+        setLong(ps, offset + 4, history.getCreatedBy());
+        setLong(ps, offset + 5, history.getUpdatedBy());
+        ps.setObject(offset + 6, history.getUpdatedAt());
+        ps.setString(offset + 7, history.getIpAddress());
+        ps.setString(offset + 8, history.getUserAgent());
+    }
+
+    private void setLong(PreparedStatement ps, int idx, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(idx, Types.BIGINT);
+        } else {
+            ps.setLong(idx, value);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.workhub.global.history;
+
+import com.workhub.global.entity.HistoryType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (히스토리 타입, 대상 ID)별 원래 생성자 캐시.
+ * - 원래 생성자는 대상의 첫 CREATE 기록으로 정해지고 바뀌지 않으므로 TTL/무효화 없이 개수만 제한한다.
+ * - CREATE를 기록할 때 채우고, UPDATE/DELETE에서 찾지 못하면 히스토리 테이블에서 읽어 채운다.
+ * - 첫 CREATE가 기준이므로 이미 있는 값은 덮어쓰지 않는다.
+ */
+@Component
+public class HistoryCreatorCache {
+
+    private final int maxEntries;
+    private final Map<Key, Long> entries = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public HistoryCreatorCache(
+            MeterRegistry meterRegistry,
+            @Value("${workhub.history.creator-cache.max-entries:100000}") int maxEntries
+    ) {
+        this.maxEntries = maxEntries;
+        this.hitCounter = Counter.builder("history.creator.cache.lookups")
+                .description("원래 생성자 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("history.creator.cache.lookups")
+                .description("원래 생성자 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("history.creator.cache.evictions")
+                .description("용량 초과로 버려진 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("history.creator.cache.size", entries, Map::size)
+                .description("캐시된 대상 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 캐시된 원래 생성자, 없으면 null
+     */
+    public Long get(HistoryType type, Long targetId) {
+        Long creator = entries.get(new Key(type, targetId));
+        if (creator != null) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+        return creator;
+    }
+
+    /**
+     * 원래 생성자를 저장한다. 값이 null이면 저장하지 않는다.
+     */
+    public void put(HistoryType type, Long targetId, Long creator) {
+        if (targetId == null || creator == null) return;
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.putIfAbsent(new Key(type, targetId), creator);
+    }
+
+    /**
+     * @return 캐시된 대상인지 여부 (조회 지표는 남기지 않는다)
+     */
+    boolean contains(HistoryType type, Long targetId) {
+        return entries.containsKey(new Key(type, targetId));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * 가득 차면 임의의 항목을 버린다. 값이 바뀌지 않으므로 다시 필요하면 DB에서 읽어 채운다.
+     */
+    private void evict() {
+        Iterator<Key> iterator = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCounter.increment();
+        }
+    }
+
+    private record Key(HistoryType type, Long targetId) {
+    }
+}
@@ -7,6 +7,13 @@ import com.workhub.global.repository.BaseHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 @RequiredArgsConstructor
 public abstract class HistoryHandler {
 
@@ -39,4 +46,69 @@ public abstract class HistoryHandler {
 
         throw new IllegalStateException("Repository must extend BaseHistoryRepository");
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 대상의 원래 생성자를 쿼리 한 번으로 조회한다. 대상별로 가장 먼저 기록된 CREATE를 기준으로 한다.
+     * @return 대상 ID → 원래 생성자 (CREATE 기록이 없는 대상은 빠진다)
+     */
+    public Map<Long, Long> findOriginalCreators(Collection<Long> targetIds) {
+
+        if (repository instanceof BaseHistoryRepository) {
+
+            Map<Long, Long> creators = new HashMap<>();
+            Set<Long> seen = new HashSet<>();
+            ((BaseHistoryRepository<?>) repository)
+                    .findByTargetIdInAndActionTypeOrderByChangeLogIdAsc(targetIds, ActionType.CREATE)
+                    .forEach(history -> {
+                        // 단건 조회와 같게 첫 CREATE만 본다
+                        if (seen.add(history.getTargetId()) && history.getCreatedBy() != null) {
+                            creators.put(history.getTargetId(), history.getCreatedBy());
+                        }
+                    });
+            return creators;
+        }
+
+        throw new IllegalStateException("Repository must extend BaseHistoryRepository");
+    }
+
+    /**
+     * @return change_log_id로 찾은 히스토리
+     */
+    public Optional<BaseHistoryEntity> findById(Long changeLogId) {
+
+        return repository.findById(changeLogId).map(BaseHistoryEntity.class::cast);
+    }
+
+    /**
+     * @return 대상의 가장 최근(change_log_id가 가장 큰) 히스토리
+     */
+    public Optional<BaseHistoryEntity> findLatest(Long targetId) {
+
+        if (repository instanceof BaseHistoryRepository) {
+
+            return ((BaseHistoryRepository<?>) repository)
+                    .findFirstByTargetIdOrderByChangeLogIdDesc(targetId)
+                    .map(BaseHistoryEntity.class::cast);
+        }
+
+        throw new IllegalStateException("Repository must extend BaseHistoryRepository");
+    }
+
+    /**
+     * 여러 대상의 가장 최근 히스토리를 쿼리 한 번으로 조회한다.
+     * @return 대상 ID → 가장 최근 히스토리 (히스토리가 없는 대상은 빠진다)
+     */
+    public Map<Long, BaseHistoryEntity> findLatest(Collection<Long> targetIds) {
+
+        if (repository instanceof BaseHistoryRepository) {
+
+            Map<Long, BaseHistoryEntity> latest = new HashMap<>();
+            ((BaseHistoryRepository<?>) repository)
+                    .findLatestByTargetIdIn(targetIds)
+                    .forEach(history -> latest.put(history.getTargetId(), history));
+            return latest;
+        }
+
+        throw new IllegalStateException("Repository must extend BaseHistoryRepository");
+    }
+}
@@ -0,0 +1,42 @@
+package com.workhub.global.history;
+
+import com.workhub.global.entity.HistoryType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이 인스턴스가 커밋한 히스토리 수를 타입별로 센다.
+ * 통계(pg_class.reltuples)를 다시 읽기 전까지 늘어난 행 수를 더해 전체 개수를 추정하는 데 쓴다.
+ */
+@Component
+public class HistoryInsertCounter {
+
+    private final Map<HistoryType, LongAdder> inserted = new EnumMap<>(HistoryType.class);
+
+    public HistoryInsertCounter(MeterRegistry meterRegistry) {
+        for (HistoryType type : HistoryType.values()) {
+            LongAdder adder = new LongAdder();
+            inserted.put(type, adder);
+            FunctionCounter.builder("history.inserted", adder, LongAdder::sum)
+                    .description("커밋된 히스토리 수")
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    public void add(HistoryType type, long rows) {
+        inserted.get(type).add(rows);
+    }
+
+    /**
+     * @return 기동 후 커밋된 해당 타입 히스토리 수
+     */
+    public long get(HistoryType type) {
+        return inserted.get(type).sum();
+    }
+}
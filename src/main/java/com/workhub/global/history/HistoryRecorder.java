@@ -8,36 +8,130 @@ import com.workhub.global.entity.HistoryType;
 import com.workhub.global.error.ErrorCode;
 import com.workhub.global.error.exception.BusinessException;
 import com.workhub.global.util.SecurityUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 히스토리 기록.
+ * - 트랜잭션 안에서는 기록을 트랜잭션별로 모았다가 커밋 직전(beforeCommit)에 테이블별 JDBC 배치 하나로 저장한다.
+ *   저장 실패는 커밋 전에 예외로 올라가 비즈니스 변경과 함께 롤백되고, 롤백되면 모은 기록은 버려진다.
+ * - 트랜잭션 밖이거나 배치 모드를 끄면 기존처럼 한 건씩 바로 저장한다.
+ * - 통합 히스토리 테이블 쓰기가 켜져 있으면 어느 경로든 HistoryBatchWriter가 unified_history에도 함께 기록한다.
+ * - before_data는 HistorySnapshotCodec을 거쳐 저장된다 (snapshot.mode=DELTA면 직전 버전과의 JSON Patch).
+ *   배치 모드에서는 커밋 직전 저장 때 타입마다 대상들의 직전 버전을 쿼리 한 번으로 읽어 인코딩하므로, 기록마다 DB를 읽지 않는다.
+ * - UPDATE/DELETE의 원래 생성자는 호출부가 넘긴 값(대상 엔티티의 작성자) → 캐시 → 히스토리 테이블 순으로 찾는다.
+ */
 @Slf4j
 @Component
 public class HistoryRecorder {
 
     private final Map<HistoryType, HistoryHandler> handlerMap;
     private final ObjectMapper objectMapper;
+    private final HistoryBatchWriter batchWriter;
+    private final HistoryCreatorCache creatorCache;
+    private final HistoryInsertCounter insertCounter;
+    private final HistorySnapshotCodec snapshotCodec;
+    private final boolean batchEnabled;
+    private final DistributionSummary batchRows;
+    private final Timer flushTimer;
 
-    public HistoryRecorder(List<HistoryHandler> handlers, ObjectMapper objectMapper) {
+    public HistoryRecorder(
+            List<HistoryHandler> handlers,
+            ObjectMapper objectMapper,
+            HistoryBatchWriter batchWriter,
+            HistoryCreatorCache creatorCache,
+            HistoryInsertCounter insertCounter,
+            HistorySnapshotCodec snapshotCodec,
+            MeterRegistry meterRegistry,
+            @Value("${workhub.history.batch.enabled:true}") boolean batchEnabled
+    ) {
         this.handlerMap = handlers.stream()
                 .collect(Collectors.toMap(HistoryHandler::getType, h -> h));
         this.objectMapper = objectMapper;
+        this.batchWriter = batchWriter;
+        this.creatorCache = creatorCache;
+        this.insertCounter = insertCounter;
+        this.snapshotCodec = snapshotCodec;
+        this.batchEnabled = batchEnabled;
+        this.batchRows = DistributionSummary.builder("history.batch.rows")
+                .description("트랜잭션 하나가 커밋 직전에 배치로 저장한 히스토리 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("history.batch.flush")
+                .description("커밋 직전 히스토리 배치 저장에 걸린 시간")
+                .register(meterRegistry);
     }
 
     /**
      * 통합 히스토리 저장 메서드
      */
     public void recordHistory(HistoryType type, Long targetId, ActionType actionType, String beforeData) {
+        record(type, targetId, actionType, beforeData, null);
+    }
+
+    /**
+     * 스냅샷 객체를 받아서 JSON으로 변환 후 히스토리 저장
+     *
+     * @param type 히스토리 타입
+     * @param targetId 대상 엔티티 ID
+     * @param actionType 액션 타입
+     * @param snapshot JSON으로 변환될 스냅샷 객체
+     */
+    public void recordHistory(HistoryType type, Long targetId, ActionType actionType, Object snapshot) {
+        String beforeData = toJsonString(snapshot);
+        record(type, targetId, actionType, beforeData, null);
+    }
+
+    /**
+     * 대상 엔티티가 작성자를 들고 있을 때 쓰는 히스토리 저장. UPDATE/DELETE에서 원래 생성자 조회를 건너뛴다.
+     *
+     * @param originalCreator 대상 엔티티의 작성자 (null이면 기존처럼 조회)
+     */
+    public void recordHistory(HistoryType type, Long targetId, ActionType actionType, Object snapshot,
+                              Long originalCreator) {
+        String beforeData = toJsonString(snapshot);
+        record(type, targetId, actionType, beforeData, originalCreator);
+    }
+
+    /**
+     * 여러 대상을 한 번에 수정/삭제하기 전에 원래 생성자를 쿼리 한 번으로 캐시에 채운다.
+     * 이미 캐시된 대상은 다시 읽지 않는다.
+     */
+    public void preloadOriginalCreators(HistoryType type, Collection<Long> targetIds) {
+        List<Long> missing = targetIds.stream()
+                .filter(id -> id != null && !creatorCache.contains(type, id))
+                .distinct()
+                .toList();
+        if (missing.isEmpty()) return;
+        getHandler(type).findOriginalCreators(missing)
+                .forEach((targetId, creator) -> creatorCache.put(type, targetId, creator));
+    }
+
+    private void record(HistoryType type, Long targetId, ActionType actionType, String beforeData,
+                        Long originalCreator) {
 
         Long creator;
 
         if (actionType == ActionType.CREATE) {
             // CREATE 액션일 때는 현재 사용자가 생성자
             creator = SecurityUtil.getCurrentUserIdOrThrow();
+            creatorCache.put(type, targetId, creator);
+        } else if (originalCreator != null) {
+            creator = originalCreator;
+            creatorCache.put(type, targetId, creator);
         } else {
             // UPDATE, DELETE 등일 때는 원래 생성자를 조회
             creator = getOriginalCreator(type, targetId);
@@ -45,34 +139,110 @@ public class HistoryRecorder {
 
         HistoryHandler handler = getHandler(type);
 
-        BaseHistoryEntity history = handler.createHistory(
-                targetId, actionType, beforeData, creator
-        );
-        handler.save(history);
+        PendingHistories pending = pendingHistories(true);
+        if (pending != null) {
+            // before_data 인코딩(DELTA면 직전 버전 조회)은 커밋 직전에 타입별로 모아서 한다
+            pending.add(type, handler.createHistory(targetId, actionType, beforeData, creator));
+        } else {
+            BaseHistoryEntity history = handler.createHistory(
+                    targetId, actionType, snapshotCodec.encode(type, targetId, beforeData), creator
+            );
+            if (batchWriter.writesUnified()) {
+                // 통합 히스토리 테이블에도 같은 change_log_id로 남겨야 하므로 JPA save 대신 같은 INSERT 경로를 쓴다
+                batchWriter.insert(type, history.getClass(), List.of(history));
+            } else {
+                handler.save(history);
+            }
+            countAfterCommit(type);
+        }
 
         log.debug("History recorded: type={}, targetId={}, action={}",
                 type, targetId, actionType);
     }
 
     /**
-     * 스냅샷 객체를 받아서 JSON으로 변환 후 히스토리 저장
-     *
-     * @param type 히스토리 타입
-     * @param targetId 대상 엔티티 ID
-     * @param actionType 액션 타입
-     * @param snapshot JSON으로 변환될 스냅샷 객체
+     * originalCreator 조회
+     * 같은 트랜잭션에서 방금 기록한(아직 저장 전인) CREATE가 있으면 그 생성자를 쓰고,
+     * 다음으로 캐시를, 마지막으로 히스토리 테이블을 본다.
      */
-    public void recordHistory(HistoryType type, Long targetId, ActionType actionType, Object snapshot) {
-        String beforeData = toJsonString(snapshot);
-        recordHistory(type, targetId, actionType, beforeData);
+    public Long getOriginalCreator(HistoryType type, Long targetId) {
+        PendingHistories pending = pendingHistories(false);
+        if (pending != null) {
+            Long creator = pending.findCreator(type, targetId);
+            if (creator != null) {
+                return creator;
+            }
+        }
+        Long cached = creatorCache.get(type, targetId);
+        if (cached != null) {
+            return cached;
+        }
+        HistoryHandler handler = getHandler(type);
+        Long creator = handler.findOriginalCreator(targetId);
+        creatorCache.put(type, targetId, creator);
+        return creator;
     }
 
     /**
-     * originalCreator 조회
+     * 현재 트랜잭션의 미저장 기록 묶음. 트랜잭션 동기화 목록에 등록해 두므로 REQUIRES_NEW로 트랜잭션이 바뀌면 별도 묶음이 된다.
+     * @param create 없을 때 새로 만들지 여부
+     * @return 배치 모드가 아니거나 트랜잭션 밖이면 null
      */
-    public Long getOriginalCreator(HistoryType type, Long targetId) {
-        HistoryHandler handler = getHandler(type);
-        return handler.findOriginalCreator(targetId);
+    private PendingHistories pendingHistories(boolean create) {
+        if (!batchEnabled
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingHistories pending && pending.owner == this) {
+                return pending;
+            }
+        }
+        if (!create) {
+            return null;
+        }
+        PendingHistories pending = new PendingHistories(this);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    /**
+     * 바로 저장한 기록을 커밋 후(트랜잭션 밖이면 즉시) 타입별 저장 수에 더한다.
+     */
+    private void countAfterCommit(HistoryType type) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insertCounter.add(type, 1);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                insertCounter.add(type, 1);
+            }
+        });
+    }
+
+    private void flush(Map<HistoryType, List<BaseHistoryEntity>> histories) {
+        int rows = histories.values().stream().mapToInt(List::size).sum();
+        flushTimer.record(() -> histories.forEach((type, list) -> {
+            encode(type, list);
+            batchWriter.insert(type, list.get(0).getClass(), list);
+        }));
+        batchRows.record(rows);
+        log.debug("History batch flushed: tables={}, rows={}", histories.size(), rows);
+    }
+
+    /**
+     * 모아 둔 기록의 before_data(전체 스냅샷)를 인코딩한다. 직전 버전 조회는 타입당 한 번이다.
+     */
+    private void encode(HistoryType type, List<BaseHistoryEntity> histories) {
+        List<String> encoded = snapshotCodec.encodeAll(type, histories.stream()
+                .map(history -> new HistorySnapshotCodec.Snapshot(history.getTargetId(), history.getBeforeData()))
+                .toList());
+        for (int i = 0; i < histories.size(); i++) {
+            histories.get(i).updateBeforeData(encoded.get(i));
+        }
     }
 
     private HistoryHandler getHandler(HistoryType type) {
@@ -99,4 +269,52 @@ public class HistoryRecorder {
             throw new BusinessException(ErrorCode.JSON_SERIALIZATION_ERROR);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 트랜잭션 하나 동안 모은 히스토리. 커밋 직전에 저장하고, 완료(커밋/롤백) 후에는 버린다.
+     */
+    private static final class PendingHistories implements TransactionSynchronization {
+
+        private final HistoryRecorder owner;
+        private final Map<HistoryType, List<BaseHistoryEntity>> histories = new LinkedHashMap<>();
+        private final Map<HistoryType, Integer> flushed = new EnumMap<>(HistoryType.class);
+
+        private PendingHistories(HistoryRecorder owner) {
+            this.owner = owner;
+        }
+
+        void add(HistoryType type, BaseHistoryEntity history) {
+            histories.computeIfAbsent(type, t -> new ArrayList<>()).add(history);
+        }
+
+        Long findCreator(HistoryType type, Long targetId) {
+            List<BaseHistoryEntity> list = histories.get(type);
+            if (list == null) return null;
+            for (BaseHistoryEntity history : list) {
+                if (history.getActionType() == ActionType.CREATE && targetId.equals(history.getTargetId())) {
+                    return history.getCreatedBy();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (histories.isEmpty()) return;
+            owner.flush(histories);
+            histories.forEach((type, list) -> flushed.merge(type, list.size(), Integer::sum));
+            histories.clear();
+        }
+
+        @Override
+        public void afterCommit() {
+            flushed.forEach(owner.insertCounter::add);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            histories.clear();
+            flushed.clear();
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.workhub.global.history;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.workhub.global.entity.BaseHistoryEntity;
+import com.workhub.global.entity.HistoryType;
+import com.workhub.global.error.ErrorCode;
+import com.workhub.global.error.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 히스토리 스냅샷(before_data) 저장 형식.
+ * - FULL: 스냅샷 JSON을 그대로 저장한다 (기존 방식).
+ * - DELTA: 대상의 직전 히스토리와의 차이를 RFC 6902 JSON Patch로 저장하고, fullEvery 버전마다 전체 스냅샷을 둔다.
+ *   델타는 {"@delta": {"from": 직전 change_log_id, "depth": 전체 스냅샷부터 몇 번째인지, "patch": [...]}} 형태이며
+ *   델타가 전체 스냅샷보다 작지 않으면 전체를 저장한다.
+ * - 전체 스냅샷은 형식이 그대로이므로 모드를 바꿔도 기존 행을 그대로 읽고, DELTA → FULL로 되돌려도 이미 저장된 델타는 복원된다.
+ * - 배치 저장 경로는 {@link #encodeAll}로 타입마다 대상들의 직전 버전을 쿼리 한 번에 읽는다.
+ * - 직전 버전은 DB에 커밋된 행만 본다. 같은 트랜잭션에서 배치로 모인 같은 대상의 기록은 모두 같은 커밋된 버전을 기준으로 하므로
+ *   롤백되더라도 남은 델타가 없는 행을 가리키지 않는다.
+ * - 복원한 버전은 (타입, change_log_id)별 LRU에 두어 같은 대상의 연속된 버전을 읽을 때 체인을 처음부터 다시 따라가지 않는다.
+ */
+@Slf4j
+@Component
+public class HistorySnapshotCodec {
+
+    static final String DELTA_FIELD = "@delta";
+
+    public enum Mode {
+        FULL, DELTA
+    }
+
+    private final Map<HistoryType, HistoryHandler> handlerMap;
+    private final ObjectMapper objectMapper;
+    private final Mode mode;
+    private final int fullEvery;
+    private final Map<Key, JsonNode> cache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter fullCounter;
+    private final Counter deltaCounter;
+    private final DistributionSummary fullBytes;
+    private final DistributionSummary deltaBytes;
+    private final Timer rebuildTimer;
+
+    public HistorySnapshotCodec(
+            List<HistoryHandler> handlers,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${workhub.history.snapshot.mode:FULL}") Mode mode,
+            @Value("${workhub.history.snapshot.full-every:10}") int fullEvery,
+            @Value("${workhub.history.snapshot.cache.max-entries:10000}") int maxEntries
+    ) {
+        this.handlerMap = handlers.stream()
+                .collect(Collectors.toMap(HistoryHandler::getType, h -> h));
+        this.objectMapper = objectMapper;
+        this.mode = mode;
+        this.fullEvery = Math.max(1, fullEvery);
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, JsonNode> eldest) {
+                return size() > maxEntries;
+            }
+        });
+
+        this.hitCounter = Counter.builder("history.snapshot.cache.lookups")
+                .description("복원한 스냅샷 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("history.snapshot.cache.lookups")
+                .description("복원한 스냅샷 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("history.snapshot.cache.size", cache, Map::size)
+                .description("캐시된 복원 스냅샷 수")
+                .register(meterRegistry);
+        this.fullCounter = Counter.builder("history.snapshot.stored")
+                .description("저장 형식별 히스토리 스냅샷 수")
+                .tag("format", "full")
+                .register(meterRegistry);
+        this.deltaCounter = Counter.builder("history.snapshot.stored")
+                .description("저장 형식별 히스토리 스냅샷 수")
+                .tag("format", "delta")
+                .register(meterRegistry);
+        this.fullBytes = DistributionSummary.builder("history.snapshot.bytes")
+                .description("저장한 before_data 크기")
+                .baseUnit("bytes")
+                .tag("format", "full")
+                .register(meterRegistry);
+        this.deltaBytes = DistributionSummary.builder("history.snapshot.bytes")
+                .description("저장한 before_data 크기")
+                .baseUnit("bytes")
+                .tag("format", "delta")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("history.snapshot.rebuild")
+                .description("델타 스냅샷을 전체 스냅샷으로 복원하는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장할 before_data를 만든다. FULL 모드이거나 직전 버전이 없으면 그대로 돌려준다.
+     * 직전 버전을 읽거나 diff하지 못하면 전체 스냅샷으로 저장한다 (전체 스냅샷은 언제나 올바르다).
+     */
+    public String encode(HistoryType type, Long targetId, String snapshotJson) {
+        if (mode == Mode.FULL || targetId == null || snapshotJson == null) {
+            return full(snapshotJson);
+        }
+        BaseHistoryEntity previous;
+        try {
+            previous = getHandler(type).findLatest(targetId).orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("History delta lookup failed, storing full snapshot: type={}, targetId={}", type, targetId, e);
+            return full(snapshotJson);
+        }
+        return encodeAgainst(type, targetId, snapshotJson, previous);
+    }
+
+    /**
+     * 같은 타입의 기록 여러 건의 before_data를 만든다. 대상별 직전 버전은 쿼리 한 번으로 읽는다.
+     * @return snapshots와 같은 순서의 before_data
+     */
+    public List<String> encodeAll(HistoryType type, List<Snapshot> snapshots) {
+        if (mode == Mode.FULL) {
+            return snapshots.stream().map(snapshot -> full(snapshot.json())).toList();
+        }
+        Set<Long> targetIds = new LinkedHashSet<>();
+        snapshots.forEach(snapshot -> {
+            if (snapshot.targetId() != null && snapshot.json() != null) {
+                targetIds.add(snapshot.targetId());
+            }
+        });
+        Map<Long, BaseHistoryEntity> latest;
+        try {
+            latest = targetIds.isEmpty() ? Map.of() : getHandler(type).findLatest(targetIds);
+        } catch (RuntimeException e) {
+            log.warn("History delta lookup failed, storing full snapshots: type={}, targets={}", type, targetIds.size(), e);
+            latest = Map.of();
+        }
+        Map<Long, BaseHistoryEntity> previous = latest;
+        return snapshots.stream()
+                .map(snapshot -> snapshot.targetId() == null || snapshot.json() == null
+                        ? full(snapshot.json())
+                        : encodeAgainst(type, snapshot.targetId(), snapshot.json(), previous.get(snapshot.targetId())))
+                .toList();
+    }
+
+    /**
+     * previous(대상의 커밋된 직전 버전, 없으면 null)와의 델타를 만든다.
+     */
+    private String encodeAgainst(HistoryType type, Long targetId, String snapshotJson, BaseHistoryEntity previous) {
+        try {
+            if (previous == null || previous.getBeforeData() == null) {
+                return full(snapshotJson);
+            }
+
+            JsonNode stored = objectMapper.readTree(previous.getBeforeData());
+            int depth = depthOf(stored) + 1;
+            if (depth >= fullEvery) {
+                return full(snapshotJson);
+            }
+
+            JsonNode base = rebuild(type, previous.getChangeLogId(), stored);
+            ArrayNode patch = JsonPatch.diff(base, objectMapper.readTree(snapshotJson));
+            ObjectNode delta = objectMapper.createObjectNode();
+            delta.putObject(DELTA_FIELD)
+                    .put("from", previous.getChangeLogId())
+                    .put("depth", depth)
+                    .set("patch", patch);
+            String encoded = objectMapper.writeValueAsString(delta);
+            if (bytes(encoded) >= bytes(snapshotJson)) {
+                return full(snapshotJson);
+            }
+
+            deltaCounter.increment();
+            deltaBytes.record(bytes(encoded));
+            return encoded;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("History delta encoding failed, storing full snapshot: type={}, targetId={}", type, targetId, e);
+            return full(snapshotJson);
+        }
+    }
+
+    /**
+     * 저장된 before_data를 전체 스냅샷으로 바꾼다. 델타가 아니면 그대로 돌려준다.
+     */
+    public String resolve(HistoryType type, Long changeLogId, String storedJson) {
+        if (storedJson == null || !storedJson.contains(DELTA_FIELD)) {
+            return storedJson;
+        }
+        try {
+            JsonNode stored = objectMapper.readTree(storedJson);
+            if (!stored.has(DELTA_FIELD)) {
+                return storedJson;
+            }
+            return objectMapper.writeValueAsString(rebuild(type, changeLogId, stored));
+        } catch (JsonProcessingException e) {
+            log.error("History snapshot resolve failed: type={}, changeLogId={}", type, changeLogId, e);
+            throw new BusinessException(ErrorCode.JSON_SERIALIZATION_ERROR);
+        }
+    }
+
+    /**
+     * 특정 버전의 전체 스냅샷을 복원한다.
+     *
+     * @throws BusinessException 해당 히스토리가 없을 때
+     */
+    public String reconstruct(HistoryType type, Long changeLogId) {
+        BaseHistoryEntity history = load(type, changeLogId);
+        return resolve(type, changeLogId, history.getBeforeData());
+    }
+
+    /**
+     * 저장된 값에서 시작해 전체 스냅샷(또는 캐시된 버전)이 나올 때까지 from을 거슬러 올라간 뒤, patch를 차례로 적용한다.
+     * 도중에 복원한 버전은 모두 캐시에 넣는다.
+     */
+    private JsonNode rebuild(HistoryType type, Long changeLogId, JsonNode stored) throws JsonProcessingException {
+        long start = System.nanoTime();
+        Deque<Step> steps = new ArrayDeque<>();
+        Long id = changeLogId;
+        JsonNode node = stored;
+        JsonNode base;
+
+        while (true) {
+            JsonNode cached = cache.get(new Key(type, id));
+            if (cached != null) {
+                hitCounter.increment();
+                base = cached;
+                break;
+            }
+            missCounter.increment();
+            if (node == null) {
+                node = objectMapper.readTree(load(type, id).getBeforeData());
+            }
+            JsonNode delta = node.get(DELTA_FIELD);
+            if (delta == null) {
+                base = node;
+                cache.put(new Key(type, id), base);
+                break;
+            }
+            long from = delta.path("from").asLong();
+            if (from <= 0 || from >= id) {
+                // from은 항상 더 이전 행이므로 순환할 수 없다. 깨진 데이터가 무한 루프가 되지 않게 막는다.
+                throw new IllegalStateException("Invalid history delta: type=" + type + ", changeLogId=" + id);
+            }
+            steps.push(new Step(id, delta.path("patch")));
+            id = from;
+            node = null;
+        }
+
+        while (!steps.isEmpty()) {
+            Step step = steps.pop();
+            base = JsonPatch.apply(base, step.patch());
+            cache.put(new Key(type, step.changeLogId()), base);
+        }
+        rebuildTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return base;
+    }
+
+    private BaseHistoryEntity load(HistoryType type, Long changeLogId) {
+        return getHandler(type).findById(changeLogId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.HISTORY_NOT_FOUND));
+    }
+
+    private int depthOf(JsonNode stored) {
+        JsonNode delta = stored.get(DELTA_FIELD);
+        return delta == null ? 0 : delta.path("depth").asInt();
+    }
+
+    private String full(String snapshotJson) {
+        fullCounter.increment();
+        if (snapshotJson != null) {
+            fullBytes.record(bytes(snapshotJson));
+        }
+        return snapshotJson;
+    }
+
+    private static int bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private HistoryHandler getHandler(HistoryType type) {
+        HistoryHandler handler = handlerMap.get(type);
+        if (handler == null) {
+            throw new IllegalArgumentException("No handler registered for type: " + type);
+        }
+        return handler;
+    }
+
+    int cacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * 인코딩할 스냅샷 한 건.
+     */
+    public record Snapshot(Long targetId, String json) {
+    }
+
+    private record Key(HistoryType type, Long changeLogId) {
+    }
+
+    private record Step(Long changeLogId, JsonNode patch) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.workhub.global.history;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 히스토리 스냅샷 델타용 RFC 6902 JSON Patch.
+ * - diff는 add/remove/replace만 만든다. 객체는 필드별로, 배열은 같은 위치끼리 비교하고 남는 뒤쪽을 지우거나 붙인다.
+ * - apply는 위 세 연산만 지원하며 원본은 바꾸지 않는다.
+ */
+final class JsonPatch {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private JsonPatch() {
+    }
+
+    /**
+     * @return source에 적용하면 target이 되는 patch (같으면 빈 배열)
+     */
+    static ArrayNode diff(JsonNode source, JsonNode target) {
+        ArrayNode patch = NODES.arrayNode();
+        diff("", source, target, patch);
+        return patch;
+    }
+
+    /**
+     * @return document 복사본에 patch를 순서대로 적용한 결과
+     * @throws IllegalArgumentException 지원하지 않는 연산이거나 경로가 문서와 맞지 않을 때
+     */
+    static JsonNode apply(JsonNode document, JsonNode patch) {
+        JsonNode result = document.deepCopy();
+        for (JsonNode operation : patch) {
+            String op = operation.path("op").asText();
+            JsonPointer pointer = JsonPointer.compile(operation.path("path").asText());
+            JsonNode value = operation.get("value");
+
+            if (pointer.matches()) {
+                // 문서 전체 교체
+                if (op.equals("remove") || value == null) {
+                    throw new IllegalArgumentException("Invalid JSON Patch operation on root: " + operation);
+                }
+                result = value.deepCopy();
+                continue;
+            }
+
+            JsonNode parent = result.at(pointer.head());
+            String name = pointer.last().getMatchingProperty();
+            if (parent instanceof ObjectNode object) {
+                applyToObject(object, op, name, value, operation);
+            } else if (parent instanceof ArrayNode array) {
+                applyToArray(array, op, name, value, operation);
+            } else {
+                throw new IllegalArgumentException("JSON Patch path not found: " + operation);
+            }
+        }
+        return result;
+    }
+
+    private static void diff(String path, JsonNode source, JsonNode target, ArrayNode patch) {
+        if (source.equals(target)) return;
+
+        if (source.isObject() && target.isObject()) {
+            Iterator<String> names = source.fieldNames();
+            while (names.hasNext()) {
+                String name = names.next();
+                if (!target.has(name)) {
+                    patch.add(operation("remove", path + "/" + escape(name), null));
+                }
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = target.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                String child = path + "/" + escape(field.getKey());
+                JsonNode before = source.get(field.getKey());
+                if (before == null) {
+                    patch.add(operation("add", child, field.getValue()));
+                } else {
+                    diff(child, before, field.getValue(), patch);
+                }
+            }
+            return;
+        }
+
+        if (source.isArray() && target.isArray()) {
+            int common = Math.min(source.size(), target.size());
+            for (int i = 0; i < common; i++) {
+                diff(path + "/" + i, source.get(i), target.get(i), patch);
+            }
+            // 뒤에서부터 지워야 앞선 연산의 인덱스가 밀리지 않는다
+            for (int i = source.size() - 1; i >= target.size(); i--) {
+                patch.add(operation("remove", path + "/" + i, null));
+            }
+            for (int i = common; i < target.size(); i++) {
+                patch.add(operation("add", path + "/" + i, target.get(i)));
+            }
+            return;
+        }
+
+        patch.add(operation("replace", path, target));
+    }
+
+    private static void applyToObject(ObjectNode object, String op, String name, JsonNode value, JsonNode operation) {
+        switch (op) {
+            case "add" -> object.set(name, requireValue(value, operation));
+            case "replace" -> {
+                requireExisting(object.has(name), operation);
+                object.set(name, requireValue(value, operation));
+            }
+            case "remove" -> {
+                requireExisting(object.has(name), operation);
+                object.remove(name);
+            }
+            default -> throw new IllegalArgumentException("Unsupported JSON Patch operation: " + operation);
+        }
+    }
+
+    private static void applyToArray(ArrayNode array, String op, String name, JsonNode value, JsonNode operation) {
+        int index = name.equals("-") ? array.size() : parseIndex(name, operation);
+        switch (op) {
+            case "add" -> {
+                requireExisting(index <= array.size(), operation);
+                array.insert(index, requireValue(value, operation));
+            }
+            case "replace" -> {
+                requireExisting(index < array.size(), operation);
+                array.set(index, requireValue(value, operation));
+            }
+            case "remove" -> {
+                requireExisting(index < array.size(), operation);
+                array.remove(index);
+            }
+            default -> throw new IllegalArgumentException("Unsupported JSON Patch operation: " + operation);
+        }
+    }
+
+    private static int parseIndex(String name, JsonNode operation) {
+        try {
+            int index = Integer.parseInt(name);
+            if (index >= 0) return index;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid JSON Patch array index: " + operation, e);
+        }
+        throw new IllegalArgumentException("Invalid JSON Patch array index: " + operation);
+    }
+
+    private static JsonNode requireValue(JsonNode value, JsonNode operation) {
+        if (value == null) {
+            throw new IllegalArgumentException("JSON Patch value missing: " + operation);
+        }
+        return value.deepCopy();
+    }
+
+    private static void requireExisting(boolean exists, JsonNode operation) {
+        if (!exists) {
+            throw new IllegalArgumentException("JSON Patch path not found: " + operation);
+        }
+    }
+
+    private static ObjectNode operation(String op, String path, JsonNode value) {
+        ObjectNode operation = NODES.objectNode()
+                .put("op", op)
+                .put("path", path);
+        if (value != null) {
+            operation.set("value", value);
+        }
+        return operation;
+    }
+
+    /**
+     * RFC 6901: '~' → '~0', '/' → '~1'
+     */
+    private static String escape(String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+}
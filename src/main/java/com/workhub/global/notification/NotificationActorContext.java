@@ -0,0 +1,34 @@
+package com.workhub.global.notification;
+
+import java.util.Optional;
+
+/**
+ * 인증 정보가 없는 스레드(아웃박스 릴레이 등)에서 알림 발신자를 지정한다.
+ * {@link NotificationPublisher}는 SecurityContext에 사용자가 없을 때 이 값을 발신자로 사용한다.
+ */
+public final class NotificationActorContext {
+
+    private static final ThreadLocal<Long> ACTOR = new ThreadLocal<>();
+
+    private NotificationActorContext() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    public static void runAs(Long userId, Runnable task) {
+        Long previous = ACTOR.get();
+        ACTOR.set(userId);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                ACTOR.remove();
+            } else {
+                ACTOR.set(previous);
+            }
+        }
+    }
+
+    public static Optional<Long> currentUserId() {
+        return Optional.ofNullable(ACTOR.get());
+    }
+}
@@ -0,0 +1,312 @@
+package com.workhub.global.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workhub.projectNotification.dto.NotificationPublishRequest;
+import com.workhub.projectNotification.entity.NotificationDigest;
+import com.workhub.projectNotification.entity.NotificationType;
+import com.workhub.projectNotification.repository.NotificationDigestRepository;
+import com.workhub.projectNotification.service.ProjectNotificationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 짧은 시간에 몰리는 같은 종류의 알림을 (수신자, 프로젝트, 타입) 단위로 모아 요약 알림 하나로 발행한다.
+ * - 노드 순서 변경/체크리스트 일괄 수정처럼 이벤트가 연달아 발생하는 타입만 묶는다.
+ * - 구간 안에서 한 건만 들어온 수신자에게는 원래 알림을 그대로 보낸다.
+ * - 구간이 끝나면 같은 내용을 받을 수신자끼리 모아 {@link ProjectNotificationService#publishAll}로 일괄 저장한다.
+ * - 알림 설정이 DIGEST인 수신자는 타입과 관계없이 (수신자, 프로젝트) 단위로 더 긴 요약 구간 동안 모은다.
+ * - 묶음 대기분은 메모리가 아니라 notification_digest에 아웃박스 전달과 같은 트랜잭션으로 쌓는다.
+ *   전달이 롤백되면 대기분도 함께 롤백되어 재시도 때 두 번 쌓이지 않고, 구간 중에 노드가 죽어도 사라지지 않는다.
+ * - (프로젝트, 타입) 구간은 처음 쌓은 노드가 열고, 구간 안에 들어온 다른 수신자의 행도 같은 구간 끝에 발행되도록 맞춘다.
+ *   구간이 끝나면 그 노드가 예약해 둔 발행이 대기 행을 SKIP LOCKED로 가져가 발행 후 지운다.
+ *   예약이 사라져도(노드 종료, 디스패처 거절) 주기 폴링이 어느 노드에서든 다시 가져간다.
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer implements SmartLifecycle {
+
+    /** 디스패처보다 먼저 멈춰, 예약한 발행을 더 넘기지 않고 종료되도록 한다. */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    private final ProjectNotificationService notificationService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final NotificationDigestRepository digestRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long windowMs;
+    private final long digestWindowMs;
+    private final int digestBatchSize;
+    private final Set<NotificationType> coalescedTypes;
+    private final Map<NotificationType, Counter> eventsIn = new EnumMap<>(NotificationType.class);
+    private final Map<NotificationType, Counter> singlesOut = new EnumMap<>(NotificationType.class);
+    private final Map<NotificationType, Counter> digestsOut = new EnumMap<>(NotificationType.class);
+
+    /** 이 노드가 연 묶음 구간과 끝나는 시각. 발행 자체는 notification_digest 행 기준이다. */
+    private final Map<BurstKey, LocalDateTime> windows = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flushScheduler;
+    private volatile boolean running;
+
+    public NotificationCoalescer(
+            ProjectNotificationService notificationService,
+            NotificationDispatcher notificationDispatcher,
+            NotificationDigestRepository digestRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${workhub.notification.coalesce.window-ms:1500}") long windowMs,
+            @Value("${workhub.notification.coalesce.digest-window-ms:600000}") long digestWindowMs,
+            @Value("${workhub.notification.coalesce.digest-batch-size:500}") int digestBatchSize,
+            @Value("${workhub.notification.coalesce.types:PROJECT_NODE_UPDATED,CHECKLIST_UPDATED,CHECKLIST_ITEM_STATUS_CHANGED}")
+            Set<NotificationType> coalescedTypes
+    ) {
+        this.notificationService = notificationService;
+        this.notificationDispatcher = notificationDispatcher;
+        this.digestRepository = digestRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.windowMs = windowMs;
+        this.digestWindowMs = digestWindowMs;
+        this.digestBatchSize = digestBatchSize;
+        this.coalescedTypes = Set.copyOf(coalescedTypes);
+
+        Gauge.builder("notification.coalesce.pending", windows, Map::size)
+                .description("이 노드가 구간 종료 발행을 예약한 (프로젝트, 타입) 묶음 수")
+                .register(meterRegistry);
+        for (NotificationType type : NotificationType.values()) {
+            eventsIn.put(type, Counter.builder("notification.coalesce.events.in")
+                    .description("묶음 단계로 들어온 (수신자 기준) 알림 수")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+            singlesOut.put(type, outCounter(type, "single"));
+            digestsOut.put(type, outCounter(type, "digest"));
+        }
+    }
+
+    private Counter outCounter(NotificationType type, String kind) {
+        return Counter.builder("notification.coalesce.notifications.out")
+                .description("묶음 단계를 거쳐 실제 발행된 (수신자 기준) 알림 수")
+                .tag("type", type.name())
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림을 발행한다. 묶음 대상이 아니거나 프로젝트를 알 수 없으면 바로 저장/전송한다.
+     * 묶음 대상이면 (수신자, 프로젝트, 타입) 대기 행에 쌓고, 새 구간을 열었으면 구간이 끝날 때의 발행을 예약한다.
+     * 호출한 트랜잭션(아웃박스 전달)에 참여하므로 전달 완료와 함께 커밋되거나 함께 롤백된다.
+     * @param projectId 묶음 키로 쓰는 프로젝트 ID
+     */
+    @Transactional
+    public void submit(Long projectId, NotificationPublishRequest base, Set<Long> receivers) {
+        if (receivers == null || receivers.isEmpty()) {
+            return;
+        }
+        countIn(base.type(), receivers.size());
+        if (!running || windowMs <= 0 || projectId == null || !coalescedTypes.contains(base.type())) {
+            countOut(base.type(), false, receivers.size());
+            notificationService.publishAll(base, receivers);
+            return;
+        }
+        BurstKey key = new BurstKey(projectId, base.type());
+        LocalDateTime now = LocalDateTime.now();
+        boolean[] opened = {false};
+        LocalDateTime flushAt = windows.compute(key, (k, end) -> {
+            if (end != null && end.isAfter(now)) {
+                return end;
+            }
+            opened[0] = true;
+            return now.plus(Duration.ofMillis(windowMs));
+        });
+        String lastRequest = serialize(base);
+        for (Long receiverId : receivers) {
+            digestRepository.append(receiverId, projectId, base.type().name(), lastRequest, base.originAtMillis(), flushAt);
+        }
+        if (opened[0]) {
+            scheduleFlush(key, flushAt);
+        }
+    }
+
+    /**
+     * 알림 설정이 DIGEST인 수신자의 알림을 요약 구간 동안 notification_digest에 모은다. 타입과 관계없이 묶는다.
+     * 호출한 트랜잭션(아웃박스 전달)에 참여하므로 전달 완료와 함께 커밋되거나 함께 롤백된다.
+     * @param projectId 묶음 키로 쓰는 프로젝트 ID
+     */
+    @Transactional
+    public void submitDigest(Long projectId, NotificationPublishRequest base, Set<Long> receivers) {
+        if (receivers == null || receivers.isEmpty()) {
+            return;
+        }
+        countIn(base.type(), receivers.size());
+        if (digestWindowMs <= 0 || projectId == null) {
+            countOut(base.type(), false, receivers.size());
+            notificationService.publishAll(base, receivers);
+            return;
+        }
+        String lastRequest = serialize(base);
+        LocalDateTime flushAt = LocalDateTime.now().plus(Duration.ofMillis(digestWindowMs));
+        for (Long receiverId : receivers) {
+            digestRepository.append(receiverId, projectId, NotificationDigest.DIGEST_KEY, lastRequest,
+                    base.originAtMillis(), flushAt);
+        }
+    }
+
+    /**
+     * 구간이 끝난 묶음/요약 대기 행을 발행하고 지운다. 발행과 삭제가 한 트랜잭션이라 실패하면 다음 주기에 다시 시도한다.
+     * 구간 종료 예약이 사라진 묶음도 여기서 발행된다.
+     */
+    @Scheduled(fixedDelayString = "${workhub.notification.coalesce.digest-poll-interval-ms:10000}")
+    public void flushDueDigests() {
+        int flushed;
+        do {
+            try {
+                Integer batch = transactionTemplate.execute(status -> flushDigestBatch());
+                flushed = batch == null ? 0 : batch;
+            } catch (Exception e) {
+                log.error("Notification digest flush failed", e);
+                return;
+            }
+        } while (flushed == digestBatchSize);
+    }
+
+    private int flushDigestBatch() {
+        List<NotificationDigest> due = digestRepository.lockDue(LocalDateTime.now(), digestBatchSize);
+        if (due.isEmpty()) return 0;
+
+        // 같은 마지막 알림과 건수를 가진 수신자는 같은 내용을 받으므로 한 번에 저장한다.
+        Map<DigestKey, List<NotificationDigest>> groups = new LinkedHashMap<>();
+        for (NotificationDigest digest : due) {
+            groups.computeIfAbsent(new DigestKey(digest.getProjectId(), digest.getLastRequest(), digest.getPendingCount()),
+                    key -> new ArrayList<>()).add(digest);
+        }
+        groups.forEach((key, digests) -> {
+            NotificationPublishRequest last = deserialize(key.lastRequest());
+            Set<Long> receivers = new HashSet<>();
+            long firstOriginAtMillis = Long.MAX_VALUE;
+            for (NotificationDigest digest : digests) {
+                receivers.add(digest.getUserId());
+                firstOriginAtMillis = Math.min(firstOriginAtMillis, digest.getFirstOriginAtMillis());
+            }
+            NotificationPublishRequest request = key.count() == 1
+                    ? last
+                    : toDigest(key.projectId(), last, key.count()).originAtMillis(firstOriginAtMillis);
+            countOut(last.type(), key.count() > 1, receivers.size());
+            notificationService.publishAll(request, receivers);
+        });
+        digestRepository.deleteAllInBatch(due);
+        return due.size();
+    }
+
+    /**
+     * 구간이 끝날 때 대기 행 발행을 예약한다. 아직 커밋되지 않은 행은 건너뛰고 주기 폴링이 발행한다.
+     * 발행은 디스패처에서 하며, 거절되거나 노드가 멈춰도 대기 행은 주기 폴링이 발행한다.
+     */
+    private void scheduleFlush(BurstKey key, LocalDateTime flushAt) {
+        Runnable flush = () -> {
+            windows.remove(key, flushAt);
+            notificationDispatcher.dispatch(this::flushDueDigests);
+        };
+        try {
+            flushScheduler.schedule(flush, windowMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            windows.remove(key, flushAt);
+        }
+    }
+
+    private String serialize(NotificationPublishRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize digest notification", e);
+        }
+    }
+
+    private NotificationPublishRequest deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, NotificationPublishRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize digest notification", e);
+        }
+    }
+
+    private NotificationPublishRequest toDigest(Long projectId, NotificationPublishRequest last, int count) {
+        return last.asProjectDigest(
+                projectId,
+                last.title() + " 외 " + (count - 1) + "건",
+                "프로젝트에서 " + count + "건의 변경이 있었습니다.",
+                "/projects/" + projectId
+        );
+    }
+
+    private void countIn(NotificationType type, int amount) {
+        eventsIn.get(type).increment(amount);
+    }
+
+    private void countOut(NotificationType type, boolean digest, int amount) {
+        (digest ? digestsOut : singlesOut).get(type).increment(amount);
+    }
+
+    @Override
+    public void start() {
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("notification-coalesce").daemon(true).factory());
+        running = true;
+        log.info("Notification coalescer started: window={}ms, digestWindow={}ms, types={}",
+                windowMs, digestWindowMs, coalescedTypes);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flushScheduler.shutdownNow();
+        // 예약만 버린다. 대기 행은 DB에 남아 다른 노드(또는 재기동 후 이 노드)의 폴링이 발행한다.
+        log.info("Notification coalescer stopped (pending windows left to polling: {})", windows.size());
+        windows.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    int pendingBursts() {
+        return windows.size();
+    }
+
+    private record BurstKey(Long projectId, NotificationType type) {
+    }
+
+    private record DigestKey(Long projectId, String lastRequest, int count) {
+    }
+}
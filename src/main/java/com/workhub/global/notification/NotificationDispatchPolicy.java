@@ -0,0 +1,12 @@
+package com.workhub.global.notification;
+
+/**
+ * 알림 디스패치 큐가 가득 찼을 때의 처리 정책.
+ * 큐의 작업은 저장된 알림을 발행하는 flush이므로 작업을 버리는 정책은 두지 않는다.
+ */
+public enum NotificationDispatchPolicy {
+    /** 큐에 자리가 날 때까지 대기한다. 대기 시간을 넘기면 호출 스레드에서 직접 실행한다. */
+    BLOCK,
+    /** 호출 스레드(flush 스케줄러 스레드)에서 즉시 실행한다. */
+    CALLER_RUNS
+}
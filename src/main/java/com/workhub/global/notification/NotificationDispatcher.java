@@ -0,0 +1,194 @@
+package com.workhub.global.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 묶음({@link NotificationCoalescer})의 flush 작업을 스케줄러 스레드에서 분리해 실행하는 디스패처.
+ * - flush 대상 알림은 notification_digest에 저장되어 있고, 이 작업은 창이 끝난 행을 바로 발행하도록 깨우는 역할만 한다.
+ * - 작업은 bounded 큐에 넣기만 하고, 가상 스레드 워커가 꺼내 실행한다.
+ * - 큐가 가득 차면 {@link NotificationDispatchPolicy}에 따라 대기하거나 호출 스레드에서 실행한다. 작업을 버리는 정책은 두지 않는다.
+ * - 종료 시 웹 서버가 멈춘 뒤 큐에 남은 작업을 모두 처리하고 내려간다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher implements SmartLifecycle {
+
+    /** 웹 서버(graceful shutdown 포함)가 먼저 멈춘 뒤 큐를 비우도록 더 낮은 phase를 사용한다. */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long POLL_INTERVAL_MS = 200L;
+
+    private final BlockingQueue<DispatchTask> queue;
+    private final int workerCount;
+    private final NotificationDispatchPolicy policy;
+    private final long blockTimeoutMs;
+    private final long shutdownTimeoutMs;
+
+    private final Timer latencyTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public NotificationDispatcher(
+            MeterRegistry meterRegistry,
+            @Value("${workhub.notification.dispatch.workers:4}") int workerCount,
+            @Value("${workhub.notification.dispatch.queue-capacity:1000}") int queueCapacity,
+            @Value("${workhub.notification.dispatch.policy:BLOCK}") NotificationDispatchPolicy policy,
+            @Value("${workhub.notification.dispatch.block-timeout-ms:500}") long blockTimeoutMs,
+            @Value("${workhub.notification.dispatch.shutdown-timeout-ms:30000}") long shutdownTimeoutMs
+    ) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.policy = policy;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+
+        Gauge.builder("notification.dispatch.queue.depth", queue, BlockingQueue::size)
+                .description("알림 디스패치 큐에 대기 중인 작업 수")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("notification.dispatch.latency")
+                .description("큐 적재부터 알림 발행 완료까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("notification.dispatch.rejected")
+                .description("큐가 가득 차 정책이 적용된 작업 수")
+                .tag("policy", policy.name())
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.dispatch.failed")
+                .description("실행 중 예외가 발생한 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * flush 작업을 큐에 넣는다.
+     * 발행자 정보를 계산할 수 있도록 현재 SecurityContext를 작업에 함께 전달한다.
+     */
+    public void dispatch(Runnable task) {
+        DispatchTask dispatchTask = new DispatchTask(new DelegatingSecurityContextRunnable(task), System.nanoTime());
+        if (!running) {
+            execute(dispatchTask);
+            return;
+        }
+        if (!queue.offer(dispatchTask)) {
+            rejectedCounter.increment();
+            applyPolicy(dispatchTask);
+        }
+        // stop()이 큐를 비운 직후 들어온 작업은 워커가 없으므로 직접 실행한다.
+        if (!running && queue.remove(dispatchTask)) {
+            execute(dispatchTask);
+        }
+    }
+
+    private void applyPolicy(DispatchTask dispatchTask) {
+        switch (policy) {
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(dispatchTask, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        log.warn("Notification dispatch queue still full after {}ms, running on caller thread", blockTimeoutMs);
+                        execute(dispatchTask);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    execute(dispatchTask);
+                }
+            }
+            case CALLER_RUNS -> execute(dispatchTask);
+        }
+    }
+
+    private void runWorker() {
+        while (running || !queue.isEmpty()) {
+            try {
+                DispatchTask dispatchTask = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (dispatchTask != null) {
+                    execute(dispatchTask);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void execute(DispatchTask dispatchTask) {
+        try {
+            dispatchTask.task().run();
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("Notification dispatch task failed", e);
+        } finally {
+            latencyTimer.record(System.nanoTime() - dispatchTask.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual()
+                    .name("notification-dispatch-" + i)
+                    .start(this::runWorker));
+        }
+        log.info("Notification dispatcher started: workers={}, capacity={}, policy={}",
+                workerCount, queue.remainingCapacity(), policy);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMs);
+        for (Thread worker : workers) {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            try {
+                if (remainingMs > 0) {
+                    worker.join(remainingMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.clear();
+
+        // 제한 시간 내에 워커가 끝내지 못한 작업은 종료 스레드에서 마저 처리한다.
+        int drained = 0;
+        DispatchTask dispatchTask;
+        while ((dispatchTask = queue.poll()) != null) {
+            execute(dispatchTask);
+            drained++;
+        }
+        log.info("Notification dispatcher stopped (drained on shutdown thread: {})", drained);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    int queueDepth() {
+        return queue.size();
+    }
+
+    private record DispatchTask(Runnable task, long enqueuedAtNanos) {
+    }
+}
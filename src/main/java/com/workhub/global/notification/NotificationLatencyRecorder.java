@@ -0,0 +1,74 @@
+package com.workhub.global.notification;
+
+import com.workhub.projectNotification.entity.NotificationType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 발생부터 SSE 프레임 쓰기까지 단계별 지연과 이벤트당 수신자 수(팬아웃)를 기록한다.
+ * - 모든 단계는 이벤트 발생 시각 기준 경과 시간으로 기록해, 단계 간 차이로 구간별 지연을 읽을 수 있다.
+ * - 히스토그램 버킷은 management.metrics.distribution.slo 설정으로 켠다.
+ */
+@Component
+public class NotificationLatencyRecorder {
+
+    public static final String LATENCY_METRIC = "notification.pipeline.latency";
+    public static final String FANOUT_METRIC = "notification.fanout.size";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<NotificationType, DistributionSummary> fanouts = new ConcurrentHashMap<>();
+
+    public NotificationLatencyRecorder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public enum Stage {
+        /** 아웃박스 릴레이가 리스너 실행을 시작한 시점 */
+        LISTENER_STARTED("listener_started"),
+        /** 수신자 계산을 마친 시점 */
+        TARGETS_RESOLVED("targets_resolved"),
+        /** 알림 행을 저장한 시점 */
+        PERSISTED("persisted"),
+        /** SSE 연결에 프레임을 쓴 시점 */
+        DELIVERED("delivered");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * @param originAtMillis 이벤트 발생 시각. 0 이하(알 수 없음)이면 기록하지 않는다.
+     */
+    public void record(NotificationType type, Stage stage, long originAtMillis) {
+        record(type, stage, originAtMillis, System.currentTimeMillis());
+    }
+
+    public void record(NotificationType type, Stage stage, long originAtMillis, long atMillis) {
+        if (type == null || originAtMillis <= 0) return;
+        timers.computeIfAbsent(type.name() + ':' + stage.tag, key -> Timer.builder(LATENCY_METRIC)
+                        .description("이벤트 발생부터 각 단계까지 걸린 시간")
+                        .tag("type", type.name())
+                        .tag("stage", stage.tag)
+                        .register(meterRegistry))
+                .record(Math.max(0L, atMillis - originAtMillis), TimeUnit.MILLISECONDS);
+    }
+
+    public void recordFanout(NotificationType type, int receivers) {
+        if (type == null) return;
+        fanouts.computeIfAbsent(type, t -> DistributionSummary.builder(FANOUT_METRIC)
+                        .description("이벤트 하나가 알림을 보내는 수신자 수")
+                        .tag("type", t.name())
+                        .register(meterRegistry))
+                .record(receivers);
+    }
+}
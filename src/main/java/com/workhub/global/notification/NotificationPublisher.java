@@ -1,28 +1,35 @@
 package com.workhub.global.notification;
 
 import com.workhub.projectNotification.dto.NotificationPublishRequest;
+import com.workhub.projectNotification.dto.NotificationRouting;
 import com.workhub.projectNotification.entity.NotificationType;
+import com.workhub.projectNotification.service.NotificationPreferenceService;
 import com.workhub.projectNotification.service.ProjectNotificationService;
 import com.workhub.global.util.SecurityUtil;
-import com.workhub.userTable.entity.UserTable;
-import com.workhub.userTable.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * 알림 발행 공통 헬퍼.
  * - 대상이 없으면 아무 것도 하지 않는다.
  * - 연관 FK는 정확히 하나만 세팅해야 DB 제약을 통과한다.
+ * - 수신자 전원의 알림은 이벤트 단위로 한 번에 일괄 저장한다.
+ * - 저장 전에 수신자별 알림 설정을 적용해 MUTE 수신자는 저장하지 않고, DIGEST 수신자는 요약 발행으로 넘긴다.
+ * - 이벤트 발생 시각을 발행 요청에 실어 리스너 시작/수신자 계산 단계의 지연과 팬아웃 크기를 기록한다.
  */
 @Component
 @RequiredArgsConstructor
 public class NotificationPublisher {
 
     private final ProjectNotificationService notificationService;
-    private final UserRepository userRepository;
+    private final NotificationCoalescer notificationCoalescer;
+    private final SenderProfileCache senderProfileCache;
+    private final NotificationPreferenceService preferenceService;
+    private final NotificationLatencyRecorder latencyRecorder;
 
     public void publishToUsers(
             Set<Long> receivers,
@@ -42,7 +49,7 @@ public class NotificationPublisher {
         }
         validateExactlyOneRelated(projectId, projectNodeId, postId, commentId, csQnaId, csPostId);
 
-        Sender sender = resolveCurrentSender();
+        SenderProfile sender = resolveCurrentSender();
         NotificationPublishRequest baseRequest = NotificationPublishRequest.forProject(null, type, projectId)
                 .projectNodeId(projectNodeId)
                 .postId(postId)
@@ -52,10 +59,10 @@ public class NotificationPublisher {
                 .title(title)
                 .content(content)
                 .relatedUrl(relatedUrl)
-                .senderUserId(sender.userId)
-                .senderName(sender.name)
-                .senderProfileImg(sender.profileImg);
-        receivers.forEach(userId -> notificationService.publish(baseRequest.withReceiver(userId)));
+                .senderUserId(sender.userId())
+                .senderName(sender.name())
+                .senderProfileImg(sender.profileImg());
+        deliver(projectId, baseRequest, receivers, targets -> notificationService.publishAll(baseRequest, targets));
     }
 
     /**
@@ -75,15 +82,15 @@ public class NotificationPublisher {
             String relatedUrl,
             Long postId
     ) {
-        Sender sender = resolveCurrentSender();
+        SenderProfile sender = resolveCurrentSender();
         NotificationPublishRequest base = NotificationPublishRequest.forPost(null, type, postId)
                 .title(title)
                 .content(content)
                 .relatedUrl(relatedUrl)
-                .senderUserId(sender.userId)
-                .senderName(sender.name)
-                .senderProfileImg(sender.profileImg);
-        receivers.forEach(userId -> notificationService.publish(base.withReceiver(userId)));
+                .senderUserId(sender.userId())
+                .senderName(sender.name())
+                .senderProfileImg(sender.profileImg());
+        deliver(null, base, receivers, targets -> notificationService.publishAll(base, targets));
     }
 
     /**
@@ -97,15 +104,15 @@ public class NotificationPublisher {
             String relatedUrl,
             Long commentId
     ) {
-        Sender sender = resolveCurrentSender();
+        SenderProfile sender = resolveCurrentSender();
         NotificationPublishRequest base = NotificationPublishRequest.forComment(null, type, commentId)
                 .title(title)
                 .content(content)
                 .relatedUrl(relatedUrl)
-                .senderUserId(sender.userId)
-                .senderName(sender.name)
-                .senderProfileImg(sender.profileImg);
-        receivers.forEach(userId -> notificationService.publish(base.withReceiver(userId)));
+                .senderUserId(sender.userId())
+                .senderName(sender.name())
+                .senderProfileImg(sender.profileImg());
+        deliver(null, base, receivers, targets -> notificationService.publishAll(base, targets));
     }
 
     /**
@@ -119,15 +126,15 @@ public class NotificationPublisher {
             String relatedUrl,
             Long projectId
     ) {
-        Sender sender = resolveCurrentSender();
+        SenderProfile sender = resolveCurrentSender();
         NotificationPublishRequest base = NotificationPublishRequest.forProject(null, type, projectId)
                 .title(title)
                 .content(content)
                 .relatedUrl(relatedUrl)
-                .senderUserId(sender.userId)
-                .senderName(sender.name)
-                .senderProfileImg(sender.profileImg);
-        receivers.forEach(userId -> notificationService.publish(base.withReceiver(userId)));
+                .senderUserId(sender.userId())
+                .senderName(sender.name())
+                .senderProfileImg(sender.profileImg());
+        deliver(projectId, base, receivers, targets -> notificationService.publishAll(base, targets));
     }
 
     /**
@@ -141,15 +148,32 @@ public class NotificationPublisher {
             String relatedUrl,
             Long projectNodeId
     ) {
-        Sender sender = resolveCurrentSender();
+        publishProjectNode(null, receivers, type, title, content, relatedUrl, projectNodeId);
+    }
+
+    /**
+     * 프로젝트 노드 알림 편의 메서드(묶음 발행 지원).
+     * 연달아 발생하는 타입이면 {@link NotificationCoalescer}가 (수신자, 프로젝트, 타입) 단위로 모아 요약 알림으로 발행한다.
+     * @param projectId 묶음 키로 쓰는 프로젝트 ID(연관 FK로 저장하지 않는다)
+     */
+    public void publishProjectNode(
+            Long projectId,
+            Set<Long> receivers,
+            NotificationType type,
+            String title,
+            String content,
+            String relatedUrl,
+            Long projectNodeId
+    ) {
+        SenderProfile sender = resolveCurrentSender();
         NotificationPublishRequest base = NotificationPublishRequest.forProjectNode(null, type, projectNodeId)
                 .title(title)
                 .content(content)
                 .relatedUrl(relatedUrl)
-                .senderUserId(sender.userId)
-                .senderName(sender.name)
-                .senderProfileImg(sender.profileImg);
-        receivers.forEach(userId -> notificationService.publish(base.withReceiver(userId)));
+                .senderUserId(sender.userId())
+                .senderName(sender.name())
+                .senderProfileImg(sender.profileImg());
+        deliver(projectId, base, receivers, targets -> notificationCoalescer.submit(projectId, base, targets));
     }
 
     /**
@@ -163,15 +187,15 @@ public class NotificationPublisher {
             String relatedUrl,
             Long csQnaId
     ) {
-        Sender sender = resolveCurrentSender();
+        SenderProfile sender = resolveCurrentSender();
         NotificationPublishRequest base = NotificationPublishRequest.forCsQna(null, type, csQnaId)
                 .title(title)
                 .content(content)
                 .relatedUrl(relatedUrl)
-                .senderUserId(sender.userId)
-                .senderName(sender.name)
-                .senderProfileImg(sender.profileImg);
-        receivers.forEach(userId -> notificationService.publish(base.withReceiver(userId)));
+                .senderUserId(sender.userId())
+                .senderName(sender.name())
+                .senderProfileImg(sender.profileImg());
+        deliver(null, base, receivers, targets -> notificationService.publishAll(base, targets));
     }
 
     /**
@@ -185,15 +209,50 @@ public class NotificationPublisher {
             String relatedUrl,
             Long csPostId
     ) {
-        Sender sender = resolveCurrentSender();
+        SenderProfile sender = resolveCurrentSender();
         NotificationPublishRequest base = NotificationPublishRequest.forCsPost(null, type, csPostId)
                 .title(title)
                 .content(content)
                 .relatedUrl(relatedUrl)
-                .senderUserId(sender.userId)
-                .senderName(sender.name)
-                .senderProfileImg(sender.profileImg);
-        receivers.forEach(userId -> notificationService.publish(base.withReceiver(userId)));
+                .senderUserId(sender.userId())
+                .senderName(sender.name())
+                .senderProfileImg(sender.profileImg());
+        deliver(null, base, receivers, targets -> notificationService.publishAll(base, targets));
+    }
+
+    /**
+     * 알림 설정을 적용해 발행한다. MUTE 수신자는 제외하고, DIGEST 수신자는 프로젝트를 알 때만 요약 발행으로 넘긴다.
+     * @param projectId 요약 묶음 키로 쓰는 프로젝트 ID (없으면 null)
+     * @param immediate 바로 발행할 수신자를 받아 저장/전송하는 동작
+     */
+    private void deliver(Long projectId, NotificationPublishRequest base, Set<Long> receivers, Consumer<Set<Long>> immediate) {
+        if (receivers == null || receivers.isEmpty()) {
+            return;
+        }
+        trace(base, receivers.size());
+        NotificationRouting routing = preferenceService.route(base.type(), receivers, projectId != null);
+        if (!routing.digest().isEmpty()) {
+            notificationCoalescer.submitDigest(projectId, base, routing.digest());
+        }
+        if (!routing.immediate().isEmpty()) {
+            immediate.accept(routing.immediate());
+        }
+    }
+
+    /**
+     * 릴레이가 넘겨준 이벤트 발생 시각을 요청에 싣는다. 릴레이를 거치지 않은 발행은 지금을 발생 시각으로 본다.
+     */
+    private void trace(NotificationPublishRequest base, int fanout) {
+        long now = System.currentTimeMillis();
+        NotificationTrace.Timestamps timestamps = NotificationTrace.current().orElse(null);
+        long originAtMillis = timestamps == null ? now : timestamps.originAtMillis();
+        base.originAtMillis(originAtMillis);
+        if (timestamps != null) {
+            latencyRecorder.record(base.type(), NotificationLatencyRecorder.Stage.LISTENER_STARTED,
+                    originAtMillis, timestamps.listenerStartedAtMillis());
+        }
+        latencyRecorder.record(base.type(), NotificationLatencyRecorder.Stage.TARGETS_RESOLVED, originAtMillis, now);
+        latencyRecorder.recordFanout(base.type(), fanout);
     }
 
     /**
@@ -211,21 +270,10 @@ public class NotificationPublisher {
         }
     }
 
-    private Sender resolveCurrentSender() {
-        Long userId = SecurityUtil.getCurrentUserId().orElse(null);
-        if (userId == null) {
-            return Sender.empty();
-        }
-        UserTable user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
-            return new Sender(userId, null, null);
-        }
-        return new Sender(userId, user.getUserName(), user.getProfileImg());
-    }
-
-    private record Sender(Long userId, String name, String profileImg) {
-        private static Sender empty() {
-            return new Sender(null, null, null);
-        }
+    private SenderProfile resolveCurrentSender() {
+        Long userId = SecurityUtil.getCurrentUserId()
+                .or(NotificationActorContext::currentUserId)
+                .orElse(null);
+        return senderProfileCache.resolve(userId, SecurityUtil.getCustomUserDetails().orElse(null));
     }
 }
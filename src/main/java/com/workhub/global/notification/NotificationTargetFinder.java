@@ -1,8 +1,6 @@
 package com.workhub.global.notification;
 
-import com.workhub.project.entity.ProjectClientMember;
-import com.workhub.project.entity.ProjectDevMember;
-import com.workhub.project.service.ProjectService;
+import com.workhub.project.service.ProjectMembershipCache;
 import com.workhub.post.entity.Post;
 import com.workhub.post.entity.PostComment;
 import com.workhub.post.service.comment.CommentService;
@@ -11,17 +9,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * 알림 대상 userId를 계산하는 유틸.
+ * 프로젝트 멤버는 {@link ProjectMembershipCache}에서 읽으므로 같은 프로젝트의 이벤트가 이어져도 DB를 다시 조회하지 않는다.
  */
 @Component
 @RequiredArgsConstructor
 public class NotificationTargetFinder {
 
-    private final ProjectService projectService;
+    private final ProjectMembershipCache membershipCache;
     private final PostService postService;
     private final CommentService commentService;
 
@@ -29,30 +26,21 @@ public class NotificationTargetFinder {
      * 프로젝트 전체 멤버(고객 + 개발) userId 집합을 반환한다.
      */
     public Set<Long> findAllMembersOfProject(Long projectId) {
-        var clients = projectService.getClientMemberByProjectIdIn(java.util.List.of(projectId));
-        var devs = projectService.getDevMemberByProjectIdIn(java.util.List.of(projectId));
-        return Stream.concat(
-                        clients.stream().map(ProjectClientMember::getUserId),
-                        devs.stream().map(ProjectDevMember::getUserId))
-                .collect(Collectors.toSet());
+        return membershipCache.get(projectId).allIds();
     }
 
     /**
      * 프로젝트 전체 멤버(고객) userId 집합을 반환한다.
      */
     public Set<Long> findAllClientMembersOfProject(Long projectId) {
-        var clients = projectService.getClientMemberByProjectIdIn(java.util.List.of(projectId));
-        return clients.stream().map(ProjectClientMember::getUserId)
-                .collect(Collectors.toSet());
+        return membershipCache.get(projectId).clientIds();
     }
 
     /**
      * 프로젝트 전체 멤버(개발) userId 집합을 반환한다.
      */
     public Set<Long> findAllDevMembersOfProject(Long projectId) {
-        var devs = projectService.getDevMemberByProjectIdIn(java.util.List.of(projectId));
-        return devs.stream().map(ProjectDevMember::getUserId)
-                .collect(Collectors.toSet());
+        return membershipCache.get(projectId).devIds();
     }
 
     /**
@@ -0,0 +1,45 @@
+package com.workhub.global.notification;
+
+import java.util.Optional;
+
+/**
+ * 알림 파이프라인 지연 측정용 시각을 스레드에 실어 나른다.
+ * 아웃박스 릴레이가 이벤트 발생 시각(아웃박스 기록 시각)과 리스너 시작 시각을 지정하고,
+ * {@link NotificationPublisher}가 이 값을 발행 요청에 옮겨 담아 저장/전송 단계까지 전달한다.
+ */
+public final class NotificationTrace {
+
+    private static final ThreadLocal<Timestamps> CURRENT = new ThreadLocal<>();
+
+    private NotificationTrace() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @param originAtMillis 알림을 일으킨 이벤트가 기록된 시각(epoch millis)
+     */
+    public static void runFrom(long originAtMillis, Runnable task) {
+        Timestamps previous = CURRENT.get();
+        CURRENT.set(new Timestamps(originAtMillis, System.currentTimeMillis()));
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static Optional<Timestamps> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * @param originAtMillis 이벤트 발생 시각
+     * @param listenerStartedAtMillis 리스너 실행을 시작한 시각
+     */
+    public record Timestamps(long originAtMillis, long listenerStartedAtMillis) {
+    }
+}
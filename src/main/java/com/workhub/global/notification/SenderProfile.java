@@ -0,0 +1,11 @@
+package com.workhub.global.notification;
+
+/**
+ * 알림에 함께 저장하는 발신자 정보.
+ */
+public record SenderProfile(Long userId, String name, String profileImg) {
+
+    public static SenderProfile empty() {
+        return new SenderProfile(null, null, null);
+    }
+}
@@ -0,0 +1,146 @@
+package com.workhub.global.notification;
+
+import com.workhub.global.security.CustomUserDetails;
+import com.workhub.userTable.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 발신자(이름, 프로필 이미지) 조회 캐시.
+ * - 로그인 사용자 본인이 발신자면 세션의 {@link CustomUserDetails}를 먼저 쓴다. 단, 로그인 이후 프로필이 바뀐 사용자는 건너뛴다.
+ * - 그 외(아웃박스 릴레이 등)는 TTL 캐시를 거쳐 없을 때만 DB에서 읽는다.
+ * - 무효화는 이 인스턴스에만 적용되므로 다른 노드는 TTL이 지나야 바뀐 값을 본다.
+ */
+@Component
+public class SenderProfileCache {
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    /** 사용자별 마지막 프로필 변경 시각. 이보다 먼저 만들어진 principal은 믿지 않는다. */
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+
+    private final Timer principalTimer;
+    private final Timer hitTimer;
+    private final Timer missTimer;
+
+    public SenderProfileCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${workhub.notification.sender-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${workhub.notification.sender-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.maxEntries = maxEntries;
+        this.principalTimer = lookupTimer(meterRegistry, "principal");
+        this.hitTimer = lookupTimer(meterRegistry, "cache");
+        this.missTimer = lookupTimer(meterRegistry, "db");
+        Gauge.builder("notification.sender.cache.size", entries, Map::size)
+                .description("캐시된 발신자 프로필 수")
+                .register(meterRegistry);
+    }
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("notification.sender.lookup")
+                .description("발신자 프로필 조회 시간 (source별 건수로 적중률을 본다)")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발신자 프로필을 찾는다.
+     * @param principal 현재 요청의 로그인 사용자 (없으면 null)
+     */
+    public SenderProfile resolve(Long userId, CustomUserDetails principal) {
+        if (userId == null) {
+            return SenderProfile.empty();
+        }
+        long startedAt = System.nanoTime();
+        if (principal != null && userId.equals(principal.getUserId()) && isFresh(principal)) {
+            SenderProfile profile = new SenderProfile(userId, principal.getUserName(), principal.getProfileImg());
+            principalTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return profile;
+        }
+
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(userId);
+        if (cached != null && cached.expiresAtMillis() > now) {
+            hitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return cached.profile();
+        }
+
+        SenderProfile loaded = userRepository.findById(userId)
+                .map(user -> new SenderProfile(userId, user.getUserName(), user.getProfileImg()))
+                .orElse(null);
+        if (loaded != null) {
+            put(userId, loaded, now);
+        }
+        missTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return loaded != null ? loaded : new SenderProfile(userId, null, null);
+    }
+
+    /**
+     * 프로필이 바뀐 사용자를 캐시에서 지운다. 트랜잭션 안이면 커밋 후에 지운다.
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) return;
+        Runnable action = () -> {
+            changedAt.put(userId, System.currentTimeMillis());
+            entries.remove(userId);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private boolean isFresh(CustomUserDetails principal) {
+        Long changed = changedAt.get(principal.getUserId());
+        return changed == null || principal.getLoadedAtMillis() > changed;
+    }
+
+    private void put(Long userId, SenderProfile profile, long now) {
+        if (entries.size() >= maxEntries && !entries.containsKey(userId)) {
+            evict(now);
+        }
+        entries.put(userId, new Entry(profile, now + ttlMillis));
+    }
+
+    /**
+     * 만료된 항목을 먼저 비우고, 그래도 가득 차 있으면 임의의 한 항목을 버린다.
+     */
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+        Iterator<Long> iterator = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Entry(SenderProfile profile, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.workhub.global.outbox;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+/**
+ * 아웃박스에서 꺼낸 도메인 이벤트. 리스너는 {@code OutboxDelivery<XxxEvent>} 타입으로 구독한다.
+ * at-least-once 전달이므로 같은 outboxId가 두 번 이상 전달될 수 있다.
+ */
+public record OutboxDelivery<E extends OutboxEvent>(Long outboxId, E event) implements ResolvableTypeProvider {
+
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forInstance(event));
+    }
+}
@@ -0,0 +1,10 @@
+package com.workhub.global.outbox;
+
+/**
+ * 트랜잭션 아웃박스로 전달되는 도메인 이벤트 표식.
+ * 이 인터페이스를 구현한 이벤트는 발행한 트랜잭션 안에서 notification_outbox에 기록되고,
+ * 커밋 후 {@link OutboxRelay}가 {@link OutboxDelivery}로 감싸 리스너에 전달한다(at-least-once).
+ * JSON으로 저장되므로 엔티티는 담지 않고 ID와 값 필드만 가진 record로 만든다. 엔티티가 필요하면 리스너가 전달 시점에 조회한다.
+ */
+public interface OutboxEvent {
+}
@@ -0,0 +1,93 @@
+package com.workhub.global.outbox;
+
+import com.workhub.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "notification_outbox")
+@Entity
+public class OutboxMessage extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Column(name = "event_type", length = 200, nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    /** 이벤트를 발생시킨 사용자(알림 발신자). 릴레이 스레드에는 인증 정보가 없으므로 함께 저장한다. */
+    @Column(name = "actor_user_id")
+    private Long actorUserId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public static OutboxMessage of(String eventType, String payload, Long actorUserId) {
+        return OutboxMessage.builder()
+                .eventType(eventType)
+                .payload(payload)
+                .actorUserId(actorUserId)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 릴레이 워커가 가져간다. 임대 시각까지 끝내지 못하면 다른 워커가 다시 가져간다.
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = OutboxStatus.IN_PROGRESS;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markDone(LocalDateTime now) {
+        this.status = OutboxStatus.DONE;
+        this.attempts++;
+        this.processedAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * 전달 실패 기록. 최대 시도 횟수에 도달하면 FAILED로 남기고 더 이상 꺼내지 않는다.
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            this.processedAt = LocalDateTime.now();
+        } else {
+            this.status = OutboxStatus.PENDING;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.workhub.global.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * 처리할 메시지를 잠그며 가져온다. 다른 워커/노드가 잠근 행은 건너뛰므로 여러 릴레이가 나눠 처리한다.
+     * 임대 시각(next_attempt_at)이 지난 IN_PROGRESS 메시지는 처리하던 노드가 죽은 것으로 보고 다시 가져온다.
+     */
+    @Query(value = "SELECT * FROM notification_outbox " +
+            "WHERE status IN ('PENDING', 'IN_PROGRESS') AND next_attempt_at <= :now " +
+            "ORDER BY outbox_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxMessage> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 이 워커가 받은 임대가 그대로일 때만 임대를 연장한다. 전달 트랜잭션의 첫 문장으로 실행해 전달하는 동안 행을 잠근다.
+     * @return 0이면 임대가 끝난 뒤 다른 워커가 다시 가져간 것이다
+     */
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.nextAttemptAt = :renewedLease " +
+            "WHERE m.outboxId = :outboxId AND m.status = com.workhub.global.outbox.OutboxStatus.IN_PROGRESS " +
+            "AND m.nextAttemptAt = :lease")
+    int renewLease(@Param("outboxId") Long outboxId,
+                   @Param("lease") LocalDateTime lease,
+                   @Param("renewedLease") LocalDateTime renewedLease);
+
+    /**
+     * 전달 완료 표시. 리스너와 같은 트랜잭션에서 실행해 함께 커밋한다. 임대가 그대로일 때만 반영한다.
+     */
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.status = com.workhub.global.outbox.OutboxStatus.DONE, " +
+            "m.attempts = m.attempts + 1, m.processedAt = :now, m.lastError = NULL " +
+            "WHERE m.outboxId = :outboxId AND m.status = com.workhub.global.outbox.OutboxStatus.IN_PROGRESS " +
+            "AND m.nextAttemptAt = :lease")
+    int markDone(@Param("outboxId") Long outboxId, @Param("lease") LocalDateTime lease, @Param("now") LocalDateTime now);
+
+    /**
+     * 전달 실패 기록. 임대가 그대로일 때만 반영하므로, 임대가 끝나 다른 워커가 전달한 메시지를 되돌리지 않는다.
+     */
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.status = :status, m.attempts = :attempts, m.nextAttemptAt = :nextAttemptAt, " +
+            "m.processedAt = :processedAt, m.lastError = :lastError " +
+            "WHERE m.outboxId = :outboxId AND m.status = com.workhub.global.outbox.OutboxStatus.IN_PROGRESS " +
+            "AND m.nextAttemptAt = :lease")
+    int recordFailure(@Param("outboxId") Long outboxId,
+                      @Param("lease") LocalDateTime lease,
+                      @Param("status") OutboxStatus status,
+                      @Param("attempts") int attempts,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("processedAt") LocalDateTime processedAt,
+                      @Param("lastError") String lastError);
+
+    @Query("SELECT MIN(m.createdAt) FROM OutboxMessage m WHERE m.status IN " +
+            "(com.workhub.global.outbox.OutboxStatus.PENDING, com.workhub.global.outbox.OutboxStatus.IN_PROGRESS)")
+    Optional<LocalDateTime> findOldestPendingCreatedAt();
+
+    @Modifying
+    @Query(value = "DELETE FROM notification_outbox WHERE outbox_id IN (" +
+            "SELECT outbox_id FROM notification_outbox WHERE status = 'DONE' AND processed_at < :before LIMIT :limit)",
+            nativeQuery = true)
+    int deleteProcessedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
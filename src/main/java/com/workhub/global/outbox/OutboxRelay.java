@@ -0,0 +1,293 @@
+package com.workhub.global.outbox;
+
+import com.workhub.global.notification.NotificationActorContext;
+import com.workhub.global.notification.NotificationTrace;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * notification_outbox를 폴링해 도메인 이벤트를 리스너로 전달하는 릴레이.
+ * - 워커마다 {@code FOR UPDATE SKIP LOCKED}로 배치를 잠가 IN_PROGRESS(임대 만료 시각 기록)로 바꾸고 바로 커밋한다.
+ *   여러 워커/노드가 겹치지 않게 나눠 처리하면서도, 전달하는 동안 배치 트랜잭션과 커넥션을 붙잡지 않는다.
+ * - 메시지마다 트랜잭션 하나에서 리스너 실행과 DONE 표시를 함께 커밋한다. 리스너의 알림 저장도 이 트랜잭션에 참여하므로
+ *   워커 하나가 쓰는 커넥션은 한 개다. 실패하면 지수 백오프로 재시도한다.
+ * - 전달 트랜잭션은 받은 임대가 그대로일 때만 임대를 연장하며 행을 잠그고 시작한다. 배치 뒤쪽 메시지가 임대를 넘겨
+ *   다른 워커가 가져갔으면 건너뛰고, 전달하는 동안에는 다른 워커가 잠긴 행을 건너뛴다.
+ *   DONE/실패 기록도 임대가 그대로일 때만 반영하므로 다른 워커가 처리한 메시지를 되돌리지 않는다.
+ * - 전달 중 노드가 죽으면 임대가 끝난 뒤 다른 워커가 다시 가져가 전달한다(at-least-once).
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements SmartLifecycle {
+
+    /** 묶음 단계({@code NotificationCoalescer})와 디스패처보다 먼저 멈춰, 마지막 전달분이 그쪽에서 처리되도록 한다. */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 1536;
+    private static final int CLEANUP_CHUNK_SIZE = 5000;
+    private static final long MAX_BACKOFF_SECONDS = 300L;
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OutboxSerializer serializer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate batchTransaction;
+    private final TransactionTemplate deliveryTransaction;
+
+    private final int workerCount;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final int maxAttempts;
+    private final long retentionHours;
+    private final long leaseSeconds;
+
+    private final Counter deliveredCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+    private final Counter claimLostCounter;
+    private final Timer lagTimer;
+    private final DistributionSummary batchSummary;
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public OutboxRelay(
+            OutboxMessageRepository outboxMessageRepository,
+            OutboxSerializer serializer,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${workhub.notification.outbox.workers:2}") int workerCount,
+            @Value("${workhub.notification.outbox.batch-size:100}") int batchSize,
+            @Value("${workhub.notification.outbox.poll-interval-ms:500}") long pollIntervalMs,
+            @Value("${workhub.notification.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${workhub.notification.outbox.retention-hours:72}") long retentionHours,
+            @Value("${workhub.notification.outbox.lease-seconds:120}") long leaseSeconds
+    ) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.serializer = serializer;
+        this.eventPublisher = eventPublisher;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.deliveryTransaction = new TransactionTemplate(transactionManager);
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.maxAttempts = maxAttempts;
+        this.retentionHours = retentionHours;
+        this.leaseSeconds = leaseSeconds;
+
+        this.deliveredCounter = Counter.builder("notification.outbox.delivered")
+                .description("리스너 전달에 성공한 아웃박스 메시지 수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("notification.outbox.failed")
+                .description("전달에 실패한 아웃박스 메시지 수")
+                .tag("final", "false")
+                .register(meterRegistry);
+        this.deadCounter = Counter.builder("notification.outbox.failed")
+                .description("전달에 실패한 아웃박스 메시지 수")
+                .tag("final", "true")
+                .register(meterRegistry);
+        this.claimLostCounter = Counter.builder("notification.outbox.claim.lost")
+                .description("임대가 끝나 다른 워커가 가져가 이 워커가 건너뛴 아웃박스 메시지 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("notification.outbox.lag")
+                .description("아웃박스 기록부터 리스너 전달 완료까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSummary = DistributionSummary.builder("notification.outbox.batch.size")
+                .description("한 번의 폴링으로 가져온 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.outbox.pending.oldest.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("가장 오래 대기 중인 아웃박스 메시지의 나이")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 중인 메시지를 한 배치 가져와(claim) 커밋한 뒤 하나씩 전달하고, 가져온 메시지 수를 반환한다.
+     */
+    int relayBatch() {
+        List<OutboxMessage> claimed = batchTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxMessage> messages = outboxMessageRepository.lockClaimable(now, batchSize);
+            LocalDateTime leaseUntil = leaseFrom(now);
+            messages.forEach(message -> message.claim(leaseUntil));
+            return messages;
+        });
+        int count = claimed == null ? 0 : claimed.size();
+        batchSummary.record(count);
+        if (claimed != null) {
+            claimed.forEach(this::deliver);
+        }
+        return count;
+    }
+
+    /**
+     * 임대 만료 시각. DB(TIMESTAMP)에 저장한 값과 그대로 비교할 수 있도록 밀리초 단위로 자른다.
+     */
+    private LocalDateTime leaseFrom(LocalDateTime now) {
+        return now.plusSeconds(leaseSeconds).truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private void deliver(OutboxMessage message) {
+        LocalDateTime lease = message.getNextAttemptAt();
+        try {
+            OutboxEvent event = serializer.deserialize(message.getEventType(), message.getPayload());
+            long originAtMillis = message.getCreatedAt() == null
+                    ? System.currentTimeMillis()
+                    : message.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            LocalDateTime renewedLease = leaseFrom(LocalDateTime.now());
+            LocalDateTime doneAt = deliveryTransaction.execute(status -> {
+                if (outboxMessageRepository.renewLease(message.getOutboxId(), lease, renewedLease) == 0) {
+                    return null;
+                }
+                NotificationActorContext.runAs(
+                        message.getActorUserId(),
+                        () -> NotificationTrace.runFrom(originAtMillis,
+                                () -> eventPublisher.publishEvent(new OutboxDelivery<>(message.getOutboxId(), event))));
+                LocalDateTime now = LocalDateTime.now();
+                if (outboxMessageRepository.markDone(message.getOutboxId(), renewedLease, now) == 0) {
+                    throw new IllegalStateException("Outbox lease lost before completion: " + message.getOutboxId());
+                }
+                return now;
+            });
+            if (doneAt == null) {
+                claimLostCounter.increment();
+                log.info("Outbox message {} was reclaimed by another worker after its lease expired, skipped",
+                        message.getOutboxId());
+                return;
+            }
+            message.markDone(doneAt);
+            deliveredCounter.increment();
+            if (message.getCreatedAt() != null) {
+                lagTimer.record(Duration.between(message.getCreatedAt(), doneAt));
+            }
+        } catch (Exception e) {
+            long backoffSeconds = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(message.getAttempts(), 16));
+            message.markFailed(e.toString(), LocalDateTime.now().plusSeconds(backoffSeconds), maxAttempts);
+            try {
+                // 전달 트랜잭션은 롤백되었으므로(임대도 연장 전 값) 실패 기록만 따로 커밋한다
+                Integer recorded = batchTransaction.execute(status -> outboxMessageRepository.recordFailure(
+                        message.getOutboxId(), lease, message.getStatus(), message.getAttempts(),
+                        message.getNextAttemptAt(), message.getProcessedAt(), message.getLastError()));
+                if (recorded == null || recorded == 0) {
+                    claimLostCounter.increment();
+                    log.info("Outbox message {} was reclaimed by another worker, failure not recorded", message.getOutboxId());
+                    return;
+                }
+            } catch (Exception saveError) {
+                // 기록하지 못해도 임대가 끝나면 다시 가져가 재시도한다
+                log.warn("Failed to record outbox failure for message {}", message.getOutboxId(), saveError);
+            }
+            if (message.getStatus() == OutboxStatus.FAILED) {
+                deadCounter.increment();
+                log.error("Outbox message {} ({}) failed permanently after {} attempts",
+                        message.getOutboxId(), message.getEventType(), message.getAttempts(), e);
+            } else {
+                retriedCounter.increment();
+                log.warn("Outbox message {} ({}) failed, retry in {}s",
+                        message.getOutboxId(), message.getEventType(), backoffSeconds, e);
+            }
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            int relayed;
+            try {
+                relayed = relayBatch();
+            } catch (Exception e) {
+                log.error("Outbox relay batch failed", e);
+                relayed = 0;
+            }
+            // 배치를 가득 채웠으면 밀린 메시지가 있는 것이므로 바로 다음 배치를 가져온다.
+            if (relayed < batchSize) {
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${workhub.notification.outbox.lag-refresh-ms:10000}")
+    public void refreshLag() {
+        LocalDateTime oldest = outboxMessageRepository.findOldestPendingCreatedAt().orElse(null);
+        oldestPendingAgeSeconds.set(oldest == null ? 0L : Math.max(0L, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+    }
+
+    /**
+     * 보관 기간이 지난 DONE 메시지를 청크 단위로 삭제한다. FAILED 메시지는 원인 확인을 위해 남겨둔다.
+     */
+    @Scheduled(fixedDelayString = "${workhub.notification.outbox.cleanup-interval-ms:3600000}")
+    public void cleanUp() {
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+        int deleted;
+        int total = 0;
+        do {
+            Integer chunk = batchTransaction.execute(status ->
+                    outboxMessageRepository.deleteProcessedBefore(before, CLEANUP_CHUNK_SIZE));
+            deleted = chunk == null ? 0 : chunk;
+            total += deleted;
+        } while (deleted == CLEANUP_CHUNK_SIZE);
+        if (total > 0) {
+            log.info("Outbox cleanup removed {} processed messages older than {}h", total, retentionHours);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual()
+                    .name("notification-outbox-" + i)
+                    .start(this::runWorker));
+        }
+        log.info("Outbox relay started: workers={}, batchSize={}, pollInterval={}ms", workerCount, batchSize, pollIntervalMs);
+    }
+
+    @Override
+    public void stop() {
+        // 진행 중인 배치는 끝까지 처리하고, 대기 중인 워커는 다음 폴링 주기에 빠져나온다.
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.clear();
+        log.info("Outbox relay stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,36 @@
+package com.workhub.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스 이벤트 JSON 변환기.
+ * 이벤트는 ID와 값 필드만 가진 record이므로 기본 설정으로 읽고 쓰며, 필드가 추가/삭제되어도 저장된 행을 복원할 수 있도록 모르는 필드는 무시한다.
+ */
+@Component
+public class OutboxSerializer {
+
+    private final ObjectMapper objectMapper;
+
+    public OutboxSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    public String serialize(OutboxEvent event) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(event);
+    }
+
+    /**
+     * 저장된 타입 이름으로 이벤트를 복원한다. {@link OutboxEvent} 구현체가 아니면 거부한다.
+     */
+    public OutboxEvent deserialize(String eventType, String payload) throws JsonProcessingException, ClassNotFoundException {
+        Class<?> type = Class.forName(eventType);
+        if (!OutboxEvent.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException("Not an outbox event type: " + eventType);
+        }
+        return (OutboxEvent) objectMapper.readValue(payload, type);
+    }
+}
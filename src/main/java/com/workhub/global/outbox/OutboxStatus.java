@@ -0,0 +1,9 @@
+package com.workhub.global.outbox;
+
+public enum OutboxStatus {
+    PENDING,
+    /** 릴레이 워커가 가져가 전달 중. next_attempt_at은 임대 만료 시각이다. */
+    IN_PROGRESS,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,35 @@
+package com.workhub.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.workhub.global.util.SecurityUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link OutboxEvent}를 발행한 쪽의 트랜잭션 안에서 notification_outbox에 기록한다.
+ * 동기 리스너이므로 비즈니스 변경과 아웃박스 행은 함께 커밋되거나 함께 롤백된다.
+ */
+@Component
+public class OutboxWriter {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OutboxSerializer serializer;
+    private final Counter writtenCounter;
+
+    public OutboxWriter(OutboxMessageRepository outboxMessageRepository, OutboxSerializer serializer, MeterRegistry meterRegistry) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.serializer = serializer;
+        this.writtenCounter = Counter.builder("notification.outbox.written")
+                .description("아웃박스에 기록된 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void write(OutboxEvent event) throws JsonProcessingException {
+        Long actorUserId = SecurityUtil.getCurrentUserId().orElse(null);
+        outboxMessageRepository.save(OutboxMessage.of(event.getClass().getName(), serializer.serialize(event), actorUserId));
+        writtenCounter.increment();
+    }
+}
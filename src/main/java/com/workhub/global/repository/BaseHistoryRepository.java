@@ -3,8 +3,12 @@ package com.workhub.global.repository;
 import com.workhub.global.entity.ActionType;
 import com.workhub.global.entity.BaseHistoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @NoRepositoryBean
@@ -13,4 +17,17 @@ public interface BaseHistoryRepository<T extends BaseHistoryEntity> extends JpaR
     Optional<T> findFirstByTargetIdAndActionTypeOrderByChangeLogIdAsc(
             Long targetId, ActionType actionType
     );
+
+    List<T> findByTargetIdInAndActionTypeOrderByChangeLogIdAsc(
+            Collection<Long> targetIds, ActionType actionType
+    );
+
+    Optional<T> findFirstByTargetIdOrderByChangeLogIdDesc(Long targetId);
+
+    /**
+     * 대상마다 가장 최근(change_log_id가 가장 큰) 히스토리를 한 번에 조회한다.
+     */
+    @Query("SELECT h FROM #{#entityName} h WHERE h.changeLogId IN " +
+            "(SELECT MAX(x.changeLogId) FROM #{#entityName} x WHERE x.targetId IN :targetIds GROUP BY x.targetId)")
+    List<T> findLatestByTargetIdIn(@Param("targetIds") Collection<Long> targetIds);
 }
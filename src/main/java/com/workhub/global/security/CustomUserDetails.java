@@ -17,6 +17,9 @@ public class CustomUserDetails implements UserDetails {
     private final String password;
     private final String userName;
     private final String phone;
+    private final String profileImg;
+    /** 로그인 시점. 이후 프로필이 바뀌었는지 판단하는 데 쓴다. */
+    private final long loadedAtMillis;
     private final GrantedAuthority authority;
 
     public CustomUserDetails(UserTable userTable) {
@@ -25,6 +28,8 @@ public class CustomUserDetails implements UserDetails {
         this.password = userTable.getPassword();
         this.userName = userTable.getUserName();
         this.phone = userTable.getPhone();
+        this.profileImg = userTable.getProfileImg();
+        this.loadedAtMillis = System.currentTimeMillis();
         this.authority = new SimpleGrantedAuthority("ROLE_" + userTable.getRole().name());
     }
 
@@ -54,7 +54,12 @@ public final class SecurityUtil {
                 .map(principal -> (UserDetails) principal);
     }
 
-    private static Optional<CustomUserDetails> getCustomUserDetails() {
+    /**
+     * 현재 인증된 사용자의 CustomUserDetails 객체를 반환
+     *
+     * @return Optional<CustomUserDetails>
+     */
+    public static Optional<CustomUserDetails> getCustomUserDetails() {
         return getCurrentUserDetails()
                 .filter(userDetails -> userDetails instanceof CustomUserDetails)
                 .map(userDetails -> (CustomUserDetails) userDetails);
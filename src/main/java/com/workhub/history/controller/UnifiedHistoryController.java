@@ -2,31 +2,48 @@ package com.workhub.history.controller;
 
 import com.workhub.global.entity.HistoryType;
 import com.workhub.global.entity.ActionType;
+import com.workhub.history.dto.HistoryCursorResponse;
+import com.workhub.history.dto.HistoryExportFilter;
+import com.workhub.history.dto.HistoryFeedFilter;
 import com.workhub.history.dto.UnifiedHistoryResponse;
+import com.workhub.history.export.HistoryExportFormat;
+import com.workhub.history.service.UnifiedHistoryExportService;
 import com.workhub.history.service.UnifiedHistoryService;
 import com.workhub.global.response.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 /**
  * 통합 히스토리 관리 Controller
  * - /api/v1/admin/histories: 관리자 전용 (모든 정보 포함)
  * - /api/v1/histories: 일반 사용자 (IP, userAgent 제외)
+ * - 경로 끝이 /cursor인 API는 OFFSET 대신 커서로 조회하며 전체 개수를 주지 않는다 (깊은 페이지도 비용이 같다)
+ * - /api/v1/admin/histories/export는 조건에 맞는 히스토리 전체를 파일로 내려받는다 (감사용)
  */
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 public class UnifiedHistoryController {
 
+    private static final DateTimeFormatter EXPORT_FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
     private final UnifiedHistoryService unifiedHistoryService;
+    private final UnifiedHistoryExportService unifiedHistoryExportService;
 
     // ========== 관리자 전용 API ==========
 
@@ -104,6 +121,102 @@ public class UnifiedHistoryController {
         return ApiResponse.success(histories, "사용자 " + userId + "의 히스토리가 조회되었습니다.");
     }
 
+    /**
+     * 전체 히스토리 커서 조회 (관리자 전용)
+     *
+     * @param cursor 이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size   페이지 크기 (기본 10, 최대 100)
+     * @return 커서 페이지
+     */
+    @GetMapping("/api/v1/admin/histories/all/cursor")
+    public ResponseEntity<ApiResponse<HistoryCursorResponse>> findAllHistoryByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        HistoryCursorResponse histories = unifiedHistoryService.findByCursor(HistoryFeedFilter.all(), cursor, size, false);
+
+        return ApiResponse.success(histories, "전체 히스토리가 조회되었습니다.");
+    }
+
+    /**
+     * 히스토리 타입별 커서 조회 (관리자 전용)
+     */
+    @GetMapping("/api/v1/admin/histories/cursor")
+    public ResponseEntity<ApiResponse<HistoryCursorResponse>> findByHistoryTypeForAdminByCursor(
+            @RequestParam("types") List<HistoryType> historyTypes,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        HistoryCursorResponse histories = unifiedHistoryService.findByHistoryTypesByCursor(historyTypes, cursor, size);
+
+        return ApiResponse.success(histories, "지정한 타입의 히스토리가 조회되었습니다.");
+    }
+
+    /**
+     * 액션 타입별 커서 조회 (관리자 전용)
+     */
+    @GetMapping("/api/v1/admin/histories/action/{actionType}/cursor")
+    public ResponseEntity<ApiResponse<HistoryCursorResponse>> findByActionTypeByCursor(
+            @PathVariable ActionType actionType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        HistoryCursorResponse histories = unifiedHistoryService.findByCursor(
+                HistoryFeedFilter.action(actionType), cursor, size, false);
+
+        return ApiResponse.success(histories, actionType + " 액션의 히스토리가 조회되었습니다.");
+    }
+
+    /**
+     * 특정 사용자가 수정한 히스토리 커서 조회 (관리자 전용)
+     */
+    @GetMapping("/api/v1/admin/histories/user/{userId}/cursor")
+    public ResponseEntity<ApiResponse<HistoryCursorResponse>> findByUserIdByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        HistoryCursorResponse histories = unifiedHistoryService.findByCursor(
+                HistoryFeedFilter.updatedBy(userId), cursor, size, false);
+
+        return ApiResponse.success(histories, "사용자 " + userId + "의 히스토리가 조회되었습니다.");
+    }
+
+    /**
+     * 조건에 맞는 히스토리 전체 내보내기 (관리자 전용)
+     * 페이지를 나누지 않고 DB 커서로 읽으며 바로 내려보내므로 건수와 무관하게 서버 메모리 사용이 일정하다.
+     * 전송 시간은 workhub.history.export.timeout-ms로 따로 제한한다 (전역 비동기 요청 타임아웃과 무관).
+     *
+     * @param format       NDJSON(기본) | CSV
+     * @param historyTypes 히스토리 타입 목록 (없으면 전체)
+     * @param actionType   액션 타입
+     * @param userId       수정자 ID
+     * @param from         이 시각 이후(포함) 수정된 히스토리 (ISO-8601, 예: 2026-01-01T00:00:00)
+     * @param to           이 시각 이전(미포함) 수정된 히스토리
+     * @return 최신순 히스토리 파일을 응답에 쓰는 비동기 작업
+     */
+    @GetMapping("/api/v1/admin/histories/export")
+    public WebAsyncTask<Void> exportHistory(
+            @RequestParam(defaultValue = "NDJSON") HistoryExportFormat format,
+            @RequestParam(value = "types", required = false) List<HistoryType> historyTypes,
+            @RequestParam(required = false) ActionType actionType,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletResponse response
+    ) {
+        HistoryExportFilter filter = new HistoryExportFilter(
+                historyTypes == null ? List.of() : historyTypes, actionType, userId, from, to);
+        log.info("Admin requested history export: filter={}, format={}", filter, format);
+
+        WebAsyncTask<Void> task = unifiedHistoryExportService.export(filter, format, response);
+        String fileName = "histories-" + LocalDateTime.now().format(EXPORT_FILE_TIME) + "." + format.getExtension();
+
+        response.setContentType(format.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+        return task;
+    }
+
     // ========== 일반 사용자 API (IP, userAgent 제외) ==========
 
     /**
@@ -162,4 +275,52 @@ public class UnifiedHistoryController {
 
         return ApiResponse.success(histories, "타겟 " + targetId + "의 히스토리가 조회되었습니다.");
     }
+
+    /**
+     * 전체 히스토리 커서 조회 (사용자용)
+     *
+     * @param cursor 이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size   페이지 크기 (기본 10, 최대 100)
+     * @return 커서 페이지 (IP, userAgent 제외)
+     */
+    @GetMapping("/api/v1/histories/all/cursor")
+    public ResponseEntity<ApiResponse<HistoryCursorResponse>> findAllUserHistoryByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        HistoryCursorResponse histories = unifiedHistoryService.findAllUserHistoryByCursor(cursor, size);
+
+        return ApiResponse.success(histories, "전체 히스토리가 조회되었습니다.");
+    }
+
+    /**
+     * 히스토리 타입별 커서 조회 (일반 사용자용)
+     */
+    @GetMapping("/api/v1/histories/type/{historyType}/cursor")
+    public ResponseEntity<ApiResponse<HistoryCursorResponse>> findByHistoryTypeForPublicByCursor(
+            @PathVariable HistoryType historyType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        HistoryCursorResponse histories = unifiedHistoryService.findByCursor(
+                HistoryFeedFilter.types(List.of(historyType)), cursor, size, true);
+
+        return ApiResponse.success(histories, historyType + " 타입의 히스토리가 조회되었습니다.");
+    }
+
+    /**
+     * 특정 타겟의 히스토리 커서 조회 (일반 사용자용)
+     */
+    @GetMapping("/api/v1/histories/{targetId}/cursor")
+    public ResponseEntity<ApiResponse<HistoryCursorResponse>> findByTargetIdByCursor(
+            @PathVariable Long targetId,
+            @RequestParam("historyType") HistoryType historyType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        HistoryCursorResponse histories = unifiedHistoryService.findByCursor(
+                HistoryFeedFilter.target(targetId, historyType), cursor, size, true);
+
+        return ApiResponse.success(histories, "타겟 " + targetId + "의 히스토리가 조회되었습니다.");
+    }
 }
@@ -0,0 +1,125 @@
+package com.workhub.history.count;
+
+import com.workhub.history.dto.HistoryFeedFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+/**
+ * 조회 조건별로 센 개수를 TTL 동안 재사용한다.
+ * - 처음 보는 조건은 바로 세어 채운다.
+ * - TTL이 지난 값은 그대로 돌려주고, 조건당 하나씩만 백그라운드에서 다시 센다. 요청 스레드는 count를 기다리지 않는다.
+ * - 최대 보관 수를 넘으면 새 조건은 캐시하지 않고 매번 센다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "workhub.history.count.strategy", havingValue = "cached")
+public class CachedHistoryCount implements HistoryCountStrategy {
+
+    private final Map<HistoryFeedFilter, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<HistoryFeedFilter> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor;
+    private final LongSupplier clock;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Counter hitCounter;
+    private final Counter staleCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public CachedHistoryCount(
+            MeterRegistry meterRegistry,
+            @Value("${workhub.history.count.cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${workhub.history.count.cache.max-entries:10000}") int maxEntries
+    ) {
+        this(meterRegistry, ttlSeconds * 1000, maxEntries, Executors.newVirtualThreadPerTaskExecutor(),
+                System::currentTimeMillis);
+    }
+
+    CachedHistoryCount(MeterRegistry meterRegistry, long ttlMillis, int maxEntries,
+                       ExecutorService refreshExecutor, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.staleCounter = lookupCounter(meterRegistry, "stale");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        Gauge.builder("history.count.cache.size", entries, Map::size)
+                .description("개수를 캐시한 조회 조건 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long count(HistoryFeedFilter filter, LongSupplier exactCount) {
+        Entry entry = entries.get(filter);
+        if (entry == null) {
+            missCounter.increment();
+            long count = exactCount.getAsLong();
+            store(filter, count);
+            return count;
+        }
+        if (clock.getAsLong() - entry.loadedAt() >= ttlMillis) {
+            staleCounter.increment();
+            refreshAsync(filter, exactCount);
+        } else {
+            hitCounter.increment();
+        }
+        return entry.count();
+    }
+
+    private void refreshAsync(HistoryFeedFilter filter, LongSupplier exactCount) {
+        if (!refreshing.add(filter)) return;
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    store(filter, exactCount.getAsLong());
+                } catch (RuntimeException e) {
+                    // 다음 조회에서 다시 시도하고, 그동안은 이전 값을 쓴다
+                    log.warn("History count refresh failed: filter={}", filter, e);
+                } finally {
+                    refreshing.remove(filter);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(filter);
+            throw e;
+        }
+    }
+
+    private void store(HistoryFeedFilter filter, long count) {
+        if (entries.size() >= maxEntries && !entries.containsKey(filter)) {
+            return;
+        }
+        entries.put(filter, new Entry(count, clock.getAsLong()));
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("history.count.cache.lookups")
+                .description("히스토리 개수 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    private record Entry(long count, long loadedAt) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.workhub.history.count;
+
+import com.workhub.global.entity.HistoryType;
+import com.workhub.global.history.HistoryInsertCounter;
+import com.workhub.history.dto.HistoryFeedFilter;
+import com.workhub.history.repository.UnifiedHistoryKeysetRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 타입 조건만 있는 조회(전체/타입별)의 개수를 통계로 추정한다.
+ * 타입별 히스토리 테이블의 pg_class.reltuples(ANALYZE 시점 행 수)에 그 뒤 이 인스턴스가 커밋한 건수를 더한다.
+ * 통계는 refreshSeconds마다 다시 읽으므로, 다른 인스턴스가 쓴 건수는 다음 통계 갱신 때 반영된다.
+ * 수정자/액션/대상 조건이 있거나 아직 ANALYZE되지 않은 테이블이 있으면 정확히 센다.
+ */
+@Component
+@ConditionalOnProperty(name = "workhub.history.count.strategy", havingValue = "estimated")
+public class EstimatedHistoryCount implements HistoryCountStrategy {
+
+    private static final String RELTUPLES_SQL = "SELECT reltuples FROM pg_class WHERE oid = to_regclass(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HistoryInsertCounter insertCounter;
+    private final LongSupplier clock;
+    private final long refreshMillis;
+
+    private final Counter estimatedCounter;
+    private final Counter exactCounter;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public EstimatedHistoryCount(
+            JdbcTemplate jdbcTemplate,
+            HistoryInsertCounter insertCounter,
+            MeterRegistry meterRegistry,
+            @Value("${workhub.history.count.estimate.refresh-seconds:300}") long refreshSeconds
+    ) {
+        this(jdbcTemplate, insertCounter, meterRegistry, refreshSeconds * 1000, System::currentTimeMillis);
+    }
+
+    EstimatedHistoryCount(JdbcTemplate jdbcTemplate, HistoryInsertCounter insertCounter, MeterRegistry meterRegistry,
+                          long refreshMillis, LongSupplier clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertCounter = insertCounter;
+        this.refreshMillis = refreshMillis;
+        this.clock = clock;
+        this.estimatedCounter = Counter.builder("history.count.estimate")
+                .description("통계 추정으로 돌려준 히스토리 개수 수")
+                .tag("result", "estimated")
+                .register(meterRegistry);
+        this.exactCounter = Counter.builder("history.count.estimate")
+                .description("추정할 수 없어 정확히 센 히스토리 개수 수")
+                .tag("result", "exact")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long count(HistoryFeedFilter filter, LongSupplier exactCount) {
+        if (filter.actionType() != null || filter.updatedBy() != null || filter.targetId() != null) {
+            exactCounter.increment();
+            return exactCount.getAsLong();
+        }
+
+        Snapshot current = snapshot();
+        long total = 0;
+        for (HistoryType type : filter.branches()) {
+            long rows = current.rows().get(type);
+            if (rows < 0) {
+                // 한 번도 ANALYZE되지 않은 테이블
+                exactCounter.increment();
+                return exactCount.getAsLong();
+            }
+            total += rows + insertCounter.get(type) - current.insertedAt().get(type);
+        }
+        estimatedCounter.increment();
+        return total;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && clock.getAsLong() - current.takenAt() < refreshMillis) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == current) {
+                snapshot = readSnapshot();
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * 타입별 테이블 통계와 그 시점의 커밋 건수를 함께 기록한다.
+     */
+    private Snapshot readSnapshot() {
+        Map<HistoryType, Long> rows = new EnumMap<>(HistoryType.class);
+        Map<HistoryType, Long> insertedAt = new EnumMap<>(HistoryType.class);
+        UnifiedHistoryKeysetRepository.TABLES.forEach((type, table) -> {
+            insertedAt.put(type, insertCounter.get(type));
+            List<Double> reltuples = jdbcTemplate.queryForList(RELTUPLES_SQL, Double.class, table);
+            rows.put(type, reltuples.isEmpty() || reltuples.get(0) == null ? -1L : Math.round(reltuples.get(0)));
+        });
+        return new Snapshot(rows, insertedAt, clock.getAsLong());
+    }
+
+    private record Snapshot(Map<HistoryType, Long> rows, Map<HistoryType, Long> insertedAt, long takenAt) {
+    }
+}
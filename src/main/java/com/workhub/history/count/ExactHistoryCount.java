@@ -0,0 +1,20 @@
+package com.workhub.history.count;
+
+import com.workhub.history.dto.HistoryFeedFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 매 조회마다 count 쿼리로 정확히 센다.
+ */
+@Component
+@ConditionalOnProperty(name = "workhub.history.count.strategy", havingValue = "exact", matchIfMissing = true)
+public class ExactHistoryCount implements HistoryCountStrategy {
+
+    @Override
+    public long count(HistoryFeedFilter filter, LongSupplier exactCount) {
+        return exactCount.getAsLong();
+    }
+}
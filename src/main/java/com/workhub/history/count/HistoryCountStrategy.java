@@ -0,0 +1,27 @@
+package com.workhub.history.count;
+
+import com.workhub.history.dto.HistoryFeedFilter;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 통합 히스토리 OFFSET 조회의 전체 개수 계산 방식.
+ * workhub.history.count.strategy로 하나를 고른다 (exact | cached | estimated | none).
+ * 조회는 다음 페이지 여부를 항상 1건 더 읽어 판단하므로, 마지막 페이지에서는 어떤 방식이든 개수를 세지 않는다.
+ */
+public interface HistoryCountStrategy {
+
+    /**
+     * @param filter 조회 조건 (캐시/추정 기준)
+     * @param exactCount 조건에 맞는 행을 정확히 세는 쿼리
+     * @return 전체 개수 (정확하지 않을 수 있다)
+     */
+    long count(HistoryFeedFilter filter, LongSupplier exactCount);
+
+    /**
+     * false면 개수를 세지 않고 다음 페이지 여부만 알려준다.
+     */
+    default boolean countsTotal() {
+        return true;
+    }
+}
@@ -0,0 +1,26 @@
+package com.workhub.history.count;
+
+import com.workhub.history.dto.HistoryFeedFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 개수를 세지 않는다. 응답의 전체 개수는 지금까지 확인한 건수(다음 페이지가 있으면 +1)이므로
+ * 클라이언트는 last/hasNext로만 다음 페이지를 판단한다.
+ */
+@Component
+@ConditionalOnProperty(name = "workhub.history.count.strategy", havingValue = "none")
+public class NoHistoryCount implements HistoryCountStrategy {
+
+    @Override
+    public long count(HistoryFeedFilter filter, LongSupplier exactCount) {
+        throw new IllegalStateException("History count is disabled");
+    }
+
+    @Override
+    public boolean countsTotal() {
+        return false;
+    }
+}
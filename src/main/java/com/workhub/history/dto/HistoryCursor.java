@@ -0,0 +1,75 @@
+package com.workhub.history.dto;
+
+import com.workhub.global.entity.HistoryType;
+import com.workhub.global.entity.UnifiedHistory;
+import com.workhub.global.error.ErrorCode;
+import com.workhub.global.error.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 통합 히스토리 커서. 마지막으로 받은 항목의 (updatedAt, historyType, changeLogId)를 담는다.
+ * - 정렬은 updatedAt 내림차순 → changeLogId 내림차순 → historyType 이름 오름차순이며, 세 값으로 항목이 하나로 정해진다.
+ * - 클라이언트에는 Base64URL 문자열로만 노출해 형식에 의존하지 않게 한다.
+ */
+public record HistoryCursor(
+        LocalDateTime updatedAt,
+        HistoryType historyType,
+        Long changeLogId
+) {
+    /**
+     * 커서 조회 정렬 순서
+     */
+    public static final Comparator<UnifiedHistory> FEED_ORDER = Comparator
+            .comparing(UnifiedHistory::getUpdatedAt, Comparator.reverseOrder())
+            .thenComparing(UnifiedHistory::getChangeLogId, Comparator.reverseOrder())
+            .thenComparing(history -> history.getHistoryType().name());
+
+    private static final String DELIMITER = "|";
+
+    public static HistoryCursor from(UnifiedHistory history) {
+        return new HistoryCursor(history.getUpdatedAt(), history.getHistoryType(), history.getChangeLogId());
+    }
+
+    /**
+     * @param encoded 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     * @return 커서, 첫 페이지면 null
+     * @throws BusinessException 형식이 잘못된 경우
+     */
+    public static HistoryCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new BusinessException(ErrorCode.INVALID_HISTORY_CURSOR);
+            }
+            return new HistoryCursor(
+                    LocalDateTime.parse(parts[0]),
+                    HistoryType.valueOf(parts[1]),
+                    Long.parseLong(parts[2])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_HISTORY_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = updatedAt + DELIMITER + historyType.name() + DELIMITER + changeLogId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서와 시각/ID가 같은 항목을 해당 타입에서 다음 페이지에 포함해야 하는지 여부.
+     * 같은 시각/ID라면 타입 이름이 커서보다 뒤인 항목만 커서 다음에 온다.
+     */
+    public boolean includesTiesOf(HistoryType branchType) {
+        return branchType.name().compareTo(historyType.name()) > 0;
+    }
+}
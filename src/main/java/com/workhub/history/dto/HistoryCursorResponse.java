@@ -0,0 +1,43 @@
+package com.workhub.history.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 통합 히스토리 커서 페이지 응답. 전체 개수는 계산하지 않는다.
+ * @param histories 히스토리 목록 (최신순)
+ * @param nextCursor 다음 페이지 조회 시 cursor로 넘길 값 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ * @param size 이번 페이지의 히스토리 수
+ */
+@Builder
+public record HistoryCursorResponse(
+        List<UnifiedHistoryResponse> histories,
+        String nextCursor,
+        Boolean hasNext,
+        Integer size
+) {
+    public static final int DEFAULT_SIZE = 10;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 페이지 크기를 1 ~ {@value #MAX_SIZE} 범위로 보정한다.
+     */
+    public static int pageSize(Integer size) {
+        return size == null || size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * @param histories 이번 페이지 히스토리 (최신순)
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public static HistoryCursorResponse of(List<UnifiedHistoryResponse> histories, HistoryCursor nextCursor) {
+        return HistoryCursorResponse.builder()
+                .histories(histories)
+                .nextCursor(nextCursor == null ? null : nextCursor.encode())
+                .hasNext(nextCursor != null)
+                .size(histories.size())
+                .build();
+    }
+}
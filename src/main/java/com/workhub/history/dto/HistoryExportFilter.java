@@ -0,0 +1,41 @@
+package com.workhub.history.dto;
+
+import com.workhub.global.entity.ActionType;
+import com.workhub.global.entity.HistoryType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 통합 히스토리 내보내기 조건. null인 조건은 적용하지 않는다.
+ * @param historyTypes 내보낼 히스토리 타입 (비어 있으면 전체)
+ * @param actionType 액션 타입
+ * @param updatedBy 수정자 ID
+ * @param from 이 시각 이후(포함)에 수정된 히스토리
+ * @param to 이 시각 이전(미포함)에 수정된 히스토리
+ */
+public record HistoryExportFilter(
+        List<HistoryType> historyTypes,
+        ActionType actionType,
+        Long updatedBy,
+        LocalDateTime from,
+        LocalDateTime to
+) {
+    public static HistoryExportFilter all() {
+        return new HistoryExportFilter(List.of(), null, null, null, null);
+    }
+
+    /**
+     * 실제로 내보낼 히스토리 타입. 지정하지 않았으면 전체 타입이다.
+     */
+    public List<HistoryType> branches() {
+        return new HistoryFeedFilter(historyTypes, null, null, null).branches();
+    }
+
+    /**
+     * @return 기간이 비어 있지 않은지 (from, to 중 하나라도 없으면 true)
+     */
+    public boolean hasValidRange() {
+        return from == null || to == null || from.isBefore(to);
+    }
+}
@@ -0,0 +1,51 @@
+package com.workhub.history.dto;
+
+import com.workhub.global.entity.ActionType;
+import com.workhub.global.entity.HistoryType;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 통합 히스토리 커서 조회 조건. null인 조건은 적용하지 않는다.
+ * @param historyTypes 조회할 히스토리 타입 (비어 있으면 전체)
+ * @param actionType 액션 타입
+ * @param updatedBy 수정자 ID
+ * @param targetId 대상 ID
+ */
+public record HistoryFeedFilter(
+        List<HistoryType> historyTypes,
+        ActionType actionType,
+        Long updatedBy,
+        Long targetId
+) {
+    public static HistoryFeedFilter all() {
+        return new HistoryFeedFilter(List.of(), null, null, null);
+    }
+
+    public static HistoryFeedFilter types(List<HistoryType> historyTypes) {
+        return new HistoryFeedFilter(historyTypes, null, null, null);
+    }
+
+    public static HistoryFeedFilter action(ActionType actionType) {
+        return new HistoryFeedFilter(List.of(), actionType, null, null);
+    }
+
+    public static HistoryFeedFilter updatedBy(Long updatedBy) {
+        return new HistoryFeedFilter(List.of(), null, updatedBy, null);
+    }
+
+    public static HistoryFeedFilter target(Long targetId, HistoryType historyType) {
+        return new HistoryFeedFilter(List.of(historyType), null, null, targetId);
+    }
+
+    /**
+     * 실제로 조회할 히스토리 타입. 지정하지 않았으면 전체 타입이다.
+     */
+    public List<HistoryType> branches() {
+        if (historyTypes == null || historyTypes.isEmpty()) {
+            return Arrays.asList(HistoryType.values());
+        }
+        return historyTypes.stream().distinct().toList();
+    }
+}
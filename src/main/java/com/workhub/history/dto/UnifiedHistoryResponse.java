@@ -23,13 +23,17 @@ public class UnifiedHistoryResponse {
     private String ipAddress;
     private String userAgent;
 
-    public static UnifiedHistoryResponse from(UnifiedHistory history, UserInfo createdBy, UserInfo updatedBy) {
+    /**
+     * @param beforeData 델타로 저장된 스냅샷을 복원한 전체 스냅샷
+     */
+    public static UnifiedHistoryResponse from(UnifiedHistory history, String beforeData,
+                                              UserInfo createdBy, UserInfo updatedBy) {
         return UnifiedHistoryResponse.builder()
                 .changeLogId(history.getChangeLogId())
                 .historyType(history.getHistoryType())
                 .targetId(history.getTargetId())
                 .actionType(history.getActionType())
-                .beforeData(history.getBeforeData())
+                .beforeData(beforeData)
                 .createdBy(createdBy)
                 .updatedBy(updatedBy)
                 .updatedAt(history.getUpdatedAt())
@@ -0,0 +1,88 @@
+package com.workhub.history.export;
+
+import com.workhub.history.dto.UnifiedHistoryResponse;
+import com.workhub.history.dto.UserInfo;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * RFC 4180 CSV. 엑셀이 한글을 깨뜨리지 않도록 UTF-8 BOM으로 시작하고, 줄바꿈은 CRLF를 쓴다.
+ * 사용자가 입력한 문자열이 =, +, -, @ 등으로 시작하면 스프레드시트가 수식으로 실행하지 않도록 앞에 '를 붙인다.
+ */
+class CsvHistoryExportWriter implements HistoryExportWriter {
+
+    static final String HEADER = "change_log_id,history_type,target_id,action_type,created_by_id,created_by_name,"
+            + "updated_by_id,updated_by_name,updated_at,ip_address,user_agent,before_data";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+
+    CsvHistoryExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write('\uFEFF');
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(UnifiedHistoryResponse history) throws IOException {
+        UserInfo createdBy = history.getCreatedBy();
+        UserInfo updatedBy = history.getUpdatedBy();
+        writer.write(number(history.getChangeLogId()));
+        writer.write(',');
+        writer.write(history.getHistoryType() == null ? "" : history.getHistoryType().name());
+        writer.write(',');
+        writer.write(number(history.getTargetId()));
+        writer.write(',');
+        writer.write(history.getActionType() == null ? "" : history.getActionType().name());
+        writer.write(',');
+        writer.write(number(createdBy == null ? null : createdBy.getUserId()));
+        writer.write(',');
+        writer.write(text(createdBy == null ? null : createdBy.getUserName()));
+        writer.write(',');
+        writer.write(number(updatedBy == null ? null : updatedBy.getUserId()));
+        writer.write(',');
+        writer.write(text(updatedBy == null ? null : updatedBy.getUserName()));
+        writer.write(',');
+        writer.write(history.getUpdatedAt() == null ? "" : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(history.getUpdatedAt()));
+        writer.write(',');
+        writer.write(text(history.getIpAddress()));
+        writer.write(',');
+        writer.write(text(history.getUserAgent()));
+        writer.write(',');
+        writer.write(text(history.getBeforeData()));
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private static String number(Long value) {
+        return value == null ? "" : value.toString();
+    }
+
+    /**
+     * 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다.
+     */
+    static String text(String value) {
+        if (value == null || value.isEmpty()) return "";
+        String cell = isFormulaStart(value.charAt(0)) ? "'" + value : value;
+        if (cell.indexOf(',') < 0 && cell.indexOf('"') < 0 && cell.indexOf('\n') < 0 && cell.indexOf('\r') < 0) {
+            return cell;
+        }
+        return '"' + cell.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean isFormulaStart(char first) {
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
@@ -0,0 +1,33 @@
+package com.workhub.history.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 히스토리 내보내기 형식
+ * - NDJSON: 한 줄에 히스토리 하나 (API 응답의 UnifiedHistoryResponse와 같은 필드)
+ * - CSV: 엑셀에서 바로 열 수 있도록 UTF-8 BOM과 CRLF를 쓴다 (RFC 4180)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum HistoryExportFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public HistoryExportWriter open(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonHistoryExportWriter(out, objectMapper);
+            case CSV -> new CsvHistoryExportWriter(out);
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.workhub.history.export;
+
+import com.workhub.history.dto.UnifiedHistoryResponse;
+
+import java.io.IOException;
+
+/**
+ * 내보내기 형식별로 히스토리를 한 건씩 출력 스트림에 쓴다. 쓴 내용은 내부 버퍼에 모았다가 flush()에서 내보낸다.
+ */
+public interface HistoryExportWriter {
+
+    void write(UnifiedHistoryResponse history) throws IOException;
+
+    /**
+     * 버퍼에 모인 내용을 클라이언트로 내보낸다. 출력 스트림은 닫지 않는다.
+     */
+    void flush() throws IOException;
+}
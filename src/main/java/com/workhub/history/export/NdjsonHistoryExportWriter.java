@@ -0,0 +1,38 @@
+package com.workhub.history.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.workhub.history.dto.UnifiedHistoryResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 한 줄에 히스토리 하나씩 JSON으로 쓴다. 제너레이터 버퍼가 찰 때와 flush()에서만 출력 스트림에 쓴다.
+ */
+class NdjsonHistoryExportWriter implements HistoryExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter objectWriter;
+
+    NdjsonHistoryExportWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // 기본값(FLUSH_AFTER_WRITE_VALUE)이면 한 건마다 소켓에 쓰게 된다
+        this.objectWriter = objectMapper.writerFor(UnifiedHistoryResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(UnifiedHistoryResponse history) throws IOException {
+        objectWriter.writeValue(generator, history);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
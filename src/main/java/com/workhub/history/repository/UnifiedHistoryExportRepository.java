@@ -0,0 +1,99 @@
+package com.workhub.history.repository;
+
+import com.workhub.global.entity.HistoryType;
+import com.workhub.global.entity.UnifiedHistory;
+import com.workhub.history.dto.HistoryExportFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 통합 히스토리 내보내기용 조회.
+ * 결과를 List/Page로 모으지 않고 PostgreSQL 서버 커서로 fetchSize건씩 읽으며 한 건씩 넘기므로 건수와 무관하게 메모리 사용이 일정하다.
+ * 최신순(updated_at, change_log_id 내림차순, 타입 이름 오름차순)으로 읽으며, 각 히스토리 테이블의 (updated_at, change_log_id)
+ * 인덱스를 Merge Append로 합치므로 전체 정렬이 필요 없다.
+ * workhub.history.unified-table.read-enabled가 켜져 있으면 unified_history 테이블에서 읽는다.
+ */
+@Repository
+public class UnifiedHistoryExportRepository {
+
+    private static final String EXPORT_SQL = """
+            SELECT history_type, change_log_id, target_id, action_type, before_data, created_by, updated_by, updated_at,
+                   ip_address, user_agent
+            FROM %s
+            WHERE %s
+            ORDER BY updated_at DESC, change_log_id DESC, history_type COLLATE "C" ASC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean readFromTable;
+    private final int fetchSize;
+
+    public UnifiedHistoryExportRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${workhub.history.unified-table.read-enabled:false}") boolean readFromTable,
+            @Value("${workhub.history.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readFromTable = readFromTable;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 조건에 맞는 히스토리를 최신순으로 한 건씩 consumer에 넘긴다.
+     * PostgreSQL 드라이버는 autocommit이 꺼진 연결에서만 fetch size만큼 나눠 읽으므로 트랜잭션 안에서 호출해야 한다.
+     *
+     * @throws IllegalStateException 트랜잭션 밖에서 호출했을 때 (결과 전체를 한 번에 받아 메모리가 커지는 것을 막는다)
+     */
+    public void stream(HistoryExportFilter filter, Consumer<UnifiedHistory> consumer) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("History export must run inside a transaction to use a server-side cursor");
+        }
+
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        // View에는 HistoryType에 없는 타입(USER)도 있으므로 타입 조건은 항상 건다
+        List<HistoryType> types = filter.branches();
+        conditions.add("history_type IN (" + String.join(", ", types.stream().map(type -> "?").toList()) + ")");
+        types.forEach(type -> params.add(type.name()));
+        if (filter.updatedBy() != null) {
+            conditions.add("updated_by = ?");
+            params.add(filter.updatedBy());
+        }
+        if (filter.actionType() != null) {
+            conditions.add("action_type = ?");
+            params.add(filter.actionType().name());
+        }
+        if (filter.from() != null) {
+            conditions.add("updated_at >= ?");
+            params.add(Timestamp.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            conditions.add("updated_at < ?");
+            params.add(Timestamp.valueOf(filter.to()));
+        }
+
+        String sql = EXPORT_SQL.formatted(
+                readFromTable ? "unified_history" : "unified_history_view", String.join(" AND ", conditions));
+        ArgumentPreparedStatementSetter setter = new ArgumentPreparedStatementSetter(params.toArray());
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            setter.setValues(statement);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(UnifiedHistoryKeysetRepository
+                .rowMapper(HistoryType.valueOf(rs.getString("history_type"))).mapRow(rs, 0)));
+    }
+}
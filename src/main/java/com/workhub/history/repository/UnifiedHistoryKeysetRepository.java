@@ -0,0 +1,216 @@
+package com.workhub.history.repository;
+
+import com.workhub.global.entity.ActionType;
+import com.workhub.global.entity.HistoryType;
+import com.workhub.global.entity.UnifiedHistory;
+import com.workhub.history.dto.HistoryCursor;
+import com.workhub.history.dto.HistoryFeedFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 통합 히스토리 커서 조회.
+ * unified_history_view는 11개 테이블의 UNION ALL이라 OFFSET 페이지가 깊어질수록 전체를 합쳐 정렬해야 한다.
+ * 대신 히스토리 테이블마다 커서 다음 항목을 (updated_at, change_log_id) 인덱스 순서로 최대 limit건만 읽고,
+ * 정렬된 결과들을 k-way 병합해 앞에서부터 limit건을 돌려준다. 페이지 깊이와 무관하게 테이블 수 × limit건만 읽는다.
+ * workhub.history.unified-table.read-enabled가 켜져 있으면 unified_history 테이블 하나에서 같은 순서로 limit건만 읽는다.
+ */
+@Repository
+public class UnifiedHistoryKeysetRepository {
+
+    /**
+     * 히스토리 타입별 테이블. 3.create_unified_history_view.sql의 UNION 구성과 같다.
+     */
+    public static final Map<HistoryType, String> TABLES = Collections.unmodifiableMap(new EnumMap<>(Map.of(
+            HistoryType.POST, "post_history",
+            HistoryType.POST_COMMENT, "comment_history",
+            HistoryType.CHECK_LIST_ITEM, "check_list_item_history",
+            HistoryType.CHECK_LIST_ITEM_COMMENT, "check_list_item_comment_history",
+            HistoryType.CS_POST, "cs_post_history",
+            HistoryType.CS_QNA, "cs_qna_history",
+            HistoryType.PROJECT, "project_history",
+            HistoryType.PROJECT_NODE, "project_node_history",
+            HistoryType.PROJECT_CLIENT_MEMBER, "project_client_member_history",
+            HistoryType.PROJECT_DEV_MEMBER, "project_dev_member_history"
+    )));
+
+    private static final String BRANCH_SQL = """
+            SELECT change_log_id, target_id, action_type, before_data, created_by, updated_by, updated_at,
+                   ip_address, user_agent
+            FROM %s
+            %s
+            ORDER BY updated_at DESC, change_log_id DESC
+            LIMIT ?
+            """;
+
+    /**
+     * 타입 이름 비교는 HistoryCursor.FEED_ORDER(String.compareTo)와 같도록 바이트 순서(C) 정렬을 쓴다.
+     */
+    private static final String TABLE_SQL = """
+            SELECT history_type, change_log_id, target_id, action_type, before_data, created_by, updated_by, updated_at,
+                   ip_address, user_agent
+            FROM unified_history
+            %s
+            ORDER BY updated_at DESC, change_log_id DESC, history_type COLLATE "C" ASC
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean readFromTable;
+
+    public UnifiedHistoryKeysetRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${workhub.history.unified-table.read-enabled:false}") boolean readFromTable
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readFromTable = readFromTable;
+    }
+
+    /**
+     * 커서 다음 항목을 최신순으로 최대 limit건 조회한다.
+     *
+     * @param filter 조회 조건
+     * @param cursor 이전 페이지 마지막 항목 (null이면 첫 페이지)
+     * @param limit 최대 건수 (다음 페이지 확인용으로 페이지 크기 + 1을 넘긴다)
+     */
+    public List<UnifiedHistory> findPage(HistoryFeedFilter filter, HistoryCursor cursor, int limit) {
+        if (readFromTable) {
+            return findFromTable(filter, cursor, limit);
+        }
+        List<List<UnifiedHistory>> runs = new ArrayList<>();
+        for (HistoryType type : filter.branches()) {
+            List<UnifiedHistory> run = findBranch(type, filter, cursor, limit);
+            if (!run.isEmpty()) {
+                runs.add(run);
+            }
+        }
+        return merge(runs, limit);
+    }
+
+    /**
+     * unified_history 테이블에서 커서 다음 항목을 최신순으로 읽는다.
+     */
+    private List<UnifiedHistory> findFromTable(HistoryFeedFilter filter, HistoryCursor cursor, int limit) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        List<HistoryType> types = filter.branches();
+        if (types.size() < HistoryType.values().length) {
+            conditions.add("history_type IN (" + String.join(", ", types.stream().map(type -> "?").toList()) + ")");
+            types.forEach(type -> params.add(type.name()));
+        }
+        addFilterConditions(filter, conditions, params);
+        if (cursor != null) {
+            // 시각/ID가 커서와 같은 행은 타입 이름이 커서보다 뒤인 것만 다음 페이지에 포함한다
+            conditions.add("(updated_at, change_log_id) <= (?, ?)"
+                    + " AND NOT (updated_at = ? AND change_log_id = ? AND history_type COLLATE \"C\" <= ?)");
+            params.add(Timestamp.valueOf(cursor.updatedAt()));
+            params.add(cursor.changeLogId());
+            params.add(Timestamp.valueOf(cursor.updatedAt()));
+            params.add(cursor.changeLogId());
+            params.add(cursor.historyType().name());
+        }
+        params.add(limit);
+
+        String where = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+        return jdbcTemplate.query(TABLE_SQL.formatted(where),
+                (rs, rowNum) -> rowMapper(HistoryType.valueOf(rs.getString("history_type"))).mapRow(rs, rowNum),
+                params.toArray());
+    }
+
+    /**
+     * 테이블 하나에서 커서 다음 항목을 최신순으로 읽는다.
+     */
+    private List<UnifiedHistory> findBranch(HistoryType type, HistoryFeedFilter filter, HistoryCursor cursor, int limit) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        addFilterConditions(filter, conditions, params);
+        if (cursor != null) {
+            // 시각/ID가 커서와 같은 행은 타입 이름이 커서보다 뒤인 테이블에서만 다음 페이지에 포함한다
+            conditions.add(cursor.includesTiesOf(type)
+                    ? "(updated_at, change_log_id) <= (?, ?)"
+                    : "(updated_at, change_log_id) < (?, ?)");
+            params.add(Timestamp.valueOf(cursor.updatedAt()));
+            params.add(cursor.changeLogId());
+        }
+        params.add(limit);
+
+        String where = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+        return jdbcTemplate.query(BRANCH_SQL.formatted(TABLES.get(type), where), rowMapper(type), params.toArray());
+    }
+
+    /**
+     * 타입 외 조회 조건 (수정자, 액션 타입, 대상 ID)
+     */
+    private void addFilterConditions(HistoryFeedFilter filter, List<String> conditions, List<Object> params) {
+        if (filter.updatedBy() != null) {
+            conditions.add("updated_by = ?");
+            params.add(filter.updatedBy());
+        }
+        if (filter.actionType() != null) {
+            conditions.add("action_type = ?");
+            params.add(filter.actionType().name());
+        }
+        if (filter.targetId() != null) {
+            conditions.add("target_id = ?");
+            params.add(filter.targetId());
+        }
+    }
+
+    /**
+     * 각각 최신순으로 정렬된 결과를 하나의 최신순 목록으로 합쳐 앞에서부터 limit건을 돌려준다.
+     */
+    static List<UnifiedHistory> merge(List<List<UnifiedHistory>> runs, int limit) {
+        PriorityQueue<Run> heap = new PriorityQueue<>(Math.max(1, runs.size()),
+                (a, b) -> HistoryCursor.FEED_ORDER.compare(a.head, b.head));
+        for (List<UnifiedHistory> run : runs) {
+            Iterator<UnifiedHistory> iterator = run.iterator();
+            if (iterator.hasNext()) {
+                heap.add(new Run(iterator.next(), iterator));
+            }
+        }
+
+        List<UnifiedHistory> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heap.isEmpty()) {
+            Run smallest = heap.poll();
+            merged.add(smallest.head);
+            if (smallest.rest.hasNext()) {
+                heap.add(new Run(smallest.rest.next(), smallest.rest));
+            }
+        }
+        return merged;
+    }
+
+    static RowMapper<UnifiedHistory> rowMapper(HistoryType type) {
+        return (rs, rowNum) -> {
+            Timestamp updatedAt = rs.getTimestamp("updated_at");
+            return UnifiedHistory.builder()
+                    .historyType(type)
+                    .changeLogId(rs.getLong("change_log_id"))
+                    .targetId(rs.getObject("target_id", Long.class))
+                    .actionType(rs.getString("action_type") == null ? null : ActionType.valueOf(rs.getString("action_type")))
+                    .beforeData(rs.getString("before_data"))
+                    .createdBy(rs.getObject("created_by", Long.class))
+                    .updatedBy(rs.getObject("updated_by", Long.class))
+                    .updatedAt(updatedAt == null ? null : updatedAt.toLocalDateTime())
+                    .ipAddress(rs.getString("ip_address"))
+                    .userAgent(rs.getString("user_agent"))
+                    .build();
+        };
+    }
+
+    private record Run(UnifiedHistory head, Iterator<UnifiedHistory> rest) {
+    }
+}
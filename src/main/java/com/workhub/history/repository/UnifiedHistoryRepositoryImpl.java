@@ -1,201 +1,201 @@
 package com.workhub.history.repository;
 
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.workhub.global.entity.ActionType;
 import com.workhub.global.entity.HistoryType;
 import com.workhub.global.entity.QUnifiedHistory;
+import com.workhub.global.entity.QUnifiedHistoryRecord;
 import com.workhub.global.entity.UnifiedHistory;
-import lombok.RequiredArgsConstructor;
+import com.workhub.global.entity.UnifiedHistoryRecord;
+import com.workhub.history.count.HistoryCountStrategy;
+import com.workhub.history.dto.HistoryFeedFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
-
+import java.util.function.Function;
+
+/**
+ * 통합 히스토리 조회.
+ * workhub.history.unified-table.read-enabled가 켜져 있으면 unified_history_view(11개 테이블 UNION ALL) 대신
+ * 저장 시점에 함께 기록한 unified_history 테이블을 읽는다. 두 원본의 컬럼이 같으므로 조건/정렬은 한 번만 정의한다.
+ * 다음 페이지 여부는 1건 더 읽어 판단하고, 전체 개수는 HistoryCountStrategy(정확/캐시/추정/생략)에 맡긴다.
+ */
 @Repository
-@RequiredArgsConstructor
 public class UnifiedHistoryRepositoryImpl implements UnifiedHistoryRepositoryCustom {
 
+    /**
+     * unified_history_view
+     */
+    static final Source<UnifiedHistory> VIEW = new Source<>(QUnifiedHistory.unifiedHistory,
+            QUnifiedHistory.unifiedHistory.historyType, QUnifiedHistory.unifiedHistory.actionType,
+            QUnifiedHistory.unifiedHistory.updatedBy, QUnifiedHistory.unifiedHistory.targetId,
+            QUnifiedHistory.unifiedHistory.updatedAt, QUnifiedHistory.unifiedHistory.changeLogId,
+            Function.identity());
+
+    /**
+     * unified_history 테이블
+     */
+    static final Source<UnifiedHistoryRecord> TABLE = new Source<>(QUnifiedHistoryRecord.unifiedHistoryRecord,
+            QUnifiedHistoryRecord.unifiedHistoryRecord.historyType, QUnifiedHistoryRecord.unifiedHistoryRecord.actionType,
+            QUnifiedHistoryRecord.unifiedHistoryRecord.updatedBy, QUnifiedHistoryRecord.unifiedHistoryRecord.targetId,
+            QUnifiedHistoryRecord.unifiedHistoryRecord.updatedAt, QUnifiedHistoryRecord.unifiedHistoryRecord.changeLogId,
+            UnifiedHistoryRecord::toUnifiedHistory);
+
     private final JPAQueryFactory queryFactory;
+    private final HistoryCountStrategy countStrategy;
+    private final boolean readFromTable;
+
+    public UnifiedHistoryRepositoryImpl(
+            JPAQueryFactory queryFactory,
+            HistoryCountStrategy countStrategy,
+            @Value("${workhub.history.unified-table.read-enabled:false}") boolean readFromTable
+    ) {
+        this.queryFactory = queryFactory;
+        this.countStrategy = countStrategy;
+        this.readFromTable = readFromTable;
+    }
 
     @Override
     public Page<UnifiedHistory> findAllHistory(Pageable pageable) {
-        QUnifiedHistory history = QUnifiedHistory.unifiedHistory;
-
-        // 1. 데이터 조회
-        List<UnifiedHistory> content = queryFactory
-                .selectFrom(history)
-                .orderBy(history.updatedAt.desc(), history.changeLogId.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        // 2. 전체 개수 조회
-        Long total = queryFactory
-                .select(history.count())
-                .from(history)
-                .fetchOne();
-
-        // 3. Page 객체 생성
-        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+        return findPage(HistoryFeedFilter.all(), pageable);
     }
 
     @Override
     public Page<UnifiedHistory> findByHistoryType(HistoryType historyType, Pageable pageable) {
-        QUnifiedHistory history = QUnifiedHistory.unifiedHistory;
-
-        // 1. 데이터 조회
-        List<UnifiedHistory> content = queryFactory
-                .selectFrom(history)
-                .where(historyTypeEq(historyType))
-                .orderBy(history.updatedAt.desc(), history.changeLogId.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        // 2. 전체 개수 조회
-        Long total = queryFactory
-                .select(history.count())
-                .from(history)
-                .where(historyTypeEq(historyType))
-                .fetchOne();
-
-        // 3. Page 객체 생성
-        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+        return findPage(historyType == null ? HistoryFeedFilter.all() : HistoryFeedFilter.types(List.of(historyType)),
+                pageable);
     }
 
     @Override
     public Page<UnifiedHistory> findByActionType(ActionType actionType, Pageable pageable) {
-        QUnifiedHistory history = QUnifiedHistory.unifiedHistory;
-
-        // 1. 데이터 조회
-        List<UnifiedHistory> content = queryFactory
-                .selectFrom(history)
-                .where(actionTypeEq(actionType))
-                .orderBy(history.updatedAt.desc(), history.changeLogId.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        // 2. 전체 개수 조회
-        Long total = queryFactory
-                .select(history.count())
-                .from(history)
-                .where(actionTypeEq(actionType))
-                .fetchOne();
-
-        // 3. Page 객체 생성
-        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+        return findPage(HistoryFeedFilter.action(actionType), pageable);
     }
 
     @Override
     public Page<UnifiedHistory> findByUpdatedBy(Long updatedBy, Pageable pageable) {
-        QUnifiedHistory history = QUnifiedHistory.unifiedHistory;
-
-        // 1. 데이터 조회
-        List<UnifiedHistory> content = queryFactory
-                .selectFrom(history)
-                .where(updatedByEq(updatedBy))
-                .orderBy(history.updatedAt.desc(), history.changeLogId.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        // 2. 전체 개수 조회
-        Long total = queryFactory
-                .select(history.count())
-                .from(history)
-                .where(updatedByEq(updatedBy))
-                .fetchOne();
-
-        // 3. Page 객체 생성
-        return new PageImpl<>(content, pageable, total == null ? 0 : total);
-    }
-
-    /**
-     * 히스토리 타입 조건
-     */
-    private BooleanExpression historyTypeEq(HistoryType historyType) {
-        return historyType == null ? null : QUnifiedHistory.unifiedHistory.historyType.eq(historyType);
+        return findPage(HistoryFeedFilter.updatedBy(updatedBy), pageable);
     }
 
     @Override
     public Page<UnifiedHistory> findByHistoryTypes(List<HistoryType> historyTypes, Pageable pageable) {
-        QUnifiedHistory history = QUnifiedHistory.unifiedHistory;
-
-        List<UnifiedHistory> content = queryFactory
-                .selectFrom(history)
-                .where(historyTypeIn(historyTypes))
-                .orderBy(history.updatedAt.desc(), history.changeLogId.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        Long total = queryFactory
-                .select(history.count())
-                .from(history)
-                .where(historyTypeIn(historyTypes))
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+        return findPage(historyTypes == null ? HistoryFeedFilter.all() : HistoryFeedFilter.types(historyTypes), pageable);
     }
 
     @Override
     public Page<UnifiedHistory> findByTargetIdAndHistoryType(Long targetId, HistoryType historyType, Pageable pageable) {
-        QUnifiedHistory history = QUnifiedHistory.unifiedHistory;
-
-        List<UnifiedHistory> content = queryFactory
-                .selectFrom(history)
-                .where(
-                        targetIdEq(targetId),
-                        historyTypeEq(historyType)
-                )
-                .orderBy(history.updatedAt.desc(), history.changeLogId.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        Long total = queryFactory
-                .select(history.count())
-                .from(history)
-                .where(
-                        targetIdEq(targetId),
-                        historyTypeEq(historyType)
-                )
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+        return findPage(new HistoryFeedFilter(historyType == null ? List.of() : List.of(historyType), null, null, targetId),
+                pageable);
     }
 
     /**
-     * 액션 타입 조건
+     * 설정에 따라 View 또는 테이블에서 조건에 맞는 한 페이지를 조회한다.
      */
-    private BooleanExpression actionTypeEq(ActionType actionType) {
-        return actionType == null ? null : QUnifiedHistory.unifiedHistory.actionType.eq(actionType);
+    private Page<UnifiedHistory> findPage(HistoryFeedFilter filter, Pageable pageable) {
+        return fetchPage(readFromTable ? TABLE : VIEW, filter, pageable);
     }
 
-    /**
-     * 수정자 ID 조건
-     */
-    private BooleanExpression updatedByEq(Long updatedBy) {
-        return updatedBy == null ? null : QUnifiedHistory.unifiedHistory.updatedBy.eq(updatedBy);
+    private <T> Page<UnifiedHistory> fetchPage(Source<T> source, HistoryFeedFilter filter, Pageable pageable) {
+        Predicate[] conditions = source.conditions(filter);
+
+        // 1. 데이터 조회 (다음 페이지 여부 확인용으로 1건 더)
+        List<UnifiedHistory> rows = queryFactory
+                .selectFrom(source.entity())
+                .where(conditions)
+                .orderBy(source.updatedAt().desc(), source.changeLogId().desc(), source.historyType().asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch()
+                .stream()
+                .map(source.mapper())
+                .toList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<UnifiedHistory> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        // 2. 마지막 페이지면 내용만으로 전체 개수를 알 수 있다
+        if (!hasNext && (!content.isEmpty() || pageable.getOffset() == 0)) {
+            return new PageImpl<>(content, pageable, pageable.getOffset() + content.size());
+        }
+
+        // 3. 전체 개수: 설정한 방식으로 세고, 추정값이 지금까지 확인한 건수보다 작으면 확인한 건수를 쓴다
+        long lowerBound = pageable.getOffset() + content.size() + (hasNext ? 1 : 0);
+        long total = countStrategy.countsTotal()
+                ? Math.max(countStrategy.count(filter, () -> exactCount(source, conditions)), lowerBound)
+                : lowerBound;
+        return new PageImpl<>(content, pageable, total);
     }
 
-    /**
-     * 타겟 ID 조건
-     */
-    private BooleanExpression targetIdEq(Long targetId) {
-        return targetId == null ? null : QUnifiedHistory.unifiedHistory.targetId.eq(targetId);
+    private long exactCount(Source<?> source, Predicate[] conditions) {
+        Long total = queryFactory
+                .select(source.entity().count())
+                .from(source.entity())
+                .where(conditions)
+                .fetchOne();
+        return total == null ? 0 : total;
     }
 
     /**
-     * 히스토리 타입 배열 조건
+     * 통합 히스토리 조회 원본. View와 테이블의 같은 컬럼 경로와 UnifiedHistory 변환을 묶는다.
      */
-    private BooleanExpression historyTypeIn(List<HistoryType> historyTypes) {
-        return (historyTypes == null || historyTypes.isEmpty())
-                ? null
-                : QUnifiedHistory.unifiedHistory.historyType.in(historyTypes);
+    record Source<T>(
+            EntityPathBase<T> entity,
+            EnumPath<HistoryType> historyType,
+            EnumPath<ActionType> actionType,
+            NumberPath<Long> updatedBy,
+            NumberPath<Long> targetId,
+            DateTimePath<LocalDateTime> updatedAt,
+            NumberPath<Long> changeLogId,
+            Function<T, UnifiedHistory> mapper
+    ) {
+
+        /**
+         * 조회 조건. null인 조건은 적용하지 않는다.
+         */
+        Predicate[] conditions(HistoryFeedFilter filter) {
+            return new Predicate[]{
+                    historyTypeIn(filter.historyTypes()),
+                    actionTypeEq(filter.actionType()),
+                    updatedByEq(filter.updatedBy()),
+                    targetIdEq(filter.targetId())
+            };
+        }
+
+        /**
+         * 히스토리 타입 배열 조건
+         */
+        BooleanExpression historyTypeIn(List<HistoryType> types) {
+            return (types == null || types.isEmpty()) ? null : historyType.in(types);
+        }
+
+        /**
+         * 액션 타입 조건
+         */
+        BooleanExpression actionTypeEq(ActionType type) {
+            return type == null ? null : actionType.eq(type);
+        }
+
+        /**
+         * 수정자 ID 조건
+         */
+        BooleanExpression updatedByEq(Long userId) {
+            return userId == null ? null : updatedBy.eq(userId);
+        }
+
+        /**
+         * 타겟 ID 조건
+         */
+        BooleanExpression targetIdEq(Long id) {
+            return id == null ? null : targetId.eq(id);
+        }
     }
 }
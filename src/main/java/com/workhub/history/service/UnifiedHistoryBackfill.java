@@ -0,0 +1,89 @@
+package com.workhub.history.service;
+
+import com.workhub.global.entity.HistoryType;
+import com.workhub.history.repository.UnifiedHistoryKeysetRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 기존 히스토리를 unified_history 테이블로 옮기는 백필.
+ * 히스토리 테이블마다 change_log_id 구간(chunkSize)씩 INSERT ... SELECT 하고 구간마다 바로 커밋하므로
+ * 긴 트랜잭션이나 큰 잠금 없이 운영 중에 돌릴 수 있다.
+ * 이미 옮겨진 행은 ON CONFLICT로 건너뛰므로 여러 번 실행해도 되고, 동시 쓰기(write-enabled)와 겹쳐도 중복되지 않는다.
+ * 백필 시작 후 저장되는 히스토리는 동시 쓰기가 옮기므로, write-enabled를 모든 인스턴스에 켠 뒤 실행한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "workhub.history.unified-table.backfill.enabled", havingValue = "true")
+public class UnifiedHistoryBackfill {
+
+    private static final String COLUMNS = "target_id, action_type, before_data, created_by, updated_by, "
+            + "updated_at, ip_address, user_agent";
+
+    private static final String BACKFILL_SQL = """
+            INSERT INTO unified_history (history_type, change_log_id, %s)
+            SELECT '%s', change_log_id, %s
+            FROM %s
+            WHERE change_log_id > ? AND change_log_id <= ?
+            ON CONFLICT (history_type, change_log_id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final Counter backfilledRows;
+
+    public UnifiedHistoryBackfill(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${workhub.history.unified-table.backfill.chunk-size:5000}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.backfilledRows = Counter.builder("history.unified.backfill.rows")
+                .description("백필로 unified_history에 새로 옮긴 히스토리 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        long rows = backfill();
+        log.info("Unified history backfill finished: rows={}", rows);
+    }
+
+    /**
+     * 모든 히스토리 테이블을 옮긴다.
+     *
+     * @return 새로 옮긴 행 수 (이미 있던 행 제외)
+     */
+    public long backfill() {
+        long total = 0;
+        for (Map.Entry<HistoryType, String> entry : UnifiedHistoryKeysetRepository.TABLES.entrySet()) {
+            total += backfill(entry.getKey(), entry.getValue());
+        }
+        return total;
+    }
+
+    private long backfill(HistoryType type, String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(change_log_id) FROM " + table, Long.class);
+        if (maxId == null) return 0;
+
+        String sql = BACKFILL_SQL.formatted(COLUMNS, type.name(), COLUMNS, table);
+        long inserted = 0;
+        for (long from = 0; from < maxId; from += chunkSize) {
+            int rows = jdbcTemplate.update(sql, from, Math.min(from + chunkSize, maxId));
+            inserted += rows;
+            backfilledRows.increment(rows);
+        }
+        log.info("Unified history backfilled: type={}, maxId={}, rows={}", type, maxId, inserted);
+        return inserted;
+    }
+}
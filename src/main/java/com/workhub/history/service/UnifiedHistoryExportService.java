@@ -0,0 +1,211 @@
+package com.workhub.history.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workhub.global.entity.UnifiedHistory;
+import com.workhub.global.error.ErrorCode;
+import com.workhub.global.error.exception.BusinessException;
+import com.workhub.global.history.HistorySnapshotCodec;
+import com.workhub.history.dto.HistoryExportFilter;
+import com.workhub.history.dto.UnifiedHistoryResponse;
+import com.workhub.history.dto.UserInfo;
+import com.workhub.history.export.HistoryExportFormat;
+import com.workhub.history.export.HistoryExportWriter;
+import com.workhub.history.repository.UnifiedHistoryExportRepository;
+import com.workhub.userTable.entity.UserTable;
+import com.workhub.userTable.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 통합 히스토리 내보내기 (감사용).
+ * - 페이지/전체 개수 없이 읽기 전용 트랜잭션 하나에서 DB 커서로 읽으며 바로 응답 스트림에 쓴다.
+ * - chunkSize건마다 작성자/수정자 이름을 한 번에 조회하고, 델타로 저장된 스냅샷을 복원한 뒤 클라이언트로 내보낸다.
+ *   조회한 엔티티는 청크마다 영속성 컨텍스트에서 비우므로 내보내는 건수와 무관하게 메모리 사용이 일정하다.
+ * - 클라이언트가 연결을 끊으면 쓰기 예외로 트랜잭션이 끝나 커서도 닫힌다.
+ * - 내보내기 동안 트랜잭션 하나가 열려 있으므로 그 스냅샷(xmin)보다 새로 지워진/바뀐 행은 끝날 때까지 VACUUM이 치우지 못하고,
+ *   오래 걸릴수록 모든 테이블에 dead tuple이 쌓인다. 그래서 내보내기 한 번의 시간을 timeoutMs로 제한한다.
+ *   비동기 요청은 이 시간이 지나면 끝나고, 트랜잭션도 같은 시간의 타임아웃을 가져 다음 청크의 조회에서 롤백되어 커서가 닫힌다.
+ *   다른 비동기 요청(spring.mvc.async.request-timeout)의 기본 타임아웃에는 영향을 주지 않는다.
+ */
+@Slf4j
+@Service
+public class UnifiedHistoryExportService {
+
+    // 내보내기 한 번 동안 재사용할 사용자 정보 최대 수 (넘으면 오래된 것부터 버리고 다시 조회)
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    private final UnifiedHistoryExportRepository exportRepository;
+    private final UserRepository userRepository;
+    private final HistorySnapshotCodec snapshotCodec;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkSize;
+    private final long timeoutMs;
+    private final MeterRegistry meterRegistry;
+    private final Map<HistoryExportFormat, Counter> exportedRows = new EnumMap<>(HistoryExportFormat.class);
+    private final Timer exportTimer;
+
+    public UnifiedHistoryExportService(
+            UnifiedHistoryExportRepository exportRepository,
+            UserRepository userRepository,
+            HistorySnapshotCodec snapshotCodec,
+            ObjectMapper objectMapper,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${workhub.history.export.chunk-size:500}") int chunkSize,
+            @Value("${workhub.history.export.timeout-ms:1800000}") long timeoutMs
+    ) {
+        this.exportRepository = exportRepository;
+        this.userRepository = userRepository;
+        this.snapshotCodec = snapshotCodec;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs)));
+        this.chunkSize = chunkSize;
+        this.timeoutMs = timeoutMs;
+        this.meterRegistry = meterRegistry;
+        this.exportTimer = Timer.builder("history.export.duration")
+                .description("히스토리 내보내기 한 번에 걸린 시간")
+                .register(meterRegistry);
+        for (HistoryExportFormat format : HistoryExportFormat.values()) {
+            exportedRows.put(format, Counter.builder("history.export.rows")
+                    .description("내보낸 히스토리 수")
+                    .tag("format", format.getExtension())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 응답 스트림에 내보내는 비동기 작업을 만든다. 조건 검증은 여기서 바로 하고, 조회/쓰기는 timeoutMs 안에서 비동기로 한다.
+     * 헤더는 호출부가 작업을 돌려주기 전에 정한다.
+     *
+     * @throws BusinessException 기간의 시작이 끝보다 앞서지 않을 때
+     */
+    public WebAsyncTask<Void> export(HistoryExportFilter filter, HistoryExportFormat format, HttpServletResponse response) {
+        if (!filter.hasValidRange()) {
+            throw new BusinessException(ErrorCode.INVALID_HISTORY_EXPORT_RANGE);
+        }
+        return new WebAsyncTask<>(timeoutMs, () -> {
+            long rows = write(filter, format, response.getOutputStream());
+            log.info("History export finished: filter={}, format={}, rows={}", filter, format, rows);
+            return null;
+        });
+    }
+
+    /**
+     * 조건에 맞는 히스토리 전체를 out에 쓴다. 출력 스트림은 닫지 않는다.
+     *
+     * @return 쓴 히스토리 수
+     */
+    public long write(HistoryExportFilter filter, HistoryExportFormat format, OutputStream out) throws IOException {
+        HistoryExportWriter writer = format.open(out, objectMapper);
+        ExportChunk chunk = new ExportChunk(writer);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                exportRepository.stream(filter, chunk::add);
+                chunk.flush();
+            });
+        } catch (UncheckedIOException e) {
+            log.info("History export aborted after {} rows: {}", chunk.rows, e.getCause().getMessage());
+            throw e.getCause();
+        } finally {
+            sample.stop(exportTimer);
+            exportedRows.get(format).increment(chunk.rows);
+        }
+        writer.flush();
+        return chunk.rows;
+    }
+
+    /**
+     * 커서에서 읽은 히스토리를 chunkSize건까지 모았다가 사용자 정보를 채워 한 번에 쓴다.
+     */
+    private final class ExportChunk {
+
+        private final HistoryExportWriter writer;
+        private final List<UnifiedHistory> histories = new ArrayList<>(chunkSize);
+        private final Map<Long, UserInfo> users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserInfo> eldest) {
+                return size() > MAX_CACHED_USERS;
+            }
+        };
+        private long rows;
+
+        private ExportChunk(HistoryExportWriter writer) {
+            this.writer = writer;
+        }
+
+        void add(UnifiedHistory history) {
+            histories.add(history);
+            if (histories.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (histories.isEmpty()) return;
+            loadUsers();
+            try {
+                for (UnifiedHistory history : histories) {
+                    writer.write(UnifiedHistoryResponse.from(
+                            history,
+                            snapshotCodec.resolve(history.getHistoryType(), history.getChangeLogId(), history.getBeforeData()),
+                            users.get(history.getCreatedBy()),
+                            users.get(history.getUpdatedBy())
+                    ));
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows += histories.size();
+            histories.clear();
+            // 사용자/델타 복원에 읽은 엔티티가 트랜잭션 끝까지 쌓이지 않게 비운다
+            entityManager.clear();
+        }
+
+        /**
+         * 이번 청크에서 처음 보는 사용자만 한 번에 조회한다. 없는 사용자도 null로 기억해 다시 조회하지 않는다.
+         */
+        private void loadUsers() {
+            Set<Long> missing = new HashSet<>();
+            histories.stream()
+                    .flatMap(history -> Stream.of(history.getCreatedBy(), history.getUpdatedBy()))
+                    .filter(userId -> userId != null && !users.containsKey(userId))
+                    .forEach(missing::add);
+            if (missing.isEmpty()) return;
+
+            missing.forEach(userId -> users.put(userId, null));
+            for (UserTable user : userRepository.findAllById(missing)) {
+                users.put(user.getUserId(), UserInfo.from(user));
+            }
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.workhub.history.service;
 
 import com.workhub.global.entity.HistoryType;
+import com.workhub.global.history.HistorySnapshotCodec;
 import com.workhub.global.util.SecurityUtil;
+import com.workhub.history.dto.HistoryCursor;
+import com.workhub.history.dto.HistoryCursorResponse;
+import com.workhub.history.dto.HistoryFeedFilter;
 import com.workhub.history.dto.UnifiedHistoryResponse;
 import com.workhub.history.dto.UserInfo;
 import com.workhub.global.entity.ActionType;
 import com.workhub.global.entity.UnifiedHistory;
+import com.workhub.history.repository.UnifiedHistoryKeysetRepository;
 import com.workhub.history.repository.UnifiedHistoryRepository;
 import com.workhub.userTable.entity.UserTable;
 import com.workhub.userTable.repository.UserRepository;
@@ -34,7 +39,9 @@ import java.util.stream.Stream;
 public class UnifiedHistoryService {
 
     private final UnifiedHistoryRepository unifiedHistoryRepository;
+    private final UnifiedHistoryKeysetRepository unifiedHistoryKeysetRepository;
     private final UserRepository userRepository;
+    private final HistorySnapshotCodec snapshotCodec;
 
     /**
      * 전체 히스토리 조회 (관리자용)
@@ -151,33 +158,54 @@ public class UnifiedHistoryService {
     }
 
     /**
-     * Page<UnifiedHistory>를 Page<UnifiedHistoryResponse>로 변환
-     * 모든 사용자 정보를 한 번에 조회
+     * 통합 히스토리 커서 조회. OFFSET 없이 이전 페이지 마지막 항목 다음부터 읽으므로 페이지 깊이와 무관하게 비용이 같다.
+     *
+     * @param filter     조회 조건
+     * @param cursor     이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size       페이지 크기
+     * @param publicView 일반 사용자용 여부 (IP, userAgent 제외)
+     * @return 커서 페이지 (전체 개수 없음)
      */
-    private Page<UnifiedHistoryResponse> convertToResponsePage(Page<UnifiedHistory> historyPage, Pageable pageable) {
-        List<UnifiedHistory> histories = historyPage.getContent();
+    public HistoryCursorResponse findByCursor(HistoryFeedFilter filter, String cursor, Integer size, boolean publicView) {
+        log.debug("Fetching history by cursor: filter={}, cursor={}, size={}", filter, cursor, size);
 
-        // 1. 모든 고유한 userId 수집 (createdBy, updatedBy)
-        Set<Long> userIds = histories.stream()
-                .flatMap(history -> Stream.of(history.getCreatedBy(), history.getUpdatedBy()))
-                .filter(userId -> userId != null)
-                .collect(Collectors.toSet());
+        int pageSize = HistoryCursorResponse.pageSize(size);
+        List<UnifiedHistory> histories = unifiedHistoryKeysetRepository.findPage(
+                filter, HistoryCursor.decode(cursor), pageSize + 1);
 
-        // 2. 모든 사용자 정보를 한 번에 조회
-        Map<Long, UserInfo> userInfoMap = userRepository.findAllById(userIds).stream()
-                .collect(Collectors.toMap(
-                        UserTable::getUserId,
-                        UserInfo::from
-                ));
+        boolean hasNext = histories.size() > pageSize;
+        List<UnifiedHistory> page = hasNext ? histories.subList(0, pageSize) : histories;
 
-        // 3. 히스토리를 응답 DTO로 변환
-        List<UnifiedHistoryResponse> responses = histories.stream()
-                .map(history -> UnifiedHistoryResponse.from(
-                        history,
-                        userInfoMap.get(history.getCreatedBy()),
-                        userInfoMap.get(history.getUpdatedBy())
-                ))
-                .toList();
+        List<UnifiedHistoryResponse> responses = toResponses(page);
+        if (publicView) {
+            responses = responses.stream().map(UnifiedHistoryResponse::toPublicResponse).toList();
+        }
+        return HistoryCursorResponse.of(responses, hasNext ? HistoryCursor.from(page.getLast()) : null);
+    }
+
+    /**
+     * 로그인한 사용자가 수정한 히스토리 커서 조회 (사용자용)
+     */
+    public HistoryCursorResponse findAllUserHistoryByCursor(String cursor, Integer size) {
+        return findByCursor(HistoryFeedFilter.updatedBy(SecurityUtil.getCurrentUserIdOrThrow()), cursor, size, true);
+    }
+
+    /**
+     * 히스토리 타입 배열로 커서 조회 (관리자용)
+     */
+    public HistoryCursorResponse findByHistoryTypesByCursor(List<HistoryType> historyTypes, String cursor, Integer size) {
+        if (historyTypes == null || historyTypes.isEmpty()) {
+            throw new IllegalArgumentException("조회할 히스토리 타입을 1개 이상 지정해주세요.");
+        }
+        return findByCursor(HistoryFeedFilter.types(historyTypes), cursor, size, false);
+    }
+
+    /**
+     * Page<UnifiedHistory>를 Page<UnifiedHistoryResponse>로 변환
+     * 모든 사용자 정보를 한 번에 조회
+     */
+    private Page<UnifiedHistoryResponse> convertToResponsePage(Page<UnifiedHistory> historyPage, Pageable pageable) {
+        List<UnifiedHistoryResponse> responses = toResponses(historyPage.getContent());
 
         return new PageImpl<>(responses, pageable, historyPage.getTotalElements());
     }
@@ -187,8 +215,17 @@ public class UnifiedHistoryService {
      * IP, userAgent 제외
      */
     private Page<UnifiedHistoryResponse> convertToPublicResponsePage(Page<UnifiedHistory> historyPage, Pageable pageable) {
-        List<UnifiedHistory> histories = historyPage.getContent();
+        List<UnifiedHistoryResponse> responses = toResponses(historyPage.getContent()).stream()
+                .map(UnifiedHistoryResponse::toPublicResponse)  // IP, userAgent 제외
+                .toList();
+
+        return new PageImpl<>(responses, pageable, historyPage.getTotalElements());
+    }
 
+    /**
+     * 히스토리 목록을 응답 DTO로 변환. 작성자/수정자 정보는 한 번에 조회한다.
+     */
+    private List<UnifiedHistoryResponse> toResponses(List<UnifiedHistory> histories) {
         // 1. 모든 고유한 userId 수집 (createdBy, updatedBy)
         Set<Long> userIds = histories.stream()
                 .flatMap(history -> Stream.of(history.getCreatedBy(), history.getUpdatedBy()))
@@ -202,15 +239,14 @@ public class UnifiedHistoryService {
                         UserInfo::from
                 ));
 
-        // 3. 히스토리를 일반 사용자용 응답 DTO로 변환 (IP, userAgent 제외)
-        List<UnifiedHistoryResponse> responses = histories.stream()
+        // 3. 히스토리를 응답 DTO로 변환 (델타로 저장된 스냅샷은 전체 스냅샷으로 복원)
+        return histories.stream()
                 .map(history -> UnifiedHistoryResponse.from(
                         history,
+                        snapshotCodec.resolve(history.getHistoryType(), history.getChangeLogId(), history.getBeforeData()),
                         userInfoMap.get(history.getCreatedBy()),
                         userInfoMap.get(history.getUpdatedBy())
-                ).toPublicResponse())  // IP, userAgent 제외
+                ))
                 .toList();
-
-        return new PageImpl<>(responses, pageable, historyPage.getTotalElements());
     }
 }
@@ -1,7 +1,6 @@
 package com.workhub.post.event;
 
-import com.workhub.post.entity.Post;
-import com.workhub.post.entity.PostComment;
+import com.workhub.global.outbox.OutboxEvent;
 
-public record CommentCreatedEvent(Long projectId, Post post, PostComment comment) {
+public record CommentCreatedEvent(Long projectId, Long postId, Long commentId) implements OutboxEvent {
 }
@@ -1,6 +1,6 @@
 package com.workhub.post.event;
 
-import com.workhub.post.entity.Post;
+import com.workhub.global.outbox.OutboxEvent;
 
-public record PostCreatedEvent(Long projectId, Post post) {
+public record PostCreatedEvent(Long projectId, Long postId) implements OutboxEvent {
 }
@@ -1,19 +1,40 @@
 package com.workhub.post.service.comment;
 
+import com.workhub.global.outbox.OutboxDelivery;
+import com.workhub.post.entity.Post;
+import com.workhub.post.entity.PostComment;
 import com.workhub.post.event.CommentCreatedEvent;
+import com.workhub.post.repository.comment.CommentRepository;
+import com.workhub.post.repository.post.PostRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
-import org.springframework.transaction.event.TransactionPhase;
 
+/**
+ * 댓글 아웃박스 이벤트 리스너. 이벤트에는 ID만 담기므로 전달 시점에 게시글과 댓글을 조회하고,
+ * 그 사이 삭제되었으면 알림을 보내지 않는다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class CommentNotificationEventHandler {
 
     private final CommentNotificationService commentNotificationService;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onCommentCreated(CommentCreatedEvent event) {
-        commentNotificationService.notifyCreated(event.projectId(), event.post(), event.comment());
+    @EventListener
+    public void onCommentCreated(OutboxDelivery<CommentCreatedEvent> delivery) {
+        CommentCreatedEvent event = delivery.event();
+        Post post = postRepository.findByPostIdAndDeletedAtIsNull(event.postId()).orElse(null);
+        PostComment comment = commentRepository.findById(event.commentId())
+                .filter(found -> found.getDeletedAt() == null)
+                .orElse(null);
+        if (post == null || comment == null) {
+            log.debug("Comment {} on post {} no longer exists, skipping notification", event.commentId(), event.postId());
+            return;
+        }
+        commentNotificationService.notifyCreated(event.projectId(), post, comment);
     }
 }
@@ -47,7 +47,7 @@ public class CreateCommentService {
         postComment =  commentService.save(postComment);
 
         snapshotAndRecordHistory(postComment, ActionType.CREATE);
-        eventPublisher.publishEvent(new CommentCreatedEvent(projectId, post, postComment));
+        eventPublisher.publishEvent(new CommentCreatedEvent(projectId, post.getPostId(), postComment.getCommentId()));
         String userName = authorLookupPort.findByUserId(userId)
                 .map(AuthorProfile::userName)
                 .orElse(null);
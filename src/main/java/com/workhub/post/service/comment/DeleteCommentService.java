@@ -64,6 +64,6 @@ public class DeleteCommentService {
 
     private void snapshotAndRecordHistory(PostComment comment, ActionType actionType) {
         CommentHistorySnapshot snapshot = CommentHistorySnapshot.from(comment);
-        historyRecorder.recordHistory(HistoryType.POST_COMMENT, comment.getCommentId(), actionType, snapshot);
+        historyRecorder.recordHistory(HistoryType.POST_COMMENT, comment.getCommentId(), actionType, snapshot, comment.getUserId());
     }
 }
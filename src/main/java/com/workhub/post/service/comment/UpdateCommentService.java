@@ -62,6 +62,6 @@ public class UpdateCommentService {
 
     private void snapshotAndRecordHistory(PostComment comment, ActionType actionType) {
         CommentHistorySnapshot snapshot = CommentHistorySnapshot.from(comment);
-        historyRecorder.recordHistory(HistoryType.POST_COMMENT, comment.getCommentId(), actionType, snapshot);
+        historyRecorder.recordHistory(HistoryType.POST_COMMENT, comment.getCommentId(), actionType, snapshot, comment.getUserId());
     }
 }
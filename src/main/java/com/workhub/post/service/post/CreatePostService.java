@@ -79,7 +79,7 @@ public class CreatePostService {
             List<PostLink> savedLinks = savePostLinks(savedPost.getPostId(), request.links());
 
             historyRecorder.recordHistory(HistoryType.POST, savedPost.getPostId(), ActionType.CREATE, PostHistorySnapshot.from(savedPost));
-            eventPublisher.publishEvent(new PostCreatedEvent(projectId, savedPost));
+            eventPublisher.publishEvent(new PostCreatedEvent(projectId, savedPost.getPostId()));
 
             String userName = authorLookupPort.findByUserId(userId)
                     .map(AuthorProfile::userName)
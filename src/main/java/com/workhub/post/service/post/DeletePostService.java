@@ -41,7 +41,7 @@ public class DeletePostService {
         if (!target.getUserId().equals(userId)) {
             throw new BusinessException(ErrorCode.FORBIDDEN_POST_DELETE);
         }
-        historyRecorder.recordHistory(HistoryType.POST, target.getPostId(), ActionType.DELETE, PostHistorySnapshot.from(target));
+        historyRecorder.recordHistory(HistoryType.POST, target.getPostId(), ActionType.DELETE, PostHistorySnapshot.from(target), target.getUserId());
         deleteRecursively(target);
     }
 
@@ -1,25 +1,39 @@
 package com.workhub.post.service.post;
 
+import com.workhub.global.outbox.OutboxDelivery;
 import com.workhub.post.event.PostCreatedEvent;
 import com.workhub.post.event.PostUpdatedEvent;
+import com.workhub.post.repository.post.PostRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
-import org.springframework.transaction.event.TransactionPhase;
 
+/**
+ * 게시글 아웃박스 이벤트 리스너. 이벤트에는 ID만 담기므로 전달 시점에 게시글을 조회하고,
+ * 그 사이 삭제된 게시글은 알림을 보내지 않는다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class PostNotificationEventHandler {
 
     private final PostNotificationService postNotificationService;
+    private final PostRepository postRepository;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onPostCreated(PostCreatedEvent event) {
-        postNotificationService.notifyCreated(event.projectId(), event.post());
+    @EventListener
+    public void onPostCreated(OutboxDelivery<PostCreatedEvent> delivery) {
+        PostCreatedEvent event = delivery.event();
+        postRepository.findByPostIdAndDeletedAtIsNull(event.postId()).ifPresentOrElse(
+                post -> postNotificationService.notifyCreated(event.projectId(), post),
+                () -> log.debug("Post {} no longer exists, skipping created notification", event.postId()));
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onPostUpdated(PostUpdatedEvent event) {
-        postNotificationService.notifyUpdated(event.projectId(), event.post());
+    @EventListener
+    public void onPostUpdated(OutboxDelivery<PostUpdatedEvent> delivery) {
+        PostUpdatedEvent event = delivery.event();
+        postRepository.findByPostIdAndDeletedAtIsNull(event.postId()).ifPresentOrElse(
+                post -> postNotificationService.notifyUpdated(event.projectId(), post),
+                () -> log.debug("Post {} no longer exists, skipping updated notification", event.postId()));
     }
 }
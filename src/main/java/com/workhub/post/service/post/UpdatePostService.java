@@ -49,7 +49,7 @@ public class UpdatePostService {
             throw new BusinessException(ErrorCode.FORBIDDEN_POST_UPDATE);
         }
 
-        historyRecorder.recordHistory(HistoryType.POST, postId, ActionType.UPDATE, PostHistorySnapshot.from(target));
+        historyRecorder.recordHistory(HistoryType.POST, postId, ActionType.UPDATE, PostHistorySnapshot.from(target), target.getUserId());
 
         target.update(request);
 
@@ -63,7 +63,7 @@ public class UpdatePostService {
                 .filter(link -> link.getDeletedAt() == null)
                 .toList();
 
-        eventPublisher.publishEvent(new PostUpdatedEvent(projectId, target));
+        eventPublisher.publishEvent(new PostUpdatedEvent(projectId, target.getPostId()));
 
         String userName = authorLookupPort.findByUserId(userId)
                 .map(AuthorProfile::userName)
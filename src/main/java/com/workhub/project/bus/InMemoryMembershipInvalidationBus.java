@@ -0,0 +1,22 @@
+package com.workhub.project.bus;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 단일 인스턴스용 버스: 다른 노드가 없으므로 아무 것도 하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "workhub.notification.bus.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryMembershipInvalidationBus implements MembershipInvalidationBus {
+
+    @Override
+    public void broadcast(Long projectId) {
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.workhub.project.bus;
+
+import java.util.function.Consumer;
+
+/**
+ * 프로젝트 멤버 변경을 다른 노드의 멤버 캐시에 알리는 버스.
+ * 각 노드는 자기 캐시를 직접 무효화하고, 같은 프로젝트 ID를 다른 노드에 전달한다.
+ */
+public interface MembershipInvalidationBus {
+
+    /**
+     * 다른 노드에 프로젝트 멤버 캐시 무효화를 알린다.
+     */
+    void broadcast(Long projectId);
+
+    /**
+     * 다른 노드에서 보낸 무효화를 받을 리스너를 등록한다.
+     */
+    void subscribe(Consumer<Long> listener);
+}
@@ -0,0 +1,95 @@
+package com.workhub.project.bus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis Pub/Sub 기반 무효화 버스: 알림 버스와 같은 리스너 컨테이너(연결)를 쓰고 채널만 나눈다.
+ * - 메시지는 "발행 노드 ID|프로젝트 ID" 문자열이며, 자신이 보낸 메시지는 이미 로컬에서 무효화했으므로 무시한다.
+ * - Pub/Sub은 연결이 끊긴 동안의 메시지를 다시 주지 않으므로, 놓친 무효화는 캐시 TTL이 지나야 반영된다.
+ */
+@Slf4j
+public class RedisMembershipInvalidationBus implements MembershipInvalidationBus, MessageListener {
+
+    private static final char SEPARATOR = '|';
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final String channel;
+    private final StringRedisTemplate redisTemplate;
+    private final List<Consumer<Long>> listeners = new CopyOnWriteArrayList<>();
+
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter failedCounter;
+
+    public RedisMembershipInvalidationBus(
+            String channel,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry
+    ) {
+        this.channel = channel;
+        this.redisTemplate = redisTemplate;
+        this.publishedCounter = Counter.builder("project.membership.invalidation.published")
+                .description("다른 노드로 보낸 멤버 캐시 무효화 수")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("project.membership.invalidation.received")
+                .description("다른 노드에서 받은 멤버 캐시 무효화 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("project.membership.invalidation.failed")
+                .description("발행 또는 해석에 실패한 멤버 캐시 무효화 수")
+                .register(meterRegistry);
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    @Override
+    public void broadcast(Long projectId) {
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + SEPARATOR + projectId);
+            publishedCounter.increment();
+        } catch (RuntimeException e) {
+            // 다른 노드는 캐시 TTL이 지나면 변경된 멤버를 다시 읽는다
+            failedCounter.increment();
+            log.warn("Failed to broadcast membership invalidation to channel {}: projectId={}", channel, projectId, e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            failedCounter.increment();
+            log.warn("Ignoring malformed membership invalidation from channel {}: {}", channel, body);
+            return;
+        }
+        if (nodeId.equals(body.substring(0, separator))) {
+            return;
+        }
+        try {
+            Long projectId = Long.valueOf(body.substring(separator + 1));
+            receivedCounter.increment();
+            listeners.forEach(listener -> listener.accept(projectId));
+        } catch (NumberFormatException e) {
+            failedCounter.increment();
+            log.warn("Ignoring malformed membership invalidation from channel {}: {}", channel, body);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.workhub.project.event;
 
-import com.workhub.project.entity.Project;
+import com.workhub.global.outbox.OutboxEvent;
 
-public record ProjectCreatedEvent(Project project) {
+public record ProjectCreatedEvent(Long projectId) implements OutboxEvent {
 }
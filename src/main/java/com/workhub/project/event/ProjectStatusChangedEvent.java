@@ -1,7 +1,7 @@
 package com.workhub.project.event;
 
-import com.workhub.project.entity.Project;
+import com.workhub.global.outbox.OutboxEvent;
 import com.workhub.project.entity.Status;
 
-public record ProjectStatusChangedEvent(Project project, Status previousStatus) {
+public record ProjectStatusChangedEvent(Long projectId, Status previousStatus, Status status) implements OutboxEvent {
 }
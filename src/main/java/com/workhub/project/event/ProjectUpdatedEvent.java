@@ -1,16 +1,18 @@
 package com.workhub.project.event;
 
-import com.workhub.project.entity.Project;
+import com.workhub.global.outbox.OutboxEvent;
 
 import java.time.LocalDate;
 import java.util.List;
 
+/**
+ * 프로젝트 정보/멤버 변경 이벤트. after의 멤버 목록은 요청된 멤버 ID다.
+ */
 public record ProjectUpdatedEvent(
+        Long projectId,
         ProjectUpdateSnapshot before,
-        Project after,
-        List<Long> requestedClientIds,
-        List<Long> requestedDevIds
-) {
+        ProjectUpdateSnapshot after
+) implements OutboxEvent {
 
     public record ProjectUpdateSnapshot(
             String title,
@@ -38,7 +38,7 @@ public class CreateProjectService {
         Project savedProject = saveProjectAndHistory(request);
         saveClientMembersAndHistory(request.managerIds(), savedProject.getProjectId());
         saveDevMembersAndHistory(request.developerIds(), savedProject.getProjectId());
-        eventPublisher.publishEvent(new ProjectCreatedEvent(savedProject));
+        eventPublisher.publishEvent(new ProjectCreatedEvent(savedProject.getProjectId()));
 
         return ProjectResponse.from(savedProject);
     }
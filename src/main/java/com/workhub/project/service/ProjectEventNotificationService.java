@@ -41,13 +41,13 @@ public class ProjectEventNotificationService {
     }
 
     /**
-     * 프로젝트 상태 변경 알림: 이전/현재 상태 정보를 포함하여 구성원 전체에게 발행.
+     * 프로젝트 상태 변경 알림: 이전/변경된 상태 정보를 포함하여 구성원 전체에게 발행.
      */
-    public void notifyStatusChanged(Project project, Status previousStatus) {
+    public void notifyStatusChanged(Project project, Status previousStatus, Status status) {
         Set<Long> receivers = targetFinder.findAllMembersOfProject(project.getProjectId());
         String title = project.getProjectTitle();
         String content = String.format("프로젝트 상태가 %s → %s 로 변경되었습니다.",
-                previousStatus, project.getStatus());
+                previousStatus, status);
         String relatedUrl = "/projects/" + project.getProjectId();
 
         notificationPublisher.publishProject(
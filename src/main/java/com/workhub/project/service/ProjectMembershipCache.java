@@ -0,0 +1,225 @@
+package com.workhub.project.service;
+
+import com.workhub.project.bus.MembershipInvalidationBus;
+import com.workhub.project.entity.ProjectClientMember;
+import com.workhub.project.entity.ProjectDevMember;
+import com.workhub.project.repository.ClientMemberRepository;
+import com.workhub.project.repository.DevMemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 프로젝트별 멤버(고객/개발) userId 읽기 모델 캐시.
+ * - 멤버 목록은 정렬된 long 배열로 보관해 박싱 없이 작게 유지한다.
+ * - 멤버 추가/삭제 트랜잭션이 커밋되면 해당 프로젝트만 무효화하고, {@link MembershipInvalidationBus}로 다른 노드에도 알린다.
+ * - 무효화마다 세대 번호를 올리고, 로딩 전에 읽은 세대가 그대로일 때만 결과를 저장해
+ *   무효화 이전에 읽은 목록이 캐시에 남지 않게 한다. 세대는 프로젝트 ID를 고정 개수 슬롯에 나눠 담아 크기가 늘지 않는다.
+ */
+@Component
+public class ProjectMembershipCache {
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final ClientMemberRepository clientMemberRepository;
+    private final DevMemberRepository devMemberRepository;
+    private final MembershipInvalidationBus invalidationBus;
+    private final long ttlMillis;
+    private final int maxProjects;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    /** 같은 슬롯의 다른 프로젝트가 무효화되어도 세대가 바뀌므로, 그 사이 로딩한 결과를 한 번 저장하지 않을 뿐 틀린 값은 남지 않는다. */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+    private final Counter evictionCounter;
+
+    public ProjectMembershipCache(
+            ClientMemberRepository clientMemberRepository,
+            DevMemberRepository devMemberRepository,
+            MembershipInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${workhub.project.membership-cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${workhub.project.membership-cache.max-projects:5000}") int maxProjects
+    ) {
+        this.clientMemberRepository = clientMemberRepository;
+        this.devMemberRepository = devMemberRepository;
+        this.invalidationBus = invalidationBus;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.maxProjects = maxProjects;
+        this.hitCounter = Counter.builder("project.membership.cache.lookups")
+                .description("프로젝트 멤버 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("project.membership.cache.lookups")
+                .description("프로젝트 멤버 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("project.membership.cache.invalidations")
+                .description("멤버 변경 커밋으로 무효화된 프로젝트 수")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("project.membership.cache.evictions")
+                .description("용량 초과로 버려진 프로젝트 수")
+                .register(meterRegistry);
+        Gauge.builder("project.membership.cache.size", entries, Map::size)
+                .description("캐시된 프로젝트 수")
+                .register(meterRegistry);
+        // 다른 노드에서 커밋된 멤버 변경은 이 노드의 캐시만 비운다 (다시 알리지 않는다)
+        invalidationBus.subscribe(this::evictProject);
+    }
+
+    /**
+     * 프로젝트 멤버 목록을 반환한다. 캐시에 없거나 만료되었으면 DB에서 읽는다.
+     */
+    public ProjectMembership get(Long projectId) {
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(projectId);
+        if (cached != null && cached.expiresAtMillis() > now) {
+            hitCounter.increment();
+            return cached.membership();
+        }
+        missCounter.increment();
+
+        int stripe = stripe(projectId);
+        long generation = generations.get(stripe);
+        ProjectMembership loaded = load(projectId);
+        if (entries.size() >= maxProjects && !entries.containsKey(projectId)) {
+            evict(now);
+        }
+        // 로딩 중 무효화가 있었다면 저장하지 않는다. 무효화는 세대를 올린 뒤 항목을 지우므로,
+        // 여기서 옛 세대를 보고 저장한 항목은 뒤따르는 remove가 지운다.
+        entries.compute(projectId, (id, current) ->
+                generations.get(stripe) == generation
+                        ? new Entry(loaded, now + ttlMillis)
+                        : current);
+        return loaded;
+    }
+
+    /**
+     * 멤버가 바뀐 프로젝트를 이 노드와 다른 노드에서 무효화한다. 트랜잭션 안이면 커밋 후에 무효화한다.
+     * 변경을 저장한 뒤에 호출해야 트랜잭션 밖에서도 옛 목록이 다시 캐시되지 않는다.
+     */
+    public void invalidate(Long projectId) {
+        if (projectId == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateEverywhere(projectId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateEverywhere(projectId);
+            }
+        });
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void invalidateEverywhere(Long projectId) {
+        evictProject(projectId);
+        invalidationBus.broadcast(projectId);
+    }
+
+    private void evictProject(Long projectId) {
+        generations.incrementAndGet(stripe(projectId));
+        entries.remove(projectId);
+        invalidationCounter.increment();
+    }
+
+    private static int stripe(Long projectId) {
+        return Math.floorMod(Long.hashCode(projectId), GENERATION_STRIPES);
+    }
+
+    private ProjectMembership load(Long projectId) {
+        List<Long> ids = List.of(projectId);
+        long[] clientIds = clientMemberRepository.findByProjectIdIn(ids).stream()
+                .map(ProjectClientMember::getUserId)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        long[] devIds = devMemberRepository.findByProjectIdIn(ids).stream()
+                .map(ProjectDevMember::getUserId)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return new ProjectMembership(clientIds, devIds);
+    }
+
+    /**
+     * 만료된 항목을 먼저 비우고, 그래도 가득 차 있으면 임의의 항목을 버린다.
+     */
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+        Iterator<Long> iterator = entries.keySet().iterator();
+        while (entries.size() >= maxProjects && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCounter.increment();
+        }
+    }
+
+    private record Entry(ProjectMembership membership, long expiresAtMillis) {
+    }
+
+    /**
+     * 한 프로젝트의 고객/개발 멤버 userId. 배열은 정렬되어 있고 외부에 노출하지 않는다.
+     */
+    public static final class ProjectMembership {
+
+        private final long[] clientIds;
+        private final long[] devIds;
+
+        ProjectMembership(long[] clientIds, long[] devIds) {
+            this.clientIds = clientIds;
+            this.devIds = devIds;
+        }
+
+        public boolean isClient(long userId) {
+            return Arrays.binarySearch(clientIds, userId) >= 0;
+        }
+
+        public boolean isDev(long userId) {
+            return Arrays.binarySearch(devIds, userId) >= 0;
+        }
+
+        public Set<Long> clientIds() {
+            return toSet(clientIds);
+        }
+
+        public Set<Long> devIds() {
+            return toSet(devIds);
+        }
+
+        public Set<Long> allIds() {
+            Set<Long> all = new HashSet<>(clientIds.length + devIds.length);
+            for (long id : clientIds) all.add(id);
+            for (long id : devIds) all.add(id);
+            return all;
+        }
+
+        private static Set<Long> toSet(long[] ids) {
+            Set<Long> set = new HashSet<>(ids.length);
+            for (long id : ids) set.add(id);
+            return set;
+        }
+    }
+}
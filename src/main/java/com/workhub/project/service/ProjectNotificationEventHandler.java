@@ -1,56 +1,85 @@
 package com.workhub.project.service;
 
+import com.workhub.global.outbox.OutboxDelivery;
+import com.workhub.project.entity.Project;
 import com.workhub.project.event.ProjectCreatedEvent;
 import com.workhub.project.event.ProjectStatusChangedEvent;
 import com.workhub.project.event.ProjectUpdatedEvent;
+import com.workhub.project.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
-import org.springframework.transaction.event.TransactionPhase;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
+/**
+ * 프로젝트 아웃박스 이벤트 리스너. 이벤트에는 ID와 변경 시점의 값만 담기므로 전달 시점에 프로젝트를 조회하고,
+ * 그 사이 삭제된 프로젝트는 알림을 보내지 않는다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ProjectNotificationEventHandler {
 
     private final ProjectEventNotificationService projectEventNotificationService;
+    private final ProjectRepository projectRepository;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onProjectCreated(ProjectCreatedEvent event) {
-        projectEventNotificationService.notifyProjectCreated(event.project());
+    @EventListener
+    public void onProjectCreated(OutboxDelivery<ProjectCreatedEvent> delivery) {
+        ProjectCreatedEvent event = delivery.event();
+        findActiveProject(event.projectId())
+                .ifPresent(projectEventNotificationService::notifyProjectCreated);
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onStatusChanged(ProjectStatusChangedEvent event) {
-        projectEventNotificationService.notifyStatusChanged(event.project(), event.previousStatus());
+    @EventListener
+    public void onStatusChanged(OutboxDelivery<ProjectStatusChangedEvent> delivery) {
+        ProjectStatusChangedEvent event = delivery.event();
+        findActiveProject(event.projectId())
+                .ifPresent(project -> projectEventNotificationService.notifyStatusChanged(
+                        project, event.previousStatus(), event.status()));
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onProjectUpdated(ProjectUpdatedEvent event) {
+    @EventListener
+    public void onProjectUpdated(OutboxDelivery<ProjectUpdatedEvent> delivery) {
+        ProjectUpdatedEvent event = delivery.event();
+        Project project = findActiveProject(event.projectId()).orElse(null);
+        if (project == null) {
+            return;
+        }
         var before = event.before();
         var after = event.after();
 
-        boolean titleChanged = !before.title().equals(after.getProjectTitle());
-        boolean descChanged = !before.description().equals(after.getProjectDescription());
-        boolean endDateChanged = (before.endDate() == null && after.getContractEndDate() != null)
-                || (before.endDate() != null && !before.endDate().equals(after.getContractEndDate()));
+        boolean titleChanged = !Objects.equals(before.title(), after.title());
+        boolean descChanged = !Objects.equals(before.description(), after.description());
+        boolean endDateChanged = !Objects.equals(before.endDate(), after.endDate());
 
         if (titleChanged || descChanged || endDateChanged) {
-            projectEventNotificationService.notifyInfoUpdated(after, titleChanged, descChanged, endDateChanged);
+            projectEventNotificationService.notifyInfoUpdated(project, titleChanged, descChanged, endDateChanged);
         }
 
-        int addedCount = countAdded(before.clientIds(), event.requestedClientIds())
-                + countAdded(before.devIds(), event.requestedDevIds());
+        int addedCount = countAdded(before.clientIds(), after.clientIds())
+                + countAdded(before.devIds(), after.devIds());
         if (addedCount > 0) {
-            projectEventNotificationService.notifyMembersAdded(after, addedCount);
+            projectEventNotificationService.notifyMembersAdded(project, addedCount);
         }
 
-        int removedCount = countRemoved(before.clientIds(), event.requestedClientIds())
-                + countRemoved(before.devIds(), event.requestedDevIds());
+        int removedCount = countRemoved(before.clientIds(), after.clientIds())
+                + countRemoved(before.devIds(), after.devIds());
         if (removedCount > 0) {
-            projectEventNotificationService.notifyMembersRemoved(after, removedCount);
+            projectEventNotificationService.notifyMembersRemoved(project, removedCount);
+        }
+    }
+
+    private Optional<Project> findActiveProject(Long projectId) {
+        Optional<Project> project = projectRepository.findById(projectId)
+                .filter(found -> found.getDeletedAt() == null);
+        if (project.isEmpty()) {
+            log.debug("Project {} no longer exists, skipping notification", projectId);
         }
+        return project;
     }
 
     private int countAdded(List<Long> before, List<Long> after) {
@@ -25,6 +25,7 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ClientMemberRepository clientMemberRepository;
     private final DevMemberRepository devMemberRepository;
+    private final ProjectMembershipCache membershipCache;
 
     public Project saveProject(Project project){
         return projectRepository.save(project);
@@ -137,7 +138,9 @@ public class ProjectService {
         List<ProjectClientMember> clientMembers = userIds.stream()
                 .map(userId -> ProjectClientMember.of(userId, projectId))
                 .toList();
-        return saveProjectClientMember(clientMembers);
+        List<ProjectClientMember> saved = saveProjectClientMember(clientMembers);
+        membershipCache.invalidate(projectId);
+        return saved;
     }
 
     /**
@@ -150,7 +153,9 @@ public class ProjectService {
         List<ProjectDevMember> devMembers = userIds.stream()
                 .map(userId -> ProjectDevMember.of(userId, projectId))
                 .toList();
-        return saveProjectDevMember(devMembers);
+        List<ProjectDevMember> saved = saveProjectDevMember(devMembers);
+        membershipCache.invalidate(projectId);
+        return saved;
     }
 
     /**
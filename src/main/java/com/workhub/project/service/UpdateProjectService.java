@@ -27,6 +27,7 @@ import java.util.List;
 public class UpdateProjectService {
 
     private final ProjectService projectService;
+    private final ProjectMembershipCache membershipCache;
     private final HistoryRecorder historyRecorder;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -44,7 +45,7 @@ public class UpdateProjectService {
 
         original.updateProjectStatus(statusRequest.status());
         historyRecorder.recordHistory(HistoryType.PROJECT, projectId, ActionType.UPDATE, snapshot);
-        eventPublisher.publishEvent(new ProjectStatusChangedEvent(original, beforeStatus));
+        eventPublisher.publishEvent(new ProjectStatusChangedEvent(projectId, beforeStatus, original.getStatus()));
 
     }
 
@@ -83,20 +84,22 @@ public class UpdateProjectService {
         saveDevMembersAndHistory(toAddDevIds, projectId);
 
         // 5. 알림 발행
-        var snapshot = new ProjectUpdatedEvent.ProjectUpdateSnapshot(
+        var before = new ProjectUpdatedEvent.ProjectUpdateSnapshot(
                 beforeTitle,
                 beforeDescription,
                 beforeEndDate,
                 existingClientMembers.stream().map(ProjectClientMember::getUserId).toList(),
                 existingDevMembers.stream().map(ProjectDevMember::getUserId).toList()
         );
-
-        eventPublisher.publishEvent(new ProjectUpdatedEvent(
-                snapshot,
-                updatedProject,
+        var after = new ProjectUpdatedEvent.ProjectUpdateSnapshot(
+                updatedProject.getProjectTitle(),
+                updatedProject.getProjectDescription(),
+                updatedProject.getContractEndDate(),
                 request.managerIds(),
                 request.developerIds()
-        ));
+        );
+
+        eventPublisher.publishEvent(new ProjectUpdatedEvent(projectId, before, after));
 
         return ProjectResponse.from(updatedProject);
     }
@@ -173,6 +176,9 @@ public class UpdateProjectService {
             member.removeMember();
             historyRecorder.recordHistory(HistoryType.PROJECT_CLIENT_MEMBER, projectId, ActionType.DELETE, member);
         });
+        if (!toRemoveIds.isEmpty()) {
+            membershipCache.invalidate(projectId);
+        }
     }
 
     /**
@@ -194,6 +200,9 @@ public class UpdateProjectService {
             member.removeMember();
             historyRecorder.recordHistory(HistoryType.PROJECT_DEV_MEMBER, projectId, ActionType.DELETE, member);
         });
+        if (!toRemoveIds.isEmpty()) {
+            membershipCache.invalidate(projectId);
+        }
     }
 
     /**
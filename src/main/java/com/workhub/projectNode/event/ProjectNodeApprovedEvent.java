@@ -1,9 +1,11 @@
 package com.workhub.projectNode.event;
 
+import com.workhub.global.outbox.OutboxEvent;
+
 public record ProjectNodeApprovedEvent(
         Long projectId,
         Long projectNodeId,
         String title,
         String message
-) {
+) implements OutboxEvent {
 }
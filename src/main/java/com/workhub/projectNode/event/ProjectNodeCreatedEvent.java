@@ -1,6 +1,10 @@
 package com.workhub.projectNode.event;
 
-import com.workhub.projectNode.entity.ProjectNode;
+import com.workhub.global.outbox.OutboxEvent;
 
-public record ProjectNodeCreatedEvent(Long projectId, ProjectNode node) {
+public record ProjectNodeCreatedEvent(
+        Long projectId,
+        Long projectNodeId,
+        String title
+) implements OutboxEvent {
 }
@@ -1,9 +1,11 @@
 package com.workhub.projectNode.event;
 
+import com.workhub.global.outbox.OutboxEvent;
+
 public record ProjectNodeUpdatedEvent(
         Long projectId,
         Long projectNodeId,
         String title,
         String changedDesc
-) {
+) implements OutboxEvent {
 }
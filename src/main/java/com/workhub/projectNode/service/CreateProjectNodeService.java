@@ -45,7 +45,8 @@ public class CreateProjectNodeService {
 
         Integer nodeOrder = projectNodeService.findMaxNodeOrderByProjectId(projectId) + 1;
         ProjectNode savedProjectNode = saveProjectNodeAndHistory(projectId, request, nodeOrder);
-        eventPublisher.publishEvent(new ProjectNodeCreatedEvent(projectId, savedProjectNode));
+        eventPublisher.publishEvent(new ProjectNodeCreatedEvent(
+                projectId, savedProjectNode.getProjectNodeId(), savedProjectNode.getTitle()));
 
         return CreateNodeResponse.from(savedProjectNode);
     }
@@ -1,14 +1,14 @@
 package com.workhub.projectNode.service;
 
+import com.workhub.global.outbox.OutboxDelivery;
 import com.workhub.projectNode.event.ProjectNodeApprovedEvent;
 import com.workhub.projectNode.event.ProjectNodeCreatedEvent;
 import com.workhub.projectNode.event.ProjectNodeRejectedEvent;
 import com.workhub.projectNode.event.ProjectNodeReviewRequestedEvent;
 import com.workhub.projectNode.event.ProjectNodeUpdatedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
-import org.springframework.transaction.event.TransactionPhase;
 
 @Component
 @RequiredArgsConstructor
@@ -16,17 +16,19 @@ public class ProjectNodeNotificationEventHandler {
 
     private final ProjectNodeNotificationService projectNodeNotificationService;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onCreated(ProjectNodeCreatedEvent event) {
+    @EventListener
+    public void onCreated(OutboxDelivery<ProjectNodeCreatedEvent> delivery) {
+        ProjectNodeCreatedEvent event = delivery.event();
         projectNodeNotificationService.notifyCreated(
                 event.projectId(),
-                event.node().getProjectNodeId(),
-                event.node().getTitle()
+                event.projectNodeId(),
+                event.title()
         );
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onUpdated(ProjectNodeUpdatedEvent event) {
+    @EventListener
+    public void onUpdated(OutboxDelivery<ProjectNodeUpdatedEvent> delivery) {
+        ProjectNodeUpdatedEvent event = delivery.event();
         projectNodeNotificationService.notifyUpdated(
                 event.projectId(),
                 event.projectNodeId(),
@@ -35,8 +37,9 @@ public class ProjectNodeNotificationEventHandler {
         );
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onReviewRequested(ProjectNodeReviewRequestedEvent event) {
+    @EventListener
+    public void onReviewRequested(OutboxDelivery<ProjectNodeReviewRequestedEvent> delivery) {
+        ProjectNodeReviewRequestedEvent event = delivery.event();
         projectNodeNotificationService.notifyPending(
                 event.projectId(),
                 event.projectNodeId(),
@@ -45,8 +48,9 @@ public class ProjectNodeNotificationEventHandler {
         );
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onApproved(ProjectNodeApprovedEvent event) {
+    @EventListener
+    public void onApproved(OutboxDelivery<ProjectNodeApprovedEvent> delivery) {
+        ProjectNodeApprovedEvent event = delivery.event();
         projectNodeNotificationService.notifyApproved(
                 event.projectId(),
                 event.projectNodeId(),
@@ -55,8 +59,9 @@ public class ProjectNodeNotificationEventHandler {
         );
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onRejected(ProjectNodeRejectedEvent event) {
+    @EventListener
+    public void onRejected(OutboxDelivery<ProjectNodeRejectedEvent> delivery) {
+        ProjectNodeRejectedEvent event = delivery.event();
         projectNodeNotificationService.notifyRejected(
                 event.projectId(),
                 event.projectNodeId(),
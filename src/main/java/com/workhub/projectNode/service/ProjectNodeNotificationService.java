@@ -50,6 +50,7 @@ public class ProjectNodeNotificationService {
                 : "프로젝트 노드가 수정되었습니다. (" + changedDesc + ")";
 
         notificationPublisher.publishProjectNode(
+                projectId,
                 receivers,
                 NotificationType.PROJECT_NODE_UPDATED,
                 title,
@@ -65,6 +65,10 @@ public class UpdateProjectNodeService {
         Map<Long, ProjectNode> nodeMap = projectNodes.stream()
                 .collect(Collectors.toMap(ProjectNode::getProjectNodeId, Function.identity()));
 
+        // 노드마다 원래 생성자를 따로 조회하지 않도록 한 번에 불러 둔다
+        historyRecorder.preloadOriginalCreators(HistoryType.PROJECT_NODE,
+                request.stream().map(UpdateNodOrderRequest::projectNodeId).toList());
+
         request.forEach(req -> {
 
             ProjectNode node = nodeMap.get(req.projectNodeId());
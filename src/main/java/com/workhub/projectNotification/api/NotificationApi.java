@@ -1,7 +1,13 @@
 package com.workhub.projectNotification.api;
 
 import com.workhub.global.response.ApiResponse;
+import com.workhub.projectNotification.dto.NotificationPageResponse;
+import com.workhub.projectNotification.dto.NotificationPreferenceRequest;
+import com.workhub.projectNotification.dto.NotificationPreferenceResponse;
+import com.workhub.projectNotification.dto.NotificationReadRequest;
+import com.workhub.projectNotification.dto.NotificationReadResponse;
 import com.workhub.projectNotification.dto.NotificationResponse;
+import com.workhub.projectNotification.entity.NotificationType;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -53,6 +59,40 @@ public interface NotificationApi {
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     ResponseEntity<ApiResponse<List<NotificationResponse>>> list();
 
+    @Operation(
+            summary = "알림함 커서 페이지 조회",
+            description = "before를 지정하면 해당 ID보다 오래된 알림을, after를 지정하면 해당 ID보다 새로운 알림을 최신순으로 반환합니다. "
+                    + "둘 다 비우면 가장 최근 알림부터 반환합니다. 응답의 beforeCursor/afterCursor를 다음 요청에 넘겨 이어서 조회합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "알림함 조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = NotificationPageResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "before와 after를 함께 지정"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping(value = "/inbox", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<ApiResponse<NotificationPageResponse>> inbox(
+            @Parameter(description = "이 ID보다 오래된 알림 조회 (과거 페이지)", required = false)
+            @RequestParam(required = false) Long before,
+
+            @Parameter(description = "이 ID보다 새로운 알림 조회 (신규 알림)", required = false)
+            @RequestParam(required = false) Long after,
+
+            @Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)", required = false)
+            @RequestParam(required = false) Integer size,
+
+            @Parameter(description = "미읽음 알림만 조회 (기본값: false)", required = false)
+            @RequestParam(required = false) Boolean unreadOnly,
+
+            @Parameter(description = "알림 타입 필터 (기본값: 전체)", required = false)
+            @RequestParam(required = false) NotificationType type
+    );
+
     @Operation(summary = "미읽음 카운트 조회", description = "미읽음 알림 개수를 반환합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -87,4 +127,59 @@ public interface NotificationApi {
     })
     @PatchMapping(value = "/{id}/read", produces = MediaType.APPLICATION_JSON_VALUE)
     ResponseEntity<ApiResponse<Void>> markRead(@PathVariable Long id);
+
+    @Operation(
+            summary = "알림 일괄 읽음 처리",
+            description = "ids를 지정하면 해당 알림만, upToId를 지정하면 해당 ID 이하 알림 전체를, "
+                    + "둘 다 비우면 모든 알림을 읽음 처리합니다. 처리 건수와 남은 미읽음 수를 반환하며, 미읽음 수는 SSE(unread-count)로도 전송됩니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "일괄 읽음 처리 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = NotificationReadResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "upToId와 ids를 함께 지정"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PatchMapping(value = "/read", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<ApiResponse<NotificationReadResponse>> markReadBulk(@RequestBody(required = false) NotificationReadRequest request);
+
+    @Operation(
+            summary = "알림 수신 설정 조회",
+            description = "알림 타입별 수신 방식(ALL, IN_APP_ONLY, DIGEST, MUTE)을 조회합니다. 설정하지 않은 타입은 ALL입니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "알림 수신 설정 조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = NotificationPreferenceResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping(value = "/preferences", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<ApiResponse<List<NotificationPreferenceResponse>>> getPreferences();
+
+    @Operation(
+            summary = "알림 수신 설정 변경",
+            description = "지정한 타입의 수신 방식만 변경하고 나머지 타입은 기존 설정을 유지합니다. "
+                    + "MUTE는 알림을 저장하지 않고, DIGEST는 프로젝트 단위 요약으로 묶어 전달하며, IN_APP_ONLY는 실시간 전송 없이 알림함에만 저장합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "알림 수신 설정 변경 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = NotificationPreferenceResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "타입 또는 수신 방식 누락"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PutMapping(value = "/preferences", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<ApiResponse<List<NotificationPreferenceResponse>>> updatePreferences(@RequestBody NotificationPreferenceRequest request);
 }
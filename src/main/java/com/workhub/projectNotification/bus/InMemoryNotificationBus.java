@@ -0,0 +1,40 @@
+package com.workhub.projectNotification.bus;
+
+import com.workhub.projectNotification.dto.NotificationResponse;
+import com.workhub.projectNotification.service.NotificationEmitterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 인스턴스용 버스: 같은 프로세스의 emitter로 바로 전송한다.
+ */
+@Component
+@ConditionalOnProperty(name = "workhub.notification.bus.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryNotificationBus implements NotificationBus {
+
+    private static final String CHANNEL = "local";
+
+    private final NotificationEmitterService emitterService;
+    private final Counter publishedCounter;
+
+    public InMemoryNotificationBus(NotificationEmitterService emitterService, MeterRegistry meterRegistry) {
+        this.emitterService = emitterService;
+        this.publishedCounter = Counter.builder("notification.bus.published")
+                .tag("bus", "memory")
+                .tag("channel", CHANNEL)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(Long receiverId, NotificationResponse payload, long originAtMillis) {
+        publishedCounter.increment();
+        emitterService.send(receiverId, payload, originAtMillis);
+    }
+
+    @Override
+    public void publishUnreadCount(Long receiverId, long unreadCount) {
+        emitterService.sendUnreadCount(receiverId, unreadCount);
+    }
+}
@@ -0,0 +1,20 @@
+package com.workhub.projectNotification.bus;
+
+import com.workhub.projectNotification.dto.NotificationResponse;
+
+/**
+ * 저장된 알림을 SSE 연결을 가진 노드로 전달하는 팬아웃 버스.
+ * 각 노드는 전달받은 알림을 자신이 보유한 emitter로만 전송한다.
+ */
+public interface NotificationBus {
+
+    /**
+     * @param originAtMillis 알림을 일으킨 이벤트 발생 시각(epoch millis). SSE 전송 단계 지연 측정에 쓰며, 모르면 0.
+     */
+    void publish(Long receiverId, NotificationResponse payload, long originAtMillis);
+
+    /**
+     * 변경된 미읽음 알림 수를 사용자의 SSE 연결로 전달한다.
+     */
+    void publishUnreadCount(Long receiverId, long unreadCount);
+}
@@ -0,0 +1,25 @@
+package com.workhub.projectNotification.bus;
+
+import com.workhub.projectNotification.dto.NotificationResponse;
+
+/**
+ * Redis 채널로 주고받는 알림 메시지.
+ * payload(알림)와 unreadCount(미읽음 수) 중 하나만 채워진다.
+ * @param originNodeId 발행한 노드 ID (자기 자신이 보낸 메시지는 이미 로컬 전송했으므로 무시)
+ * @param originAtMillis 알림을 일으킨 이벤트 발생 시각 (지연 측정용, 이전 버전 노드가 보낸 메시지에는 없다)
+ */
+public record NotificationBusMessage(
+        String originNodeId,
+        Long receiverId,
+        NotificationResponse payload,
+        Long unreadCount,
+        Long originAtMillis
+) {
+    public static NotificationBusMessage ofNotification(String originNodeId, Long receiverId, NotificationResponse payload, long originAtMillis) {
+        return new NotificationBusMessage(originNodeId, receiverId, payload, null, originAtMillis);
+    }
+
+    public static NotificationBusMessage ofUnreadCount(String originNodeId, Long receiverId, long unreadCount) {
+        return new NotificationBusMessage(originNodeId, receiverId, null, unreadCount, null);
+    }
+}
@@ -0,0 +1,115 @@
+package com.workhub.projectNotification.bus;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workhub.projectNotification.dto.NotificationResponse;
+import com.workhub.projectNotification.service.NotificationEmitterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis Pub/Sub 기반 버스: 멀티 인스턴스 환경에서 다른 노드에 연결된 사용자에게도 알림을 전달한다.
+ * - 발행 노드는 로컬 emitter로 즉시 전송하고, 같은 메시지를 채널에 발행한다.
+ * - 구독 노드는 자신이 보낸 메시지를 제외하고 로컬 emitter로만 전송한다.
+ */
+@Slf4j
+public class RedisNotificationBus implements NotificationBus, MessageListener {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final String channel;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationEmitterService emitterService;
+
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter failedCounter;
+
+    public RedisNotificationBus(
+            String channel,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            NotificationEmitterService emitterService,
+            MeterRegistry meterRegistry
+    ) {
+        this.channel = channel;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.emitterService = emitterService;
+        this.publishedCounter = Counter.builder("notification.bus.published")
+                .description("버스 채널로 발행한 알림 수")
+                .tag("bus", "redis")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("notification.bus.received")
+                .description("다른 노드에서 수신한 알림 수")
+                .tag("bus", "redis")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.bus.failed")
+                .description("직렬화/역직렬화 또는 발행에 실패한 알림 수")
+                .tag("bus", "redis")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    @Override
+    public void publish(Long receiverId, NotificationResponse payload, long originAtMillis) {
+        emitterService.send(receiverId, payload, originAtMillis);
+        convertAndSend(NotificationBusMessage.ofNotification(nodeId, receiverId, payload, originAtMillis));
+    }
+
+    @Override
+    public void publishUnreadCount(Long receiverId, long unreadCount) {
+        emitterService.sendUnreadCount(receiverId, unreadCount);
+        convertAndSend(NotificationBusMessage.ofUnreadCount(nodeId, receiverId, unreadCount));
+    }
+
+    private void convertAndSend(NotificationBusMessage busMessage) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(busMessage));
+            publishedCounter.increment();
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 다른 노드 전달 실패는 저장된 알림에 영향을 주지 않는다(재연결 시 Last-Event-ID로 보충).
+            failedCounter.increment();
+            log.warn("Failed to publish notification message to channel {}: receiverId={}",
+                    channel, busMessage.receiverId(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NotificationBusMessage busMessage = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), NotificationBusMessage.class);
+            if (nodeId.equals(busMessage.originNodeId())) {
+                return;
+            }
+            receivedCounter.increment();
+            if (busMessage.payload() != null) {
+                long originAtMillis = busMessage.originAtMillis() == null ? 0L : busMessage.originAtMillis();
+                emitterService.send(busMessage.receiverId(), busMessage.payload(), originAtMillis);
+            } else if (busMessage.unreadCount() != null) {
+                emitterService.sendUnreadCount(busMessage.receiverId(), busMessage.unreadCount());
+            }
+        } catch (JsonProcessingException e) {
+            failedCounter.increment();
+            log.warn("Failed to read notification message from channel {}", channel, e);
+        }
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+}
@@ -3,7 +3,15 @@ package com.workhub.projectNotification.controller;
 import com.workhub.global.response.ApiResponse;
 import com.workhub.global.util.SecurityUtil;
 import com.workhub.projectNotification.api.NotificationApi;
+import com.workhub.projectNotification.dto.NotificationPageRequest;
+import com.workhub.projectNotification.dto.NotificationPageResponse;
+import com.workhub.projectNotification.dto.NotificationPreferenceRequest;
+import com.workhub.projectNotification.dto.NotificationPreferenceResponse;
+import com.workhub.projectNotification.dto.NotificationReadRequest;
+import com.workhub.projectNotification.dto.NotificationReadResponse;
 import com.workhub.projectNotification.dto.NotificationResponse;
+import com.workhub.projectNotification.entity.NotificationType;
+import com.workhub.projectNotification.service.NotificationPreferenceService;
 import com.workhub.projectNotification.service.ProjectNotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +26,7 @@ import java.util.List;
 public class NotificationController implements NotificationApi {
 
     private final ProjectNotificationService notificationService;
+    private final NotificationPreferenceService preferenceService;
 
     /**
      * SSE 구독 엔드포인트.
@@ -38,6 +47,22 @@ public class NotificationController implements NotificationApi {
         return ApiResponse.success(notificationService.listRecent(userId));
     }
 
+    /**
+     * 알림함 커서 페이지 조회 (before/after ID 커서, 미읽음/타입 필터).
+     */
+    @GetMapping("/inbox")
+    public ResponseEntity<ApiResponse<NotificationPageResponse>> inbox(
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Boolean unreadOnly,
+            @RequestParam(required = false) NotificationType type
+    ) {
+        Long userId = SecurityUtil.getCurrentUserIdOrThrow();
+        NotificationPageRequest request = NotificationPageRequest.of(before, after, size, unreadOnly, type);
+        return ApiResponse.success(notificationService.listPage(userId, request));
+    }
+
     /**
      * 미읽음 카운트 조회.
      */
@@ -56,4 +81,34 @@ public class NotificationController implements NotificationApi {
         notificationService.markRead(userId, id);
         return ApiResponse.success(null);
     }
+
+    /**
+     * 일괄 읽음 처리(전체 / upToId 이하 / ids 목록).
+     */
+    @PatchMapping("/read")
+    public ResponseEntity<ApiResponse<NotificationReadResponse>> markReadBulk(
+            @RequestBody(required = false) NotificationReadRequest request) {
+        Long userId = SecurityUtil.getCurrentUserIdOrThrow();
+        NotificationReadRequest readRequest = request == null ? new NotificationReadRequest(null, null) : request;
+        return ApiResponse.success(notificationService.markReadBulk(userId, readRequest));
+    }
+
+    /**
+     * 알림 타입별 수신 설정 조회.
+     */
+    @GetMapping("/preferences")
+    public ResponseEntity<ApiResponse<List<NotificationPreferenceResponse>>> getPreferences() {
+        Long userId = SecurityUtil.getCurrentUserIdOrThrow();
+        return ApiResponse.success(preferenceService.getPreferences(userId));
+    }
+
+    /**
+     * 알림 타입별 수신 설정 변경(지정한 타입만 반영).
+     */
+    @PutMapping("/preferences")
+    public ResponseEntity<ApiResponse<List<NotificationPreferenceResponse>>> updatePreferences(
+            @RequestBody NotificationPreferenceRequest request) {
+        Long userId = SecurityUtil.getCurrentUserIdOrThrow();
+        return ApiResponse.success(preferenceService.updatePreferences(userId, request));
+    }
 }
@@ -0,0 +1,36 @@
+package com.workhub.projectNotification.dto;
+
+import com.workhub.projectNotification.entity.NotificationType;
+
+/**
+ * 알림함 커서 페이지 조회 조건.
+ * - before 지정: 해당 ID보다 오래된 알림 (스크롤로 과거 페이지 조회)
+ * - after 지정: 해당 ID보다 새로운 알림 (마지막 조회 이후 신규 알림 조회)
+ * - 둘 다 비어 있으면: 가장 최근 알림부터
+ */
+public record NotificationPageRequest(
+        Long before,
+        Long after,
+        int size,
+        boolean unreadOnly,
+        NotificationType type
+) {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 페이지 크기를 1 ~ {@value #MAX_SIZE} 범위로 보정해 생성한다.
+     */
+    public static NotificationPageRequest of(Long before, Long after, Integer size, Boolean unreadOnly, NotificationType type) {
+        int pageSize = size == null || size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+        return new NotificationPageRequest(before, after, pageSize, Boolean.TRUE.equals(unreadOnly), type);
+    }
+
+    public boolean hasBefore() {
+        return before != null;
+    }
+
+    public boolean hasAfter() {
+        return after != null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.workhub.projectNotification.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 알림함 커서 페이지 응답. 알림은 항상 최신순으로 담는다.
+ * @param notifications 알림 목록 (최신순)
+ * @param beforeCursor 더 오래된 알림을 조회할 때 before로 넘길 ID (가장 오래된 항목)
+ * @param afterCursor 더 새로운 알림을 조회할 때 after로 넘길 ID (가장 최신 항목)
+ * @param hasMore 요청한 방향으로 알림이 더 남아 있는지 여부
+ * @param size 이번 페이지의 알림 수
+ */
+@Builder
+public record NotificationPageResponse(
+        List<NotificationResponse> notifications,
+        Long beforeCursor,
+        Long afterCursor,
+        Boolean hasMore,
+        Integer size
+) {
+    /**
+     * 페이지 크기보다 하나 더 조회한 결과로 응답을 만든다.
+     *
+     * @param newestFirst 최신순으로 정렬된 조회 결과 (최대 requestedSize + 1건)
+     * @param requestedSize 요청한 페이지 크기
+     * @param after after 커서 조회 여부 (이 경우 넘치는 항목은 가장 최신 쪽에 있다)
+     */
+    public static NotificationPageResponse from(List<NotificationResponse> newestFirst, int requestedSize, boolean after) {
+        boolean hasMore = newestFirst.size() > requestedSize;
+        List<NotificationResponse> page = !hasMore
+                ? newestFirst
+                : after
+                ? newestFirst.subList(1, newestFirst.size())
+                : newestFirst.subList(0, requestedSize);
+
+        return NotificationPageResponse.builder()
+                .notifications(page)
+                .beforeCursor(page.isEmpty() ? null : page.getLast().id())
+                .afterCursor(page.isEmpty() ? null : page.getFirst().id())
+                .hasMore(hasMore)
+                .size(page.size())
+                .build();
+    }
+}
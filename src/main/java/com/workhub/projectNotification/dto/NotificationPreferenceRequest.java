@@ -0,0 +1,19 @@
+package com.workhub.projectNotification.dto;
+
+import com.workhub.projectNotification.entity.NotificationDeliveryMode;
+import com.workhub.projectNotification.entity.NotificationType;
+
+import java.util.List;
+
+/**
+ * 알림 설정 변경 요청. 지정한 타입만 변경하고 나머지 타입은 기존 설정을 유지한다.
+ */
+public record NotificationPreferenceRequest(
+        List<Item> preferences
+) {
+    public record Item(
+            NotificationType type,
+            NotificationDeliveryMode mode
+    ) {
+    }
+}
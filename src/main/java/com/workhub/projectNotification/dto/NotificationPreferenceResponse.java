@@ -0,0 +1,13 @@
+package com.workhub.projectNotification.dto;
+
+import com.workhub.projectNotification.entity.NotificationDeliveryMode;
+import com.workhub.projectNotification.entity.NotificationType;
+
+/**
+ * 알림 타입별 수신 방식.
+ */
+public record NotificationPreferenceResponse(
+        NotificationType type,
+        NotificationDeliveryMode mode
+) {
+}
@@ -1,12 +1,15 @@
 package com.workhub.projectNotification.dto;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.workhub.projectNotification.entity.NotificationBody;
 import com.workhub.projectNotification.entity.NotificationType;
-import com.workhub.projectNotification.entity.ProjectNotification;
 
 /**
  * 알림 발행 시 필요한 필드를 묶어 전달하는 요청 DTO.
  * 정적 팩토리 + 체이닝 메서드로 필요한 필드만 설정한다.
+ * 요약 대기 알림으로 저장할 때는 필드 그대로 JSON 직렬화한다.
  */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 public class NotificationPublishRequest {
     private Long receiverId;
     private NotificationType type;
@@ -22,6 +25,8 @@ public class NotificationPublishRequest {
     private Long senderUserId;
     private String senderProfileImg;
     private String senderName;
+    /** 알림을 일으킨 이벤트 발생 시각(epoch millis). 지연 측정용이며 저장하지 않는다. 모르면 0. */
+    private long originAtMillis;
 
     private NotificationPublishRequest() {}
 
@@ -91,6 +96,7 @@ public class NotificationPublishRequest {
     public NotificationPublishRequest senderUserId(Long senderUserId) { this.senderUserId = senderUserId; return this; }
     public NotificationPublishRequest senderProfileImg(String senderProfileImg) { this.senderProfileImg = senderProfileImg; return this; }
     public NotificationPublishRequest senderName(String senderName) { this.senderName = senderName; return this; }
+    public NotificationPublishRequest originAtMillis(long originAtMillis) { this.originAtMillis = originAtMillis; return this; }
 
     public Long receiverId() { return receiverId; }
     public NotificationType type() { return type; }
@@ -102,11 +108,13 @@ public class NotificationPublishRequest {
     public Long commentId() { return commentId; }
     public Long csQnaId() { return csQnaId; }
     public Long csPostId() { return csPostId; }
+    public long originAtMillis() { return originAtMillis; }
 
 
-    public ProjectNotification toEntity() {
-        return ProjectNotification.of(
-                receiverId, type, title, content, relatedUrl,
+    /** 수신자와 무관한 알림 본문 엔티티를 만든다. */
+    public NotificationBody toBody() {
+        return NotificationBody.of(
+                type, title, content, relatedUrl,
                 projectId, projectNodeId, postId, commentId, csQnaId, csPostId,
                 senderUserId, senderName, senderProfileImg
         );
@@ -129,6 +137,22 @@ public class NotificationPublishRequest {
         copy.senderUserId = this.senderUserId;
         copy.senderProfileImg = this.senderProfileImg;
         copy.senderName = this.senderName;
+        copy.originAtMillis = this.originAtMillis;
         return copy;
     }
+
+    /**
+     * 같은 발신자로 프로젝트 단위 요약 알림을 만든다. 연관 FK는 프로젝트 하나만 남긴다.
+     */
+    public NotificationPublishRequest asProjectDigest(Long digestProjectId, String digestTitle, String digestContent, String digestUrl) {
+        NotificationPublishRequest digest = forProject(null, this.type, digestProjectId);
+        digest.title = digestTitle;
+        digest.content = digestContent;
+        digest.relatedUrl = digestUrl;
+        digest.senderUserId = this.senderUserId;
+        digest.senderProfileImg = this.senderProfileImg;
+        digest.senderName = this.senderName;
+        digest.originAtMillis = this.originAtMillis;
+        return digest;
+    }
 }
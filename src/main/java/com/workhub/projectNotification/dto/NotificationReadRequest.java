@@ -0,0 +1,22 @@
+package com.workhub.projectNotification.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 읽음 처리 요청.
+ * - ids 지정: 해당 알림만 읽음 처리
+ * - upToId 지정: 해당 ID 이하의 알림 전체를 읽음 처리
+ * - 둘 다 비어 있으면: 사용자의 모든 알림을 읽음 처리
+ */
+public record NotificationReadRequest(
+        Long upToId,
+        List<Long> ids
+) {
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasUpToId() {
+        return upToId != null;
+    }
+}
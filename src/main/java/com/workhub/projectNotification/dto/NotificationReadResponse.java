@@ -0,0 +1,12 @@
+package com.workhub.projectNotification.dto;
+
+/**
+ * 일괄 읽음 처리 결과.
+ * @param updatedCount 이번 요청으로 읽음 처리된 알림 수
+ * @param unreadCount 처리 후 남은 미읽음 알림 수
+ */
+public record NotificationReadResponse(
+        int updatedCount,
+        long unreadCount
+) {
+}
@@ -1,5 +1,6 @@
 package com.workhub.projectNotification.dto;
 
+import com.workhub.projectNotification.entity.NotificationBody;
 import com.workhub.projectNotification.entity.NotificationType;
 import com.workhub.projectNotification.entity.ProjectNotification;
 
@@ -24,21 +25,22 @@ public record NotificationResponse(
         LocalDateTime createdAt
 ) {
     public static NotificationResponse from(ProjectNotification n) {
+        NotificationBody body = n.getBody();
         return new NotificationResponse(
                 n.getProjectNotificationId(),
-                n.getNotificationType(),
-                n.getTitle(),
-                n.getNotificationContent(),
-                n.getRelatedUrl(),
-                n.getProjectId(),
-                n.getProjectNodeId(),
-                n.getPostId(),
-                n.getCommentId(),
-                n.getCsQnaId(),
-                n.getCsPostId(),
-                n.getSenderUserId(),
-                n.getSenderName(),
-                n.getSenderProfileImg(),
+                body.getNotificationType(),
+                body.getTitle(),
+                body.getNotificationContent(),
+                body.getRelatedUrl(),
+                body.getProjectId(),
+                body.getProjectNodeId(),
+                body.getPostId(),
+                body.getCommentId(),
+                body.getCsQnaId(),
+                body.getCsPostId(),
+                body.getSenderUserId(),
+                body.getSenderName(),
+                body.getSenderProfileImg(),
                 n.getReadAt() != null,
                 n.getCreatedAt()
         );
@@ -0,0 +1,16 @@
+package com.workhub.projectNotification.dto;
+
+import java.util.Set;
+
+/**
+ * 알림 설정을 적용한 수신자 분류.
+ * @param immediate 바로 저장할 수신자 (IN_APP_ONLY 포함, 푸시 여부는 저장 단계에서 다시 판단)
+ * @param digest 요약 알림으로 모아 받을 수신자
+ * @param muted 저장하지 않을 수신자
+ */
+public record NotificationRouting(
+        Set<Long> immediate,
+        Set<Long> digest,
+        Set<Long> muted
+) {
+}
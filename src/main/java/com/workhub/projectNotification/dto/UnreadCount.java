@@ -0,0 +1,7 @@
+package com.workhub.projectNotification.dto;
+
+/**
+ * 사용자별 미읽음 알림 수 집계 결과.
+ */
+public record UnreadCount(Long userId, Long count) {
+}
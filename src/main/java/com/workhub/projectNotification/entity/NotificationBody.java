@@ -0,0 +1,101 @@
+package com.workhub.projectNotification.entity;
+
+import com.workhub.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 알림 본문. 이벤트 한 건당 한 행만 저장하고, 수신자별 읽음 상태는 {@link ProjectNotification}(수신 행)에 둔다.
+ */
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "notification_body")
+@Entity
+public class NotificationBody extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_body_id")
+    private Long notificationBodyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type")
+    private NotificationType notificationType;
+
+    @Column(name = "title", length = 50)
+    private String title;
+
+    @Column(name = "notification_content", length = 100)
+    private String notificationContent;
+
+    @Column(name = "related_url", length = 50)
+    private String relatedUrl;
+
+    @Column(name = "sender_user_id")
+    private Long senderUserId;
+
+    @Column(name = "sender_name", length = 50)
+    private String senderName;
+
+    @Column(name = "sender_profile_img")
+    private String senderProfileImg;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "project_node_id")
+    private Long projectNodeId;
+
+    @Column(name = "cs_qna_id")
+    private Long csQnaId;
+
+    @Column(name = "cs_post_id")
+    private Long csPostId;
+
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    /**
+     * 알림 본문 생성 팩토리.
+     * 서비스 레이어에서는 빌더를 직접 사용하지 않고 이 메서드로 생성한다.
+     */
+    public static NotificationBody of(
+            NotificationType type,
+            String title,
+            String content,
+            String relatedUrl,
+            Long projectId,
+            Long projectNodeId,
+            Long postId,
+            Long commentId,
+            Long csQnaId,
+            Long csPostId,
+            Long senderUserId,
+            String senderName,
+            String senderProfileImg
+    ) {
+        return NotificationBody.builder()
+                .senderUserId(senderUserId)
+                .senderName(senderName)
+                .senderProfileImg(senderProfileImg)
+                .notificationType(type)
+                .title(title)
+                .notificationContent(content)
+                .relatedUrl(relatedUrl)
+                .projectId(projectId)
+                .projectNodeId(projectNodeId)
+                .postId(postId)
+                .commentId(commentId)
+                .csQnaId(csQnaId)
+                .csPostId(csPostId)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.workhub.projectNotification.entity;
+
+/**
+ * 사용자가 알림 타입별로 고르는 수신 방식.
+ */
+public enum NotificationDeliveryMode {
+    /** 알림함 저장 + 실시간(SSE) 푸시 */
+    ALL,
+    /** 알림함에만 저장하고 실시간 푸시는 하지 않는다 */
+    IN_APP_ONLY,
+    /** 일정 구간 동안 모아 요약 알림으로 받는다 */
+    DIGEST,
+    /** 저장하지 않는다 */
+    MUTE
+}
@@ -0,0 +1,57 @@
+package com.workhub.projectNotification.entity;
+
+import com.workhub.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 묶음/요약 대기 알림. (수신자, 프로젝트, 묶음 키)마다 한 행에 누적 건수와 마지막 알림을 모은다.
+ * 묶음 키는 연달아 발생하는 타입의 짧은 묶음이면 알림 타입 이름, DIGEST 설정 수신자의 요약이면 {@link #DIGEST_KEY}다.
+ * 아웃박스 전달과 같은 트랜잭션에서 쌓이므로 노드가 죽어도 묶음/요약이 사라지지 않는다.
+ */
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "notification_digest",
+        uniqueConstraints = @UniqueConstraint(name = "uk_notification_digest_user_project_key",
+                columnNames = {"user_id", "project_id", "coalesce_key"}))
+@Entity
+public class NotificationDigest extends BaseTimeEntity {
+
+    /** DIGEST 설정 수신자의 요약 행 묶음 키 (타입과 관계없이 모은다) */
+    public static final String DIGEST_KEY = "DIGEST";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_digest_id")
+    private Long notificationDigestId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "coalesce_key", length = 50, nullable = false)
+    private String coalesceKey;
+
+    @Column(name = "pending_count", nullable = false)
+    private int pendingCount;
+
+    /** 구간에서 마지막으로 들어온 알림 발행 요청(JSON). 한 건뿐이면 그대로 발행한다. */
+    @Column(name = "last_request", columnDefinition = "TEXT", nullable = false)
+    private String lastRequest;
+
+    @Column(name = "first_origin_at_millis", nullable = false)
+    private long firstOriginAtMillis;
+
+    /** 묶음/요약 구간이 끝나는 시각. 첫 알림이 들어올 때 정해지고 이후 알림으로 미뤄지지 않는다. */
+    @Column(name = "flush_at", nullable = false)
+    private LocalDateTime flushAt;
+}
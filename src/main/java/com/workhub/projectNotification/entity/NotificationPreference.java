@@ -0,0 +1,50 @@
+package com.workhub.projectNotification.entity;
+
+import com.workhub.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 사용자별 알림 타입 설정. 타입별 행 대신 {@link PreferenceMasks} 비트마스크 세 개를 한 행에 저장한다.
+ * 행이 없는 사용자는 모든 타입을 {@link NotificationDeliveryMode#ALL}로 받는다.
+ */
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "notification_preference")
+@Entity
+public class NotificationPreference extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "muted_mask", nullable = false)
+    private long mutedMask;
+
+    @Column(name = "in_app_only_mask", nullable = false)
+    private long inAppOnlyMask;
+
+    @Column(name = "digest_mask", nullable = false)
+    private long digestMask;
+
+    public PreferenceMasks toMasks() {
+        return new PreferenceMasks(mutedMask, inAppOnlyMask, digestMask);
+    }
+
+    public void apply(PreferenceMasks masks) {
+        this.mutedMask = masks.muted();
+        this.inAppOnlyMask = masks.inAppOnly();
+        this.digestMask = masks.digest();
+    }
+
+    public static NotificationPreference of(Long userId) {
+        return NotificationPreference.builder()
+                .userId(userId)
+                .build();
+    }
+}
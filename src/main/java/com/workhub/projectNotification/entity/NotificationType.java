@@ -1,5 +1,9 @@
 package com.workhub.projectNotification.entity;
 
+/**
+ * 알림 타입. 순서(ordinal)는 알림 설정 비트마스크({@link NotificationPreference})의 비트 위치로 쓰이므로
+ * 새 타입은 맨 뒤에 추가하고 기존 타입의 순서를 바꾸지 않는다. (최대 64개)
+ */
 public enum NotificationType {
     REVIEW_REQUEST,
     REVIEW_COMPLETED,
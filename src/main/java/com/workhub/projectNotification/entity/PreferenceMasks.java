@@ -0,0 +1,30 @@
+package com.workhub.projectNotification.entity;
+
+/**
+ * 사용자 한 명의 알림 설정. 타입마다 한 비트(ordinal)를 쓰는 마스크 세 개로 표현하며, 어느 마스크에도 없으면 {@link NotificationDeliveryMode#ALL}.
+ */
+public record PreferenceMasks(long muted, long inAppOnly, long digest) {
+
+    public static final PreferenceMasks DEFAULT = new PreferenceMasks(0L, 0L, 0L);
+
+    public NotificationDeliveryMode modeOf(NotificationType type) {
+        long bit = bit(type);
+        if ((muted & bit) != 0) return NotificationDeliveryMode.MUTE;
+        if ((inAppOnly & bit) != 0) return NotificationDeliveryMode.IN_APP_ONLY;
+        if ((digest & bit) != 0) return NotificationDeliveryMode.DIGEST;
+        return NotificationDeliveryMode.ALL;
+    }
+
+    public PreferenceMasks with(NotificationType type, NotificationDeliveryMode mode) {
+        long bit = bit(type);
+        return new PreferenceMasks(
+                mode == NotificationDeliveryMode.MUTE ? muted | bit : muted & ~bit,
+                mode == NotificationDeliveryMode.IN_APP_ONLY ? inAppOnly | bit : inAppOnly & ~bit,
+                mode == NotificationDeliveryMode.DIGEST ? digest | bit : digest & ~bit
+        );
+    }
+
+    private static long bit(NotificationType type) {
+        return 1L << type.ordinal();
+    }
+}
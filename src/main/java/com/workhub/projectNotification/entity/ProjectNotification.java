@@ -9,6 +9,10 @@ import lombok.experimental.SuperBuilder;
 
 import java.time.LocalDateTime;
 
+/**
+ * 수신자별 알림 수신 행. 제목/내용/발신자 등 본문은 {@link NotificationBody}를 공유한다.
+ * PK는 SSE event id(Last-Event-ID)와 읽음 처리 API의 알림 ID로 그대로 사용한다.
+ */
 @Getter
 @SuperBuilder
 @NoArgsConstructor
@@ -22,91 +26,27 @@ public class ProjectNotification extends BaseTimeEntity {
     @Column(name = "project_notification_id")
     private Long projectNotificationId;
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "notification_type")
-    private NotificationType notificationType;
-
-    @Column(name = "title", length = 50)
-    private String title;
-
-    @Column(name = "notification_content", length = 100)
-    private String notificationContent;
-
-    @Column(name = "related_url", length = 50)
-    private String relatedUrl;
-
-    @Column(name = "read_at")
-    private LocalDateTime readAt;
-
-    @Column(name = "sender_user_id")
-    private Long senderUserId;
-
-    @Column(name = "sender_name", length = 50)
-    private String senderName;
-
-    @Column(name = "sender_profile_img")
-    private String senderProfileImg;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "notification_body_id", nullable = false)
+    private NotificationBody body;
 
     @Column(name = "user_id")
     private Long userId;
 
-    @Column(name = "project_id")
-    private Long projectId;
-
-    @Column(name = "project_node_id")
-    private Long projectNodeId;
-
-    @Column(name = "cs_qna_id")
-    private Long csQnaId;
-
-    @Column(name = "cs_post_id")
-    private Long csPostId;
-
-    @Column(name = "post_id")
-    private Long postId;
-
-    @Column(name = "comment_id")
-    private Long commentId;
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
 
     public void markRead() {
         this.readAt = LocalDateTime.now();
     }
 
     /**
-     * 알림 엔티티 생성 팩토리.
-     * 서비스 레이어에서는 빌더를 직접 사용하지 않고 이 메서드로 생성한다.
+     * 수신 행 생성 팩토리.
      */
-    public static ProjectNotification of(
-            Long userId,
-            NotificationType type,
-            String title,
-            String content,
-            String relatedUrl,
-            Long projectId,
-            Long projectNodeId,
-            Long postId,
-            Long commentId,
-            Long csQnaId,
-            Long csPostId,
-            Long senderUserId,
-            String senderName,
-            String senderProfileImg
-    ) {
+    public static ProjectNotification of(Long userId, NotificationBody body) {
         return ProjectNotification.builder()
                 .userId(userId)
-                .senderUserId(senderUserId)
-                .senderName(senderName)
-                .senderProfileImg(senderProfileImg)
-                .notificationType(type)
-                .title(title)
-                .notificationContent(content)
-                .relatedUrl(relatedUrl)
-                .projectId(projectId)
-                .projectNodeId(projectNodeId)
-                .postId(postId)
-                .commentId(commentId)
-                .csQnaId(csQnaId)
-                .csPostId(csPostId)
+                .body(body)
                 .build();
     }
 }
@@ -0,0 +1,40 @@
+package com.workhub.projectNotification.repository;
+
+import com.workhub.projectNotification.entity.NotificationDigest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationDigestRepository extends JpaRepository<NotificationDigest, Long> {
+
+    /**
+     * (수신자, 프로젝트, 묶음 키) 대기 행에 알림 한 건을 더한다. 행이 없으면 flushAt에 발행될 새 구간을 연다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_digest " +
+            "(user_id, project_id, coalesce_key, pending_count, last_request, first_origin_at_millis, flush_at, " +
+            "created_at, updated_at) " +
+            "VALUES (:userId, :projectId, :coalesceKey, 1, :lastRequest, :originAtMillis, :flushAt, now(), now()) " +
+            "ON CONFLICT (user_id, project_id, coalesce_key) DO UPDATE SET " +
+            "pending_count = notification_digest.pending_count + 1, " +
+            "last_request = EXCLUDED.last_request, " +
+            "first_origin_at_millis = LEAST(notification_digest.first_origin_at_millis, EXCLUDED.first_origin_at_millis), " +
+            "updated_at = now()", nativeQuery = true)
+    int append(@Param("userId") Long userId,
+               @Param("projectId") Long projectId,
+               @Param("coalesceKey") String coalesceKey,
+               @Param("lastRequest") String lastRequest,
+               @Param("originAtMillis") long originAtMillis,
+               @Param("flushAt") LocalDateTime flushAt);
+
+    /**
+     * 묶음/요약 구간이 끝난 행을 잠그며 가져온다. 다른 노드가 잠근 행은 건너뛴다.
+     */
+    @Query(value = "SELECT * FROM notification_digest WHERE flush_at <= :now " +
+            "ORDER BY flush_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationDigest> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,177 @@
+package com.workhub.projectNotification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * project_notification 월 단위 파티션 DDL/조회.
+ * 파티션 이름은 {@code project_notification_pYYYYMM} 규칙을 따르며, 이름에서 범위를 계산한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationPartitionRepository {
+
+    public static final String PARENT_TABLE = "project_notification";
+    private static final String DEFAULT_PARTITION = PARENT_TABLE + "_default";
+    private static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    /** 여러 노드가 동시에 파티션을 관리하지 않도록 잡는 advisory lock 키 */
+    private static final long MAINTENANCE_LOCK_KEY = 0x6e6f7469_70617274L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * project_notification이 파티션 테이블인지 확인한다. (ddl-auto로 만든 테스트 스키마는 일반 테이블)
+     */
+    public boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (
+                    SELECT 1 FROM pg_partitioned_table pt
+                    JOIN pg_class c ON c.oid = pt.partrelid
+                    WHERE c.relname = ? AND pg_table_is_visible(c.oid)
+                )
+                """, Boolean.class, PARENT_TABLE);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    /**
+     * 현재 붙어 있는 월 파티션을 오래된 순으로 반환한다. 규칙에 맞지 않는 파티션(default 등)은 제외한다.
+     */
+    public List<YearMonth> findAttachedMonths() {
+        return jdbcTemplate.queryForList("""
+                        SELECT c.relname FROM pg_inherits i
+                        JOIN pg_class c ON c.oid = i.inhrelid
+                        JOIN pg_class p ON p.oid = i.inhparent
+                        WHERE p.relname = ? AND pg_table_is_visible(p.oid)
+                        """, String.class, PARENT_TABLE).stream()
+                .map(NotificationPartitionRepository::parseMonth)
+                .flatMap(Optional::stream)
+                .sorted()
+                .toList();
+    }
+
+    public boolean partitionExists(YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, partitionName(month)));
+    }
+
+    /**
+     * 파티션이 없던 동안 DEFAULT 파티션에 들어간 해당 월의 행 수.
+     */
+    public long countDefaultRows(YearMonth month) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + DEFAULT_PARTITION + " WHERE created_at >= ? AND created_at < ?",
+                Long.class, monthStart(month), monthStart(month.plusMonths(1)));
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * DEFAULT 파티션에 해당 월의 행이 없을 때 파티션을 만든다. 행이 있으면 PostgreSQL이 생성을 거부한다.
+     */
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                + " PARTITION OF " + PARENT_TABLE + " FOR VALUES " + bounds(month));
+    }
+
+    /**
+     * DEFAULT 파티션에 쌓인 해당 월의 행을 새 파티션으로 옮긴 뒤 붙인다. 옮긴 행 수를 반환한다.
+     * 옮기는 동안 DEFAULT 파티션을 잠가 같은 월의 행이 새로 들어오지 않게 하며, 인덱스는 ATTACH 시 부모를 따라 만들어진다.
+     */
+    public int createPartitionFromDefault(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION + " IN ACCESS EXCLUSIVE MODE");
+        jdbcTemplate.execute("CREATE TABLE " + partition
+                + " (LIKE " + PARENT_TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("WITH moved AS ("
+                        + " DELETE FROM " + DEFAULT_PARTITION + " WHERE created_at >= ? AND created_at < ? RETURNING *"
+                        + ") INSERT INTO " + partition + " SELECT * FROM moved",
+                monthStart(month), monthStart(month.plusMonths(1)));
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + partition
+                + " FOR VALUES " + bounds(month));
+        return moved;
+    }
+
+    public Optional<Long> findMinId(YearMonth month) {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+                "SELECT MIN(project_notification_id) FROM " + partitionName(month), Long.class));
+    }
+
+    public long countRows(YearMonth month) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + partitionName(month), Long.class);
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * 현재 트랜잭션에서 DDL이 잠금을 기다릴 최대 시간을 정한다. 넘기면 해당 문장이 실패한다.
+     */
+    public void setLockTimeout(long lockTimeoutMs) {
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '" + lockTimeoutMs + "ms'");
+    }
+
+    /**
+     * 부모 테이블에 ACCESS EXCLUSIVE 잠금을 잡는다. DETACH ... CONCURRENTLY는 DEFAULT 파티션이 있으면 쓸 수 없고
+     * 트랜잭션 밖에서만 실행되므로, 대신 {@link #setLockTimeout}으로 대기 시간을 제한해 알림 조회/저장이 줄줄이 막히지 않게 한다.
+     */
+    public void detachPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partitionName(month));
+    }
+
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName(month));
+    }
+
+    /**
+     * 현재 트랜잭션 동안 유지되는 관리 잠금을 시도한다. 다른 노드가 잡고 있으면 false.
+     */
+    public boolean tryMaintenanceLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, MAINTENANCE_LOCK_KEY));
+    }
+
+    /**
+     * before 이전에 만들어졌고 더 이상 수신 행이 없는 알림 본문을 최대 limit 건 삭제한다.
+     */
+    public int deleteOrphanBodiesBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update("""
+                DELETE FROM notification_body WHERE notification_body_id IN (
+                    SELECT b.notification_body_id FROM notification_body b
+                    WHERE b.created_at < ?
+                      AND NOT EXISTS (
+                          SELECT 1 FROM project_notification n WHERE n.notification_body_id = b.notification_body_id
+                      )
+                    LIMIT ?
+                )
+                """, before, limit);
+    }
+
+    private static String bounds(YearMonth month) {
+        return "FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    private static LocalDateTime monthStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay();
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+
+    static Optional<YearMonth> parseMonth(String relname) {
+        if (relname == null || !relname.startsWith(PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(relname.substring(PARTITION_PREFIX.length()), SUFFIX));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.workhub.projectNotification.repository;
+
+import com.workhub.projectNotification.entity.NotificationPreference;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationPreferenceRepository extends JpaRepository<NotificationPreference, Long> {
+
+    List<NotificationPreference> findAllByUserIdIn(Collection<Long> userIds);
+
+    /**
+     * 설정 행이 없으면 기본값(모두 ALL)으로 만든다. 동시에 처음 저장하는 요청끼리 기본 키 충돌이 나지 않도록 한다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_preference (user_id, muted_mask, in_app_only_mask, digest_mask, created_at, updated_at) " +
+            "VALUES (:userId, 0, 0, 0, now(), now()) ON CONFLICT (user_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    /**
+     * 마스크를 읽고 고쳐 쓰는 동안 같은 사용자의 다른 변경이 끼어들지 않도록 행을 잠그며 조회한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM NotificationPreference p WHERE p.userId = :userId")
+    Optional<NotificationPreference> findByIdForUpdate(@Param("userId") Long userId);
+}
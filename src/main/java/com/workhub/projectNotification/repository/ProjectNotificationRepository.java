@@ -1,15 +1,45 @@
 package com.workhub.projectNotification.repository;
 
+import com.workhub.projectNotification.dto.UnreadCount;
 import com.workhub.projectNotification.entity.ProjectNotification;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ProjectNotificationRepository extends JpaRepository<ProjectNotification, Long> {
+public interface ProjectNotificationRepository extends JpaRepository<ProjectNotification, Long>, ProjectNotificationRepositoryCustom {
+    @EntityGraph(attributePaths = "body")
     List<ProjectNotification> findTop50ByUserIdOrderByProjectNotificationIdDesc(Long userId);
-    List<ProjectNotification> findByUserIdAndProjectNotificationIdGreaterThanOrderByProjectNotificationIdAsc(Long userId, Long lastEventId);
+
+    @EntityGraph(attributePaths = "body")
+    List<ProjectNotification> findByUserIdAndProjectNotificationIdGreaterThanOrderByProjectNotificationIdAsc(Long userId, Long lastEventId, Limit limit);
+
     long countByUserIdAndReadAtIsNull(Long userId);
 
+    @Query("SELECT new com.workhub.projectNotification.dto.UnreadCount(n.userId, COUNT(n)) FROM ProjectNotification n " +
+            "WHERE n.userId IN :userIds AND n.readAt IS NULL GROUP BY n.userId")
+    List<UnreadCount> countUnreadByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
     Optional<ProjectNotification> findByProjectNotificationIdAndUserId(Long id, Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProjectNotification n SET n.readAt = :readAt WHERE n.userId = :userId AND n.readAt IS NULL")
+    int markAllRead(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProjectNotification n SET n.readAt = :readAt WHERE n.userId = :userId AND n.readAt IS NULL " +
+            "AND n.projectNotificationId <= :upToId")
+    int markReadUpTo(@Param("userId") Long userId, @Param("upToId") Long upToId, @Param("readAt") LocalDateTime readAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProjectNotification n SET n.readAt = :readAt WHERE n.userId = :userId AND n.readAt IS NULL " +
+            "AND n.projectNotificationId IN :ids")
+    int markReadByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids, @Param("readAt") LocalDateTime readAt);
 }
@@ -0,0 +1,26 @@
+package com.workhub.projectNotification.repository;
+
+import com.workhub.projectNotification.dto.NotificationPageRequest;
+import com.workhub.projectNotification.entity.NotificationBody;
+import com.workhub.projectNotification.entity.ProjectNotification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProjectNotificationRepositoryCustom {
+
+    /**
+     * 알림 본문을 한 번 저장하고, 수신자별 수신 행을 multi-row INSERT 한 번(청크 단위)으로 저장한다.
+     * 생성된 PK와 생성 시각이 채워진 수신 행(본문 포함)을 반환한다.
+     */
+    List<ProjectNotification> bulkInsert(NotificationBody body, Collection<Long> receiverIds);
+
+    /**
+     * 알림함 커서 페이지를 조회한다. OFFSET 없이 ID 커서 조건과 LIMIT(size + 1)만 사용한다.
+     * 결과는 최신순이며, after 조회일 때는 after 바로 다음 구간을 읽은 뒤 최신순으로 뒤집어 반환한다.
+     * createdFrom/createdBefore는 파티션 프루닝용 created_at 범위이며 null이면 조건을 붙이지 않는다.
+     */
+    List<ProjectNotification> findPage(Long userId, NotificationPageRequest request,
+                                       LocalDateTime createdFrom, LocalDateTime createdBefore);
+}
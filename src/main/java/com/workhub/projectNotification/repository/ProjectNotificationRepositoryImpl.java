@@ -0,0 +1,188 @@
+package com.workhub.projectNotification.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.workhub.projectNotification.dto.NotificationPageRequest;
+import com.workhub.projectNotification.entity.NotificationBody;
+import com.workhub.projectNotification.entity.NotificationType;
+import com.workhub.projectNotification.entity.ProjectNotification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.workhub.projectNotification.entity.QNotificationBody.notificationBody;
+import static com.workhub.projectNotification.entity.QProjectNotification.projectNotification;
+
+@Repository
+@RequiredArgsConstructor
+public class ProjectNotificationRepositoryImpl implements ProjectNotificationRepositoryCustom {
+
+    /** 한 INSERT 문에 담을 최대 수신 행 수 (5컬럼 * 1,000 = 5,000 바인딩 파라미터) */
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String INSERT_BODY = """
+            INSERT INTO notification_body (
+                notification_type, title, notification_content, related_url,
+                sender_user_id, sender_name, sender_profile_img,
+                project_id, project_node_id, post_id, comment_id, cs_qna_id, cs_post_id,
+                created_at, updated_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            RETURNING *
+            """;
+    private static final String INSERT_RECEIPT_PREFIX = """
+            INSERT INTO project_notification (notification_body_id, user_id, created_at, updated_at) VALUES
+            """;
+    private static final String RECEIPT_ROW = "(?, ?, ?, ?)";
+    private static final String RETURNING = " RETURNING *";
+
+    static final RowMapper<NotificationBody> BODY_ROW_MAPPER = (rs, rowNum) -> NotificationBody.builder()
+            .notificationBodyId(rs.getLong("notification_body_id"))
+            .notificationType(NotificationType.valueOf(rs.getString("notification_type")))
+            .title(rs.getString("title"))
+            .notificationContent(rs.getString("notification_content"))
+            .relatedUrl(rs.getString("related_url"))
+            .senderUserId(rs.getObject("sender_user_id", Long.class))
+            .senderName(rs.getString("sender_name"))
+            .senderProfileImg(rs.getString("sender_profile_img"))
+            .projectId(rs.getObject("project_id", Long.class))
+            .projectNodeId(rs.getObject("project_node_id", Long.class))
+            .postId(rs.getObject("post_id", Long.class))
+            .commentId(rs.getObject("comment_id", Long.class))
+            .csQnaId(rs.getObject("cs_qna_id", Long.class))
+            .csPostId(rs.getObject("cs_post_id", Long.class))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<ProjectNotification> bulkInsert(NotificationBody body, Collection<Long> receiverIds) {
+        if (receiverIds == null || receiverIds.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        NotificationBody savedBody = jdbcTemplate.queryForObject(INSERT_BODY, BODY_ROW_MAPPER, bodyParams(body, now));
+
+        List<Long> receivers = List.copyOf(receiverIds);
+        List<ProjectNotification> saved = new ArrayList<>(receivers.size());
+        for (int from = 0; from < receivers.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = receivers.subList(from, Math.min(from + CHUNK_SIZE, receivers.size()));
+            saved.addAll(jdbcTemplate.query(buildReceiptSql(chunk.size()),
+                    ps -> bindReceipts(ps, savedBody.getNotificationBodyId(), chunk, now),
+                    (rs, rowNum) -> mapReceipt(rs, savedBody)));
+        }
+        return saved;
+    }
+
+    @Override
+    public List<ProjectNotification> findPage(Long userId, NotificationPageRequest request,
+                                              LocalDateTime createdFrom, LocalDateTime createdBefore) {
+        List<ProjectNotification> rows = queryFactory
+                .selectFrom(projectNotification)
+                .join(projectNotification.body, notificationBody).fetchJoin()
+                .where(
+                        projectNotification.userId.eq(userId),
+                        unreadOnly(request.unreadOnly()),
+                        typeEq(request),
+                        cursorCondition(request),
+                        createdAtRange(createdFrom, createdBefore)
+                )
+                .orderBy(request.hasAfter()
+                        ? projectNotification.projectNotificationId.asc()
+                        : projectNotification.projectNotificationId.desc())
+                .limit(request.size() + 1L)  // hasMore 확인을 위해 +1
+                .fetch();
+        return request.hasAfter() ? rows.reversed() : rows;
+    }
+
+    /**
+     * 커서 조건: before는 더 작은 ID, after는 더 큰 ID
+     */
+    private BooleanExpression cursorCondition(NotificationPageRequest request) {
+        if (request.hasBefore()) {
+            return projectNotification.projectNotificationId.lt(request.before());
+        }
+        if (request.hasAfter()) {
+            return projectNotification.projectNotificationId.gt(request.after());
+        }
+        return null;
+    }
+
+    /**
+     * 파티션 프루닝 조건 (created_at 범위)
+     */
+    private BooleanExpression createdAtRange(LocalDateTime createdFrom, LocalDateTime createdBefore) {
+        BooleanExpression from = createdFrom == null ? null : projectNotification.createdAt.goe(createdFrom);
+        BooleanExpression before = createdBefore == null ? null : projectNotification.createdAt.lt(createdBefore);
+        return from == null ? before : from.and(before);
+    }
+
+    private BooleanExpression unreadOnly(boolean unreadOnly) {
+        return unreadOnly ? projectNotification.readAt.isNull() : null;
+    }
+
+    private BooleanExpression typeEq(NotificationPageRequest request) {
+        return request.type() == null ? null : notificationBody.notificationType.eq(request.type());
+    }
+
+    private Object[] bodyParams(NotificationBody b, LocalDateTime now) {
+        return new Object[]{
+                b.getNotificationType().name(), b.getTitle(), b.getNotificationContent(), b.getRelatedUrl(),
+                b.getSenderUserId(), b.getSenderName(), b.getSenderProfileImg(),
+                b.getProjectId(), b.getProjectNodeId(), b.getPostId(), b.getCommentId(), b.getCsQnaId(), b.getCsPostId(),
+                now, now
+        };
+    }
+
+    private String buildReceiptSql(int rows) {
+        StringBuilder sb = new StringBuilder(INSERT_RECEIPT_PREFIX.length() + rows * (RECEIPT_ROW.length() + 2) + RETURNING.length());
+        sb.append(INSERT_RECEIPT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(RECEIPT_ROW);
+        }
+        return sb.append(RETURNING).toString();
+    }
+
+    private void bindReceipts(PreparedStatement ps, Long bodyId, List<Long> receivers, LocalDateTime now) throws SQLException {
+        int idx = 1;
+        for (Long userId : receivers) {
+            ps.setLong(idx++, bodyId);
+            setLong(ps, idx++, userId);
+            ps.setObject(idx++, now);
+            ps.setObject(idx++, now);
+        }
+    }
+
+    private ProjectNotification mapReceipt(ResultSet rs, NotificationBody body) throws SQLException {
+        return ProjectNotification.builder()
+                .projectNotificationId(rs.getLong("project_notification_id"))
+                .body(body)
+                .userId(rs.getObject("user_id", Long.class))
+                .readAt(rs.getObject("read_at", LocalDateTime.class))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .build();
+    }
+
+    private void setLong(PreparedStatement ps, int idx, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(idx, Types.BIGINT);
+        } else {
+            ps.setLong(idx, value);
+        }
+    }
+}
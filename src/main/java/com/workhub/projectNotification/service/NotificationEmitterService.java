@@ -1,63 +1,311 @@
 package com.workhub.projectNotification.service;
 
+import com.workhub.global.notification.NotificationLatencyRecorder;
 import com.workhub.projectNotification.dto.NotificationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-import org.springframework.scheduling.annotation.Scheduled;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
+/**
+ * SSE 연결 관리와 전송.
+ * - 발행 스레드는 연결별 고정 크기 큐에 넣기만 하고, 실제 쓰기는 연결마다 하나씩 뜨는 가상 스레드 writer가 한다.
+ *   느린 클라이언트의 소켓이 막혀도 발행 스레드와 다른 연결은 기다리지 않는다.
+ * - 큐가 넘치면 정책에 따라 새 알림을 버리고 큐를 다 비운 뒤 리플레이 버퍼로 보충하거나(DROP_AND_REPLAY), 연결을 끊는다(DISCONNECT).
+ *   끊긴 클라이언트는 Last-Event-ID로 재연결해 구독 시점에 누락분을 보충받는다.
+ */
+@Slf4j
 @Component
 public class NotificationEmitterService {
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+
+    public static final String UNREAD_COUNT_EVENT = "unread-count";
+
+    private final SseConnectionRegistry connectionRegistry;
+    private final SseHeartbeatScheduler heartbeatScheduler;
+    private final NotificationReplayBuffer replayBuffer;
+    private final NotificationLatencyRecorder latencyRecorder;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    /** 연결별 writer를 실행하는 가상 스레드 실행기 (큐에 보낼 것이 있을 때만 연결당 하나가 뜬다) */
+    private final ExecutorService writerExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter overflowCounter;
+    private final Counter droppedCounter;
+    private final Counter replaySentCounter;
+    private final Counter replayGapCounter;
+    private final Timer sendLagTimer;
+
+    public NotificationEmitterService(
+            SseConnectionRegistry connectionRegistry,
+            SseHeartbeatScheduler heartbeatScheduler,
+            NotificationReplayBuffer replayBuffer,
+            NotificationLatencyRecorder latencyRecorder,
+            MeterRegistry meterRegistry,
+            @Value("${workhub.notification.sse.send.queue-capacity:64}") int queueCapacity,
+            @Value("${workhub.notification.sse.send.overflow-policy:DROP_AND_REPLAY}") OverflowPolicy overflowPolicy
+    ) {
+        this.connectionRegistry = connectionRegistry;
+        this.heartbeatScheduler = heartbeatScheduler;
+        this.replayBuffer = replayBuffer;
+        this.latencyRecorder = latencyRecorder;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+
+        this.overflowCounter = Counter.builder("notification.sse.send.overflow")
+                .description("연결별 전송 큐가 가득 찬 횟수")
+                .tag("policy", overflowPolicy.name())
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.sse.send.dropped")
+                .description("큐가 넘쳐 바로 보내지 못하고 버린 알림 수")
+                .register(meterRegistry);
+        this.replaySentCounter = Counter.builder("notification.sse.send.replay")
+                .description("큐가 넘친 연결의 누락분 보충 결과")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.replayGapCounter = Counter.builder("notification.sse.send.replay")
+                .description("큐가 넘친 연결의 누락분 보충 결과")
+                .tag("result", "gap")
+                .register(meterRegistry);
+        this.sendLagTimer = Timer.builder("notification.sse.send.lag")
+                .description("알림이 연결 큐에 들어간 뒤 소켓에 쓰일 때까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.send.lagging", this, NotificationEmitterService::laggingConnections)
+                .description("큐가 넘쳐 누락분 보충을 기다리는 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.send.queue.depth.max", this, NotificationEmitterService::maxQueueDepth)
+                .description("연결별 전송 큐 대기 알림 수의 최댓값")
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.send.queue.age.max", this, NotificationEmitterService::maxQueueAgeMillis)
+                .description("연결별 전송 큐에서 가장 오래 기다린 알림의 대기 시간(ms)")
+                .register(meterRegistry);
+    }
+
+    public enum OverflowPolicy {
+        /** 새 알림을 버리고, 큐를 다 비운 뒤 리플레이 버퍼에서 누락분을 보충한다 (버퍼가 구간을 못 덮으면 연결을 끊는다) */
+        DROP_AND_REPLAY,
+        /** 연결을 끊는다. 클라이언트가 Last-Event-ID로 재연결해 보충받는다 */
+        DISCONNECT
+    }
+
     /**
-     * 구독 등록: emitter를 사용자 ID로 저장하고, 타임아웃/에러 시 정리한다.
+     * 구독 등록: 연결을 사용자별 연결 집합에 추가하고, 타임아웃/에러 시 해당 연결만 정리한다.
+     * 재연결 보충분은 호출 스레드에서 새 연결에 직접 쓴다.
+     * 보충분은 큐 크기와 무관하게 모두 보내고, 그동안 들어온 실시간 알림은 큐에 쌓였다가 보충이 끝난 뒤 writer가 보낸다.
      */
-    public SseEmitter subscribe(Long userId) {
+    public SseEmitter subscribe(Long userId, Supplier<List<NotificationResponse>> backfill) {
         SseEmitter emitter = new SseEmitter(600_000L);
-        emitters.put(userId, emitter);
-        emitter.onCompletion(() -> emitters.remove(userId));
-        emitter.onTimeout(() -> emitters.remove(userId));
-        emitter.onError((e) -> emitters.remove(userId));
+        SseConnection connection = new SseConnection(userId, emitter, queueCapacity, recentSentCapacity());
+        connection.tryStartDrain();   // 보충이 끝날 때까지 writer를 띄우지 않는다
+        connectionRegistry.add(connection);
+        heartbeatScheduler.register(connection);
+        emitter.onCompletion(() -> connectionRegistry.remove(connection));
+        emitter.onTimeout(() -> connectionRegistry.remove(connection));
+        emitter.onError((e) -> connectionRegistry.remove(connection));
+        try {
+            backfill.get().forEach(payload -> write(connection, payload));
+        } finally {
+            connection.finishDrain();
+            if (connection.hasPending()) {
+                scheduleDrain(connection);
+            }
+        }
         return emitter;
     }
+
     /**
-     * 알림 DTO를 SSE로 즉시 전송.
-     * 연결이 없으면 무시(서버는 저장만 되어 있으므로 재연결 시 lastEventId로 보충 가능).
+     * 알림 DTO를 사용자의 모든 SSE 연결 큐에 넣는다. 소켓 쓰기를 기다리지 않는다.
+     * 연결이 없어도 재연결 보충을 위해 리플레이 버퍼에는 기록한다.
+     * 버퍼 기록이 큐 적재보다 먼저여야 지연 상태에서 버린 알림을 보충 단계에서 찾을 수 있다.
+     * @param originAtMillis 이벤트 발생 시각. 소켓에 쓴 시점에 전체 지연(delivered 단계)으로 기록한다.
      */
-    public void send(Long userId, NotificationResponse payload) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter == null) return;
+    public void send(Long userId, NotificationResponse payload, long originAtMillis) {
+        replayBuffer.record(userId, payload);
+        connectionRegistry.connectionsOf(userId).forEach(connection -> enqueue(connection, payload, originAtMillis));
+    }
 
+    /**
+     * 미읽음 알림 수를 사용자의 모든 SSE 연결로 전송한다.
+     * id를 지정하지 않아 클라이언트의 Last-Event-ID(마지막 알림 PK)에는 영향을 주지 않는다.
+     * 아직 쓰지 못한 이전 값이 있으면 최신 값으로 덮어쓴다.
+     */
+    public void sendUnreadCount(Long userId, long unreadCount) {
+        connectionRegistry.connectionsOf(userId).forEach(connection -> {
+            connection.offerUnreadCount(unreadCount);
+            scheduleDrain(connection);
+        });
+    }
+
+    private void enqueue(SseConnection connection, NotificationResponse payload, long originAtMillis) {
+        if (connection.isClosed()) return;
+        if (connection.dropIfLagging(payload.id())) {
+            // 지연 중 들어온 알림은 누락 구간에 넣고 보충 단계에서 순서대로 보낸다
+            droppedCounter.increment();
+            return;
+        }
+        if (!connection.offer(payload, originAtMillis)) {
+            overflow(connection, payload.id());
+            return;
+        }
+        scheduleDrain(connection);
+    }
+
+    private void overflow(SseConnection connection, long droppedEventId) {
+        overflowCounter.increment();
+        droppedCounter.increment();
+        if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+            log.debug("Disconnecting slow SSE consumer: userId={}, queued={}", connection.getUserId(), connection.queuedCount());
+            close(connection);
+            return;
+        }
+        if (connection.markLagging(droppedEventId)) {
+            log.debug("SSE consumer lagging, switching to replay: userId={}, firstDroppedId={}",
+                    connection.getUserId(), droppedEventId);
+        }
+        scheduleDrain(connection);
+    }
+
+    private void scheduleDrain(SseConnection connection) {
+        if (connection.tryStartDrain()) {
+            writerExecutor.execute(() -> drain(connection));
+        }
+    }
+
+    /**
+     * 연결의 writer: 큐의 알림, 미읽음 수, 누락분 보충 순으로 처리하고 할 일이 없으면 종료한다.
+     * 종료 직전에 들어온 작업은 finishDrain 이후 다시 확인해 놓치지 않는다.
+     */
+    void drain(SseConnection connection) {
         try {
-            emitter.send(SseEmitter.event()
-                    .id(String.valueOf(payload.id()))      // event id = 알림 PK
-                    .name(payload.type().name())           // event name = 알림 타입
-                    .data(payload));
-        } catch (IOException ex) {
-            // 전송 실패 시 emitter를 제거하여 깨끗이 정리
-            emitters.remove(userId);
+            while (!connection.isClosed()) {
+                SseConnection.Outbound next = connection.poll();
+                if (next != null) {
+                    if (write(connection, next.payload())) {
+                        latencyRecorder.record(next.payload().type(), NotificationLatencyRecorder.Stage.DELIVERED,
+                                next.originAtMillis());
+                    }
+                    sendLagTimer.record(System.nanoTime() - next.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+                    continue;
+                }
+                long unreadCount = connection.takeUnreadCount();
+                if (unreadCount >= 0) {
+                    write(connection, SseEmitter.event()
+                            .name(UNREAD_COUNT_EVENT)
+                            .data(unreadCount));
+                    continue;
+                }
+                if (connection.isLagging()) {
+                    replayMissed(connection);
+                    continue;
+                }
+                break;
+            }
+        } finally {
+            connection.finishDrain();
+        }
+        if (!connection.isClosed() && connection.hasPending()) {
+            scheduleDrain(connection);
         }
     }
 
     /**
-     * 주기적으로 ping 이벤트를 보내 연결을 유지한다.
+     * 지연 상태를 먼저 풀고, 버린 알림 중 가장 작은 id부터 리플레이 버퍼에서 읽는다.
+     * 그 구간에는 이미 큐로 보낸 알림과 그 사이 새로 큐에 들어온 알림도 섞여 있으므로 write에서 최근 전송 id로 걸러낸다.
      */
-    @Scheduled(fixedRate = 30_000L)
-    public void sendKeepAlive() {
-        if (emitters.isEmpty()) {
+    private void replayMissed(SseConnection connection) {
+        long gapFromEventId = connection.clearLagging();
+        if (gapFromEventId == Long.MAX_VALUE) return;
+        Optional<List<NotificationResponse>> missed =
+                replayBuffer.replayAfter(connection.getUserId(), gapFromEventId - 1);
+        if (missed.isEmpty()) {
+            // 버퍼가 누락 구간을 덮지 못함 → 재연결(Last-Event-ID)로 DB 보충을 받게 한다
+            replayGapCounter.increment();
+            close(connection);
             return;
         }
-        emitters.forEach((userId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("ping")
-                        .data("keep-alive"));
-            } catch (IOException ex) {
-                emitters.remove(userId);
-            }
+        missed.get().forEach(payload -> write(connection, payload));
+        replaySentCounter.increment(missed.get().size());
+    }
+
+    private boolean write(SseConnection connection, NotificationResponse payload) {
+        if (connection.wasSent(payload.id())) return false;
+        if (!write(connection, SseEmitter.event()
+                .id(String.valueOf(payload.id()))      // event id = 알림 PK
+                .name(payload.type().name())           // event name = 알림 타입
+                .data(payload))) {
+            return false;
+        }
+        connection.markEventWritten(payload.id());
+        return true;
+    }
+
+    private boolean write(SseConnection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.isClosed()) return false;
+        try {
+            connection.getEmitter().send(event);
+            connection.markEventSent();
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            // 전송 실패(또는 이미 종료된 연결) 시 해당 연결만 제거
+            connectionRegistry.remove(connection);
+            return false;
+        }
+    }
+
+    /**
+     * 보충 구간(리플레이 버퍼)과 큐가 겹칠 수 있는 만큼 최근 전송 id를 기억한다.
+     */
+    private int recentSentCapacity() {
+        return replayBuffer.capacity() + queueCapacity;
+    }
+
+    private void close(SseConnection connection) {
+        connectionRegistry.remove(connection);
+        try {
+            connection.getEmitter().complete();
+        } catch (Exception e) {
+            log.debug("Failed to complete SSE connection: userId={}", connection.getUserId(), e);
+        }
+    }
+
+    private int laggingConnections() {
+        AtomicInteger count = new AtomicInteger();
+        connectionRegistry.forEach(connection -> {
+            if (connection.isLagging()) count.incrementAndGet();
         });
+        return count.get();
+    }
+
+    private int maxQueueDepth() {
+        AtomicInteger max = new AtomicInteger();
+        connectionRegistry.forEach(connection -> max.accumulateAndGet(connection.queuedCount(), Math::max));
+        return max.get();
+    }
+
+    private long maxQueueAgeMillis() {
+        long now = System.nanoTime();
+        AtomicLong max = new AtomicLong();
+        connectionRegistry.forEach(connection -> max.accumulateAndGet(connection.oldestQueuedMillis(now), Math::max));
+        return max.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writerExecutor.shutdown();
     }
 }
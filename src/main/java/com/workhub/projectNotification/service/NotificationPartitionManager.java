@@ -0,0 +1,265 @@
+package com.workhub.projectNotification.service;
+
+import com.workhub.projectNotification.repository.NotificationPartitionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * project_notification 월 파티션 관리.
+ * - 현재 월부터 premakeMonths 개월 뒤까지 파티션을 미리 만든다.
+ * - 보관 기간이 지난 파티션은 DETACH 후 DROP(또는 DETACH만)하고, 수신 행이 사라진 본문을 정리한다.
+ * - 월마다 세이브포인트 안에서 처리해, 한 달이 실패하거나 lock_timeout에 걸려도 나머지 달은 진행하고 실패한 달은 다음 실행에서 다시 시도한다.
+ * - 파티션별 최소 ID를 기억해 두었다가 알림함 커서(ID)를 created_at 범위로 바꿔 파티션 프루닝에 쓴다.
+ * project_notification이 파티션 테이블이 아니면(ddl-auto 스키마 등) 아무 것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class NotificationPartitionManager {
+
+    /** 같은 시점의 알림이라도 ID 발급과 created_at 사이에 경계가 어긋날 수 있어 하한과 상한 양쪽에 두는 여유 */
+    static final Duration BOUNDARY_SLACK = Duration.ofHours(1);
+    private static final int ORPHAN_BODY_CHUNK_SIZE = 5000;
+
+    private final NotificationPartitionRepository partitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate savepointTemplate;
+    private final int premakeMonths;
+    private final long retentionDays;
+    private final RetentionMode retentionMode;
+    private final long lockTimeoutMs;
+
+    private final Counter purgedRowsCounter;
+    private final Counter purgedBodiesCounter;
+    private final Counter purgedPartitionsCounter;
+    private final Counter movedDefaultRowsCounter;
+    private final Counter createFailureCounter;
+    private final Counter detachFailureCounter;
+    private final Timer retentionTimer;
+    private final AtomicInteger attachedPartitions = new AtomicInteger();
+
+    /** 파티션 최소 ID -> 파티션 월. 행이 있는 파티션만 담는다. */
+    private volatile NavigableMap<Long, YearMonth> monthsByMinId = Collections.emptyNavigableMap();
+    private volatile boolean partitioned;
+
+    public NotificationPartitionManager(
+            NotificationPartitionRepository partitionRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${workhub.notification.partition.premake-months:3}") int premakeMonths,
+            @Value("${workhub.notification.partition.retention-days:180}") long retentionDays,
+            @Value("${workhub.notification.partition.retention-mode:DROP}") RetentionMode retentionMode,
+            @Value("${workhub.notification.partition.lock-timeout-ms:5000}") long lockTimeoutMs
+    ) {
+        this.partitionRepository = partitionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.premakeMonths = premakeMonths;
+        this.retentionDays = retentionDays;
+        this.retentionMode = retentionMode;
+        this.lockTimeoutMs = lockTimeoutMs;
+
+        this.purgedRowsCounter = Counter.builder("notification.partition.purged.rows")
+                .description("보관 기간이 지나 파티션과 함께 제거된 알림 수신 행 수")
+                .register(meterRegistry);
+        this.purgedBodiesCounter = Counter.builder("notification.partition.purged.bodies")
+                .description("수신 행이 모두 제거되어 함께 삭제된 알림 본문 수")
+                .register(meterRegistry);
+        this.purgedPartitionsCounter = Counter.builder("notification.partition.purged")
+                .description("보관 기간이 지나 분리/삭제된 파티션 수")
+                .tag("mode", retentionMode.name())
+                .register(meterRegistry);
+        this.movedDefaultRowsCounter = Counter.builder("notification.partition.moved.rows")
+                .description("파티션이 없던 동안 DEFAULT 파티션에 쌓여 새 월 파티션으로 옮긴 행 수")
+                .register(meterRegistry);
+        this.createFailureCounter = Counter.builder("notification.partition.failures")
+                .description("실패해 다음 실행으로 미룬 월 파티션 작업 수")
+                .tag("operation", "create")
+                .register(meterRegistry);
+        this.detachFailureCounter = Counter.builder("notification.partition.failures")
+                .description("실패해 다음 실행으로 미룬 월 파티션 작업 수")
+                .tag("operation", "detach")
+                .register(meterRegistry);
+        this.retentionTimer = Timer.builder("notification.partition.retention")
+                .description("파티션 보관 작업 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("notification.partition.attached", attachedPartitions, AtomicInteger::get)
+                .description("project_notification에 붙어 있는 월 파티션 수")
+                .register(meterRegistry);
+    }
+
+    public enum RetentionMode {
+        /** 분리 후 삭제 */
+        DROP,
+        /** 분리만 하고 테이블은 남겨 둔다 (백업/아카이브 후 수동 삭제) */
+        DETACH
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        partitioned = partitionRepository.isPartitioned();
+        if (!partitioned) {
+            log.info("project_notification is not partitioned; partition maintenance disabled");
+            return;
+        }
+        maintain();
+    }
+
+    /**
+     * 파티션 미리 생성 + 보관 기간 지난 파티션 정리.
+     */
+    @Scheduled(cron = "${workhub.notification.partition.cron:0 10 3 * * *}")
+    public void maintain() {
+        if (!partitioned) return;
+        retentionTimer.record(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!partitionRepository.tryMaintenanceLock()) {
+                        log.debug("Notification partition maintenance is running on another node");
+                        return;
+                    }
+                    partitionRepository.setLockTimeout(lockTimeoutMs);
+                    createAhead();
+                    purgeExpired();
+                });
+                purgeOrphanBodies();
+            } catch (Exception e) {
+                log.error("Notification partition maintenance failed", e);
+            }
+        });
+        refreshBoundaries();
+    }
+
+    /**
+     * 파티션별 최소 ID를 다시 읽는다. 새 달의 첫 알림이 들어온 뒤 반영되도록 주기적으로 갱신한다.
+     */
+    @Scheduled(fixedDelayString = "${workhub.notification.partition.refresh-interval-ms:3600000}",
+            initialDelayString = "${workhub.notification.partition.refresh-interval-ms:3600000}")
+    public void refreshBoundaries() {
+        if (!partitioned) return;
+        List<YearMonth> months = partitionRepository.findAttachedMonths();
+        NavigableMap<Long, YearMonth> next = new TreeMap<>();
+        for (YearMonth month : months) {
+            partitionRepository.findMinId(month).ifPresent(minId -> next.put(minId, month));
+        }
+        monthsByMinId = Collections.unmodifiableNavigableMap(next);
+        attachedPartitions.set(months.size());
+    }
+
+    /**
+     * before 커서(ID 미만)로 조회할 때 created_at 상한. 커서가 속한 파티션을 확정할 수 없으면 null.
+     * 다음 파티션의 최소 ID가 커서보다 크면, 커서 미만 ID는 모두 커서의 파티션 이하에 있다.
+     * 월 경계 직전에 ID를 받고 경계 뒤 created_at으로 저장된 행이 빠지지 않도록 다음 달 시작에 경계 여유를 더한다.
+     */
+    public LocalDateTime createdBefore(Long beforeId) {
+        if (beforeId == null) return null;
+        Map.Entry<Long, YearMonth> owner = monthsByMinId.floorEntry(beforeId);
+        if (owner == null || monthsByMinId.higherEntry(owner.getKey()) == null) {
+            return null;
+        }
+        return owner.getValue().plusMonths(1).atDay(1).atStartOfDay().plus(BOUNDARY_SLACK);
+    }
+
+    /**
+     * after 커서(ID 초과)로 조회할 때 created_at 하한. 커서가 속한 파티션 시작에서 경계 여유를 뺀 값.
+     */
+    public LocalDateTime createdFrom(Long afterId) {
+        if (afterId == null) return null;
+        Map.Entry<Long, YearMonth> owner = monthsByMinId.floorEntry(afterId);
+        if (owner == null) return null;
+        return owner.getValue().atDay(1).atStartOfDay().minus(BOUNDARY_SLACK);
+    }
+
+    private void createAhead() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= premakeMonths; i++) {
+            inSavepoint(current.plusMonths(i), createFailureCounter, this::createPartition);
+        }
+    }
+
+    /**
+     * 파티션이 없던 동안 DEFAULT 파티션에 들어간 행이 있으면 그대로는 만들 수 없으므로 옮기면서 만든다.
+     */
+    private void createPartition(YearMonth month) {
+        if (partitionRepository.partitionExists(month)) return;
+        if (partitionRepository.countDefaultRows(month) == 0) {
+            partitionRepository.createPartition(month);
+            return;
+        }
+        int moved = partitionRepository.createPartitionFromDefault(month);
+        movedDefaultRowsCounter.increment(moved);
+        log.warn("Notification partition {} created from {} rows in the default partition", month, moved);
+    }
+
+    private void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        for (YearMonth month : partitionRepository.findAttachedMonths()) {
+            // 파티션의 마지막 순간까지 보관 기간이 지나야 통째로 제거한다.
+            if (month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff)) {
+                continue;
+            }
+            inSavepoint(month, detachFailureCounter, this::removePartition);
+        }
+    }
+
+    private void removePartition(YearMonth month) {
+        long rows = partitionRepository.countRows(month);
+        partitionRepository.detachPartition(month);
+        if (retentionMode == RetentionMode.DROP) {
+            partitionRepository.dropPartition(month);
+        }
+        purgedRowsCounter.increment(rows);
+        purgedPartitionsCounter.increment();
+        log.info("Notification partition {} {} ({} rows)", month,
+                retentionMode == RetentionMode.DROP ? "dropped" : "detached", rows);
+    }
+
+    /**
+     * 한 달 작업을 세이브포인트 안에서 실행한다. 실패하면 그 달만 되돌리고 다음 실행에서 다시 시도한다.
+     */
+    private void inSavepoint(YearMonth month, Counter failureCounter, Consumer<YearMonth> work) {
+        try {
+            savepointTemplate.executeWithoutResult(status -> work.accept(month));
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("Notification partition {} maintenance failed; retrying on the next run", month, e);
+        }
+    }
+
+    private void purgeOrphanBodies() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int deleted;
+        do {
+            Integer chunk = transactionTemplate.execute(status ->
+                    partitionRepository.deleteOrphanBodiesBefore(cutoff, ORPHAN_BODY_CHUNK_SIZE));
+            deleted = chunk == null ? 0 : chunk;
+            purgedBodiesCounter.increment(deleted);
+        } while (deleted == ORPHAN_BODY_CHUNK_SIZE);
+    }
+
+    void setPartitioned(boolean partitioned) {
+        this.partitioned = partitioned;
+    }
+}
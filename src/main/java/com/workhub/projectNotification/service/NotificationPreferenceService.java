@@ -0,0 +1,213 @@
+package com.workhub.projectNotification.service;
+
+import com.workhub.global.error.ErrorCode;
+import com.workhub.global.error.exception.BusinessException;
+import com.workhub.projectNotification.dto.NotificationPreferenceRequest;
+import com.workhub.projectNotification.dto.NotificationPreferenceResponse;
+import com.workhub.projectNotification.dto.NotificationRouting;
+import com.workhub.projectNotification.entity.NotificationDeliveryMode;
+import com.workhub.projectNotification.entity.NotificationPreference;
+import com.workhub.projectNotification.entity.NotificationType;
+import com.workhub.projectNotification.entity.PreferenceMasks;
+import com.workhub.projectNotification.repository.NotificationPreferenceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 알림 타입 설정(MUTE / IN_APP_ONLY / DIGEST) 관리와 적용.
+ * - 설정은 사용자당 비트마스크 한 행으로 저장하고, 메모리에 TTL 캐시로 보관한다. 설정이 없는 사용자도 기본값으로 캐시한다.
+ * - 캐시에 없는 수신자는 IN 조회 한 번으로 함께 읽는다.
+ * - 설정 변경은 커밋 후 이 인스턴스 캐시에서 지우고, 다른 노드는 TTL이 지나면 반영된다.
+ */
+@Service
+public class NotificationPreferenceService {
+
+    private final NotificationPreferenceRepository preferenceRepository;
+    private final MeterRegistry meterRegistry;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<Long, Entry> cache = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public NotificationPreferenceService(
+            NotificationPreferenceRepository preferenceRepository,
+            MeterRegistry meterRegistry,
+            @Value("${workhub.notification.preference.cache-ttl-seconds:300}") long ttlSeconds,
+            @Value("${workhub.notification.preference.cache-max-entries:50000}") int maxEntries
+    ) {
+        this.preferenceRepository = preferenceRepository;
+        this.meterRegistry = meterRegistry;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.maxEntries = maxEntries;
+        this.hitCounter = Counter.builder("notification.preference.cache.lookups")
+                .description("알림 설정 캐시 조회 수 (수신자 기준)")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("notification.preference.cache.lookups")
+                .description("알림 설정 캐시 조회 수 (수신자 기준)")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("notification.preference.cache.size", cache, Map::size)
+                .description("캐시된 사용자 알림 설정 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장 전에 수신자를 설정별로 나눈다. MUTE 수신자는 저장 대상에서 빠진다.
+     * @param digestAvailable 요약 발행이 가능한지(프로젝트를 알 수 있는지). 불가능하면 DIGEST 수신자도 바로 저장한다.
+     */
+    public NotificationRouting route(NotificationType type, Set<Long> receivers, boolean digestAvailable) {
+        Map<Long, PreferenceMasks> masks = masksOf(receivers);
+        Set<Long> immediate = new HashSet<>();
+        Set<Long> digest = new HashSet<>();
+        Set<Long> muted = new HashSet<>();
+        for (Long receiverId : receivers) {
+            NotificationDeliveryMode mode = masks.getOrDefault(receiverId, PreferenceMasks.DEFAULT).modeOf(type);
+            switch (mode) {
+                case MUTE -> muted.add(receiverId);
+                case DIGEST -> (digestAvailable ? digest : immediate).add(receiverId);
+                default -> immediate.add(receiverId);
+            }
+        }
+        count("notification.preference.suppressed", "저장하지 않은 (수신자 기준) 알림 수", type, muted.size());
+        count("notification.preference.digested", "요약 발행으로 넘긴 (수신자 기준) 알림 수", type, digest.size());
+        return new NotificationRouting(immediate, digest, muted);
+    }
+
+    /**
+     * 저장은 하되 실시간 푸시를 받지 않을(IN_APP_ONLY) 수신자를 반환한다.
+     */
+    public Set<Long> inAppOnlyReceivers(NotificationType type, Collection<Long> receivers) {
+        Set<Long> silent = new HashSet<>();
+        masksOf(receivers).forEach((userId, masks) -> {
+            if (masks.modeOf(type) == NotificationDeliveryMode.IN_APP_ONLY) {
+                silent.add(userId);
+            }
+        });
+        count("notification.preference.push.skipped", "IN_APP_ONLY 설정으로 푸시하지 않은 알림 수", type, silent.size());
+        return silent;
+    }
+
+    @Transactional(readOnly = true)
+    public List<NotificationPreferenceResponse> getPreferences(Long userId) {
+        PreferenceMasks masks = masksOf(List.of(userId)).getOrDefault(userId, PreferenceMasks.DEFAULT);
+        return Arrays.stream(NotificationType.values())
+                .map(type -> new NotificationPreferenceResponse(type, masks.modeOf(type)))
+                .toList();
+    }
+
+    /**
+     * 지정한 타입의 수신 방식만 바꾼다. 커밋 후 캐시에서 지운다.
+     * 행을 잠근 채 기존 마스크에 병합하므로, 같은 사용자의 동시 변경이 서로의 타입 설정을 덮어쓰지 않는다.
+     */
+    @Transactional
+    public List<NotificationPreferenceResponse> updatePreferences(Long userId, NotificationPreferenceRequest request) {
+        if (request == null || request.preferences() == null
+                || request.preferences().stream().anyMatch(item -> item == null || item.type() == null || item.mode() == null)) {
+            throw new BusinessException(ErrorCode.INVALID_NOTIFICATION_PREFERENCE_REQUEST);
+        }
+        preferenceRepository.insertIfAbsent(userId);
+        NotificationPreference preference = preferenceRepository.findByIdForUpdate(userId)
+                .orElseGet(() -> NotificationPreference.of(userId));
+        PreferenceMasks masks = preference.toMasks();
+        for (NotificationPreferenceRequest.Item item : request.preferences()) {
+            masks = masks.with(item.type(), item.mode());
+        }
+        preference.apply(masks);
+        preferenceRepository.save(preference);
+        evictAfterCommit(userId);
+
+        PreferenceMasks updated = masks;
+        return Arrays.stream(NotificationType.values())
+                .map(type -> new NotificationPreferenceResponse(type, updated.modeOf(type)))
+                .toList();
+    }
+
+    Map<Long, PreferenceMasks> masksOf(Collection<Long> userIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, PreferenceMasks> result = new HashMap<>(userIds.size() * 2);
+        Set<Long> misses = new HashSet<>();
+        for (Long userId : userIds) {
+            Entry entry = cache.get(userId);
+            if (entry != null && entry.expiresAtMillis() > now) {
+                result.put(userId, entry.masks());
+            } else {
+                misses.add(userId);
+            }
+        }
+        hitCounter.increment(result.size());
+        missCounter.increment(misses.size());
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, PreferenceMasks> loaded = new HashMap<>(misses.size() * 2);
+        preferenceRepository.findAllByUserIdIn(misses)
+                .forEach(preference -> loaded.put(preference.getUserId(), preference.toMasks()));
+        for (Long userId : misses) {
+            PreferenceMasks masks = loaded.getOrDefault(userId, PreferenceMasks.DEFAULT);
+            put(userId, masks, now);
+            result.put(userId, masks);
+        }
+        return result;
+    }
+
+    int cacheSize() {
+        return cache.size();
+    }
+
+    private void put(Long userId, PreferenceMasks masks, long now) {
+        if (cache.size() >= maxEntries && !cache.containsKey(userId)) {
+            cache.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+            Iterator<Long> iterator = cache.keySet().iterator();
+            while (cache.size() >= maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        cache.put(userId, new Entry(masks, now + ttlMillis));
+    }
+
+    private void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.remove(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.remove(userId);
+            }
+        });
+    }
+
+    private void count(String name, String description, NotificationType type, int amount) {
+        if (amount == 0) return;
+        Counter.builder(name)
+                .description(description)
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .increment(amount);
+    }
+
+    private record Entry(PreferenceMasks masks, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.workhub.projectNotification.service;
+
+import com.workhub.projectNotification.dto.NotificationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 최근 푸시한 알림을 사용자별 링 버퍼에 보관해 Last-Event-ID 재연결을 DB 조회 없이 보충한다.
+ * 사용자별로 개수/보관 시간 상한을 두고, 사용자 수가 상한을 넘으면 가장 오래 접근하지 않은 사용자부터 버린다.
+ */
+@Component
+public class NotificationReplayBuffer {
+
+    private final int capacity;
+    private final long maxAgeMillis;
+    private final Map<Long, UserBuffer> buffers;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public NotificationReplayBuffer(
+            @Value("${workhub.notification.replay.capacity:100}") int capacity,
+            @Value("${workhub.notification.replay.max-age-seconds:600}") long maxAgeSeconds,
+            @Value("${workhub.notification.replay.max-users:10000}") int maxUsers,
+            MeterRegistry meterRegistry) {
+        this.capacity = capacity;
+        this.maxAgeMillis = maxAgeSeconds * 1000L;
+        this.buffers = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserBuffer> eldest) {
+                return size() > maxUsers;
+            }
+        });
+        this.hitCounter = Counter.builder("notification.replay.lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("notification.replay.lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("notification.replay.users", buffers, Map::size)
+                .register(meterRegistry);
+    }
+
+    /** 사용자별로 보관하는 최대 알림 수 */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 푸시한 알림을 기록한다. id가 작은 알림이 늦게 와도 id 순서 자리에 넣고, 이미 기록된 id는 무시한다.
+     */
+    public void record(Long userId, NotificationResponse payload) {
+        if (payload.id() == null) return;
+        UserBuffer buffer = buffers.computeIfAbsent(userId, id -> new UserBuffer());
+        buffer.append(payload, System.currentTimeMillis());
+    }
+
+    /**
+     * lastEventId 이후 알림을 버퍼에서 찾는다.
+     * 버퍼가 lastEventId 이후 구간을 모두 포함할 때만 결과를 돌려주고, 아니면 비어 있는 Optional(DB 보충 필요)을 돌려준다.
+     */
+    public Optional<List<NotificationResponse>> replayAfter(Long userId, Long lastEventId) {
+        UserBuffer buffer = buffers.get(userId);
+        Optional<List<NotificationResponse>> replay = buffer == null
+                ? Optional.empty()
+                : buffer.after(lastEventId, System.currentTimeMillis());
+        (replay.isPresent() ? hitCounter : missCounter).increment();
+        return replay;
+    }
+
+    int userCount() {
+        return buffers.size();
+    }
+
+    private record Entry(NotificationResponse payload, long recordedAtMillis) {
+    }
+
+    private final class UserBuffer {
+
+        /**
+         * id 순으로 정렬된 알림. 트랜잭션마다 id를 따로 받아 커밋 순서대로 발행하므로 id가 작은 알림이 늦게 도착할 수 있어
+         * 도착 순서가 아니라 id 자리에 넣는다.
+         */
+        private final TreeMap<Long, Entry> entries = new TreeMap<>();
+        /** 이 id 이하 구간은 버퍼가 보장하지 않는다(최초 기록 직전 또는 마지막으로 밀려난 알림 id). */
+        private long coveredAfterId = -1L;
+
+        synchronized void append(NotificationResponse payload, long now) {
+            if (coveredAfterId < 0) {
+                coveredAfterId = payload.id() - 1;
+            }
+            // 보장 구간 밖(이미 밀려났거나 최초 기록 이전)의 알림은 넣어도 리플레이에 쓰이지 않는다
+            if (payload.id() <= coveredAfterId) return;
+            entries.putIfAbsent(payload.id(), new Entry(payload, now));
+            while (entries.size() > capacity) {
+                coveredAfterId = entries.pollFirstEntry().getKey();
+            }
+            evictExpired(now);
+        }
+
+        synchronized Optional<List<NotificationResponse>> after(Long lastEventId, long now) {
+            evictExpired(now);
+            if (coveredAfterId < 0 || lastEventId < coveredAfterId) {
+                return Optional.empty();
+            }
+            return Optional.of(entries.tailMap(lastEventId, false).values().stream()
+                    .map(Entry::payload)
+                    .toList());
+        }
+
+        /**
+         * 오래된 알림을 버린다. 버린 id 이하 구간은 더 이상 보장하지 않으므로,
+         * 늦게 도착해 아직 만료되지 않은 더 작은 id도 함께 버린다.
+         */
+        private void evictExpired(long now) {
+            Map.Entry<Long, Entry> expired = null;
+            for (Map.Entry<Long, Entry> entry : entries.entrySet()) {
+                if (now - entry.getValue().recordedAtMillis() > maxAgeMillis) {
+                    expired = entry;
+                }
+            }
+            if (expired == null) return;
+            coveredAfterId = expired.getKey();
+            entries.headMap(expired.getKey(), true).clear();
+        }
+    }
+}
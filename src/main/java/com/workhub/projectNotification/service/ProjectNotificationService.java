@@ -2,21 +2,37 @@ package com.workhub.projectNotification.service;
 
 import com.workhub.global.error.ErrorCode;
 import com.workhub.global.error.exception.BusinessException;
+import com.workhub.global.notification.NotificationLatencyRecorder;
+import com.workhub.projectNotification.bus.NotificationBus;
+import com.workhub.projectNotification.dto.NotificationPageRequest;
+import com.workhub.projectNotification.dto.NotificationPageResponse;
 import com.workhub.projectNotification.dto.NotificationPublishRequest;
+import com.workhub.projectNotification.dto.NotificationReadRequest;
+import com.workhub.projectNotification.dto.NotificationReadResponse;
 import com.workhub.projectNotification.dto.NotificationResponse;
 import com.workhub.projectNotification.entity.ProjectNotification;
 import com.workhub.projectNotification.repository.ProjectNotificationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * - 알림을 저장하고 SSE로 전송하는 핵심 서비스.
- * - 멀티 인스턴스 확장 시 Redis Pub/Sub을 publish 지점에서 추가하면 된다.
+ * - 저장된 알림은 {@link NotificationBus}로 발행되어, 멀티 인스턴스 환경에서도 수신자가 연결된 노드에서 전송된다.
  */
 @Service
 @RequiredArgsConstructor
@@ -24,18 +40,52 @@ public class ProjectNotificationService {
 
     private final ProjectNotificationRepository notificationRepository;
     private final NotificationEmitterService emitterService;
+    private final NotificationBus notificationBus;
+    private final UnreadCountService unreadCountService;
+    private final NotificationReplayBuffer replayBuffer;
+    private final NotificationPartitionManager partitionManager;
+    private final NotificationPreferenceService preferenceService;
+    private final NotificationLatencyRecorder latencyRecorder;
+
+    @Value("${workhub.notification.replay.db-limit:200}")
+    private int replayLimit;
 
     /**
-     * 알림 저장 후 SSE로 즉시 푸시.
-     * (Redis Pub/Sub 연동 시 여기서 convertAndSend 추가)
+     * 알림 저장 후 버스를 통해 SSE로 즉시 푸시.
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public NotificationResponse publish(NotificationPublishRequest request) {
-        ProjectNotification entity = request.toEntity();
-        ProjectNotification saved = notificationRepository.saveAndFlush(entity); // PK 확보
-        NotificationResponse response = NotificationResponse.from(saved);
-        emitterService.send(request.receiverId(), response); // SSE 푸시
-        return response;
+        return publishAll(request, List.of(request.receiverId())).get(0);
+    }
+
+    /**
+     * 동일 이벤트의 알림을 수신자 전원에게 일괄 저장 후 SSE로 푸시.
+     * 본문은 한 행만 저장하고, 수신자별 수신 행은 multi-row INSERT 한 번으로 저장한다. 생성된 수신 행 PK를 event id로 사용한다.
+     * 알림 설정이 IN_APP_ONLY인 수신자에게는 저장만 하고 푸시하지 않는다.
+     * 호출 측 트랜잭션(아웃박스 전달 트랜잭션 등)에 참여해 함께 커밋하므로 별도 커넥션을 쓰지 않는다.
+     * 버스 발행(SSE 전송, 리플레이 버퍼 기록)은 커밋 후에 하므로 롤백된 알림은 클라이언트에 가지 않는다.
+     */
+    @Transactional
+    public List<NotificationResponse> publishAll(NotificationPublishRequest baseRequest, Collection<Long> receiverIds) {
+        if (receiverIds == null || receiverIds.isEmpty()) {
+            return List.of();
+        }
+        List<ProjectNotification> saved = notificationRepository.bulkInsert(baseRequest.toBody(), receiverIds);
+        latencyRecorder.record(baseRequest.type(), NotificationLatencyRecorder.Stage.PERSISTED, baseRequest.originAtMillis());
+        Set<Long> silent = preferenceService.inAppOnlyReceivers(baseRequest.type(), receiverIds);
+        List<NotificationResponse> responses = new ArrayList<>(saved.size());
+        Map<Long, NotificationResponse> pushes = new LinkedHashMap<>();
+        for (ProjectNotification receipt : saved) {
+            NotificationResponse response = NotificationResponse.from(receipt);
+            if (!silent.contains(receipt.getUserId())) {
+                pushes.put(receipt.getUserId(), response);
+            }
+            responses.add(response);
+        }
+        afterCommit(() -> pushes.forEach((userId, response) ->
+                notificationBus.publish(userId, response, baseRequest.originAtMillis())));
+        unreadCountService.increment(receiverIds);
+        return responses;
     }
 
     @Transactional(readOnly = true)
@@ -44,9 +94,28 @@ public class ProjectNotificationService {
                 .stream().map(NotificationResponse::from).toList();
     }
 
+    /**
+     * 알림함 커서 페이지 조회. before/after 중 하나만 지정할 수 있다.
+     */
+    @Transactional(readOnly = true)
+    public NotificationPageResponse listPage(Long userId, NotificationPageRequest request) {
+        if (request.hasBefore() && request.hasAfter()) {
+            throw new BusinessException(ErrorCode.INVALID_NOTIFICATION_PAGE_REQUEST);
+        }
+        List<NotificationResponse> rows = notificationRepository.findPage(userId, request,
+                        partitionManager.createdFrom(request.after()),
+                        partitionManager.createdBefore(request.before()))
+                .stream().map(NotificationResponse::from).toList();
+        return NotificationPageResponse.from(rows, request.size(), request.hasAfter());
+    }
+
+    /**
+     * lastEventId 이후 알림을 최대 replayLimit 건까지 조회한다(재연결 보충용).
+     */
     @Transactional(readOnly = true)
     public List<NotificationResponse> listAfterId(Long userId, Long lastEventId) {
-        return notificationRepository.findByUserIdAndProjectNotificationIdGreaterThanOrderByProjectNotificationIdAsc(userId, lastEventId)
+        return notificationRepository.findByUserIdAndProjectNotificationIdGreaterThanOrderByProjectNotificationIdAsc(
+                        userId, lastEventId, Limit.of(replayLimit))
                 .stream().map(NotificationResponse::from).toList();
     }
 
@@ -54,22 +123,68 @@ public class ProjectNotificationService {
     public void markRead(Long userId, Long id) {
         ProjectNotification n = notificationRepository.findByProjectNotificationIdAndUserId(id, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOTIFICATION_NOT_FOUND));
+        if (n.getReadAt() != null) {
+            return;
+        }
         n.markRead();
+        unreadCountService.decrement(userId, 1L);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 일괄 읽음 처리: 전체 / upToId 이하 / ids 목록 중 하나를 UPDATE 한 번으로 처리한다.
+     * 커밋 후 미읽음 카운터를 갱신하고 SSE로 푸시한다.
+     */
+    @Transactional
+    public NotificationReadResponse markReadBulk(Long userId, NotificationReadRequest request) {
+        if (request.hasIds() && request.hasUpToId()) {
+            throw new BusinessException(ErrorCode.INVALID_NOTIFICATION_READ_REQUEST);
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        if (!request.hasIds() && !request.hasUpToId()) {
+            int updated = notificationRepository.markAllRead(userId, now);
+            unreadCountService.reset(userId);
+            return new NotificationReadResponse(updated, 0L);
+        }
+
+        long unreadBefore = unreadCountService.get(userId);
+        int updated = request.hasIds()
+                ? notificationRepository.markReadByIds(userId, request.ids(), now)
+                : notificationRepository.markReadUpTo(userId, request.upToId(), now);
+        unreadCountService.decrement(userId, updated);
+        return new NotificationReadResponse(updated, Math.max(0L, unreadBefore - updated));
+    }
+
+    /**
+     * 미읽음 카운트: 카운터 저장소에서 조회하고, 없으면 DB에서 계산해 채운다.
+     */
     public long unreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndReadAtIsNull(userId);
+        return unreadCountService.get(userId);
     }
 
     /**
-     * SSE 구독: emitter 등록 후 lastEventId 이후 알림을 보충 전송한다.
+     * SSE 구독: emitter 등록 후 lastEventId 이후 알림을 보충 전송하고, 현재 미읽음 수를 푸시한다.
+     * 보충분은 리플레이 버퍼에서 먼저 찾고, 버퍼가 구간을 포함하지 못할 때만 DB를 조회한다.
+     * 보충분은 새 연결에만 직접 쓰며, 연결별 전송 큐 크기 제한을 받지 않는다.
      */
     public SseEmitter subscribe(Long userId, Long lastEventId) {
-        SseEmitter emitter = emitterService.subscribe(userId);
-        if (lastEventId != null) {
-            listAfterId(userId, lastEventId).forEach(dto -> emitterService.send(userId, dto));
-        }
+        SseEmitter emitter = emitterService.subscribe(userId, () -> lastEventId == null
+                ? List.of()
+                : replayBuffer.replayAfter(userId, lastEventId).orElseGet(() -> listAfterId(userId, lastEventId)));
+        emitterService.sendUnreadCount(userId, unreadCountService.get(userId));
         return emitter;
     }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
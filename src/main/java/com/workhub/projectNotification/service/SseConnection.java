@@ -0,0 +1,199 @@
+package com.workhub.projectNotification.service;
+
+import com.workhub.projectNotification.dto.NotificationResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 한 명의 SSE 연결(브라우저 탭) 하나.
+ * 같은 사용자의 여러 연결을 구분하기 위해 동일성(identity)으로 비교한다.
+ * 알림 이벤트는 연결별 고정 크기 큐에 넣고, 연결마다 하나의 writer만 큐를 비우며 소켓에 쓴다.
+ */
+@Getter
+public class SseConnection {
+
+    static final int DEFAULT_QUEUE_CAPACITY = 64;
+    static final int DEFAULT_RECENT_SENT_CAPACITY = 256;
+    private static final long NO_UNREAD_COUNT = -1L;
+    private static final long NO_GAP = Long.MAX_VALUE;
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final LocalDateTime connectedAt;
+
+    /** 마지막으로 전송(이벤트 또는 ping)에 성공한 시각(epoch millis) */
+    private volatile long lastWriteAtMillis;
+    /** 마지막으로 실제 알림 이벤트 전송에 성공한 시각(epoch millis), 없으면 0 */
+    private volatile long lastEventAtMillis;
+    /** 레지스트리에서 제거되었는지 여부 */
+    private volatile boolean closed;
+
+    /**
+     * writer가 최근 소켓에 쓴 알림 id (중복 전송 방지). 커밋 순서대로 발행되므로 id가 작은 알림이 늦게 올 수 있어
+     * 최댓값이 아니라 id 자체를 기억한다. 겹칠 수 있는 구간(리플레이 + 큐)만큼만 남기고 오래된 것부터 버린다.
+     * writer(또는 구독 시 보충 스레드) 하나만 접근한다.
+     */
+    @Getter(AccessLevel.NONE)
+    private final LinkedHashSet<Long> recentSentIds = new LinkedHashSet<>();
+    @Getter(AccessLevel.NONE)
+    private final int recentSentCapacity;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean pingInFlight = new AtomicBoolean();
+    @Getter(AccessLevel.NONE)
+    private final ArrayBlockingQueue<Outbound> queue;
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean draining = new AtomicBoolean();
+    /**
+     * 큐가 넘쳐 버린 알림 중 가장 작은 id. 버리는 중이 아니면 NO_GAP.
+     * 큐를 다 비운 뒤 이 id부터 리플레이 버퍼로 보충하며, 늦게 도착해 버린 작은 id도 구간에 포함된다.
+     */
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong gapFromEventId = new AtomicLong(NO_GAP);
+    /** 미읽음 수는 최신 값만 의미가 있으므로 큐 대신 한 칸에 덮어쓴다. */
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong pendingUnreadCount = new AtomicLong(NO_UNREAD_COUNT);
+
+    public SseConnection(Long userId, SseEmitter emitter) {
+        this(userId, emitter, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public SseConnection(Long userId, SseEmitter emitter, int queueCapacity) {
+        this(userId, emitter, queueCapacity, DEFAULT_RECENT_SENT_CAPACITY);
+    }
+
+    /**
+     * @param recentSentCapacity 중복 전송 확인을 위해 기억할 최근 전송 id 수 (리플레이 버퍼 크기 + 큐 크기 이상)
+     */
+    public SseConnection(Long userId, SseEmitter emitter, int queueCapacity, int recentSentCapacity) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.connectedAt = LocalDateTime.now();
+        this.lastWriteAtMillis = System.currentTimeMillis();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.recentSentCapacity = Math.max(1, recentSentCapacity);
+    }
+
+    public void markEventSent() {
+        long now = System.currentTimeMillis();
+        this.lastEventAtMillis = now;
+        this.lastWriteAtMillis = now;
+    }
+
+    public void markPingSent() {
+        this.lastWriteAtMillis = System.currentTimeMillis();
+    }
+
+    void markClosed() {
+        this.closed = true;
+    }
+
+    /** 진행 중인 ping이 없을 때만 true를 반환하고 ping 진행 상태로 바꾼다. */
+    boolean tryStartPing() {
+        return pingInFlight.compareAndSet(false, true);
+    }
+
+    void finishPing() {
+        pingInFlight.set(false);
+    }
+
+    /**
+     * 알림을 큐에 넣는다. 큐가 가득 차면 넣지 않고 false를 반환한다.
+     */
+    boolean offer(NotificationResponse payload, long originAtMillis) {
+        return queue.offer(new Outbound(payload, System.nanoTime(), originAtMillis));
+    }
+
+    Outbound poll() {
+        return queue.poll();
+    }
+
+    void offerUnreadCount(long unreadCount) {
+        pendingUnreadCount.set(unreadCount);
+    }
+
+    /** 대기 중인 미읽음 수를 꺼낸다. 없으면 -1. */
+    long takeUnreadCount() {
+        return pendingUnreadCount.getAndSet(NO_UNREAD_COUNT);
+    }
+
+    /** 큐, 미읽음 수, 누락 보충 중 writer가 처리할 일이 남았는지 여부 */
+    boolean hasPending() {
+        return !queue.isEmpty() || pendingUnreadCount.get() != NO_UNREAD_COUNT || isLagging();
+    }
+
+    public int queuedCount() {
+        return queue.size();
+    }
+
+    /** 큐에서 가장 오래 기다린 알림의 대기 시간(ms). 큐가 비어 있으면 0. */
+    public long oldestQueuedMillis(long nowNanos) {
+        Outbound head = queue.peek();
+        return head == null ? 0L : (nowNanos - head.enqueuedAtNanos()) / 1_000_000L;
+    }
+
+    public boolean isLagging() {
+        return gapFromEventId.get() != NO_GAP;
+    }
+
+    /**
+     * 큐가 넘쳐 eventId를 버리며 지연 상태로 바꾼다. 누락 구간 시작은 버린 id 중 최솟값이다.
+     * @return 이번 호출로 처음 지연 상태가 되었으면 true
+     */
+    boolean markLagging(long eventId) {
+        return gapFromEventId.getAndAccumulate(eventId, Math::min) == NO_GAP;
+    }
+
+    /**
+     * 지연 상태이면 eventId를 누락 구간에 넣고 true를 반환한다. 지연 상태가 아니면 false(큐에 넣어야 함).
+     * 보충 단계가 구간을 가져간 직후라면 구간에 넣지 않으므로 알림이 어느 쪽에서도 빠지지 않는다.
+     */
+    boolean dropIfLagging(long eventId) {
+        long gapFrom;
+        do {
+            gapFrom = gapFromEventId.get();
+            if (gapFrom == NO_GAP) return false;
+            if (gapFrom <= eventId) return true;
+        } while (!gapFromEventId.compareAndSet(gapFrom, eventId));
+        return true;
+    }
+
+    /**
+     * 지연 상태를 풀고 누락 구간 시작 id를 반환한다. 지연 상태가 아니었으면 Long.MAX_VALUE.
+     */
+    long clearLagging() {
+        return gapFromEventId.getAndSet(NO_GAP);
+    }
+
+    /** 최근 이 연결로 이미 쓴 알림인지 여부 */
+    boolean wasSent(long eventId) {
+        return recentSentIds.contains(eventId);
+    }
+
+    void markEventWritten(long eventId) {
+        recentSentIds.add(eventId);
+        if (recentSentIds.size() > recentSentCapacity) {
+            recentSentIds.removeFirst();
+        }
+        markEventSent();
+    }
+
+    /** writer가 없을 때만 true를 반환하고 writer 실행 상태로 바꾼다. */
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+
+    record Outbound(NotificationResponse payload, long enqueuedAtNanos, long originAtMillis) {
+    }
+}
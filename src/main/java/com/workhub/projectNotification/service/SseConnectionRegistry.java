@@ -0,0 +1,117 @@
+package com.workhub.projectNotification.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 노드가 보유한 SSE 연결 저장소.
+ * - 사용자별로 연결 집합을 유지해 여러 탭이 서로를 덮어쓰지 않는다.
+ * - userId 해시로 나눈 stripe별 ConcurrentHashMap에 저장해 전역 락 없이 추가/삭제한다.
+ */
+@Component
+public class SseConnectionRegistry {
+
+    private static final int STRIPE_COUNT = 16;
+
+    private final ConcurrentHashMap<Long, Set<SseConnection>>[] stripes;
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final DistributionSummary connectionsPerUser;
+
+    @SuppressWarnings("unchecked")
+    public SseConnectionRegistry(MeterRegistry meterRegistry) {
+        this.stripes = new ConcurrentHashMap[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        Gauge.builder("notification.sse.connections", openConnections, AtomicInteger::get)
+                .description("이 노드에 열린 SSE 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.users", this, SseConnectionRegistry::userCount)
+                .description("이 노드에 SSE 연결이 하나 이상 있는 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.connections.per.user.max", this, SseConnectionRegistry::maxConnectionsPerUser)
+                .description("사용자 한 명이 가진 SSE 연결 수의 최댓값")
+                .register(meterRegistry);
+        this.connectionsPerUser = DistributionSummary.builder("notification.sse.connections.per.user")
+                .description("연결이 추가될 때 해당 사용자가 가진 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    public void add(SseConnection connection) {
+        Set<SseConnection> connections = stripeOf(connection.getUserId()).compute(connection.getUserId(), (userId, set) -> {
+            Set<SseConnection> target = set == null ? ConcurrentHashMap.newKeySet() : set;
+            if (target.add(connection)) {
+                openConnections.incrementAndGet();
+            }
+            return target;
+        });
+        connectionsPerUser.record(connections.size());
+    }
+
+    /**
+     * 해당 연결만 제거한다. 같은 사용자의 다른 연결에는 영향을 주지 않는다.
+     * @return 실제로 제거되었으면 true (이미 제거된 연결이면 false)
+     */
+    public boolean remove(SseConnection connection) {
+        boolean[] removed = new boolean[1];
+        stripeOf(connection.getUserId()).computeIfPresent(connection.getUserId(), (userId, set) -> {
+            removed[0] = set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+        if (removed[0]) {
+            connection.markClosed();
+            openConnections.decrementAndGet();
+        }
+        return removed[0];
+    }
+
+    /**
+     * 사용자의 현재 연결 목록. 연결이 없으면 빈 집합을 반환한다.
+     */
+    public Collection<SseConnection> connectionsOf(Long userId) {
+        Set<SseConnection> connections = stripeOf(userId).get(userId);
+        return connections == null ? Set.of() : connections;
+    }
+
+    public void forEach(Consumer<SseConnection> action) {
+        for (ConcurrentHashMap<Long, Set<SseConnection>> stripe : stripes) {
+            stripe.values().forEach(set -> set.forEach(action));
+        }
+    }
+
+    public int connectionCount() {
+        return openConnections.get();
+    }
+
+    public int userCount() {
+        int count = 0;
+        for (ConcurrentHashMap<Long, Set<SseConnection>> stripe : stripes) {
+            count += stripe.size();
+        }
+        return count;
+    }
+
+    private int maxConnectionsPerUser() {
+        int max = 0;
+        for (ConcurrentHashMap<Long, Set<SseConnection>> stripe : stripes) {
+            for (Set<SseConnection> set : stripe.values()) {
+                max = Math.max(max, set.size());
+            }
+        }
+        return max;
+    }
+
+    private ConcurrentHashMap<Long, Set<SseConnection>> stripeOf(Long userId) {
+        int h = Long.hashCode(userId);
+        h ^= (h >>> 16);
+        return stripes[h & (STRIPE_COUNT - 1)];
+    }
+}
@@ -0,0 +1,149 @@
+package com.workhub.projectNotification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 해시 타이머 휠 기반 SSE heartbeat.
+ * - heartbeat 주기를 tick 단위 슬롯으로 나누고, 연결마다 임의의 슬롯(jitter)을 배정해 ping을 주기 전체에 분산한다.
+ * - 매 tick에는 현재 슬롯의 연결만 검사하며, ping 쓰기는 가상 스레드에서 수행해 막힌 소켓이 다른 연결을 지연시키지 않는다.
+ * - 최근에 실제 알림을 받은 연결은 ping을 생략하고, 쓰기 실패 또는 유휴 시간 초과 연결은 정리한다.
+ */
+@Slf4j
+@Component
+public class SseHeartbeatScheduler {
+
+    private final SseConnectionRegistry connectionRegistry;
+    private final long intervalMs;
+    private final long idleTimeoutMs;
+    private final Set<SseConnection>[] wheel;
+    private final ExecutorService pingExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private long tick;
+
+    private final Counter pingSentCounter;
+    private final Counter pingSkippedCounter;
+    private final Counter writeFailureCounter;
+    private final Counter idleClosedCounter;
+    private final Timer tickTimer;
+
+    @SuppressWarnings("unchecked")
+    public SseHeartbeatScheduler(
+            SseConnectionRegistry connectionRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${workhub.notification.sse.heartbeat.interval-ms:30000}") long intervalMs,
+            @Value("${workhub.notification.sse.heartbeat.tick-ms:1000}") long tickMs,
+            @Value("${workhub.notification.sse.heartbeat.idle-timeout-ms:90000}") long idleTimeoutMs
+    ) {
+        this.connectionRegistry = connectionRegistry;
+        this.intervalMs = intervalMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        int wheelSize = (int) Math.max(1, intervalMs / tickMs);
+        this.wheel = new Set[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+
+        this.pingSentCounter = Counter.builder("notification.sse.heartbeat.pings")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.pingSkippedCounter = Counter.builder("notification.sse.heartbeat.pings")
+                .tag("result", "skipped")
+                .register(meterRegistry);
+        this.writeFailureCounter = Counter.builder("notification.sse.heartbeat.closed")
+                .description("heartbeat로 감지해 정리한 연결 수")
+                .tag("reason", "write_failure")
+                .register(meterRegistry);
+        this.idleClosedCounter = Counter.builder("notification.sse.heartbeat.closed")
+                .description("heartbeat로 감지해 정리한 연결 수")
+                .tag("reason", "idle")
+                .register(meterRegistry);
+        this.tickTimer = Timer.builder("notification.sse.heartbeat.tick")
+                .description("타이머 휠 슬롯 하나를 처리하는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 연결을 임의의 슬롯에 배정한다. 제거된 연결은 해당 슬롯 차례에 지연 정리된다.
+     */
+    public void register(SseConnection connection) {
+        wheel[ThreadLocalRandom.current().nextInt(wheel.length)].add(connection);
+    }
+
+    @Scheduled(fixedRateString = "${workhub.notification.sse.heartbeat.tick-ms:1000}")
+    public void tick() {
+        tickTimer.record(() -> processSlot(wheel[(int) (tick++ % wheel.length)], System.currentTimeMillis()));
+    }
+
+    void processSlot(Set<SseConnection> slot, long now) {
+        Iterator<SseConnection> iterator = slot.iterator();
+        while (iterator.hasNext()) {
+            SseConnection connection = iterator.next();
+            if (connection.isClosed()) {
+                iterator.remove();
+                continue;
+            }
+            if (now - connection.getLastWriteAtMillis() > idleTimeoutMs) {
+                // ping/이벤트 쓰기가 유휴 한도 내에 한 번도 성공하지 못함 → 막힌 연결로 판단
+                iterator.remove();
+                close(connection);
+                idleClosedCounter.increment();
+                continue;
+            }
+            if (now - connection.getLastEventAtMillis() < intervalMs) {
+                pingSkippedCounter.increment();
+                continue;
+            }
+            if (connection.tryStartPing()) {
+                pingExecutor.execute(() -> ping(connection));
+            }
+        }
+    }
+
+    private void ping(SseConnection connection) {
+        try {
+            connection.getEmitter().send(SseEmitter.event()
+                    .name("ping")
+                    .data("keep-alive"));
+            connection.markPingSent();
+            pingSentCounter.increment();
+        } catch (IOException | IllegalStateException ex) {
+            connectionRegistry.remove(connection);
+            writeFailureCounter.increment();
+        } finally {
+            connection.finishPing();
+        }
+    }
+
+    private void close(SseConnection connection) {
+        connectionRegistry.remove(connection);
+        try {
+            connection.getEmitter().complete();
+        } catch (Exception e) {
+            log.debug("Failed to complete idle SSE connection: userId={}", connection.getUserId(), e);
+        }
+    }
+
+    int wheelSize() {
+        return wheel.length;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pingExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,158 @@
+package com.workhub.projectNotification.service;
+
+import com.workhub.projectNotification.bus.NotificationBus;
+import com.workhub.projectNotification.dto.UnreadCount;
+import com.workhub.projectNotification.repository.ProjectNotificationRepository;
+import com.workhub.projectNotification.unread.UnreadCountStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * 미읽음 알림 수를 카운터로 유지하는 서비스.
+ * - 조회 시 카운터가 없으면 DB에서 계산해 채운다(lazy rebuild).
+ * - 발행/읽음 처리 커밋 후 카운터를 증감하고, 바뀐 값을 SSE로 푸시한다.
+ * - 주기적으로 이 노드에 연결된 사용자의 카운터를 project_notification과 대조해 보정한다.
+ */
+@Slf4j
+@Service
+public class UnreadCountService {
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final UnreadCountStore unreadCountStore;
+    private final ProjectNotificationRepository notificationRepository;
+    private final NotificationBus notificationBus;
+    private final SseConnectionRegistry connectionRegistry;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter correctedCounter;
+
+    public UnreadCountService(
+            UnreadCountStore unreadCountStore,
+            ProjectNotificationRepository notificationRepository,
+            NotificationBus notificationBus,
+            SseConnectionRegistry connectionRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        this.unreadCountStore = unreadCountStore;
+        this.notificationRepository = notificationRepository;
+        this.notificationBus = notificationBus;
+        this.connectionRegistry = connectionRegistry;
+        this.hitCounter = Counter.builder("notification.unread.lookups").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("notification.unread.lookups").tag("result", "miss").register(meterRegistry);
+        this.correctedCounter = Counter.builder("notification.unread.reconcile.corrected")
+                .description("주기 대조에서 DB 값과 달라 보정된 카운터 수")
+                .register(meterRegistry);
+    }
+
+    public long get(Long userId) {
+        OptionalLong cached = unreadCountStore.get(userId);
+        if (cached.isPresent()) {
+            hitCounter.increment();
+            return cached.getAsLong();
+        }
+        missCounter.increment();
+        long count = notificationRepository.countByUserIdAndReadAtIsNull(userId);
+        unreadCountStore.set(userId, count);
+        return count;
+    }
+
+    /**
+     * 수신자별 미읽음 수를 1씩 증가시킨다. 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void increment(Collection<Long> userIds) {
+        List<Long> targets = List.copyOf(userIds);
+        afterCommit(() -> targets.forEach(userId -> add(userId, 1L)));
+    }
+
+    /**
+     * 미읽음 수를 count만큼 감소시킨다. 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void decrement(Long userId, long count) {
+        if (count <= 0) {
+            return;
+        }
+        afterCommit(() -> add(userId, -count));
+    }
+
+    /**
+     * 모든 알림을 읽은 사용자의 카운터를 0으로 맞추고 푸시한다. 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void reset(Long userId) {
+        afterCommit(() -> {
+            unreadCountStore.set(userId, 0L);
+            notificationBus.publishUnreadCount(userId, 0L);
+        });
+    }
+
+    /**
+     * 카운터가 있으면 증감 후 푸시한다.
+     * 카운터가 없는 사용자는 SSE 구독 또는 조회 시점에 DB에서 다시 계산되므로 건드리지 않는다.
+     */
+    private void add(Long userId, long delta) {
+        unreadCountStore.add(userId, delta)
+                .ifPresent(count -> notificationBus.publishUnreadCount(userId, count));
+    }
+
+    /**
+     * 이 노드에 SSE로 연결된 사용자의 카운터를 DB 집계와 대조해 보정한다.
+     */
+    @Scheduled(fixedDelayString = "${workhub.notification.unread.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Set<Long> connectedUsers = new HashSet<>();
+        connectionRegistry.forEach(connection -> connectedUsers.add(connection.getUserId()));
+        if (connectedUsers.isEmpty()) {
+            return;
+        }
+
+        List<Long> userIds = new ArrayList<>(connectedUsers);
+        int corrected = 0;
+        for (int from = 0; from < userIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = userIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, userIds.size()));
+            Map<Long, Long> actual = new HashMap<>();
+            notificationRepository.countUnreadByUserIdIn(batch)
+                    .forEach(unread -> actual.put(unread.userId(), unread.count()));
+
+            for (Long userId : batch) {
+                long count = actual.getOrDefault(userId, 0L);
+                OptionalLong cached = unreadCountStore.get(userId);
+                if (cached.isPresent() && cached.getAsLong() == count) {
+                    continue;
+                }
+                unreadCountStore.set(userId, count);
+                notificationBus.publishUnreadCount(userId, count);
+                corrected++;
+            }
+        }
+        correctedCounter.increment(corrected);
+        log.debug("Unread counters reconciled: users={}, corrected={}", userIds.size(), corrected);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package com.workhub.projectNotification.unread;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 인스턴스용 미읽음 카운터 저장소.
+ * 최대 보관 수를 넘으면 새 사용자는 캐시하지 않고 매번 DB에서 계산한다.
+ */
+@Component
+@ConditionalOnProperty(name = "workhub.notification.unread.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryUnreadCountStore implements UnreadCountStore {
+
+    private final Map<Long, Long> counts = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public InMemoryUnreadCountStore(@Value("${workhub.notification.unread.max-entries:100000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public OptionalLong get(Long userId) {
+        Long count = counts.get(userId);
+        return count == null ? OptionalLong.empty() : OptionalLong.of(count);
+    }
+
+    @Override
+    public void set(Long userId, long count) {
+        if (counts.size() >= maxEntries && !counts.containsKey(userId)) {
+            return;
+        }
+        counts.put(userId, Math.max(0L, count));
+    }
+
+    @Override
+    public OptionalLong add(Long userId, long delta) {
+        Long updated = counts.computeIfPresent(userId, (id, count) -> Math.max(0L, count + delta));
+        return updated == null ? OptionalLong.empty() : OptionalLong.of(updated);
+    }
+}
@@ -0,0 +1,65 @@
+package com.workhub.projectNotification.unread;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Redis 기반 미읽음 카운터 저장소. 멀티 인스턴스가 같은 카운터를 공유한다.
+ * 키가 없을 때 증감하면 잘못된 값이 생기므로, 키가 있을 때만 INCRBY 하는 스크립트를 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "workhub.notification.unread.store", havingValue = "redis")
+public class RedisUnreadCountStore implements UnreadCountStore {
+
+    private static final String KEY_PREFIX = "workhub:notification:unread:";
+    private static final RedisScript<Long> ADD_IF_EXISTS = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if count < 0 then
+                redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+                count = 0
+            end
+            return count
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisUnreadCountStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${workhub.notification.unread.ttl-seconds:86400}") long ttlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @Override
+    public OptionalLong get(Long userId) {
+        String value = redisTemplate.opsForValue().get(key(userId));
+        return value == null ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(value));
+    }
+
+    @Override
+    public void set(Long userId, long count) {
+        redisTemplate.opsForValue().set(key(userId), String.valueOf(Math.max(0L, count)), ttl);
+    }
+
+    @Override
+    public OptionalLong add(Long userId, long delta) {
+        Long updated = redisTemplate.execute(ADD_IF_EXISTS, List.of(key(userId)), String.valueOf(delta));
+        return updated == null ? OptionalLong.empty() : OptionalLong.of(updated);
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
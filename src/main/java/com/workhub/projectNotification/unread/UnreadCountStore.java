@@ -0,0 +1,20 @@
+package com.workhub.projectNotification.unread;
+
+import java.util.OptionalLong;
+
+/**
+ * 사용자별 미읽음 알림 수 저장소.
+ * 값이 없으면(캐시 미스) 호출 측이 DB에서 다시 계산해 {@link #set}으로 채운다.
+ */
+public interface UnreadCountStore {
+
+    OptionalLong get(Long userId);
+
+    void set(Long userId, long count);
+
+    /**
+     * 값이 있을 때만 delta만큼 더한다(0 미만으로 내려가지 않음).
+     * @return 변경된 값, 값이 없으면 empty
+     */
+    OptionalLong add(Long userId, long delta);
+}
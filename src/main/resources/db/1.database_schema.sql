@@ -405,17 +405,16 @@ CREATE TABLE check_list_item_comment_file (
 -- Notification Tables
 -- ============================================
 
-CREATE TABLE project_notification (
-    project_notification_id BIGSERIAL PRIMARY KEY,
+-- 알림 본문: 이벤트 한 건당 한 행
+CREATE TABLE notification_body (
+    notification_body_id BIGSERIAL PRIMARY KEY,
     notification_type VARCHAR(30) NOT NULL,
     title VARCHAR(50) NOT NULL,
     notification_content VARCHAR(100) NOT NULL,
     related_url VARCHAR(50) NULL,
-    read_at TIMESTAMP NULL,
     sender_user_id BIGINT NULL,
     sender_name VARCHAR(50) NULL,
     sender_profile_img VARCHAR(255) NULL,
-    user_id BIGINT NULL,
     project_node_id BIGINT NULL,
     cs_qna_id BIGINT NULL,
     post_id BIGINT NULL,
@@ -427,9 +426,9 @@ CREATE TABLE project_notification (
     deleted_at TIMESTAMP NULL
 );
 
--- project_notification constraint
+-- notification_body constraint
 -- 정확히 하나의 FK만 NOT NULL이어야 함
-ALTER TABLE project_notification
+ALTER TABLE notification_body
     ADD CONSTRAINT chk_notification_exactly_one_related CHECK (
         (CASE WHEN project_node_id IS NOT NULL THEN 1 ELSE 0 END +
          CASE WHEN cs_qna_id IS NOT NULL THEN 1 ELSE 0 END +
@@ -438,3 +437,78 @@ ALTER TABLE project_notification
          CASE WHEN cs_post_id IS NOT NULL THEN 1 ELSE 0 END +
          CASE WHEN comment_id IS NOT NULL THEN 1 ELSE 0 END) = 1
         );
+
+-- 수신자별 알림 수신 행: 본문을 참조하고 읽음 상태만 가진다
+-- created_at 기준 월 단위 RANGE 파티션. 월 파티션(project_notification_pYYYYMM)은
+-- 애플리케이션(NotificationPartitionManager)이 미리 만들고 보관 기간이 지나면 제거한다.
+CREATE TABLE project_notification (
+    project_notification_id BIGSERIAL,
+    notification_body_id BIGINT NOT NULL REFERENCES notification_body(notification_body_id),
+    user_id BIGINT NULL,
+    read_at TIMESTAMP NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NULL,
+    deleted_at TIMESTAMP NULL,
+    PRIMARY KEY (project_notification_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 월 파티션이 준비되지 않은 시점의 INSERT 실패를 막는 기본 파티션
+CREATE TABLE project_notification_default PARTITION OF project_notification DEFAULT;
+
+-- 알림 도메인 이벤트 아웃박스: 비즈니스 트랜잭션과 함께 기록하고 릴레이가 SKIP LOCKED로 가져간다
+CREATE TABLE notification_outbox (
+    outbox_id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(200) NOT NULL,
+    payload TEXT NOT NULL,
+    actor_user_id BIGINT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    processed_at TIMESTAMP NULL,
+    last_error VARCHAR(500) NULL,
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL,
+    deleted_at TIMESTAMP NULL
+);
+
+-- 사용자별 알림 수신 설정: 타입 ordinal을 비트 위치로 쓰는 마스크 (세 마스크 모두 0이면 ALL)
+CREATE TABLE notification_preference (
+    user_id BIGINT PRIMARY KEY,
+    muted_mask BIGINT NOT NULL DEFAULT 0,
+    in_app_only_mask BIGINT NOT NULL DEFAULT 0,
+    digest_mask BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL,
+    deleted_at TIMESTAMP NULL
+);
+
+-- 묶음/요약 대기 알림: (수신자, 프로젝트, 묶음 키)마다 건수와 마지막 알림을 모았다가 flush_at 이후 발행 후 삭제
+CREATE TABLE notification_digest (
+    notification_digest_id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    coalesce_key VARCHAR(50) NOT NULL,
+    pending_count INTEGER NOT NULL,
+    last_request TEXT NOT NULL,
+    first_origin_at_millis BIGINT NOT NULL,
+    flush_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL,
+    deleted_at TIMESTAMP NULL,
+    CONSTRAINT uk_notification_digest_user_project_key UNIQUE (user_id, project_id, coalesce_key)
+);
+
+-- 통합 히스토리: 히스토리 저장 시 같은 change_log_id로 함께 기록 (unified_history_view 대체)
+CREATE TABLE unified_history (
+    history_type VARCHAR(50) NOT NULL,
+    change_log_id BIGINT NOT NULL,
+    target_id BIGINT NOT NULL,
+    action_type VARCHAR(20) NOT NULL,
+    before_data JSONB NOT NULL,
+    created_by BIGINT NOT NULL,
+    updated_by BIGINT NOT NULL,
+    updated_at TIMESTAMP NULL,
+    ip_address VARCHAR(50) NOT NULL,
+    user_agent VARCHAR(255) NOT NULL,
+    PRIMARY KEY (history_type, change_log_id)
+);
@@ -0,0 +1,48 @@
+-- ============================================
+-- 통합 히스토리 테이블 생성 마이그레이션
+-- ============================================
+-- unified_history_view는 11개 테이블의 UNION ALL이라 조회마다 전체를 합쳐 정렬/카운트한다.
+-- 히스토리 저장 시 같은 change_log_id로 함께 기록하는 실제 테이블을 두고, 조회 형태별 인덱스를 만든다.
+-- 용도: 기존 운영 DB에 1.database_schema.sql / 2.create_indexes.sql의 unified_history를 추가
+-- CONCURRENTLY를 사용하므로 트랜잭션 블록 밖에서 실행해야 한다.
+--
+-- 적용 순서
+-- 1. 이 스크립트 실행
+-- 2. workhub.history.unified-table.write-enabled=true 로 모든 인스턴스 재배포 (이후 저장분은 함께 기록)
+-- 3. 한 인스턴스에서 workhub.history.unified-table.backfill.enabled=true 로 기동해 기존 행을 옮김 (멱등)
+-- 4. 건수 확인 후 workhub.history.unified-table.read-enabled=true 로 조회 전환
+-- 되돌릴 때는 read-enabled=false 로 View 조회로 돌아간다.
+
+CREATE TABLE IF NOT EXISTS unified_history (
+    history_type VARCHAR(50) NOT NULL,
+    change_log_id BIGINT NOT NULL,
+    target_id BIGINT NOT NULL,
+    action_type VARCHAR(20) NOT NULL,
+    before_data JSONB NOT NULL,
+    created_by BIGINT NOT NULL,
+    updated_by BIGINT NOT NULL,
+    updated_at TIMESTAMP NULL,
+    ip_address VARCHAR(50) NOT NULL,
+    user_agent VARCHAR(255) NOT NULL,
+    PRIMARY KEY (history_type, change_log_id)
+);
+
+-- 전체 조회 / 커서 조회 (타입 이름은 동점 정렬용)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_unified_history_updated
+    ON unified_history(updated_at DESC, change_log_id DESC, history_type);
+
+-- 히스토리 타입별 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_unified_history_type
+    ON unified_history(history_type, updated_at DESC, change_log_id DESC);
+
+-- 액션 타입별 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_unified_history_action
+    ON unified_history(action_type, updated_at DESC, change_log_id DESC);
+
+-- 수정자별 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_unified_history_updated_by
+    ON unified_history(updated_by, updated_at DESC, change_log_id DESC);
+
+-- 대상별 조회 (targetId + historyType)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_unified_history_target
+    ON unified_history(target_id, history_type, updated_at DESC, change_log_id DESC);
@@ -0,0 +1,28 @@
+-- ============================================
+-- Notification Digest 생성 마이그레이션
+-- ============================================
+-- 묶음/요약 대기 알림을 (수신자, 프로젝트, 묶음 키)마다 한 행으로 모아 두는 테이블
+-- 묶음 키: 연달아 발생하는 타입의 짧은 묶음은 알림 타입 이름, DIGEST 설정 수신자의 요약은 'DIGEST'
+-- 아웃박스 전달과 같은 트랜잭션에서 쌓고, 구간이 끝나면 SKIP LOCKED로 가져가 발행 후 지운다
+-- 용도: 기존 운영 DB에 1.database_schema.sql / 2.create_indexes.sql의 notification_digest를 추가
+
+CREATE TABLE IF NOT EXISTS notification_digest (
+    notification_digest_id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    coalesce_key VARCHAR(50) NOT NULL,
+    pending_count INTEGER NOT NULL,
+    last_request TEXT NOT NULL,
+    first_origin_at_millis BIGINT NOT NULL,
+    flush_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL,
+    deleted_at TIMESTAMP NULL,
+    CONSTRAINT uk_notification_digest_user_project_key UNIQUE (user_id, project_id, coalesce_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_digest_flush
+    ON notification_digest(flush_at);
+
+-- 실행 확인
+SELECT 'notification_digest created successfully' as status;
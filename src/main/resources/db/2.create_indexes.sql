@@ -69,7 +69,11 @@ CREATE INDEX idx_project_history_target_action_updated
 
 -- 변경자별 이력 조회
 CREATE INDEX idx_project_history_updated_by
-    ON project_history(updated_by, updated_at DESC);
+    ON project_history(updated_by, updated_at DESC, change_log_id DESC);
+
+-- 통합 히스토리 커서 조회 (updated_at, change_log_id 내림차순)
+CREATE INDEX idx_project_history_updated
+    ON project_history(updated_at DESC, change_log_id DESC);
 
 -- project_dev_member indexes
 -- user_id와 project_id를 복합 UNIQUE로 설정
@@ -94,7 +98,11 @@ CREATE INDEX idx_project_dev_member_history_target_action_updated
 
 -- 변경자별 이력 조회
 CREATE INDEX idx_project_dev_member_history_updated_by
-    ON project_dev_member_history(updated_by, updated_at DESC);
+    ON project_dev_member_history(updated_by, updated_at DESC, change_log_id DESC);
+
+-- 통합 히스토리 커서 조회 (updated_at, change_log_id 내림차순)
+CREATE INDEX idx_project_dev_member_history_updated
+    ON project_dev_member_history(updated_at DESC, change_log_id DESC);
 
 -- project_client_member indexes
 -- 프로젝트별 고객사 멤버 조회 (권한별, 배정일순)
@@ -119,7 +127,11 @@ CREATE INDEX idx_project_client_member_history_target_action_updated
 
 -- 변경자별 이력 조회
 CREATE INDEX idx_project_client_member_history_updated_by
-    ON project_client_member_history(updated_by, updated_at DESC);
+    ON project_client_member_history(updated_by, updated_at DESC, change_log_id DESC);
+
+-- 통합 히스토리 커서 조회 (updated_at, change_log_id 내림차순)
+CREATE INDEX idx_project_client_member_history_updated
+    ON project_client_member_history(updated_at DESC, change_log_id DESC);
 
 -- ============================================
 -- Project Node Tables Indexes
@@ -163,7 +175,11 @@ CREATE INDEX idx_project_node_history_target_action_updated
 
 -- 변경자별 이력 조회
 CREATE INDEX idx_project_node_history_updated_by
-    ON project_node_history(updated_by, updated_at DESC);
+    ON project_node_history(updated_by, updated_at DESC, change_log_id DESC);
+
+-- 통합 히스토리 커서 조회 (updated_at, change_log_id 내림차순)
+CREATE INDEX idx_project_node_history_updated
+    ON project_node_history(updated_at DESC, change_log_id DESC);
 
 -- ============================================
 -- Post Tables Indexes
@@ -197,7 +213,11 @@ CREATE INDEX idx_post_history_target_action_updated
 
 -- 변경자별 이력 조회
 CREATE INDEX idx_post_history_updated_by
-    ON post_history(updated_by, updated_at DESC);
+    ON post_history(updated_by, updated_at DESC, change_log_id DESC);
+
+-- 통합 히스토리 커서 조회 (updated_at, change_log_id 내림차순)
+CREATE INDEX idx_post_history_updated
+    ON post_history(updated_at DESC, change_log_id DESC);
 
 -- post_comment indexes
 -- 게시글별 댓글 최신순 조회
@@ -219,7 +239,11 @@ CREATE INDEX idx_comment_history_target_action_updated
 
 -- 변경자별 이력 조회
 CREATE INDEX idx_comment_history_updated_by
-    ON comment_history(updated_by, updated_at DESC);
+    ON comment_history(updated_by, updated_at DESC, change_log_id DESC);
+
+-- 통합 히스토리 커서 조회 (updated_at, change_log_id 내림차순)
+CREATE INDEX idx_comment_history_updated
+    ON comment_history(updated_at DESC, change_log_id DESC);
 
 -- post_file indexes
 -- 게시글 파일 조회 (순서대로, 삭제되지 않은 파일만)
@@ -264,7 +288,11 @@ CREATE INDEX idx_cs_post_history_target_action_updated
 
 -- 변경자별 이력 조회
 CREATE INDEX idx_cs_post_history_updated_by
-    ON cs_post_history(updated_by, updated_at DESC);
+    ON cs_post_history(updated_by, updated_at DESC, change_log_id DESC);
+
+-- 통합 히스토리 커서 조회 (updated_at, change_log_id 내림차순)
+CREATE INDEX idx_cs_post_history_updated
+    ON cs_post_history(updated_at DESC, change_log_id DESC);
 
 -- cs_post_file indexes
 -- CS 게시글 파일 조회 (순서대로, 삭제되지 않은 파일만)
@@ -310,7 +338,11 @@ CREATE INDEX idx_cs_qna_history_target_action_updated
 
 -- 변경자별 이력 조회
 CREATE INDEX idx_cs_qna_history_updated_by
-    ON cs_qna_history(updated_by, updated_at DESC);
+    ON cs_qna_history(updated_by, updated_at DESC, change_log_id DESC);
+
+-- 통합 히스토리 커서 조회 (updated_at, change_log_id 내림차순)
+CREATE INDEX idx_cs_qna_history_updated
+    ON cs_qna_history(updated_at DESC, change_log_id DESC);
 
 -- ============================================
 -- CheckList Tables Indexes
@@ -341,7 +373,11 @@ CREATE INDEX idx_check_list_item_history_target_action_updated
 
 -- 변경자별 이력 조회
 CREATE INDEX idx_check_list_item_history_updated_by
-    ON check_list_item_history(updated_by, updated_at DESC);
+    ON check_list_item_history(updated_by, updated_at DESC, change_log_id DESC);
+
+-- 통합 히스토리 커서 조회 (updated_at, change_log_id 내림차순)
+CREATE INDEX idx_check_list_item_history_updated
+    ON check_list_item_history(updated_at DESC, change_log_id DESC);
 
 -- check_list_option indexes
 -- 체크리스트 아이템별 옵션 조회 (순서대로, 삭제되지 않은 옵션만)
@@ -384,30 +420,77 @@ CREATE INDEX idx_check_list_item_comment_history_target_action_updated
 
 -- 변경자별 이력 조회
 CREATE INDEX idx_check_list_item_comment_history_updated_by
-    ON check_list_item_comment_history(updated_by, updated_at DESC);
+    ON check_list_item_comment_history(updated_by, updated_at DESC, change_log_id DESC);
+
+-- 통합 히스토리 커서 조회 (updated_at, change_log_id 내림차순)
+CREATE INDEX idx_check_list_item_comment_history_updated
+    ON check_list_item_comment_history(updated_at DESC, change_log_id DESC);
 
 -- ============================================
 -- Notification Tables Indexes
 -- ============================================
 
 -- project_notification indexes
--- 사용자별 알림 조회 (최신순)
-CREATE INDEX idx_notification_user_created
-    ON project_notification(user_id, created_at DESC);
+-- 사용자별 알림함 커서 조회 (최신순, ID 커서)
+CREATE INDEX idx_notification_user_id
+    ON project_notification(user_id, project_notification_id DESC);
+
+-- 읽지 않은 알림 커서 조회 / 미읽음 카운트
+CREATE INDEX idx_notification_user_read_id
+    ON project_notification(user_id, read_at, project_notification_id DESC);
 
--- 읽지 않은 알림 조회
-CREATE INDEX idx_notification_user_unread
-    ON project_notification(user_id, read_at, created_at DESC);
+-- 본문별 수신 행 조회
+CREATE INDEX idx_notification_body
+    ON project_notification(notification_body_id);
 
+-- notification_body indexes
 -- FK별 단일 인덱스
 CREATE INDEX idx_notification_project_node
-    ON project_notification(project_node_id);
+    ON notification_body(project_node_id);
 
 CREATE INDEX idx_notification_cs_qna
-    ON project_notification(cs_qna_id);
+    ON notification_body(cs_qna_id);
 
 CREATE INDEX idx_notification_post
-    ON project_notification(post_id);
+    ON notification_body(post_id);
 
 CREATE INDEX idx_notification_comment
-    ON project_notification(comment_id);
\ No newline at end of file
+    ON notification_body(comment_id);
+
+-- notification_outbox indexes
+-- 릴레이 폴링: 대기 중이거나 전달 중(임대 만료 후 재수거)인 메시지만 부분 인덱스로 유지
+CREATE INDEX idx_notification_outbox_pending
+    ON notification_outbox(next_attempt_at, outbox_id)
+    WHERE status IN ('PENDING', 'IN_PROGRESS');
+
+-- 처리 완료 메시지 정리
+CREATE INDEX idx_notification_outbox_processed
+    ON notification_outbox(processed_at)
+    WHERE status = 'DONE';
+
+-- notification_digest indexes
+-- 요약 구간이 끝난 행 폴링
+CREATE INDEX idx_notification_digest_flush
+    ON notification_digest(flush_at);
+
+-- unified_history indexes
+-- UnifiedHistoryRepositoryImpl 조회마다 (조건 컬럼, updated_at DESC, change_log_id DESC) 순서로 맞춘다
+-- 전체 조회 / 커서 조회 (타입 이름은 동점 정렬용)
+CREATE INDEX idx_unified_history_updated
+    ON unified_history(updated_at DESC, change_log_id DESC, history_type);
+
+-- 히스토리 타입별 조회
+CREATE INDEX idx_unified_history_type
+    ON unified_history(history_type, updated_at DESC, change_log_id DESC);
+
+-- 액션 타입별 조회
+CREATE INDEX idx_unified_history_action
+    ON unified_history(action_type, updated_at DESC, change_log_id DESC);
+
+-- 수정자별 조회
+CREATE INDEX idx_unified_history_updated_by
+    ON unified_history(updated_by, updated_at DESC, change_log_id DESC);
+
+-- 대상별 조회 (targetId + historyType)
+CREATE INDEX idx_unified_history_target
+    ON unified_history(target_id, history_type, updated_at DESC, change_log_id DESC);
@@ -0,0 +1,129 @@
+-- ============================================
+-- Project Notification 정규화 마이그레이션
+-- ============================================
+-- 수신자마다 복제되던 알림 본문(제목/내용/URL/발신자/연관 FK)을 notification_body로 분리하고,
+-- project_notification은 (notification_body_id, user_id, read_at) 수신 행만 남긴다.
+-- 용도: 기존 운영 DB를 1.database_schema.sql의 알림 테이블 구조로 전환
+--
+-- - project_notification_id는 그대로 유지된다(SSE Last-Event-ID, 읽음 처리 API 호환).
+-- - 같은 이벤트로 일괄 저장된 행(본문 컬럼 + created_at 동일)을 하나의 본문으로 묶는다.
+-- - 본문 ID는 묶인 행 중 가장 작은 project_notification_id를 사용한다.
+
+BEGIN;
+
+CREATE TABLE notification_body (
+    notification_body_id BIGSERIAL PRIMARY KEY,
+    notification_type VARCHAR(30) NOT NULL,
+    title VARCHAR(50) NOT NULL,
+    notification_content VARCHAR(100) NOT NULL,
+    related_url VARCHAR(50) NULL,
+    sender_user_id BIGINT NULL,
+    sender_name VARCHAR(50) NULL,
+    sender_profile_img VARCHAR(255) NULL,
+    project_node_id BIGINT NULL,
+    cs_qna_id BIGINT NULL,
+    post_id BIGINT NULL,
+    project_id BIGINT NULL,
+    cs_post_id BIGINT NULL,
+    comment_id BIGINT NULL,
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL,
+    deleted_at TIMESTAMP NULL
+);
+
+-- 수신 행 -> 본문 ID 매핑 (PARTITION BY는 NULL끼리 같은 값으로 취급한다)
+CREATE TEMP TABLE notification_body_map ON COMMIT DROP AS
+SELECT project_notification_id,
+       MIN(project_notification_id) OVER (
+           PARTITION BY notification_type, title, notification_content, related_url,
+                        sender_user_id, sender_name, sender_profile_img,
+                        project_node_id, cs_qna_id, post_id, project_id, cs_post_id, comment_id,
+                        created_at
+       ) AS notification_body_id
+FROM project_notification;
+
+INSERT INTO notification_body (
+    notification_body_id, notification_type, title, notification_content, related_url,
+    sender_user_id, sender_name, sender_profile_img,
+    project_node_id, cs_qna_id, post_id, project_id, cs_post_id, comment_id,
+    created_at, updated_at, deleted_at
+)
+SELECT n.project_notification_id, n.notification_type, n.title, n.notification_content, n.related_url,
+       n.sender_user_id, n.sender_name, n.sender_profile_img,
+       n.project_node_id, n.cs_qna_id, n.post_id, n.project_id, n.cs_post_id, n.comment_id,
+       n.created_at, n.updated_at, n.deleted_at
+FROM project_notification n
+JOIN notification_body_map m
+  ON m.project_notification_id = n.project_notification_id
+ AND m.notification_body_id = n.project_notification_id;
+
+SELECT setval(pg_get_serial_sequence('notification_body', 'notification_body_id'),
+              COALESCE((SELECT MAX(notification_body_id) FROM notification_body), 0) + 1,
+              false);
+
+ALTER TABLE project_notification ADD COLUMN notification_body_id BIGINT;
+
+UPDATE project_notification n
+SET notification_body_id = m.notification_body_id
+FROM notification_body_map m
+WHERE m.project_notification_id = n.project_notification_id;
+
+ALTER TABLE project_notification
+    ALTER COLUMN notification_body_id SET NOT NULL,
+    ADD CONSTRAINT fk_project_notification_body
+        FOREIGN KEY (notification_body_id) REFERENCES notification_body(notification_body_id);
+
+-- 연관 FK 제약/인덱스를 본문 테이블로 이동
+ALTER TABLE project_notification DROP CONSTRAINT IF EXISTS chk_notification_exactly_one_related;
+DROP INDEX IF EXISTS idx_notification_project_node;
+DROP INDEX IF EXISTS idx_notification_cs_qna;
+DROP INDEX IF EXISTS idx_notification_post;
+DROP INDEX IF EXISTS idx_notification_comment;
+
+ALTER TABLE project_notification
+    DROP COLUMN notification_type,
+    DROP COLUMN title,
+    DROP COLUMN notification_content,
+    DROP COLUMN related_url,
+    DROP COLUMN sender_user_id,
+    DROP COLUMN sender_name,
+    DROP COLUMN sender_profile_img,
+    DROP COLUMN project_node_id,
+    DROP COLUMN cs_qna_id,
+    DROP COLUMN post_id,
+    DROP COLUMN project_id,
+    DROP COLUMN cs_post_id,
+    DROP COLUMN comment_id;
+
+ALTER TABLE notification_body
+    ADD CONSTRAINT chk_notification_exactly_one_related CHECK (
+        (CASE WHEN project_node_id IS NOT NULL THEN 1 ELSE 0 END +
+         CASE WHEN cs_qna_id IS NOT NULL THEN 1 ELSE 0 END +
+         CASE WHEN post_id IS NOT NULL THEN 1 ELSE 0 END +
+         CASE WHEN project_id IS NOT NULL THEN 1 ELSE 0 END +
+         CASE WHEN cs_post_id IS NOT NULL THEN 1 ELSE 0 END +
+         CASE WHEN comment_id IS NOT NULL THEN 1 ELSE 0 END) = 1
+        );
+
+CREATE INDEX idx_notification_body
+    ON project_notification(notification_body_id);
+
+CREATE INDEX idx_notification_project_node
+    ON notification_body(project_node_id);
+
+CREATE INDEX idx_notification_cs_qna
+    ON notification_body(cs_qna_id);
+
+CREATE INDEX idx_notification_post
+    ON notification_body(post_id);
+
+CREATE INDEX idx_notification_comment
+    ON notification_body(comment_id);
+
+COMMIT;
+
+-- 디스크 공간 회수는 운영 중단 가능한 시간에 별도로 실행한다.
+-- VACUUM FULL project_notification;
+
+-- 실행 확인
+SELECT 'project_notification normalized successfully' as status;
@@ -0,0 +1,31 @@
+-- ============================================
+-- Notification Outbox 생성 마이그레이션
+-- ============================================
+-- 알림을 발생시키는 도메인 이벤트를 비즈니스 트랜잭션과 함께 기록하는 아웃박스 테이블
+-- 용도: 기존 운영 DB에 1.database_schema.sql / 2.create_indexes.sql의 notification_outbox를 추가
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    outbox_id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(200) NOT NULL,
+    payload TEXT NOT NULL,
+    actor_user_id BIGINT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    processed_at TIMESTAMP NULL,
+    last_error VARCHAR(500) NULL,
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL,
+    deleted_at TIMESTAMP NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_pending
+    ON notification_outbox(next_attempt_at, outbox_id)
+    WHERE status IN ('PENDING', 'IN_PROGRESS');
+
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_processed
+    ON notification_outbox(processed_at)
+    WHERE status = 'DONE';
+
+-- 실행 확인
+SELECT 'notification_outbox created successfully' as status;
@@ -0,0 +1,18 @@
+-- ============================================
+-- 알림함 커서 페이지 조회용 인덱스 마이그레이션
+-- ============================================
+-- 알림함은 OFFSET 없이 project_notification_id 커서로 조회하므로 created_at 기준 인덱스를 ID 기준으로 바꾼다.
+-- 용도: 기존 운영 DB에 2.create_indexes.sql의 project_notification 인덱스 변경을 반영
+-- CONCURRENTLY를 사용하므로 트랜잭션 블록 밖에서 실행해야 한다.
+
+-- 전체 알림: WHERE user_id = ? AND project_notification_id < ? ORDER BY project_notification_id DESC LIMIT ?
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notification_user_id
+    ON project_notification(user_id, project_notification_id DESC);
+
+-- 미읽음 알림: WHERE user_id = ? AND read_at IS NULL AND project_notification_id < ? ORDER BY ... LIMIT ?
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notification_user_read_id
+    ON project_notification(user_id, read_at, project_notification_id DESC);
+
+-- 새 인덱스로 대체된 created_at 기준 인덱스
+DROP INDEX CONCURRENTLY IF EXISTS idx_notification_user_created;
+DROP INDEX CONCURRENTLY IF EXISTS idx_notification_user_unread;
@@ -0,0 +1,76 @@
+-- ============================================
+-- Project Notification 월 파티션 전환 마이그레이션
+-- ============================================
+-- project_notification을 created_at 기준 월 단위 RANGE 파티션 테이블로 전환한다.
+-- 용도: 기존 운영 DB를 1.database_schema.sql의 파티션 구조로 전환 (4, 6번 마이그레이션 이후 실행)
+--
+-- - project_notification_id와 시퀀스는 그대로 유지된다(SSE Last-Event-ID, 읽음 처리 API 호환).
+-- - PK는 파티션 키를 포함해야 하므로 (project_notification_id, created_at)이 된다.
+-- - 기존 데이터가 있는 달과 이번 달부터 3개월 뒤까지의 파티션을 만든다. 이후 파티션은 애플리케이션이 관리한다.
+-- - 테이블 전체를 복사하므로 알림 발행을 멈춘 점검 시간에 실행한다.
+
+BEGIN;
+
+UPDATE project_notification SET created_at = COALESCE(updated_at, now()) WHERE created_at IS NULL;
+
+ALTER TABLE project_notification RENAME TO project_notification_legacy;
+ALTER INDEX IF EXISTS project_notification_pkey RENAME TO project_notification_legacy_pkey;
+ALTER INDEX IF EXISTS idx_notification_user_id RENAME TO idx_notification_legacy_user_id;
+ALTER INDEX IF EXISTS idx_notification_user_read_id RENAME TO idx_notification_legacy_user_read_id;
+ALTER INDEX IF EXISTS idx_notification_body RENAME TO idx_notification_legacy_body;
+
+CREATE TABLE project_notification (
+    project_notification_id BIGINT NOT NULL,
+    notification_body_id BIGINT NOT NULL REFERENCES notification_body(notification_body_id),
+    user_id BIGINT NULL,
+    read_at TIMESTAMP NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NULL,
+    deleted_at TIMESTAMP NULL,
+    PRIMARY KEY (project_notification_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 기존 시퀀스를 새 테이블로 옮긴다.
+ALTER SEQUENCE project_notification_project_notification_id_seq OWNED BY NONE;
+ALTER TABLE project_notification ALTER COLUMN project_notification_id
+    SET DEFAULT nextval('project_notification_project_notification_id_seq');
+ALTER TABLE project_notification_legacy ALTER COLUMN project_notification_id DROP DEFAULT;
+ALTER SEQUENCE project_notification_project_notification_id_seq
+    OWNED BY project_notification.project_notification_id;
+
+CREATE TABLE project_notification_default PARTITION OF project_notification DEFAULT;
+
+DO $$
+DECLARE
+    m DATE;
+    last_month DATE := date_trunc('month', now())::date + INTERVAL '3 months';
+BEGIN
+    m := COALESCE((SELECT date_trunc('month', MIN(created_at))::date FROM project_notification_legacy),
+                  date_trunc('month', now())::date);
+    WHILE m <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF project_notification FOR VALUES FROM (%L) TO (%L)',
+            'project_notification_p' || to_char(m, 'YYYYMM'), m, (m + INTERVAL '1 month')::date);
+        m := (m + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO project_notification (
+    project_notification_id, notification_body_id, user_id, read_at, created_at, updated_at, deleted_at
+)
+SELECT project_notification_id, notification_body_id, user_id, read_at, created_at, updated_at, deleted_at
+FROM project_notification_legacy;
+
+-- 파티션 테이블 인덱스 (각 파티션에 자동 생성)
+CREATE INDEX idx_notification_user_id
+    ON project_notification(user_id, project_notification_id DESC);
+CREATE INDEX idx_notification_user_read_id
+    ON project_notification(user_id, read_at, project_notification_id DESC);
+CREATE INDEX idx_notification_body
+    ON project_notification(notification_body_id);
+
+DROP TABLE project_notification_legacy;
+
+COMMIT;
+
+ANALYZE project_notification;
@@ -0,0 +1,19 @@
+-- ============================================
+-- Notification Preference 생성 마이그레이션
+-- ============================================
+-- 사용자별 알림 타입 수신 설정(MUTE / IN_APP_ONLY / DIGEST)을 비트마스크로 보관하는 테이블
+-- 용도: 기존 운영 DB에 1.database_schema.sql의 notification_preference를 추가
+-- 주의: 비트 위치는 NotificationType ordinal이므로 타입은 항상 enum 끝에 추가한다
+
+CREATE TABLE IF NOT EXISTS notification_preference (
+    user_id BIGINT PRIMARY KEY,
+    muted_mask BIGINT NOT NULL DEFAULT 0,
+    in_app_only_mask BIGINT NOT NULL DEFAULT 0,
+    digest_mask BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL,
+    deleted_at TIMESTAMP NULL
+);
+
+-- 실행 확인
+SELECT 'notification_preference created successfully' as status;
@@ -0,0 +1,87 @@
+-- ============================================
+-- 통합 히스토리 커서 조회용 인덱스 마이그레이션
+-- ============================================
+-- 통합 히스토리 커서 조회는 히스토리 테이블마다 (updated_at, change_log_id) < 커서 조건으로
+-- 필요한 건수만 읽어 병합하므로, 테이블별로 같은 순서의 인덱스가 필요하다.
+-- 용도: 기존 운영 DB에 2.create_indexes.sql의 히스토리 인덱스 변경을 반영
+-- CONCURRENTLY를 사용하므로 트랜잭션 블록 밖에서 실행해야 한다.
+
+-- project_history
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_project_history_updated
+    ON project_history(updated_at DESC, change_log_id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_project_history_updated_by_v2
+    ON project_history(updated_by, updated_at DESC, change_log_id DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_project_history_updated_by;
+ALTER INDEX IF EXISTS idx_project_history_updated_by_v2 RENAME TO idx_project_history_updated_by;
+
+-- project_dev_member_history
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_project_dev_member_history_updated
+    ON project_dev_member_history(updated_at DESC, change_log_id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_project_dev_member_history_updated_by_v2
+    ON project_dev_member_history(updated_by, updated_at DESC, change_log_id DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_project_dev_member_history_updated_by;
+ALTER INDEX IF EXISTS idx_project_dev_member_history_updated_by_v2 RENAME TO idx_project_dev_member_history_updated_by;
+
+-- project_client_member_history
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_project_client_member_history_updated
+    ON project_client_member_history(updated_at DESC, change_log_id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_project_client_member_history_updated_by_v2
+    ON project_client_member_history(updated_by, updated_at DESC, change_log_id DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_project_client_member_history_updated_by;
+ALTER INDEX IF EXISTS idx_project_client_member_history_updated_by_v2 RENAME TO idx_project_client_member_history_updated_by;
+
+-- project_node_history
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_project_node_history_updated
+    ON project_node_history(updated_at DESC, change_log_id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_project_node_history_updated_by_v2
+    ON project_node_history(updated_by, updated_at DESC, change_log_id DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_project_node_history_updated_by;
+ALTER INDEX IF EXISTS idx_project_node_history_updated_by_v2 RENAME TO idx_project_node_history_updated_by;
+
+-- post_history
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_history_updated
+    ON post_history(updated_at DESC, change_log_id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_history_updated_by_v2
+    ON post_history(updated_by, updated_at DESC, change_log_id DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_post_history_updated_by;
+ALTER INDEX IF EXISTS idx_post_history_updated_by_v2 RENAME TO idx_post_history_updated_by;
+
+-- comment_history
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comment_history_updated
+    ON comment_history(updated_at DESC, change_log_id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comment_history_updated_by_v2
+    ON comment_history(updated_by, updated_at DESC, change_log_id DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_comment_history_updated_by;
+ALTER INDEX IF EXISTS idx_comment_history_updated_by_v2 RENAME TO idx_comment_history_updated_by;
+
+-- cs_post_history
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cs_post_history_updated
+    ON cs_post_history(updated_at DESC, change_log_id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cs_post_history_updated_by_v2
+    ON cs_post_history(updated_by, updated_at DESC, change_log_id DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_cs_post_history_updated_by;
+ALTER INDEX IF EXISTS idx_cs_post_history_updated_by_v2 RENAME TO idx_cs_post_history_updated_by;
+
+-- cs_qna_history
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cs_qna_history_updated
+    ON cs_qna_history(updated_at DESC, change_log_id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cs_qna_history_updated_by_v2
+    ON cs_qna_history(updated_by, updated_at DESC, change_log_id DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_cs_qna_history_updated_by;
+ALTER INDEX IF EXISTS idx_cs_qna_history_updated_by_v2 RENAME TO idx_cs_qna_history_updated_by;
+
+-- check_list_item_history
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_check_list_item_history_updated
+    ON check_list_item_history(updated_at DESC, change_log_id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_check_list_item_history_updated_by_v2
+    ON check_list_item_history(updated_by, updated_at DESC, change_log_id DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_check_list_item_history_updated_by;
+ALTER INDEX IF EXISTS idx_check_list_item_history_updated_by_v2 RENAME TO idx_check_list_item_history_updated_by;
+
+-- check_list_item_comment_history
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_check_list_item_comment_history_updated
+    ON check_list_item_comment_history(updated_at DESC, change_log_id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_check_list_item_comment_history_updated_by_v2
+    ON check_list_item_comment_history(updated_by, updated_at DESC, change_log_id DESC);
+DROP INDEX CONCURRENTLY IF EXISTS idx_check_list_item_comment_history_updated_by;
+ALTER INDEX IF EXISTS idx_check_list_item_comment_history_updated_by_v2 RENAME TO idx_check_list_item_comment_history_updated_by;
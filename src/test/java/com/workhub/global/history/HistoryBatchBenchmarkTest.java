@@ -0,0 +1,148 @@
+package com.workhub.global.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workhub.checklist.repository.CheckListItemHistoryRepository;
+import com.workhub.config.TestAwsConfig;
+import com.workhub.global.entity.ActionType;
+import com.workhub.global.entity.HistoryType;
+import com.workhub.global.security.CustomUserDetails;
+import com.workhub.userTable.entity.Status;
+import com.workhub.userTable.entity.UserRole;
+import com.workhub.userTable.entity.UserTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 체크리스트 항목 N건 수정 시 히스토리 저장 방식 비교: 건별 save(IDENTITY → INSERT N번) vs 커밋 직전 JDBC 배치.
+ * 실제 DB가 필요하므로 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestAwsConfig.class)
+class HistoryBatchBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURE_ROUNDS = 10;
+
+    @Autowired
+    private List<HistoryHandler> handlers;
+
+    @Autowired
+    private HistoryBatchWriter batchWriter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HistorySnapshotCodec snapshotCodec;
+
+    @Autowired
+    private CheckListItemHistoryRepository historyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        CustomUserDetails principal = new CustomUserDetails(UserTable.builder()
+                .userId(1L)
+                .loginId("bench")
+                .password("encoded")
+                .email("bench@workhub.com")
+                .phone("01012345678")
+                .userName("벤치마크")
+                .role(UserRole.CLIENT)
+                .status(Status.ACTIVE)
+                .companyId(1L)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        historyRepository.deleteAllInBatch();
+        SecurityContextHolder.clearContext();
+    }
+
+    @ParameterizedTest(name = "items={0}")
+    @ValueSource(ints = {10, 40, 200})
+    @DisplayName("항목 수별 건별 저장 vs 배치 저장 트랜잭션 소요 시간 비교")
+    void comparePerEntityAndBatchedHistory(int itemCount) {
+        HistoryRecorder perEntity = new HistoryRecorder(handlers, objectMapper, batchWriter,
+                new HistoryCreatorCache(new SimpleMeterRegistry(), 1000),
+                new HistoryInsertCounter(new SimpleMeterRegistry()), snapshotCodec, new SimpleMeterRegistry(), false);
+        HistoryRecorder batched = new HistoryRecorder(handlers, objectMapper, batchWriter,
+                new HistoryCreatorCache(new SimpleMeterRegistry(), 1000),
+                new HistoryInsertCounter(new SimpleMeterRegistry()), snapshotCodec, new SimpleMeterRegistry(), true);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            transaction.executeWithoutResult(status -> recordItems(perEntity, itemCount));
+            transaction.executeWithoutResult(status -> recordItems(batched, itemCount));
+        }
+        historyRepository.deleteAllInBatch();
+
+        long perEntityNanos = 0;
+        long batchedNanos = 0;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            transaction.executeWithoutResult(status -> recordItems(perEntity, itemCount));
+            perEntityNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            transaction.executeWithoutResult(status -> recordItems(batched, itemCount));
+            batchedNanos += System.nanoTime() - start;
+        }
+
+        double perEntityMs = perEntityNanos / 1_000_000.0 / MEASURE_ROUNDS;
+        double batchedMs = batchedNanos / 1_000_000.0 / MEASURE_ROUNDS;
+        System.out.printf("[history-batch] items=%d perEntity=%.2fms batched=%.2fms speedup=x%.1f%n",
+                itemCount, perEntityMs, batchedMs, perEntityMs / batchedMs);
+
+        assertThat(historyRepository.count()).isEqualTo(2L * itemCount * MEASURE_ROUNDS);
+    }
+
+    @ParameterizedTest(name = "items={0}")
+    @ValueSource(ints = {40})
+    @DisplayName("배치 모드도 롤백되면 히스토리가 남지 않는다.")
+    void givenRollback_whenBatched_thenNothingPersisted(int itemCount) {
+        HistoryRecorder batched = new HistoryRecorder(handlers, objectMapper, batchWriter,
+                new HistoryCreatorCache(new SimpleMeterRegistry(), 1000),
+                new HistoryInsertCounter(new SimpleMeterRegistry()), snapshotCodec, new SimpleMeterRegistry(), true);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            recordItems(batched, itemCount);
+            status.setRollbackOnly();
+        });
+
+        assertThat(historyRepository.count()).isZero();
+    }
+
+    private void recordItems(HistoryRecorder recorder, int itemCount) {
+        for (long itemId = 1; itemId <= itemCount; itemId++) {
+            recorder.recordHistory(HistoryType.CHECK_LIST_ITEM, itemId, ActionType.CREATE,
+                    Map.of("itemId", itemId, "itemTitle", "항목 " + itemId, "status", "PENDING"));
+        }
+    }
+}
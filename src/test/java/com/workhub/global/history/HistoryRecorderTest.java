@@ -0,0 +1,249 @@
+package com.workhub.global.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workhub.checklist.entity.checkList.CheckListItemHistory;
+import com.workhub.checklist.repository.CheckListItemHistoryRepository;
+import com.workhub.global.entity.ActionType;
+import com.workhub.global.entity.BaseHistoryEntity;
+import com.workhub.global.entity.HistoryType;
+import com.workhub.global.security.CustomUserDetails;
+import com.workhub.userTable.entity.Status;
+import com.workhub.userTable.entity.UserRole;
+import com.workhub.userTable.entity.UserTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HistoryRecorderTest {
+
+    private final CheckListItemHistoryRepository repository = mock(CheckListItemHistoryRepository.class);
+    private final HistoryBatchWriter batchWriter = mock(HistoryBatchWriter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final HistoryHandler handler = new HistoryHandler(repository, (targetId, actionType, beforeData, creator) ->
+            CheckListItemHistory.builder()
+                    .targetId(targetId)
+                    .actionType(actionType)
+                    .beforeData(beforeData)
+                    .createdBy(creator)
+                    .updatedBy(1L)
+                    .build()) {
+        @Override
+        public HistoryType getType() {
+            return HistoryType.CHECK_LIST_ITEM;
+        }
+    };
+
+    private final HistoryRecorder historyRecorder = newRecorder();
+
+    @BeforeEach
+    void setUp() {
+        CustomUserDetails principal = new CustomUserDetails(UserTable.builder()
+                .userId(1L)
+                .loginId("user1")
+                .password("encoded")
+                .email("user1@workhub.com")
+                .phone("01012345678")
+                .userName("사용자")
+                .role(UserRole.CLIENT)
+                .status(Status.ACTIVE)
+                .companyId(1L)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 기록은 바로 저장하지 않고 커밋 직전에 배치 한 번으로 저장한다.")
+    @SuppressWarnings("unchecked")
+    void givenTransaction_whenRecord_thenFlushOnceBeforeCommit() {
+        beginTransaction();
+
+        for (long itemId = 1; itemId <= 3; itemId++) {
+            historyRecorder.recordHistory(HistoryType.CHECK_LIST_ITEM, itemId, ActionType.CREATE, "{}");
+        }
+        verify(repository, never()).save(any());
+        verify(batchWriter, never()).insert(any(), any(), anyList());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        ArgumentCaptor<List<BaseHistoryEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter, times(1)).insert(eq(HistoryType.CHECK_LIST_ITEM), eq(CheckListItemHistory.class), captor.capture());
+        assertThat(captor.getValue()).extracting(BaseHistoryEntity::getTargetId).containsExactly(1L, 2L, 3L);
+        assertThat(meterRegistry.get("history.batch.rows").summary().totalAmount()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("history.inserted").tag("type", "CHECK_LIST_ITEM").functionCounter().count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("롤백되면 모은 기록은 저장하지 않고 버린다.")
+    void givenRollback_whenComplete_thenDiscardPending() {
+        beginTransaction();
+
+        historyRecorder.recordHistory(HistoryType.CHECK_LIST_ITEM, 1L, ActionType.CREATE, "{}");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+
+        verify(batchWriter, never()).insert(any(), any(), anyList());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 기존처럼 바로 저장한다.")
+    void givenNoTransaction_whenRecord_thenSaveImmediately() {
+        historyRecorder.recordHistory(HistoryType.CHECK_LIST_ITEM, 1L, ActionType.CREATE, "{}");
+
+        verify(repository).save(any(CheckListItemHistory.class));
+        verify(batchWriter, never()).insert(any(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("통합 히스토리 테이블 쓰기가 켜져 있으면 트랜잭션 밖에서도 JPA save 대신 통합 INSERT 경로로 저장한다.")
+    @SuppressWarnings("unchecked")
+    void givenUnifiedWrite_whenRecordWithoutTransaction_thenInsertThroughWriter() {
+        when(batchWriter.writesUnified()).thenReturn(true);
+
+        historyRecorder.recordHistory(HistoryType.CHECK_LIST_ITEM, 1L, ActionType.CREATE, "{}");
+
+        ArgumentCaptor<List<BaseHistoryEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter).insert(eq(HistoryType.CHECK_LIST_ITEM), eq(CheckListItemHistory.class), captor.capture());
+        assertThat(captor.getValue()).extracting(BaseHistoryEntity::getTargetId).containsExactly(1L);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션에서 아직 저장 전인 CREATE가 있으면 DB 조회 없이 그 생성자를 쓴다.")
+    void givenPendingCreate_whenUpdate_thenUsePendingCreator() {
+        beginTransaction();
+
+        historyRecorder.recordHistory(HistoryType.CHECK_LIST_ITEM, 10L, ActionType.CREATE, "{}");
+        Long creator = historyRecorder.getOriginalCreator(HistoryType.CHECK_LIST_ITEM, 10L);
+
+        assertThat(creator).isEqualTo(1L);
+        verify(repository, never()).findFirstByTargetIdAndActionTypeOrderByChangeLogIdAsc(any(), any());
+    }
+
+    @Test
+    @DisplayName("대기 중인 CREATE가 없으면 저장된 히스토리에서 생성자를 찾는다.")
+    void givenNoPendingCreate_whenUpdate_thenLookupRepository() {
+        beginTransaction();
+        when(repository.findFirstByTargetIdAndActionTypeOrderByChangeLogIdAsc(20L, ActionType.CREATE))
+                .thenReturn(Optional.of(CheckListItemHistory.builder().createdBy(7L).build()));
+
+        Long creator = historyRecorder.getOriginalCreator(HistoryType.CHECK_LIST_ITEM, 20L);
+
+        assertThat(creator).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("같은 대상을 여러 번 수정해도 원래 생성자 조회는 한 번이고 같은 값이 기록된다.")
+    void givenRepeatedUpdates_whenRecord_thenLookupOnce() {
+        when(repository.findFirstByTargetIdAndActionTypeOrderByChangeLogIdAsc(20L, ActionType.CREATE))
+                .thenReturn(Optional.of(createHistory(20L, 7L)));
+
+        historyRecorder.recordHistory(HistoryType.CHECK_LIST_ITEM, 20L, ActionType.UPDATE, "{}");
+        historyRecorder.recordHistory(HistoryType.CHECK_LIST_ITEM, 20L, ActionType.DELETE, "{}");
+
+        verify(repository, times(1)).findFirstByTargetIdAndActionTypeOrderByChangeLogIdAsc(20L, ActionType.CREATE);
+        assertThat(savedCreators(2)).containsExactly(7L, 7L);
+    }
+
+    @Test
+    @DisplayName("여러 대상을 미리 불러오면 쿼리 한 번으로 건별 조회와 같은 생성자가 기록된다.")
+    @SuppressWarnings("unchecked")
+    void givenPreload_whenUpdateMany_thenSameCreatorsWithSingleQuery() {
+        List<Long> targetIds = List.of(1L, 2L, 3L);
+        targetIds.forEach(id -> when(repository.findFirstByTargetIdAndActionTypeOrderByChangeLogIdAsc(id, ActionType.CREATE))
+                .thenReturn(Optional.of(createHistory(id, id + 100))));
+        when(repository.findByTargetIdInAndActionTypeOrderByChangeLogIdAsc(any(Collection.class), eq(ActionType.CREATE)))
+                .thenReturn(List.of(createHistory(1L, 101L), createHistory(2L, 102L), createHistory(2L, 999L),
+                        createHistory(3L, 103L)));
+
+        // 기존 방식: 대상마다 조회
+        targetIds.forEach(id -> historyRecorder.recordHistory(HistoryType.CHECK_LIST_ITEM, id, ActionType.UPDATE, "{}"));
+        List<Long> perTargetCreators = savedCreators(3);
+        verify(repository, times(3)).findFirstByTargetIdAndActionTypeOrderByChangeLogIdAsc(any(), eq(ActionType.CREATE));
+        clearInvocations(repository);
+
+        // 미리 불러오기: 새 캐시로 시작해 한 번에 조회
+        HistoryRecorder preloaded = newRecorder();
+        preloaded.preloadOriginalCreators(HistoryType.CHECK_LIST_ITEM, targetIds);
+        targetIds.forEach(id -> preloaded.recordHistory(HistoryType.CHECK_LIST_ITEM, id, ActionType.UPDATE, "{}"));
+
+        assertThat(savedCreators(3)).isEqualTo(perTargetCreators).containsExactly(101L, 102L, 103L);
+        verify(repository, times(1)).findByTargetIdInAndActionTypeOrderByChangeLogIdAsc(any(Collection.class), eq(ActionType.CREATE));
+        verify(repository, never()).findFirstByTargetIdAndActionTypeOrderByChangeLogIdAsc(any(), any());
+    }
+
+    @Test
+    @DisplayName("대상 엔티티의 작성자를 넘기면 원래 생성자를 조회하지 않는다.")
+    void givenLiveEntityCreator_whenUpdate_thenSkipLookup() {
+        historyRecorder.recordHistory(HistoryType.CHECK_LIST_ITEM, 30L, ActionType.UPDATE, Map.of("status", "DONE"), 9L);
+
+        verify(repository, never()).findFirstByTargetIdAndActionTypeOrderByChangeLogIdAsc(any(), any());
+        assertThat(savedCreators(1)).containsExactly(9L);
+    }
+
+    private HistoryRecorder newRecorder() {
+        return new HistoryRecorder(List.of(handler), new ObjectMapper(), batchWriter,
+                new HistoryCreatorCache(meterRegistry, 1000), new HistoryInsertCounter(meterRegistry),
+                new HistorySnapshotCodec(List.of(handler), new ObjectMapper(), meterRegistry,
+                        HistorySnapshotCodec.Mode.FULL, 10, 100),
+                meterRegistry, true);
+    }
+
+    private CheckListItemHistory createHistory(Long targetId, Long creator) {
+        return CheckListItemHistory.builder()
+                .targetId(targetId)
+                .actionType(ActionType.CREATE)
+                .createdBy(creator)
+                .build();
+    }
+
+    private List<Long> savedCreators(int expectedSaves) {
+        ArgumentCaptor<CheckListItemHistory> captor = ArgumentCaptor.forClass(CheckListItemHistory.class);
+        verify(repository, times(expectedSaves)).save(captor.capture());
+        return captor.getAllValues().stream().map(BaseHistoryEntity::getCreatedBy).toList();
+    }
+
+    private void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+}
@@ -0,0 +1,184 @@
+package com.workhub.global.history;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workhub.checklist.entity.checkList.CheckListItemHistory;
+import com.workhub.checklist.repository.CheckListItemHistoryRepository;
+import com.workhub.global.entity.ActionType;
+import com.workhub.global.entity.HistoryType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HistorySnapshotCodecTest {
+
+    private static final long TARGET_ID = 7L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CheckListItemHistoryRepository repository = mock(CheckListItemHistoryRepository.class);
+    // change_log_id → 저장된 before_data (한 대상만 다룬다)
+    private final TreeMap<Long, String> rows = new TreeMap<>();
+
+    private final HistoryHandler handler = new HistoryHandler(repository, (targetId, actionType, beforeData, creator) ->
+            CheckListItemHistory.builder().targetId(targetId).actionType(actionType).beforeData(beforeData).build()) {
+        @Override
+        public HistoryType getType() {
+            return HistoryType.CHECK_LIST_ITEM;
+        }
+    };
+
+    @Test
+    @DisplayName("JSON Patch: 필드 추가/삭제/변경, 중첩 객체, 배열 길이 변화, 특수 문자 키를 diff → apply로 되돌린다.")
+    void givenTwoDocuments_whenDiffAndApply_thenTarget() throws Exception {
+        JsonNode source = objectMapper.readTree("""
+                {"title": "a", "removed": 1, "meta": {"tags": ["x", "y", "z"], "a/b": 1, "c~d": 2},
+                 "items": [{"id": 1, "done": false}, {"id": 2}]}""");
+        JsonNode target = objectMapper.readTree("""
+                {"title": "b", "added": null, "meta": {"tags": ["x"], "a/b": 3, "c~d": 2},
+                 "items": [{"id": 1, "done": true}, {"id": 2}, {"id": 3}]}""");
+
+        JsonNode patch = JsonPatch.diff(source, target);
+
+        assertThat(JsonPatch.apply(source, patch)).isEqualTo(target);
+        assertThat(JsonPatch.diff(target, target)).isEmpty();
+        assertThat(patch.toString()).contains("/meta/a~1b").doesNotContain("c~0d");
+        // 원본은 바뀌지 않는다
+        assertThat(source.get("title").asText()).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("DELTA: 직전 버전과의 패치를 저장하고 fullEvery 버전마다 전체 스냅샷을 둔다. 어느 버전이든 원래대로 복원된다.")
+    void givenDeltaMode_whenRecordVersions_thenFullEveryNAndReconstructAll() throws Exception {
+        HistorySnapshotCodec writer = codec(HistorySnapshotCodec.Mode.DELTA, 4);
+        List<String> versions = new ArrayList<>();
+        for (int version = 0; version < 10; version++) {
+            String snapshot = snapshot(version);
+            versions.add(snapshot);
+            store(writer.encode(HistoryType.CHECK_LIST_ITEM, TARGET_ID, snapshot));
+        }
+
+        // 1, 5, 9번째 행이 전체 스냅샷 (depth 0~3)
+        assertThat(rows.entrySet().stream().filter(row -> !isDelta(row.getValue())).map(Map.Entry::getKey))
+                .containsExactly(1L, 5L, 9L);
+        assertThat(rows.get(4L).length()).isLessThan(versions.get(3).length());
+
+        // 새 codec(빈 캐시)으로 복원
+        HistorySnapshotCodec reader = codec(HistorySnapshotCodec.Mode.FULL, 4);
+        for (int i = 0; i < versions.size(); i++) {
+            assertThat(objectMapper.readTree(reader.reconstruct(HistoryType.CHECK_LIST_ITEM, i + 1L)))
+                    .isEqualTo(objectMapper.readTree(versions.get(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("복원한 버전은 캐시되어 같은 체인의 다음 버전은 캐시된 직전 버전에서 이어서 복원한다.")
+    void givenReconstructedVersion_whenNextVersion_thenStartFromCache() throws Exception {
+        HistorySnapshotCodec writer = codec(HistorySnapshotCodec.Mode.DELTA, 10);
+        for (int version = 0; version < 5; version++) {
+            store(writer.encode(HistoryType.CHECK_LIST_ITEM, TARGET_ID, snapshot(version)));
+        }
+        HistorySnapshotCodec reader = codec(HistorySnapshotCodec.Mode.DELTA, 10);
+
+        reader.reconstruct(HistoryType.CHECK_LIST_ITEM, 4L);
+        assertThat(reader.cacheSize()).isEqualTo(4);
+        clearInvocations(repository);
+
+        String version5 = reader.resolve(HistoryType.CHECK_LIST_ITEM, 5L, rows.get(5L));
+
+        assertThat(objectMapper.readTree(version5)).isEqualTo(objectMapper.readTree(snapshot(4)));
+        verify(repository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("encodeAll은 대상들의 직전 버전을 쿼리 한 번으로 읽고, 입력 순서대로 델타/전체 스냅샷을 돌려준다.")
+    void givenSnapshotsOfSeveralTargets_whenEncodeAll_thenOneLatestQuery() throws Exception {
+        HistorySnapshotCodec codec = codec(HistorySnapshotCodec.Mode.DELTA, 10);
+        store(codec.encode(HistoryType.CHECK_LIST_ITEM, TARGET_ID, snapshot(0)));
+        clearInvocations(repository);
+        String firstOfOtherTarget = snapshot(0);
+
+        List<String> encoded = codec.encodeAll(HistoryType.CHECK_LIST_ITEM, List.of(
+                new HistorySnapshotCodec.Snapshot(TARGET_ID, snapshot(1)),
+                new HistorySnapshotCodec.Snapshot(TARGET_ID + 1, firstOfOtherTarget)));
+
+        assertThat(encoded).hasSize(2);
+        assertThat(isDelta(encoded.get(0))).isTrue();
+        assertThat(encoded.get(1)).isSameAs(firstOfOtherTarget);
+        verify(repository, times(1)).findLatestByTargetIdIn(anyCollection());
+        verify(repository, never()).findFirstByTargetIdOrderByChangeLogIdDesc(anyLong());
+
+        store(encoded.get(0));
+        assertThat(objectMapper.readTree(codec(HistorySnapshotCodec.Mode.FULL, 10)
+                .reconstruct(HistoryType.CHECK_LIST_ITEM, 2L)))
+                .isEqualTo(objectMapper.readTree(snapshot(1)));
+    }
+
+    @Test
+    @DisplayName("FULL 모드와 델타가 아닌 값은 그대로 돌려주고 직전 버전을 조회하지 않는다.")
+    void givenFullMode_whenEncode_thenUnchanged() {
+        HistorySnapshotCodec codec = codec(HistorySnapshotCodec.Mode.FULL, 10);
+        String snapshot = snapshot(0);
+
+        assertThat(codec.encode(HistoryType.CHECK_LIST_ITEM, TARGET_ID, snapshot)).isSameAs(snapshot);
+        assertThat(codec.resolve(HistoryType.CHECK_LIST_ITEM, 1L, snapshot)).isSameAs(snapshot);
+        verify(repository, never()).findFirstByTargetIdOrderByChangeLogIdDesc(anyLong());
+    }
+
+    private HistorySnapshotCodec codec(HistorySnapshotCodec.Mode mode, int fullEvery) {
+        when(repository.findFirstByTargetIdOrderByChangeLogIdDesc(TARGET_ID))
+                .thenAnswer(invocation -> Optional.ofNullable(rows.lastEntry()).map(latest -> row(latest.getKey())));
+        when(repository.findLatestByTargetIdIn(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).contains(TARGET_ID)
+                        && !rows.isEmpty() ? List.of(row(rows.lastKey())) : List.of());
+        when(repository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(rows.get(invocation.<Long>getArgument(0)))
+                        .map(data -> row(invocation.getArgument(0))));
+        return new HistorySnapshotCodec(List.of(handler), objectMapper, meterRegistry, mode, fullEvery, 100);
+    }
+
+    private void store(String beforeData) {
+        rows.put(rows.size() + 1L, beforeData);
+    }
+
+    private CheckListItemHistory row(Long changeLogId) {
+        return CheckListItemHistory.builder()
+                .changeLogId(changeLogId)
+                .targetId(TARGET_ID)
+                .actionType(ActionType.UPDATE)
+                .beforeData(rows.get(changeLogId))
+                .build();
+    }
+
+    private boolean isDelta(String beforeData) {
+        return beforeData.contains(HistorySnapshotCodec.DELTA_FIELD);
+    }
+
+    /**
+     * 본문은 그대로 두고 상태/담당자만 바뀌는 체크리스트 항목 스냅샷
+     */
+    private String snapshot(int version) {
+        return """
+                {"checkListItemId": %d, "title": "요구사항 정의서 검토", "content": "%s",
+                 "status": "%s", "assignees": %s, "updatedVersion": %d}"""
+                .formatted(TARGET_ID, "검토 항목 ".repeat(20), version % 2 == 0 ? "PENDING" : "DONE",
+                        version < 3 ? "[1, 2]" : "[1, 2, 3]", version);
+    }
+}
@@ -0,0 +1,332 @@
+package com.workhub.global.history;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workhub.config.TestAwsConfig;
+import com.workhub.global.entity.ActionType;
+import com.workhub.global.entity.BaseHistoryEntity;
+import com.workhub.global.entity.HistoryType;
+import com.workhub.post.dto.post.PostHistorySnapshot;
+import com.workhub.post.entity.PostHistory;
+import com.workhub.post.entity.PostType;
+import com.workhub.projectNode.dto.NodeSnapshot;
+import com.workhub.projectNode.entity.NodeStatus;
+import com.workhub.projectNode.entity.ProjectNodeHistory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 편집 이력을 전체 스냅샷(FULL)과 델타(DELTA, 10버전마다 전체)로 각각 저장해 before_data 크기와 복원 시간을 비교한다.
+ * - 프로젝트 노드: 상태/순서/담당자/일정 위주의 수정에 가끔 설명 수정 (메타데이터 편집)
+ * - 게시글: 제목 또는 본문 수정 (문자열 전체가 바뀌므로 델타 이득이 작다)
+ * 실제 DB가 필요하므로 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestAwsConfig.class)
+class HistorySnapshotDeltaBenchmarkTest {
+
+    private static final int TARGETS = 100;
+    private static final int VERSIONS = 40;
+    private static final int FULL_EVERY = 10;
+    // 델타 모드로 저장하는 대상은 ID를 띄워 FULL 모드 대상의 직전 버전을 보지 않게 한다.
+    private static final long DELTA_TARGET_OFFSET = 100_000;
+    private static final int SAMPLES = 300;
+    private static final int WARMUP = 50;
+
+    private static final String PARAGRAPH = "이번 스프린트에서는 요구사항 정의서와 화면 설계서를 기준으로 기능 범위를 확정하고, "
+            + "고객사 검수 일정에 맞춰 개발 우선순위를 조정합니다. ";
+
+    @Autowired
+    private List<HistoryHandler> handlers;
+
+    @Autowired
+    private HistoryBatchWriter batchWriter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        truncate();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        truncate();
+    }
+
+    @Test
+    @DisplayName("편집 이력별 저장 크기를 비교하고, 델타로 저장한 모든 버전이 원래 스냅샷으로 복원된다.")
+    void compareStoredBytes() throws Exception {
+        Map<Long, List<String>> nodes = write(HistoryType.PROJECT_NODE, nodeHistories(),
+                snapshot -> ProjectNodeHistory.builder().beforeData(snapshot));
+        Map<Long, List<String>> posts = write(HistoryType.POST, postHistories(),
+                snapshot -> PostHistory.builder().beforeData(snapshot));
+
+        double nodeRatio = report("project_node_history");
+        double postRatio = report("post_history");
+
+        // 메타데이터 위주 편집은 크게 줄고, 어떤 편집이든 전체 스냅샷보다 커지지 않는다.
+        assertThat(nodeRatio).isLessThan(0.5);
+        assertThat(postRatio).isLessThanOrEqualTo(1.0);
+
+        HistorySnapshotCodec reader = codec(HistorySnapshotCodec.Mode.FULL);
+        verifyReconstruct(reader, HistoryType.PROJECT_NODE, "project_node_history", nodes);
+        verifyReconstruct(reader, HistoryType.POST, "post_history", posts);
+    }
+
+    @Test
+    @DisplayName("복원 시간: 전체 스냅샷 단건 조회 vs 캐시 없이 체인 복원 vs 대상 이력을 최신순으로 읽을 때(캐시 재사용)")
+    void compareReconstructLatency() {
+        write(HistoryType.PROJECT_NODE, nodeHistories(), snapshot -> ProjectNodeHistory.builder().beforeData(snapshot));
+        HistoryType type = HistoryType.PROJECT_NODE;
+        Random random = new Random(7);
+
+        List<Long> fullIds = ids("project_node_history", "full");
+        HistorySnapshotCodec fullReader = codec(HistorySnapshotCodec.Mode.FULL);
+        double fullMs = p50(() -> {
+            long id = fullIds.get(random.nextInt(fullIds.size()));
+            return () -> fullReader.reconstruct(type, id);
+        });
+
+        List<Long> deltaIds = ids("project_node_history", "delta");
+        double coldMs = p50(() -> {
+            long id = deltaIds.get(random.nextInt(deltaIds.size()));
+            HistorySnapshotCodec cold = codec(HistorySnapshotCodec.Mode.FULL);
+            return () -> cold.reconstruct(type, id);
+        });
+
+        // 화면에서 대상 하나의 이력을 최신순으로 넘겨보는 경우: 첫 조회가 체인을 복원하며 이전 버전을 캐시에 채운다.
+        HistorySnapshotCodec warm = codec(HistorySnapshotCodec.Mode.FULL);
+        List<Long> timeline = new ArrayList<>();
+        for (long target = DELTA_TARGET_OFFSET + 1; target <= DELTA_TARGET_OFFSET + TARGETS; target++) {
+            timeline.addAll(jdbcTemplate.queryForList(
+                    "SELECT change_log_id FROM project_node_history WHERE target_id = ? ORDER BY change_log_id DESC",
+                    Long.class, target));
+        }
+        int[] position = {0};
+        double warmMs = p50(() -> {
+            long id = timeline.get(position[0]++ % timeline.size());
+            return () -> warm.reconstruct(type, id);
+        });
+
+        System.out.printf("[history-snapshot] reconstruct p50 full=%.3fms delta-cold=%.3fms delta-timeline=%.3fms%n",
+                fullMs, coldMs, warmMs);
+    }
+
+    /**
+     * 같은 편집 이력을 FULL/DELTA 모드로 각각 저장한다. 버전마다 모든 대상을 한 번씩 수정하는 순서로 쓴다.
+     *
+     * @return DELTA로 저장한 대상 ID → 버전별 원래 스냅샷
+     */
+    private Map<Long, List<String>> write(HistoryType type, List<List<String>> histories,
+                                          Function<String, BaseHistoryEntity.BaseHistoryEntityBuilder<?, ?>> builder) {
+        HistorySnapshotCodec full = codec(HistorySnapshotCodec.Mode.FULL);
+        HistorySnapshotCodec delta = codec(HistorySnapshotCodec.Mode.DELTA);
+        Map<Long, List<String>> expected = new LinkedHashMap<>();
+
+        for (int version = 0; version < VERSIONS; version++) {
+            for (int index = 0; index < histories.size(); index++) {
+                String snapshot = histories.get(index).get(version);
+                long fullTarget = index + 1;
+                long deltaTarget = DELTA_TARGET_OFFSET + index + 1;
+                insert(type, builder, fullTarget, full.encode(type, fullTarget, snapshot), "full", version);
+                insert(type, builder, deltaTarget, delta.encode(type, deltaTarget, snapshot), "delta", version);
+                expected.computeIfAbsent(deltaTarget, id -> new ArrayList<>()).add(snapshot);
+            }
+        }
+        return expected;
+    }
+
+    private void insert(HistoryType type, Function<String, BaseHistoryEntity.BaseHistoryEntityBuilder<?, ?>> builder,
+                        long targetId, String beforeData, String mode, int version) {
+        BaseHistoryEntity history = builder.apply(beforeData)
+                .targetId(targetId)
+                .actionType(version == 0 ? ActionType.CREATE : ActionType.UPDATE)
+                .createdBy(1L)
+                .updatedBy(2L)
+                .updatedAt(LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(version))
+                .ipAddress("127.0.0.1")
+                .userAgent(mode)
+                .build();
+        batchWriter.insert(type, history.getClass(), List.of(history));
+    }
+
+    private void verifyReconstruct(HistorySnapshotCodec reader, HistoryType type, String table,
+                                   Map<Long, List<String>> expected) throws JsonProcessingException {
+        for (Map.Entry<Long, List<String>> entry : expected.entrySet()) {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT change_log_id FROM " + table + " WHERE target_id = ? ORDER BY change_log_id",
+                    Long.class, entry.getKey());
+            assertThat(ids).hasSize(VERSIONS);
+            for (int version = 0; version < VERSIONS; version++) {
+                assertThat(objectMapper.readTree(reader.reconstruct(type, ids.get(version))))
+                        .as("%s target=%d version=%d", type, entry.getKey(), version)
+                        .isEqualTo(objectMapper.readTree(entry.getValue().get(version)));
+            }
+        }
+    }
+
+    /**
+     * @return DELTA 저장 크기 / FULL 저장 크기 (JSON 텍스트 기준)
+     */
+    private double report(String table) {
+        Map<String, Object> row = jdbcTemplate.queryForMap("""
+                SELECT SUM(octet_length(before_data::text)) FILTER (WHERE user_agent = 'full') AS full_text,
+                       SUM(octet_length(before_data::text)) FILTER (WHERE user_agent = 'delta') AS delta_text,
+                       SUM(pg_column_size(before_data)) FILTER (WHERE user_agent = 'full') AS full_stored,
+                       SUM(pg_column_size(before_data)) FILTER (WHERE user_agent = 'delta') AS delta_stored,
+                       COUNT(*) FILTER (WHERE user_agent = 'delta' AND before_data -> '@delta' IS NOT NULL) AS delta_rows
+                FROM %s
+                """.formatted(table));
+        long fullText = ((Number) row.get("full_text")).longValue();
+        long deltaText = ((Number) row.get("delta_text")).longValue();
+        double ratio = (double) deltaText / fullText;
+        System.out.printf("[history-snapshot] %s rows=%d delta-rows=%d text full=%dB delta=%dB (x%.2f) "
+                        + "stored full=%sB delta=%sB%n",
+                table, TARGETS * VERSIONS, ((Number) row.get("delta_rows")).longValue(), fullText, deltaText, ratio,
+                row.get("full_stored"), row.get("delta_stored"));
+        return ratio;
+    }
+
+    /**
+     * 노드 하나당 VERSIONS개 버전. 상태 변경 50%, 순서 20%, 담당자 10%, 종료일 10%, 설명 수정 10%.
+     */
+    private List<List<String>> nodeHistories() {
+        Random random = new Random(42);
+        NodeStatus[] statuses = NodeStatus.values();
+        List<List<String>> histories = new ArrayList<>();
+        for (int node = 1; node <= TARGETS; node++) {
+            String title = "노드 " + node + " - 화면 설계 및 API 연동";
+            String description = PARAGRAPH.repeat(4);
+            NodeStatus status = NodeStatus.NOT_STARTED;
+            int order = node;
+            long developer = 10 + node % 7;
+            LocalDate start = LocalDate.of(2026, 1, 1).plusDays(node);
+            LocalDate end = start.plusDays(30);
+            LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+            List<String> versions = new ArrayList<>();
+            for (int version = 0; version < VERSIONS; version++) {
+                if (version > 0) {
+                    int edit = random.nextInt(10);
+                    if (edit < 5) status = statuses[random.nextInt(statuses.length)];
+                    else if (edit < 7) order = random.nextInt(TARGETS) + 1;
+                    else if (edit < 8) developer = 10 + random.nextInt(7);
+                    else if (edit < 9) end = end.plusDays(random.nextInt(14) + 1);
+                    else description = description + "변경 사항 " + version + " 반영. ";
+                    updatedAt = updatedAt.plusHours(random.nextInt(48) + 1);
+                }
+                versions.add(json(NodeSnapshot.builder()
+                        .projectId(1L)
+                        .projectNodeId((long) node)
+                        .title(title)
+                        .description(description)
+                        .nodeStatus(status)
+                        .nodeOrder(order)
+                        .developerUserId(developer)
+                        .updatedAt(updatedAt)
+                        .starDate(start)
+                        .endDate(end)
+                        .build()));
+            }
+            histories.add(versions);
+        }
+        return histories;
+    }
+
+    /**
+     * 게시글 하나당 VERSIONS개 버전. 제목 수정 40%, 본문 문단 하나 수정 60%.
+     */
+    private List<List<String>> postHistories() {
+        Random random = new Random(43);
+        List<List<String>> histories = new ArrayList<>();
+        for (int post = 1; post <= TARGETS; post++) {
+            String title = "[공지] " + post + "차 스프린트 계획";
+            String[] paragraphs = new String[5];
+            Arrays.fill(paragraphs, PARAGRAPH.repeat(3));
+
+            List<String> versions = new ArrayList<>();
+            for (int version = 0; version < VERSIONS; version++) {
+                if (version > 0) {
+                    if (random.nextInt(10) < 4) {
+                        title = "[공지] " + post + "차 스프린트 계획 (수정 " + version + ")";
+                    } else {
+                        int paragraph = random.nextInt(paragraphs.length);
+                        paragraphs[paragraph] = paragraphs[paragraph] + "추가 " + version + ". ";
+                    }
+                }
+                versions.add(json(new PostHistorySnapshot(
+                        title, String.join("\n\n", paragraphs), PostType.NOTICE, "10.0.0." + post, null)));
+            }
+            histories.add(versions);
+        }
+        return histories;
+    }
+
+    private List<Long> ids(String table, String mode) {
+        return jdbcTemplate.queryForList(
+                "SELECT change_log_id FROM " + table + " WHERE user_agent = ? ORDER BY change_log_id", Long.class, mode);
+    }
+
+    private HistorySnapshotCodec codec(HistorySnapshotCodec.Mode mode) {
+        return new HistorySnapshotCodec(handlers, objectMapper, new SimpleMeterRegistry(), mode, FULL_EVERY, 10_000);
+    }
+
+    private String json(Object snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param prepare 측정 전 준비(새 codec 생성 등)를 하고 측정할 호출을 돌려준다
+     */
+    private double p50(Supplier<Runnable> prepare) {
+        for (int i = 0; i < WARMUP; i++) {
+            prepare.get().run();
+        }
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            Runnable call = prepare.get();
+            long start = System.nanoTime();
+            call.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2] / 1_000_000.0;
+    }
+
+    private void truncate() {
+        jdbcTemplate.execute("TRUNCATE project_node_history, post_history RESTART IDENTITY");
+    }
+}
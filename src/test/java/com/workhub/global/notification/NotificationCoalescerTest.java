@@ -0,0 +1,235 @@
+package com.workhub.global.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workhub.projectNotification.dto.NotificationPublishRequest;
+import com.workhub.projectNotification.entity.NotificationDigest;
+import com.workhub.projectNotification.entity.NotificationType;
+import com.workhub.projectNotification.repository.NotificationDigestRepository;
+import com.workhub.projectNotification.service.ProjectNotificationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class NotificationCoalescerTest {
+
+    private static final Set<NotificationType> TYPES = Set.of(NotificationType.PROJECT_NODE_UPDATED);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProjectNotificationService notificationService = mock(ProjectNotificationService.class);
+    private final NotificationDigestRepository digestRepository = mock(NotificationDigestRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 시작하지 않은 디스패처는 작업을 호출 스레드에서 바로 실행한다.
+    private final NotificationDispatcher dispatcher = new NotificationDispatcher(
+            meterRegistry, 1, 10, NotificationDispatchPolicy.BLOCK, 100, 1000);
+    private NotificationCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null && coalescer.isRunning()) {
+            coalescer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("구간 안에 같은 (프로젝트, 타입) 알림이 여러 건 들어오면 바로 발행하지 않고 수신자마다 같은 구간의 대기 행에 쌓는다.")
+    void givenBurst_whenSubmit_thenAppendRowsInOneWindow() {
+        coalescer = newCoalescer(60_000);
+        coalescer.start();
+
+        for (long nodeId = 1; nodeId <= 30; nodeId++) {
+            coalescer.submit(7L, nodeUpdated(nodeId), Set.of(1L, 2L));
+        }
+
+        ArgumentCaptor<LocalDateTime> flushAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(digestRepository, times(30)).append(eq(1L), eq(7L), eq("PROJECT_NODE_UPDATED"), anyString(), anyLong(), flushAt.capture());
+        verify(digestRepository, times(30)).append(eq(2L), eq(7L), eq("PROJECT_NODE_UPDATED"), anyString(), anyLong(), flushAt.capture());
+        assertThat(flushAt.getAllValues()).containsOnly(flushAt.getValue());
+        verify(notificationService, never()).publishAll(any(), anyCollection());
+        assertThat(coalescer.pendingBursts()).isEqualTo(1);
+        assertThat(meterRegistry.counter("notification.coalesce.events.in", "type", "PROJECT_NODE_UPDATED").count())
+                .isEqualTo(60.0);
+    }
+
+    @Test
+    @DisplayName("구간이 끝나면 예약해 둔 발행이 대기 행을 가져가 수신자마다 요약 알림 한 건으로 발행하고 행을 지운다.")
+    void givenBurst_whenWindowEnds_thenPublishDueRows() throws Exception {
+        coalescer = newCoalescer(50);
+        coalescer.start();
+        String last = objectMapper.writeValueAsString(nodeUpdated(30L));
+        List<NotificationDigest> due = List.of(
+                digest(1L, "PROJECT_NODE_UPDATED", last, 30, 100L),
+                digest(2L, "PROJECT_NODE_UPDATED", last, 30, 100L));
+        when(digestRepository.lockDue(any(LocalDateTime.class), anyInt())).thenReturn(due, List.of());
+
+        coalescer.submit(7L, nodeUpdated(30L), Set.of(1L, 2L));
+        awaitFlushed();
+
+        ArgumentCaptor<NotificationPublishRequest> captor = ArgumentCaptor.forClass(NotificationPublishRequest.class);
+        verify(notificationService, timeout(1000).times(1)).publishAll(captor.capture(), eq(Set.of(1L, 2L)));
+        assertThat(captor.getValue().projectId()).isEqualTo(7L);
+        assertThat(captor.getValue().projectNodeId()).isNull();
+        assertThat(captor.getValue().title()).isEqualTo("node-30 외 29건");
+        verify(digestRepository, timeout(1000)).deleteAllInBatch(due);
+        assertThat(meterRegistry.counter("notification.coalesce.notifications.out",
+                "type", "PROJECT_NODE_UPDATED", "kind", "digest").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("건수가 같아도 마지막으로 받은 알림이 다른 수신자는 각자의 마지막 알림으로 요약한다.")
+    void givenSameCountDifferentLast_whenFlush_thenDigestPerLastEvent() throws Exception {
+        coalescer = newCoalescer(50);
+        when(digestRepository.lockDue(any(LocalDateTime.class), anyInt())).thenReturn(List.of(
+                digest(1L, "PROJECT_NODE_UPDATED", objectMapper.writeValueAsString(nodeUpdated(2L)), 2, 100L),
+                digest(2L, "PROJECT_NODE_UPDATED", objectMapper.writeValueAsString(nodeUpdated(3L)), 2, 100L)));
+
+        coalescer.flushDueDigests();
+
+        verify(notificationService).publishAll(argThat(request -> "node-2 외 1건".equals(request.title())), eq(Set.of(1L)));
+        verify(notificationService).publishAll(argThat(request -> "node-3 외 1건".equals(request.title())), eq(Set.of(2L)));
+    }
+
+    @Test
+    @DisplayName("묶음 대상이 아닌 타입은 구간을 기다리지 않고 바로 발행한다.")
+    void givenNonCoalescedType_whenSubmit_thenPublishImmediately() {
+        coalescer = newCoalescer(50);
+        coalescer.start();
+        NotificationPublishRequest created = NotificationPublishRequest.forProjectNode(null, NotificationType.PROJECT_NODE_CREATED, 1L)
+                .title("node-1");
+
+        coalescer.submit(7L, created, Set.of(1L));
+
+        verify(notificationService).publishAll(same(created), anyCollection());
+        assertThat(coalescer.pendingBursts()).isZero();
+    }
+
+    @Test
+    @DisplayName("DIGEST 수신자의 알림은 바로 발행하지 않고 (수신자, 프로젝트) 요약 대기 행에 쌓는다.")
+    void givenDigestReceivers_whenSubmitDigest_thenAppendPendingRows() throws Exception {
+        coalescer = newCoalescer(50);
+        NotificationPublishRequest created = NotificationPublishRequest.forProject(null, NotificationType.PROJECT_INFO_UPDATED, 7L)
+                .title("project-1")
+                .originAtMillis(1000L);
+
+        coalescer.submitDigest(7L, created, Set.of(1L, 2L));
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(digestRepository).append(eq(1L), eq(7L), eq(NotificationDigest.DIGEST_KEY), payload.capture(), eq(1000L),
+                any(LocalDateTime.class));
+        verify(digestRepository).append(eq(2L), eq(7L), eq(NotificationDigest.DIGEST_KEY), eq(payload.getValue()), eq(1000L),
+                any(LocalDateTime.class));
+        verify(notificationService, never()).publishAll(any(), anyCollection());
+        NotificationPublishRequest restored = objectMapper.readValue(payload.getValue(), NotificationPublishRequest.class);
+        assertThat(restored.type()).isEqualTo(NotificationType.PROJECT_INFO_UPDATED);
+        assertThat(restored.title()).isEqualTo("project-1");
+        assertThat(restored.projectId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("요약 구간이 끝난 대기 행은 타입과 관계없이 건수로 요약해 발행하고, 한 건뿐이면 원래 알림을 발행한 뒤 행을 지운다.")
+    void givenDueDigests_whenFlush_thenPublishSummaryAndDeleteRows() throws Exception {
+        coalescer = newCoalescer(50);
+        String last = objectMapper.writeValueAsString(NotificationPublishRequest.forProjectNode(null, NotificationType.CHECKLIST_UPDATED, 3L)
+                .title("checklist-3"));
+        List<NotificationDigest> due = List.of(
+                digest(1L, NotificationDigest.DIGEST_KEY, last, 3, 500L),
+                digest(2L, NotificationDigest.DIGEST_KEY, last, 3, 300L),
+                digest(3L, NotificationDigest.DIGEST_KEY, last, 1, 900L));
+        when(digestRepository.lockDue(any(LocalDateTime.class), anyInt())).thenReturn(due);
+
+        coalescer.flushDueDigests();
+
+        ArgumentCaptor<NotificationPublishRequest> captor = ArgumentCaptor.forClass(NotificationPublishRequest.class);
+        verify(notificationService).publishAll(captor.capture(), eq(Set.of(1L, 2L)));
+        assertThat(captor.getValue().title()).isEqualTo("checklist-3 외 2건");
+        assertThat(captor.getValue().projectId()).isEqualTo(7L);
+        assertThat(captor.getValue().projectNodeId()).isNull();
+        assertThat(captor.getValue().originAtMillis()).isEqualTo(300L);
+        verify(notificationService).publishAll(argThat(request -> "checklist-3".equals(request.title())
+                && Long.valueOf(3L).equals(request.projectNodeId())), eq(Set.of(3L)));
+        verify(digestRepository).deleteAllInBatch(due);
+        assertThat(meterRegistry.counter("notification.coalesce.notifications.out",
+                "type", "CHECKLIST_UPDATED", "kind", "digest").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("요약 발행이 실패하면 대기 행을 지우지 않고 다음 주기에 다시 시도한다.")
+    void givenPublishFails_whenFlush_thenKeepRows() throws Exception {
+        coalescer = newCoalescer(50);
+        String last = objectMapper.writeValueAsString(NotificationPublishRequest.forProject(null, NotificationType.PROJECT_INFO_UPDATED, 7L)
+                .title("project-1"));
+        when(digestRepository.lockDue(any(LocalDateTime.class), anyInt())).thenReturn(List.of(digest(1L, NotificationDigest.DIGEST_KEY, last, 2, 100L)));
+        doThrow(new IllegalStateException("db down")).when(notificationService).publishAll(any(), anyCollection());
+
+        coalescer.flushDueDigests();
+
+        verify(digestRepository, never()).deleteAllInBatch(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("종료 시 구간이 끝나지 않은 묶음은 발행하지 않고 대기 행을 주기 폴링에 남긴다.")
+    void givenPendingBurst_whenStop_thenLeaveRowsToPolling() {
+        coalescer = newCoalescer(60_000);
+        coalescer.start();
+        coalescer.submit(7L, nodeUpdated(1L), Set.of(1L));
+        coalescer.submit(7L, nodeUpdated(2L), Set.of(1L));
+
+        coalescer.stop();
+
+        verify(digestRepository, times(2)).append(eq(1L), eq(7L), eq("PROJECT_NODE_UPDATED"), anyString(), anyLong(), any());
+        verify(notificationService, never()).publishAll(any(), anyCollection());
+        verify(digestRepository, never()).deleteAllInBatch(any());
+        assertThat(coalescer.pendingBursts()).isZero();
+    }
+
+    private NotificationCoalescer newCoalescer(long windowMs) {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        return new NotificationCoalescer(notificationService, dispatcher, digestRepository, objectMapper,
+                transactionManager, meterRegistry, windowMs, windowMs, 100, TYPES);
+    }
+
+    private NotificationDigest digest(Long userId, String coalesceKey, String lastRequest, int count, long firstOriginAtMillis) {
+        return NotificationDigest.builder()
+                .userId(userId)
+                .projectId(7L)
+                .coalesceKey(coalesceKey)
+                .lastRequest(lastRequest)
+                .pendingCount(count)
+                .firstOriginAtMillis(firstOriginAtMillis)
+                .flushAt(LocalDateTime.now())
+                .build();
+    }
+
+    private NotificationPublishRequest nodeUpdated(Long nodeId) {
+        return NotificationPublishRequest.forProjectNode(null, NotificationType.PROJECT_NODE_UPDATED, nodeId)
+                .title("node-" + nodeId)
+                .content("프로젝트 노드가 수정되었습니다. (순서)");
+    }
+
+    private void awaitFlushed() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (coalescer.pendingBursts() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        // 구간이 맵에서 빠진 뒤 대기 행 발행까지 끝나도록 잠시 기다린다.
+        Thread.sleep(50);
+    }
+}
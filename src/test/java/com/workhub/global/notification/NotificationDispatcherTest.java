@@ -0,0 +1,104 @@
+package com.workhub.global.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (dispatcher != null && dispatcher.isRunning()) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("디스패치된 작업은 호출 스레드가 아닌 워커 가상 스레드에서 실행된다.")
+    void givenStartedDispatcher_whenDispatch_thenRunOnVirtualWorker() throws InterruptedException {
+        dispatcher = newDispatcher(NotificationDispatchPolicy.BLOCK, 10);
+        dispatcher.start();
+        CountDownLatch done = new CountDownLatch(1);
+        List<Thread> executedOn = new CopyOnWriteArrayList<>();
+
+        dispatcher.dispatch(() -> {
+            executedOn.add(Thread.currentThread());
+            done.countDown();
+        });
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(executedOn.get(0)).isNotSameAs(Thread.currentThread());
+        assertThat(executedOn.get(0).isVirtual()).isTrue();
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS 정책은 큐가 가득 차면 호출 스레드에서 실행하고 거절 수를 기록한다.")
+    void givenFullQueue_whenCallerRuns_thenExecuteOnCallerThread() throws InterruptedException {
+        dispatcher = newDispatcher(NotificationDispatchPolicy.CALLER_RUNS, 1);
+        dispatcher.start();
+        occupyWorkerAndFillQueue();
+        List<Thread> executedOn = new CopyOnWriteArrayList<>();
+
+        dispatcher.dispatch(() -> executedOn.add(Thread.currentThread()));
+
+        assertThat(executedOn).containsExactly(Thread.currentThread());
+        assertThat(meterRegistry.get("notification.dispatch.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 작업을 모두 처리한다.")
+    void givenQueuedTasks_whenStop_thenDrainAll() throws InterruptedException {
+        dispatcher = newDispatcher(NotificationDispatchPolicy.BLOCK, 100);
+        dispatcher.start();
+        AtomicInteger executed = new AtomicInteger();
+        occupyWorker();
+        for (int i = 0; i < 50; i++) {
+            dispatcher.dispatch(executed::incrementAndGet);
+        }
+
+        release.countDown();
+        dispatcher.stop();
+
+        assertThat(executed.get()).isEqualTo(50);
+        assertThat(dispatcher.queueDepth()).isZero();
+    }
+
+    private NotificationDispatcher newDispatcher(NotificationDispatchPolicy policy, int capacity) {
+        return new NotificationDispatcher(meterRegistry, 1, capacity, policy, 50L, 5_000L);
+    }
+
+    private void occupyWorker() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher.dispatch(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private AtomicInteger occupyWorkerAndFillQueue() throws InterruptedException {
+        occupyWorker();
+        AtomicInteger queued = new AtomicInteger();
+        dispatcher.dispatch(queued::incrementAndGet);
+        assertThat(dispatcher.queueDepth()).isEqualTo(1);
+        return queued;
+    }
+}
@@ -0,0 +1,49 @@
+package com.workhub.global.notification;
+
+import com.workhub.projectNotification.entity.NotificationType;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationLatencyRecorderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationLatencyRecorder recorder = new NotificationLatencyRecorder(meterRegistry);
+
+    @Test
+    @DisplayName("단계별 지연은 이벤트 발생 시각 기준으로 타입/단계 태그를 붙여 기록한다.")
+    void givenOrigin_whenRecord_thenElapsedSinceOriginPerTypeAndStage() {
+        recorder.record(NotificationType.POST_CREATED, NotificationLatencyRecorder.Stage.PERSISTED, 1_000L, 1_250L);
+        recorder.record(NotificationType.POST_CREATED, NotificationLatencyRecorder.Stage.DELIVERED, 1_000L, 1_400L);
+
+        Timer persisted = meterRegistry.get(NotificationLatencyRecorder.LATENCY_METRIC)
+                .tags("type", "POST_CREATED", "stage", "persisted").timer();
+        Timer delivered = meterRegistry.get(NotificationLatencyRecorder.LATENCY_METRIC)
+                .tags("type", "POST_CREATED", "stage", "delivered").timer();
+        assertThat(persisted.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(250.0);
+        assertThat(delivered.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(400.0);
+    }
+
+    @Test
+    @DisplayName("발생 시각을 모르면(0) 지연을 기록하지 않는다.")
+    void givenUnknownOrigin_whenRecord_thenSkip() {
+        recorder.record(NotificationType.POST_CREATED, NotificationLatencyRecorder.Stage.DELIVERED, 0L);
+
+        assertThat(meterRegistry.find(NotificationLatencyRecorder.LATENCY_METRIC).timers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("팬아웃 크기는 타입별 분포로 기록한다.")
+    void givenFanouts_whenRecordFanout_thenDistributionPerType() {
+        recorder.recordFanout(NotificationType.STATUS_CHANGED, 3);
+        recorder.recordFanout(NotificationType.STATUS_CHANGED, 7);
+
+        assertThat(meterRegistry.get(NotificationLatencyRecorder.FANOUT_METRIC)
+                .tag("type", "STATUS_CHANGED").summary().totalAmount()).isEqualTo(10.0);
+    }
+}
@@ -0,0 +1,106 @@
+package com.workhub.global.notification;
+
+import com.workhub.global.security.CustomUserDetails;
+import com.workhub.userTable.entity.Status;
+import com.workhub.userTable.entity.UserRole;
+import com.workhub.userTable.entity.UserTable;
+import com.workhub.userTable.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SenderProfileCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    @Test
+    @DisplayName("로그인 사용자 본인이 발신자면 DB를 조회하지 않고 principal 정보를 쓴다.")
+    void givenPrincipal_whenResolve_thenSkipDatabase() {
+        SenderProfileCache cache = new SenderProfileCache(userRepository, meterRegistry, 300, 100);
+        CustomUserDetails principal = new CustomUserDetails(user(1L, "홍길동", "img-1"));
+
+        SenderProfile profile = cache.resolve(1L, principal);
+
+        assertThat(profile).isEqualTo(new SenderProfile(1L, "홍길동", "img-1"));
+        verifyNoInteractions(userRepository);
+        assertThat(meterRegistry.timer("notification.sender.lookup", "source", "principal").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("principal이 없으면 처음 한 번만 DB에서 읽고 이후에는 캐시에서 돌려준다.")
+    void givenNoPrincipal_whenResolveTwice_thenLoadOnce() {
+        SenderProfileCache cache = new SenderProfileCache(userRepository, meterRegistry, 300, 100);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user(2L, "김철수", "img-2")));
+
+        SenderProfile first = cache.resolve(2L, null);
+        SenderProfile second = cache.resolve(2L, null);
+
+        assertThat(first).isEqualTo(second).isEqualTo(new SenderProfile(2L, "김철수", "img-2"));
+        verify(userRepository, times(1)).findById(2L);
+        assertThat(meterRegistry.timer("notification.sender.lookup", "source", "cache").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("notification.sender.lookup", "source", "db").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프로필이 바뀌면 캐시와 변경 이전에 만들어진 principal을 모두 건너뛰고 DB에서 다시 읽는다.")
+    void givenInvalidated_whenResolve_thenReloadFromDatabase() throws InterruptedException {
+        SenderProfileCache cache = new SenderProfileCache(userRepository, meterRegistry, 300, 100);
+        CustomUserDetails stalePrincipal = new CustomUserDetails(user(3L, "이영희", "old"));
+        when(userRepository.findById(3L))
+                .thenReturn(Optional.of(user(3L, "이영희", "old")))
+                .thenReturn(Optional.of(user(3L, "이영희", "new")));
+        cache.resolve(3L, null);
+
+        Thread.sleep(2);
+        cache.invalidate(3L);
+
+        assertThat(cache.resolve(3L, stalePrincipal).profileImg()).isEqualTo("new");
+        verify(userRepository, times(2)).findById(3L);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 캐시 크기를 상한 안으로 유지한다.")
+    void givenMaxEntries_whenLoadMore_thenStayBounded() {
+        SenderProfileCache cache = new SenderProfileCache(userRepository, meterRegistry, 300, 2);
+        for (long userId = 1; userId <= 5; userId++) {
+            long id = userId;
+            when(userRepository.findById(id)).thenReturn(Optional.of(user(id, "user-" + id, null)));
+            cache.resolve(id, null);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 DB에서 다시 읽는다.")
+    void givenExpired_whenResolve_thenReload() {
+        SenderProfileCache cache = new SenderProfileCache(userRepository, meterRegistry, 0, 100);
+        when(userRepository.findById(4L)).thenReturn(Optional.of(user(4L, "박민수", null)));
+
+        cache.resolve(4L, null);
+        cache.resolve(4L, null);
+
+        verify(userRepository, times(2)).findById(4L);
+    }
+
+    private UserTable user(Long userId, String name, String profileImg) {
+        return UserTable.builder()
+                .userId(userId)
+                .loginId("login-" + userId)
+                .password("encoded")
+                .email(userId + "@workhub.com")
+                .phone("01012345678")
+                .profileImg(profileImg)
+                .userName(name)
+                .role(UserRole.CLIENT)
+                .status(Status.ACTIVE)
+                .companyId(1L)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.workhub.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workhub.global.notification.NotificationActorContext;
+import com.workhub.projectNode.event.ProjectNodeApprovedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboxMessageRepository repository = mock(OutboxMessageRepository.class);
+    private final OutboxSerializer serializer = new OutboxSerializer(new ObjectMapper().findAndRegisterModules());
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(repository.renewLease(any(), any(), any())).thenReturn(1);
+        when(repository.markDone(any(), any(), any())).thenReturn(1);
+        when(repository.recordFailure(any(), any(), any(), anyInt(), any(), any(), any())).thenReturn(1);
+        relay = new OutboxRelay(repository, serializer, eventPublisher, transactionManager, meterRegistry,
+                1, 10, 100, 3, 72, 120);
+    }
+
+    @Test
+    @DisplayName("가져온 메시지를 전달 중으로 표시한 뒤 발신자 정보와 함께 리스너로 전달하고 DONE으로 표시한다.")
+    void givenPendingMessage_whenRelayBatch_thenDeliverAndMarkDone() throws Exception {
+        ProjectNodeApprovedEvent event = new ProjectNodeApprovedEvent(1L, 2L, "노드", "승인");
+        OutboxMessage message = message(1L, event, 7L);
+        when(repository.lockClaimable(any(LocalDateTime.class), anyInt())).thenReturn(List.of(message));
+        List<Object> delivered = new ArrayList<>();
+        List<Long> actors = new ArrayList<>();
+        List<OutboxStatus> statuses = new ArrayList<>();
+        doAnswer(invocation -> {
+            delivered.add(invocation.getArgument(0));
+            actors.add(NotificationActorContext.currentUserId().orElse(null));
+            statuses.add(message.getStatus());
+            return null;
+        }).when(eventPublisher).publishEvent(any(Object.class));
+
+        int relayed = relay.relayBatch();
+
+        assertThat(relayed).isEqualTo(1);
+        assertThat(delivered).containsExactly(new OutboxDelivery<>(1L, event));
+        assertThat(actors).containsExactly(7L);
+        assertThat(statuses).containsExactly(OutboxStatus.IN_PROGRESS);
+        verify(repository).markDone(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class));
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.DONE);
+        assertThat(message.getProcessedAt()).isNotNull();
+        assertThat(meterRegistry.counter("notification.outbox.delivered").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("리스너가 실패하면 재시도 시각을 미루고, 최대 시도 횟수에 도달하면 FAILED로 남긴다.")
+    void givenFailingListener_whenRelayBatch_thenBackoffAndEventuallyFail() throws Exception {
+        OutboxMessage message = message(1L, new ProjectNodeApprovedEvent(1L, 2L, "노드", "승인"), null);
+        when(repository.lockClaimable(any(LocalDateTime.class), anyInt())).thenReturn(List.of(message));
+        doThrow(new IllegalStateException("boom")).when(eventPublisher).publishEvent(any(Object.class));
+
+        relay.relayBatch();
+
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(message.getAttempts()).isEqualTo(1);
+        assertThat(message.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(message.getLastError()).contains("boom");
+        verify(repository).recordFailure(eq(1L), any(LocalDateTime.class), eq(OutboxStatus.PENDING), eq(1),
+                any(LocalDateTime.class), any(), contains("boom"));
+        verify(repository, never()).markDone(any(), any(), any());
+        verify(repository, never()).save(any());
+
+        relay.relayBatch();
+        relay.relayBatch();
+
+        assertThat(message.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(meterRegistry.counter("notification.outbox.failed", "final", "true").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("임대가 끝나 다른 워커가 다시 가져간 메시지는 전달하지 않고 상태도 기록하지 않는다.")
+    void givenLeaseTakenOver_whenRelayBatch_thenSkipWithoutWrites() throws Exception {
+        OutboxMessage message = message(1L, new ProjectNodeApprovedEvent(1L, 2L, "노드", "승인"), null);
+        when(repository.lockClaimable(any(LocalDateTime.class), anyInt())).thenReturn(List.of(message));
+        when(repository.renewLease(eq(1L), any(), any())).thenReturn(0);
+
+        relay.relayBatch();
+
+        verify(repository).renewLease(eq(1L), eq(message.getNextAttemptAt()), any(LocalDateTime.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        verify(repository, never()).markDone(any(), any(), any());
+        verify(repository, never()).recordFailure(any(), any(), any(), anyInt(), any(), any(), any());
+        assertThat(meterRegistry.counter("notification.outbox.claim.lost").count()).isEqualTo(1.0);
+    }
+
+    private OutboxMessage message(Long id, OutboxEvent event, Long actorUserId) throws Exception {
+        return OutboxMessage.builder()
+                .outboxId(id)
+                .eventType(event.getClass().getName())
+                .payload(serializer.serialize(event))
+                .actorUserId(actorUserId)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
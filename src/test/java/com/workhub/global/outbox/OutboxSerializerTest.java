@@ -0,0 +1,61 @@
+package com.workhub.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workhub.project.event.ProjectUpdatedEvent;
+import com.workhub.projectNode.event.ProjectNodeApprovedEvent;
+import com.workhub.projectNode.event.ProjectNodeCreatedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboxSerializerTest {
+
+    private final OutboxSerializer serializer = new OutboxSerializer(new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    @DisplayName("값 타입만 가진 이벤트는 JSON으로 저장했다가 같은 값으로 복원된다.")
+    void givenValueEvent_whenRoundTrip_thenEqual() throws Exception {
+        ProjectNodeApprovedEvent event = new ProjectNodeApprovedEvent(1L, 2L, "노드", "승인되었습니다.");
+
+        OutboxEvent restored = serializer.deserialize(event.getClass().getName(), serializer.serialize(event));
+
+        assertThat(restored).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("중첩 record와 날짜, ID 목록을 담은 이벤트도 같은 값으로 복원된다.")
+    void givenNestedSnapshotEvent_whenRoundTrip_thenEqual() throws Exception {
+        ProjectUpdatedEvent event = new ProjectUpdatedEvent(
+                10L,
+                new ProjectUpdatedEvent.ProjectUpdateSnapshot("이전", "설명", null, List.of(1L), List.of(2L)),
+                new ProjectUpdatedEvent.ProjectUpdateSnapshot("이후", "설명", LocalDate.of(2026, 12, 31),
+                        List.of(1L, 3L), List.of()));
+
+        OutboxEvent restored = serializer.deserialize(event.getClass().getName(), serializer.serialize(event));
+
+        assertThat(restored).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("저장된 JSON에 이벤트에 없는 필드가 있어도 나머지 값으로 복원된다.")
+    void givenUnknownField_whenDeserialize_thenIgnored() throws Exception {
+        String payload = "{\"projectId\":1,\"projectNodeId\":2,\"title\":\"노드\",\"node\":{\"projectNodeId\":2}}";
+
+        OutboxEvent restored = serializer.deserialize(
+                ProjectNodeCreatedEvent.class.getName(), payload);
+
+        assertThat(restored).isEqualTo(new ProjectNodeCreatedEvent(1L, 2L, "노드"));
+    }
+
+    @Test
+    @DisplayName("OutboxEvent 구현체가 아닌 타입은 복원하지 않는다.")
+    void givenNonOutboxType_whenDeserialize_thenReject() {
+        assertThatThrownBy(() -> serializer.deserialize(String.class.getName(), "\"x\""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
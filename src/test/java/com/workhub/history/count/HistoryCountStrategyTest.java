@@ -0,0 +1,158 @@
+package com.workhub.history.count;
+
+import com.workhub.global.entity.ActionType;
+import com.workhub.global.entity.HistoryType;
+import com.workhub.global.history.HistoryInsertCounter;
+import com.workhub.history.dto.HistoryFeedFilter;
+import com.workhub.history.repository.UnifiedHistoryKeysetRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HistoryCountStrategyTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(0);
+
+    @Test
+    @DisplayName("cached: TTL 안에서는 다시 세지 않고, 지나면 이전 값을 주면서 백그라운드에서 한 번만 다시 센다.")
+    void givenStaleEntry_whenCount_thenReturnOldValueAndRefreshOnce() {
+        ManualExecutor executor = new ManualExecutor();
+        CachedHistoryCount cached = new CachedHistoryCount(meterRegistry, 1000, 100, executor, now::get);
+        AtomicLong rows = new AtomicLong(10);
+        AtomicLong queries = new AtomicLong();
+        LongSupplier exactCount = () -> {
+            queries.incrementAndGet();
+            return rows.get();
+        };
+
+        assertThat(cached.count(HistoryFeedFilter.all(), exactCount)).isEqualTo(10);
+        rows.set(15);
+        now.set(500);
+        assertThat(cached.count(HistoryFeedFilter.all(), exactCount)).isEqualTo(10);
+        assertThat(queries.get()).isEqualTo(1);
+
+        now.set(1500);
+        assertThat(cached.count(HistoryFeedFilter.all(), exactCount)).isEqualTo(10);
+        assertThat(cached.count(HistoryFeedFilter.all(), exactCount)).isEqualTo(10);
+        assertThat(executor.tasks).hasSize(1);
+
+        executor.runAll();
+        assertThat(cached.count(HistoryFeedFilter.all(), exactCount)).isEqualTo(15);
+        assertThat(queries.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("history.count.cache.lookups").tag("result", "stale").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("cached: 조회 조건마다 따로 센다.")
+    void givenDifferentFilters_whenCount_thenCachePerFilter() {
+        CachedHistoryCount cached = new CachedHistoryCount(meterRegistry, 1000, 100, new ManualExecutor(), now::get);
+
+        cached.count(HistoryFeedFilter.types(List.of(HistoryType.POST)), () -> 3);
+
+        assertThat(cached.count(HistoryFeedFilter.types(List.of(HistoryType.POST)), () -> 99)).isEqualTo(3);
+        assertThat(cached.count(HistoryFeedFilter.action(ActionType.DELETE), () -> 7)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("estimated: 타입 조건은 테이블 통계에 그 뒤 커밋된 건수를 더해 추정하고 count 쿼리는 실행하지 않는다.")
+    void givenTypeFilter_whenEstimate_thenReltuplesPlusInserted() {
+        HistoryInsertCounter insertCounter = new HistoryInsertCounter(meterRegistry);
+        EstimatedHistoryCount estimated = new EstimatedHistoryCount(
+                reltuples(HistoryType.POST, 1000, HistoryType.CS_QNA, 200), insertCounter, meterRegistry, 60_000, now::get);
+        LongSupplier failingCount = () -> {
+            throw new AssertionError("count query must not run");
+        };
+
+        assertThat(estimated.count(HistoryFeedFilter.types(List.of(HistoryType.POST, HistoryType.CS_QNA)), failingCount))
+                .isEqualTo(1200);
+
+        insertCounter.add(HistoryType.POST, 5);
+        assertThat(estimated.count(HistoryFeedFilter.types(List.of(HistoryType.POST)), failingCount)).isEqualTo(1005);
+        assertThat(estimated.count(HistoryFeedFilter.all(), failingCount)).isEqualTo(8 * 100 + 1005 + 200);
+    }
+
+    @Test
+    @DisplayName("estimated: 수정자/액션/대상 조건이나 ANALYZE 전 테이블은 정확히 센다.")
+    void givenNonTypeFilterOrUnanalyzedTable_whenEstimate_thenExactCount() {
+        EstimatedHistoryCount estimated = new EstimatedHistoryCount(
+                reltuples(HistoryType.POST, -1, HistoryType.CS_QNA, 200), new HistoryInsertCounter(meterRegistry),
+                meterRegistry, 60_000, now::get);
+
+        assertThat(estimated.count(HistoryFeedFilter.updatedBy(1L), () -> 42)).isEqualTo(42);
+        assertThat(estimated.count(HistoryFeedFilter.types(List.of(HistoryType.POST)), () -> 7)).isEqualTo(7);
+        assertThat(estimated.count(HistoryFeedFilter.types(List.of(HistoryType.CS_QNA)), () -> 7)).isEqualTo(200);
+        assertThat(meterRegistry.get("history.count.estimate").tag("result", "exact").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    /**
+     * 지정한 두 타입 외의 테이블은 통계상 100건인 JdbcTemplate
+     */
+    private JdbcTemplate reltuples(HistoryType first, double firstRows, HistoryType second, double secondRows) {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        UnifiedHistoryKeysetRepository.TABLES.forEach((type, table) -> {
+            double rows = type == first ? firstRows : type == second ? secondRows : 100;
+            when(jdbcTemplate.queryForList(anyString(), eq(Double.class), eq(table))).thenReturn(List.of(rows));
+        });
+        return jdbcTemplate;
+    }
+
+    /**
+     * runAll() 전까지 작업을 실행하지 않는 executor
+     */
+    private static class ManualExecutor extends AbstractExecutorService {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            List<Runnable> pending = new ArrayList<>(tasks);
+            tasks.clear();
+            pending.forEach(Runnable::run);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
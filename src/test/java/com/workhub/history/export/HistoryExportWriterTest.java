@@ -0,0 +1,80 @@
+package com.workhub.history.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.workhub.global.entity.ActionType;
+import com.workhub.global.entity.HistoryType;
+import com.workhub.history.dto.UnifiedHistoryResponse;
+import com.workhub.history.dto.UserInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HistoryExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("NDJSON: 한 줄에 히스토리 하나씩 쓰고, flush 전에는 출력 스트림에 쓰지 않는다.")
+    void givenHistories_whenNdjson_thenOneJsonPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HistoryExportWriter writer = HistoryExportFormat.NDJSON.open(out, objectMapper);
+
+        writer.write(history(1L, "{\"title\": \"첫 줄\\n둘째 줄\"}", "홍길동"));
+        writer.write(history(2L, null, null));
+        assertThat(out.size()).isZero();
+        writer.flush();
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("changeLogId").asLong()).isEqualTo(1L);
+        assertThat(first.get("beforeData").asText()).isEqualTo("{\"title\": \"첫 줄\\n둘째 줄\"}");
+        assertThat(first.get("updatedBy").get("userName").asText()).isEqualTo("홍길동");
+        assertThat(first.get("updatedAt").asText()).isEqualTo("2026-01-01T09:30:00");
+        assertThat(objectMapper.readTree(lines[1]).get("updatedBy").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("CSV: BOM과 헤더로 시작하고, 쉼표/따옴표/줄바꿈은 따옴표로 감싸며 수식으로 시작하는 값은 '를 붙인다.")
+    void givenSpecialCharacters_whenCsv_thenEscaped() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HistoryExportWriter writer = HistoryExportFormat.CSV.open(out, objectMapper);
+
+        writer.write(history(1L, "{\"title\": \"a, \\\"b\\\"\"}", "=HYPERLINK(\"x\")"));
+        writer.flush();
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("\uFEFF" + CsvHistoryExportWriter.HEADER + "\r\n");
+        assertThat(csv.substring(1).split("\r\n")).hasSize(2);
+        assertThat(csv).endsWith("1,POST,10,UPDATE,3,작성자,4,\"'=HYPERLINK(\"\"x\"\")\",2026-01-01T09:30:00,"
+                + "127.0.0.1,agent,\"{\"\"title\"\": \"\"a, \\\"\"b\\\"\"\"\"}\"\r\n");
+        assertThat(CsvHistoryExportWriter.text("line1\nline2")).isEqualTo("\"line1\nline2\"");
+        assertThat(CsvHistoryExportWriter.text("-1")).isEqualTo("'-1");
+        assertThat(CsvHistoryExportWriter.text(null)).isEmpty();
+    }
+
+    private UnifiedHistoryResponse history(Long changeLogId, String beforeData, String updaterName) {
+        return UnifiedHistoryResponse.builder()
+                .changeLogId(changeLogId)
+                .historyType(HistoryType.POST)
+                .targetId(10L)
+                .actionType(ActionType.UPDATE)
+                .beforeData(beforeData)
+                .createdBy(UserInfo.builder().userId(3L).userName("작성자").build())
+                .updatedBy(updaterName == null ? null : UserInfo.builder().userId(4L).userName(updaterName).build())
+                .updatedAt(LocalDateTime.of(2026, 1, 1, 9, 30))
+                .ipAddress("127.0.0.1")
+                .userAgent("agent")
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.workhub.history.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.workhub.config.TestAwsConfig;
+import com.workhub.global.entity.HistoryType;
+import com.workhub.global.entity.UnifiedHistory;
+import com.workhub.global.history.HistoryInsertCounter;
+import com.workhub.history.count.CachedHistoryCount;
+import com.workhub.history.count.EstimatedHistoryCount;
+import com.workhub.history.count.ExactHistoryCount;
+import com.workhub.history.count.HistoryCountStrategy;
+import com.workhub.history.count.NoHistoryCount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 히스토리 10개 테이블에 120k건을 넣고, 전체 개수가 필요한 2페이지 조회를 개수 계산 방식별로 비교한다.
+ * exact는 매번 View 전체를 세고, cached는 TTL 동안 재사용, estimated는 통계를 읽고, none은 세지 않는다.
+ * 실제 DB가 필요하므로 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestAwsConfig.class)
+class UnifiedHistoryCountBenchmarkTest {
+
+    private static final int ROWS_PER_TABLE = 12_000;
+    private static final int PAGE_SIZE = 10;
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 50;
+
+    private static final String SEED = """
+            INSERT INTO %s (target_id, action_type, before_data, created_by, updated_by, updated_at, ip_address, user_agent)
+            SELECT g, 'UPDATE', '{}', 1, 1, TIMESTAMP '2026-01-01 00:00:00' - g * INTERVAL '1 second',
+                   '127.0.0.1', 'benchmark'
+            FROM generate_series(1, ?) g
+            """;
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        truncate();
+        UnifiedHistoryKeysetRepository.TABLES.values().forEach(table -> {
+            jdbcTemplate.update(SEED.formatted(table), ROWS_PER_TABLE);
+            jdbcTemplate.execute("ANALYZE " + table);
+        });
+
+        // test 프로필에서는 엔티티로 만든 빈 테이블이므로 View로 바꾼다.
+        jdbcTemplate.execute("DROP TABLE IF EXISTS unified_history_view CASCADE");
+        jdbcTemplate.execute("CREATE VIEW unified_history_view AS " + UnifiedHistoryKeysetRepository.TABLES.entrySet().stream()
+                .map(entry -> ("SELECT '%s' AS history_type, change_log_id, target_id, action_type, before_data, "
+                        + "created_by, updated_by, updated_at, ip_address, user_agent FROM %s")
+                        .formatted(entry.getKey().name(), entry.getValue()))
+                .collect(Collectors.joining(" UNION ALL ")));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("DROP VIEW IF EXISTS unified_history_view");
+        truncate();
+    }
+
+    @Test
+    @DisplayName("개수 계산 방식별 2페이지 조회 시간을 비교하고, 어느 방식이든 다음 페이지 여부는 같다.")
+    void compareCountStrategies() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Map<String, HistoryCountStrategy> strategies = new LinkedHashMap<>();
+        strategies.put("exact", new ExactHistoryCount());
+        strategies.put("cached", new CachedHistoryCount(meterRegistry, 60, 1000));
+        strategies.put("estimated", new EstimatedHistoryCount(
+                jdbcTemplate, new HistoryInsertCounter(meterRegistry), meterRegistry, 300));
+        strategies.put("none", new NoHistoryCount());
+
+        Map<String, Function<UnifiedHistoryRepositoryImpl, Page<UnifiedHistory>>> shapes = new LinkedHashMap<>();
+        Pageable secondPage = PageRequest.of(1, PAGE_SIZE);
+        shapes.put("all", repository -> repository.findAllHistory(secondPage));
+        shapes.put("type", repository -> repository.findByHistoryType(HistoryType.POST, secondPage));
+
+        long exactAll = 10L * ROWS_PER_TABLE;
+        shapes.forEach((shape, query) -> strategies.forEach((name, strategy) -> {
+            UnifiedHistoryRepositoryImpl repository = new UnifiedHistoryRepositoryImpl(queryFactory, strategy, false);
+            Page<UnifiedHistory> page = query.apply(repository);
+            assertThat(page.hasNext()).as(shape + "/" + name).isTrue();
+            assertThat(page.getContent()).hasSize(PAGE_SIZE);
+
+            double ms = p50(() -> query.apply(repository));
+            System.out.printf("[history-count] p50 %s/%s=%.3fms total=%d%n", shape, name, ms, page.getTotalElements());
+
+            long expected = shape.equals("all") ? exactAll : ROWS_PER_TABLE;
+            if (name.equals("exact") || name.equals("cached")) {
+                assertThat(page.getTotalElements()).isEqualTo(expected);
+            } else if (name.equals("estimated")) {
+                // ANALYZE 직후이므로 통계 오차는 작다
+                assertThat(page.getTotalElements()).isBetween(expected * 9 / 10, expected * 11 / 10);
+            }
+        }));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 어떤 방식이든 count 없이 정확한 전체 개수를 돌려준다.")
+    void givenLastPage_whenNoCount_thenExactTotalFromContent() {
+        UnifiedHistoryRepositoryImpl repository = new UnifiedHistoryRepositoryImpl(queryFactory, new NoHistoryCount(), false);
+        int lastPage = ROWS_PER_TABLE / PAGE_SIZE - 1;
+
+        Page<UnifiedHistory> page = repository.findByHistoryType(HistoryType.POST, PageRequest.of(lastPage, PAGE_SIZE));
+
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.getTotalElements()).isEqualTo(ROWS_PER_TABLE);
+    }
+
+    private double p50(Runnable call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.run();
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            call.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2] / 1_000_000.0;
+    }
+
+    private void truncate() {
+        jdbcTemplate.execute("TRUNCATE " + String.join(", ", UnifiedHistoryKeysetRepository.TABLES.values())
+                + " RESTART IDENTITY");
+    }
+}
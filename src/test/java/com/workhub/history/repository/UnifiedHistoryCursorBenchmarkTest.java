@@ -0,0 +1,161 @@
+package com.workhub.history.repository;
+
+import com.workhub.config.TestAwsConfig;
+import com.workhub.global.entity.HistoryType;
+import com.workhub.history.dto.HistoryCursor;
+import com.workhub.history.dto.HistoryCursorResponse;
+import com.workhub.history.dto.HistoryFeedFilter;
+import com.workhub.history.service.UnifiedHistoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 히스토리 10개 테이블에 120k건을 넣고 통합 히스토리 1페이지와 10,000페이지 응답 시간을 비교한다.
+ * 커서 조회는 테이블마다 인덱스로 limit건만 읽어 병합하므로 깊이와 무관해야 하고,
+ * 비교용 OFFSET 조회는 View 전체를 합쳐 정렬하므로 깊어질수록 느려진다.
+ * 실제 DB가 필요하므로 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestAwsConfig.class)
+class UnifiedHistoryCursorBenchmarkTest {
+
+    private static final int ROWS_PER_TABLE = 12_000;
+    private static final int PAGE_SIZE = 10;
+    private static final int DEEP_PAGE = 10_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+
+    // 모든 테이블이 같은 시각/ID 집합을 갖게 해 테이블 간 동점 처리까지 확인한다.
+    private static final String SEED = """
+            INSERT INTO %s (target_id, action_type, before_data, created_by, updated_by, updated_at)
+            SELECT g, 'UPDATE', '{}', 1, 1, TIMESTAMP '2026-01-01 00:00:00' - (g / 3) * INTERVAL '1 second'
+            FROM generate_series(1, ?) g
+            """;
+
+    @Autowired
+    private UnifiedHistoryService unifiedHistoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        truncate();
+        UnifiedHistoryKeysetRepository.TABLES.values().forEach(table -> {
+            // test 프로필은 ddl-auto로 스키마를 만들므로 2.create_indexes.sql의 커서 인덱스를 직접 만든다.
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_%s_updated ON %s(updated_at DESC, change_log_id DESC)"
+                    .formatted(table, table));
+            jdbcTemplate.update(SEED.formatted(table), ROWS_PER_TABLE);
+            jdbcTemplate.execute("ANALYZE " + table);
+        });
+
+        // OFFSET 비교용: test 프로필에서는 엔티티로 만든 빈 테이블이므로 View로 바꾼다.
+        jdbcTemplate.execute("DROP TABLE IF EXISTS unified_history_view CASCADE");
+        jdbcTemplate.execute("CREATE VIEW unified_history_view AS " + UnifiedHistoryKeysetRepository.TABLES.entrySet().stream()
+                .map(entry -> ("SELECT '%s' AS history_type, change_log_id, target_id, action_type, before_data, "
+                        + "created_by, updated_by, updated_at, ip_address, user_agent FROM %s")
+                        .formatted(entry.getKey().name(), entry.getValue()))
+                .collect(Collectors.joining(" UNION ALL ")));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("DROP VIEW IF EXISTS unified_history_view");
+        truncate();
+    }
+
+    @Test
+    @DisplayName("커서 조회는 1페이지와 10,000페이지 응답 시간이 같은 수준이고 OFFSET 결과와 같은 항목을 돌려준다.")
+    void cursorLatencyStaysFlatForDeepPages() {
+        HistoryCursor deepCursor = cursorAt((long) (DEEP_PAGE - 1) * PAGE_SIZE - 1);
+
+        double cursorFirst = p50(() -> unifiedHistoryService.findByCursor(HistoryFeedFilter.all(), null, PAGE_SIZE, false));
+        double cursorDeep = p50(() -> unifiedHistoryService.findByCursor(
+                HistoryFeedFilter.all(), deepCursor.encode(), PAGE_SIZE, false));
+        double offsetFirst = p50(() -> unifiedHistoryService.findAllHistory(PageRequest.of(0, PAGE_SIZE)));
+        double offsetDeep = p50(() -> unifiedHistoryService.findAllHistory(PageRequest.of(DEEP_PAGE - 1, PAGE_SIZE)));
+
+        System.out.printf(
+                "[history-cursor] p50 cursorFirst=%.3fms cursorDeep=%.3fms offsetFirst=%.3fms offsetDeep=%.3fms%n",
+                cursorFirst, cursorDeep, offsetFirst, offsetDeep);
+
+        HistoryCursorResponse deep = unifiedHistoryService.findByCursor(
+                HistoryFeedFilter.all(), deepCursor.encode(), PAGE_SIZE, false);
+        assertThat(deep.histories()).extracting(history -> history.getHistoryType() + ":" + history.getChangeLogId())
+                .containsExactlyElementsOf(keysAt((long) (DEEP_PAGE - 1) * PAGE_SIZE));
+        assertThat(deep.hasNext()).isTrue();
+
+        // 절대 시간은 환경마다 다르므로 1페이지 대비 배수와 여유 시간으로 평탄함만 확인한다.
+        assertThat(cursorDeep).isLessThan(cursorFirst * 3 + 2.0);
+    }
+
+    @Test
+    @DisplayName("커서 조회의 테이블별 쿼리는 정렬 없이 (updated_at, change_log_id) 인덱스를 사용한다.")
+    void branchQueryUsesIndexWithoutSort() {
+        String plan = String.join("\n", jdbcTemplate.queryForList("""
+                EXPLAIN SELECT * FROM post_history
+                WHERE (updated_at, change_log_id) < (TIMESTAMP '2025-12-31 12:00:00', 5000)
+                ORDER BY updated_at DESC, change_log_id DESC LIMIT 11
+                """, String.class));
+
+        assertThat(plan).contains("idx_post_history_updated").doesNotContain("Sort");
+    }
+
+    /**
+     * 커서 정렬(시각↓, ID↓, 타입 이름↑) 기준 offset번째 항목의 커서
+     */
+    private HistoryCursor cursorAt(long offset) {
+        return jdbcTemplate.queryForObject("""
+                SELECT updated_at, history_type, change_log_id FROM unified_history_view
+                ORDER BY updated_at DESC, change_log_id DESC, history_type ASC
+                OFFSET ? LIMIT 1
+                """, (rs, rowNum) -> new HistoryCursor(
+                rs.getTimestamp("updated_at").toLocalDateTime(),
+                HistoryType.valueOf(rs.getString("history_type")),
+                rs.getLong("change_log_id")), offset);
+    }
+
+    private List<String> keysAt(long offset) {
+        return jdbcTemplate.queryForList("""
+                SELECT history_type || ':' || change_log_id FROM unified_history_view
+                ORDER BY updated_at DESC, change_log_id DESC, history_type ASC
+                OFFSET ? LIMIT ?
+                """, String.class, offset, PAGE_SIZE);
+    }
+
+    private double p50(Runnable call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.run();
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            call.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2] / 1_000_000.0;
+    }
+
+    private void truncate() {
+        jdbcTemplate.execute("TRUNCATE " + String.join(", ", UnifiedHistoryKeysetRepository.TABLES.values())
+                + " RESTART IDENTITY");
+    }
+}
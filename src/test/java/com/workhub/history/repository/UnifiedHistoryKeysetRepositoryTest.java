@@ -0,0 +1,131 @@
+package com.workhub.history.repository;
+
+import com.workhub.global.entity.ActionType;
+import com.workhub.global.entity.HistoryType;
+import com.workhub.global.entity.UnifiedHistory;
+import com.workhub.global.error.exception.BusinessException;
+import com.workhub.history.dto.HistoryCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UnifiedHistoryKeysetRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("테이블별 최신순 결과를 하나의 최신순 목록으로 병합하고 limit에서 멈춘다.")
+    void givenSortedRuns_whenMerge_thenGlobalOrderUpToLimit() {
+        List<UnifiedHistory> posts = List.of(history(HistoryType.POST, 5, 50), history(HistoryType.POST, 2, 20));
+        List<UnifiedHistory> projects = List.of(history(HistoryType.PROJECT, 4, 40), history(HistoryType.PROJECT, 3, 30),
+                history(HistoryType.PROJECT, 1, 10));
+
+        List<UnifiedHistory> merged = UnifiedHistoryKeysetRepository.merge(List.of(posts, projects), 4);
+
+        assertThat(merged).extracting(UnifiedHistory::getChangeLogId).containsExactly(50L, 40L, 30L, 20L);
+    }
+
+    @Test
+    @DisplayName("시각과 ID가 같으면 타입 이름 순으로 정렬하고, 커서 다음 페이지에는 이름이 뒤인 타입만 포함한다.")
+    void givenTies_whenPaging_thenTypeNameBreaksTie() {
+        UnifiedHistory post = history(HistoryType.POST, 1, 7);
+        UnifiedHistory project = history(HistoryType.PROJECT, 1, 7);
+
+        List<UnifiedHistory> merged = UnifiedHistoryKeysetRepository.merge(List.of(List.of(project), List.of(post)), 10);
+        HistoryCursor cursor = HistoryCursor.from(merged.getFirst());
+
+        assertThat(merged).extracting(UnifiedHistory::getHistoryType).containsExactly(HistoryType.POST, HistoryType.PROJECT);
+        assertThat(cursor.includesTiesOf(HistoryType.PROJECT)).isTrue();
+        assertThat(cursor.includesTiesOf(HistoryType.POST)).isFalse();
+        assertThat(cursor.includesTiesOf(HistoryType.CS_POST)).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 넘기면 전체를 정렬한 결과와 같고 빠지거나 겹치는 항목이 없다.")
+    void givenRandomHistories_whenWalkAllPages_thenSameAsFullSort() {
+        Random random = new Random(42);
+        Map<HistoryType, List<UnifiedHistory>> tables = new EnumMap<>(HistoryType.class);
+        List<UnifiedHistory> all = new ArrayList<>();
+        for (HistoryType type : HistoryType.values()) {
+            List<UnifiedHistory> rows = new ArrayList<>();
+            for (long id = 1; id <= 40; id++) {
+                // change_log_id는 테이블마다 따로 증가하므로 좁은 시각 범위에서 다른 테이블과 시각/ID가 겹친다
+                rows.add(history(type, random.nextInt(20), id));
+            }
+            rows.sort(HistoryCursor.FEED_ORDER);
+            tables.put(type, rows);
+            all.addAll(rows);
+        }
+        all.sort(HistoryCursor.FEED_ORDER);
+
+        List<UnifiedHistory> walked = new ArrayList<>();
+        HistoryCursor cursor = null;
+        int pageSize = 7;
+        while (true) {
+            List<UnifiedHistory> page = page(tables, cursor, pageSize + 1);
+            boolean hasNext = page.size() > pageSize;
+            List<UnifiedHistory> content = hasNext ? page.subList(0, pageSize) : page;
+            walked.addAll(content);
+            if (!hasNext) break;
+            cursor = HistoryCursor.decode(HistoryCursor.from(content.getLast()).encode());
+        }
+
+        assertThat(walked).containsExactlyElementsOf(all);
+    }
+
+    @Test
+    @DisplayName("커서는 인코딩 후 그대로 복원되고, 잘못된 커서는 HI-001 예외가 발생한다.")
+    void givenCursor_whenEncodeDecode_thenRoundTrip() {
+        HistoryCursor cursor = new HistoryCursor(BASE.plusNanos(123_456_000), HistoryType.CHECK_LIST_ITEM, 99L);
+
+        assertThat(HistoryCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(HistoryCursor.decode(null)).isNull();
+        assertThatThrownBy(() -> HistoryCursor.decode("not-a-cursor"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    /**
+     * 테이블별 SQL 조건((updated_at, change_log_id) < 또는 <= 커서)과 같은 규칙으로 걸러 병합한다.
+     */
+    private List<UnifiedHistory> page(Map<HistoryType, List<UnifiedHistory>> tables, HistoryCursor cursor, int limit) {
+        Comparator<UnifiedHistory> rowOrder = Comparator
+                .comparing(UnifiedHistory::getUpdatedAt)
+                .thenComparing(UnifiedHistory::getChangeLogId);
+        List<List<UnifiedHistory>> runs = new ArrayList<>();
+        tables.forEach((type, rows) -> runs.add(rows.stream()
+                .filter(row -> {
+                    if (cursor == null) return true;
+                    UnifiedHistory at = historyAt(type, cursor.changeLogId(), cursor.updatedAt());
+                    int cmp = rowOrder.compare(row, at);
+                    return cursor.includesTiesOf(type) ? cmp <= 0 : cmp < 0;
+                })
+                .limit(limit)
+                .toList()));
+        return UnifiedHistoryKeysetRepository.merge(runs, limit);
+    }
+
+    private UnifiedHistory history(HistoryType type, int minutes, long changeLogId) {
+        return historyAt(type, changeLogId, BASE.plusMinutes(minutes));
+    }
+
+    private UnifiedHistory historyAt(HistoryType type, long changeLogId, LocalDateTime updatedAt) {
+        return UnifiedHistory.builder()
+                .historyType(type)
+                .changeLogId(changeLogId)
+                .targetId(changeLogId)
+                .actionType(ActionType.UPDATE)
+                .beforeData("{}")
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,216 @@
+package com.workhub.history.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.workhub.config.TestAwsConfig;
+import com.workhub.global.entity.ActionType;
+import com.workhub.global.entity.HistoryType;
+import com.workhub.global.entity.UnifiedHistory;
+import com.workhub.global.history.HistoryBatchWriter;
+import com.workhub.history.count.ExactHistoryCount;
+import com.workhub.history.dto.HistoryCursor;
+import com.workhub.history.dto.HistoryFeedFilter;
+import com.workhub.history.service.UnifiedHistoryBackfill;
+import com.workhub.post.entity.PostHistory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 히스토리 10개 테이블에 120k건을 넣고 백필한 뒤, 같은 조회를 unified_history_view와 unified_history 테이블에서 비교한다.
+ * View는 조회마다 11개 테이블을 합쳐 정렬/카운트하고, 테이블은 조회 형태별 인덱스를 그대로 탄다.
+ * 실제 DB가 필요하므로 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestAwsConfig.class)
+class UnifiedHistoryTableBenchmarkTest {
+
+    private static final int ROWS_PER_TABLE = 12_000;
+    private static final int PAGE_SIZE = 10;
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 50;
+    // 한 문장에 담는 행 수(500)를 넘겨 여러 문장으로 나뉘는 경우까지 확인한다.
+    private static final int WRITE_ROWS = 1_200;
+
+    // 수정자 100명, 대상 1,000개, 액션 3종이 고르게 섞이도록 넣는다.
+    private static final String SEED = """
+            INSERT INTO %s (target_id, action_type, before_data, created_by, updated_by, updated_at, ip_address, user_agent)
+            SELECT mod(g, 1000), (ARRAY['CREATE', 'UPDATE', 'DELETE'])[mod(g, 3) + 1], '{"title": "seed"}', 1, mod(g, 100),
+                   TIMESTAMP '2026-01-01 00:00:00' - (g / 3) * INTERVAL '1 second', '127.0.0.1', 'benchmark'
+            FROM generate_series(1, ?) g
+            """;
+
+    private static final List<String> UNIFIED_INDEXES = List.of(
+            "idx_unified_history_updated ON unified_history(updated_at DESC, change_log_id DESC, history_type)",
+            "idx_unified_history_type ON unified_history(history_type, updated_at DESC, change_log_id DESC)",
+            "idx_unified_history_action ON unified_history(action_type, updated_at DESC, change_log_id DESC)",
+            "idx_unified_history_updated_by ON unified_history(updated_by, updated_at DESC, change_log_id DESC)",
+            "idx_unified_history_target ON unified_history(target_id, history_type, updated_at DESC, change_log_id DESC)"
+    );
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        truncate();
+        UnifiedHistoryKeysetRepository.TABLES.values().forEach(table -> {
+            jdbcTemplate.update(SEED.formatted(table), ROWS_PER_TABLE);
+            jdbcTemplate.execute("ANALYZE " + table);
+        });
+        // test 프로필은 ddl-auto로 스키마를 만들므로 2.create_indexes.sql의 unified_history 인덱스를 직접 만든다.
+        UNIFIED_INDEXES.forEach(index -> jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + index));
+
+        // View 비교용: test 프로필에서는 엔티티로 만든 빈 테이블이므로 View로 바꾼다.
+        jdbcTemplate.execute("DROP TABLE IF EXISTS unified_history_view CASCADE");
+        jdbcTemplate.execute("CREATE VIEW unified_history_view AS " + UnifiedHistoryKeysetRepository.TABLES.entrySet().stream()
+                .map(entry -> ("SELECT '%s' AS history_type, change_log_id, target_id, action_type, before_data, "
+                        + "created_by, updated_by, updated_at, ip_address, user_agent FROM %s")
+                        .formatted(entry.getKey().name(), entry.getValue()))
+                .collect(Collectors.joining(" UNION ALL ")));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("DROP VIEW IF EXISTS unified_history_view");
+        truncate();
+    }
+
+    @Test
+    @DisplayName("백필 후 테이블 조회는 View 조회와 같은 페이지/건수를 돌려주고, 조회 형태별 지연 시간을 비교한다.")
+    void compareViewAndTableLatency() {
+        UnifiedHistoryBackfill backfill = new UnifiedHistoryBackfill(jdbcTemplate, new SimpleMeterRegistry(), 5000);
+        assertThat(backfill.backfill()).isEqualTo(10L * ROWS_PER_TABLE);
+        assertThat(backfill.backfill()).isZero();
+        jdbcTemplate.execute("ANALYZE unified_history");
+
+        UnifiedHistoryRepositoryImpl view = new UnifiedHistoryRepositoryImpl(queryFactory, new ExactHistoryCount(), false);
+        UnifiedHistoryRepositoryImpl table = new UnifiedHistoryRepositoryImpl(queryFactory, new ExactHistoryCount(), true);
+
+        Map<String, BiFunction<UnifiedHistoryRepositoryImpl, Pageable, Page<UnifiedHistory>>> shapes = new LinkedHashMap<>();
+        shapes.put("all", (repository, pageable) -> repository.findAllHistory(pageable));
+        shapes.put("type", (repository, pageable) -> repository.findByHistoryType(HistoryType.POST, pageable));
+        shapes.put("types", (repository, pageable) -> repository.findByHistoryTypes(
+                List.of(HistoryType.POST, HistoryType.CS_QNA), pageable));
+        shapes.put("action", (repository, pageable) -> repository.findByActionType(ActionType.DELETE, pageable));
+        shapes.put("updatedBy", (repository, pageable) -> repository.findByUpdatedBy(42L, pageable));
+        shapes.put("target", (repository, pageable) -> repository.findByTargetIdAndHistoryType(
+                7L, HistoryType.PROJECT, pageable));
+
+        Pageable firstPage = PageRequest.of(0, PAGE_SIZE);
+        shapes.forEach((name, query) -> {
+            Page<UnifiedHistory> fromView = query.apply(view, firstPage);
+            Page<UnifiedHistory> fromTable = query.apply(table, firstPage);
+            assertThat(keys(fromTable)).as(name).isEqualTo(keys(fromView));
+            assertThat(fromTable.getTotalElements()).as(name).isEqualTo(fromView.getTotalElements());
+
+            double viewMs = p50(() -> query.apply(view, firstPage));
+            double tableMs = p50(() -> query.apply(table, firstPage));
+            System.out.printf("[unified-history-table] p50 %s view=%.3fms table=%.3fms speedup=x%.1f%n",
+                    name, viewMs, tableMs, viewMs / tableMs);
+        });
+    }
+
+    @Test
+    @DisplayName("커서 조회도 테이블 한 곳에서 읽은 페이지가 테이블별 병합 결과와 같다.")
+    void givenBackfilledTable_whenCursorWalk_thenSamePagesAsBranchMerge() {
+        new UnifiedHistoryBackfill(jdbcTemplate, new SimpleMeterRegistry(), 5000).backfill();
+        UnifiedHistoryKeysetRepository branches = new UnifiedHistoryKeysetRepository(jdbcTemplate, false);
+        UnifiedHistoryKeysetRepository table = new UnifiedHistoryKeysetRepository(jdbcTemplate, true);
+
+        for (HistoryFeedFilter filter : List.of(HistoryFeedFilter.all(), HistoryFeedFilter.action(ActionType.CREATE),
+                HistoryFeedFilter.types(List.of(HistoryType.POST, HistoryType.PROJECT)))) {
+            HistoryCursor cursor = null;
+            // 모든 테이블이 같은 시각/ID를 가지므로 페이지 경계마다 테이블 간 동점 처리가 일어난다.
+            for (int page = 0; page < 20; page++) {
+                List<UnifiedHistory> expected = branches.findPage(filter, cursor, PAGE_SIZE);
+                assertThat(keys(table.findPage(filter, cursor, PAGE_SIZE))).isEqualTo(keys(expected));
+                cursor = HistoryCursor.from(expected.get(expected.size() - 1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("통합 테이블 쓰기를 켜면 히스토리 테이블과 unified_history에 같은 change_log_id로 함께 저장된다.")
+    void givenUnifiedWrite_whenInsert_thenBothTablesShareChangeLogId() {
+        HistoryBatchWriter writer = new HistoryBatchWriter(jdbcTemplate, true);
+        List<PostHistory> histories = LongStream.rangeClosed(1, WRITE_ROWS)
+                .mapToObj(targetId -> PostHistory.builder()
+                        .targetId(targetId)
+                        .actionType(ActionType.UPDATE)
+                        .beforeData("{\"title\": \"t" + targetId + "\"}")
+                        .createdBy(1L)
+                        .updatedBy(2L)
+                        .updatedAt(LocalDateTime.of(2026, 1, 1, 0, 0))
+                        .ipAddress("127.0.0.1")
+                        .userAgent("dual-write")
+                        .build())
+                .toList();
+
+        writer.insert(HistoryType.POST, PostHistory.class, List.copyOf(histories));
+
+        List<String> source = jdbcTemplate.queryForList(
+                "SELECT change_log_id || ':' || target_id FROM post_history WHERE user_agent = 'dual-write' "
+                        + "ORDER BY change_log_id", String.class);
+        List<String> unified = jdbcTemplate.queryForList(
+                "SELECT change_log_id || ':' || target_id FROM unified_history "
+                        + "WHERE history_type = 'POST' AND user_agent = 'dual-write' "
+                        + "ORDER BY change_log_id", String.class);
+        assertThat(source).hasSize(WRITE_ROWS).isEqualTo(unified);
+    }
+
+    private List<String> keys(Page<UnifiedHistory> page) {
+        return keys(page.getContent());
+    }
+
+    private List<String> keys(List<UnifiedHistory> histories) {
+        return histories.stream()
+                .map(history -> history.getHistoryType() + ":" + history.getChangeLogId())
+                .toList();
+    }
+
+    private double p50(Runnable call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.run();
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            call.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2] / 1_000_000.0;
+    }
+
+    private void truncate() {
+        jdbcTemplate.execute("TRUNCATE unified_history, " + String.join(", ", UnifiedHistoryKeysetRepository.TABLES.values())
+                + " RESTART IDENTITY");
+    }
+}
@@ -0,0 +1,209 @@
+package com.workhub.history.service;
+
+import com.workhub.config.TestAwsConfig;
+import com.workhub.global.entity.HistoryType;
+import com.workhub.history.dto.HistoryExportFilter;
+import com.workhub.history.export.HistoryExportFormat;
+import com.workhub.history.repository.UnifiedHistoryKeysetRepository;
+import com.workhub.userTable.entity.Status;
+import com.workhub.userTable.entity.UserRole;
+import com.workhub.userTable.entity.UserTable;
+import com.workhub.userTable.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 히스토리 10개 테이블에 200만 건을 넣고 내보내기를 끝까지 읽으면서, 일정 행마다 GC 후 힙 사용량을 잰다.
+ * 20만 건(타입 하나)과 200만 건(전체) 내보내기의 힙 증가량이 같은 수준이면 건수와 무관하게 메모리가 일정한 것이다.
+ * 실제 DB가 필요하므로 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestAwsConfig.class)
+class UnifiedHistoryExportBenchmarkTest {
+
+    private static final int ROWS_PER_TABLE = 200_000;
+    private static final int USERS = 100;
+    private static final int SAMPLE_EVERY_ROWS = 100_000;
+    // 커서 fetch(1000건) + 청크(500건) + 응답 버퍼 + GC 오차를 넉넉히 잡은 값. 결과를 모으면 수백 MB가 된다.
+    private static final long MAX_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    // 한 사람이 100명의 수정 이력을 골고루 갖고, 초마다 한 건씩 과거로 간다.
+    private static final String SEED = """
+            INSERT INTO %s (target_id, action_type, before_data, created_by, updated_by, updated_at, ip_address, user_agent)
+            SELECT mod(g, 5000), (ARRAY['CREATE', 'UPDATE', 'DELETE'])[mod(g, 3) + 1],
+                   jsonb_build_object('title', '히스토리 ' || g, 'content', repeat('감사 로그 본문 ', 8)),
+                   ? + mod(g, ?), ? + mod(g + 1, ?),
+                   TIMESTAMP '2026-01-01 00:00:00' - g * INTERVAL '1 second', '10.0.0.1', 'benchmark'
+            FROM generate_series(1, ?) g
+            """;
+
+    @Autowired
+    private UnifiedHistoryExportService exportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<UserTable> users;
+
+    @BeforeEach
+    void setUp() {
+        truncate();
+        users = userRepository.saveAll(IntStream.range(0, USERS)
+                .mapToObj(i -> UserTable.builder()
+                        .loginId("export" + i)
+                        .password("encoded")
+                        .email("export" + i + "@workhub.com")
+                        .phone("010" + String.format("%08d", i))
+                        .userName("감사자" + i)
+                        .role(UserRole.CLIENT)
+                        .status(Status.ACTIVE)
+                        .companyId(1L)
+                        .build())
+                .toList());
+        long firstUserId = users.stream().mapToLong(UserTable::getUserId).min().orElseThrow();
+
+        UnifiedHistoryKeysetRepository.TABLES.values().forEach(table -> {
+            // test 프로필은 ddl-auto로 스키마를 만들므로 2.create_indexes.sql의 (updated_at, change_log_id) 인덱스를 직접 만든다.
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_%s_updated ON %s(updated_at DESC, change_log_id DESC)"
+                    .formatted(table, table));
+            jdbcTemplate.update(SEED.formatted(table), firstUserId, USERS, firstUserId, USERS, ROWS_PER_TABLE);
+            jdbcTemplate.execute("ANALYZE " + table);
+        });
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS unified_history_view CASCADE");
+        jdbcTemplate.execute("CREATE VIEW unified_history_view AS " + UnifiedHistoryKeysetRepository.TABLES.entrySet().stream()
+                .map(entry -> ("SELECT '%s' AS history_type, change_log_id, target_id, action_type, before_data, "
+                        + "created_by, updated_by, updated_at, ip_address, user_agent FROM %s")
+                        .formatted(entry.getKey().name(), entry.getValue()))
+                .collect(Collectors.joining(" UNION ALL ")));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("DROP VIEW IF EXISTS unified_history_view");
+        truncate();
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("20만 건과 200만 건 내보내기의 힙 증가량이 모두 작고 같은 수준이다.")
+    void givenMillionsOfRows_whenExport_thenHeapStaysFlat() throws IOException {
+        for (HistoryExportFormat format : HistoryExportFormat.values()) {
+            HeapSamplingStream small = export(new HistoryExportFilter(
+                    List.of(HistoryType.POST), null, null, null, null), format);
+            HeapSamplingStream large = export(HistoryExportFilter.all(), format);
+
+            System.out.printf("[history-export] %s rows=%d bytes=%dMB heapGrowth=%.1fMB | rows=%d bytes=%dMB "
+                            + "heapGrowth=%.1fMB %.0f rows/s%n",
+                    format, small.rows, small.bytes >> 20, small.maxGrowth() / 1048576.0,
+                    large.rows, large.bytes >> 20, large.maxGrowth() / 1048576.0,
+                    large.rows / (large.elapsedNanos / 1e9));
+
+            assertThat(small.rows).isEqualTo(ROWS_PER_TABLE);
+            assertThat(large.rows).isEqualTo((long) UnifiedHistoryKeysetRepository.TABLES.size() * ROWS_PER_TABLE);
+            assertThat(large.bytes).isGreaterThan(10 * MAX_HEAP_GROWTH_BYTES);
+            assertThat(large.maxGrowth()).isLessThan(MAX_HEAP_GROWTH_BYTES);
+            assertThat(large.maxGrowth()).isLessThan(small.maxGrowth() + MAX_HEAP_GROWTH_BYTES / 2);
+        }
+    }
+
+    @Test
+    @DisplayName("기간/수정자 조건은 DB에서 걸러 최신순으로 내보낸다.")
+    void givenRangeAndUser_whenExport_thenOnlyMatchingRowsNewestFirst() throws IOException {
+        long userId = users.get(0).getUserId();
+        HistoryExportFilter filter = new HistoryExportFilter(
+                List.of(), null, userId, BASE.minusSeconds(1000), BASE);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.write(filter, HistoryExportFormat.NDJSON, out);
+
+        // g = 1..1000 중 updated_by가 첫 사용자인 행 (g = 99, 199, ..., 999) 이 테이블마다 10건, 가장 최신은 g = 99
+        assertThat(rows).isEqualTo(UnifiedHistoryKeysetRepository.TABLES.size() * 10L);
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize((int) rows).allMatch(line -> line.contains("\"userName\":\"감사자0\""));
+        assertThat(lines.get(0)).contains("\"updatedAt\":\"2025-12-31T23:58:21\"");
+    }
+
+    private HeapSamplingStream export(HistoryExportFilter filter, HistoryExportFormat format) throws IOException {
+        HeapSamplingStream out = new HeapSamplingStream();
+        long start = System.nanoTime();
+        out.rows = exportService.write(filter, format, out);
+        out.elapsedNanos = System.nanoTime() - start;
+        return out;
+    }
+
+    private void truncate() {
+        jdbcTemplate.execute("TRUNCATE " + String.join(", ", UnifiedHistoryKeysetRepository.TABLES.values())
+                + " RESTART IDENTITY");
+    }
+
+    /**
+     * 받은 바이트를 버리면서 줄 수를 세고, SAMPLE_EVERY_ROWS줄마다 GC 후 힙 사용량을 기록하는 출력 스트림.
+     */
+    private static final class HeapSamplingStream extends OutputStream {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final long baseline;
+        private long maxUsed;
+        private long lines;
+        private long bytes;
+        private long rows;
+        private long elapsedNanos;
+
+        private HeapSamplingStream() {
+            this.baseline = usedAfterGc();
+            this.maxUsed = baseline;
+        }
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n' && ++lines % SAMPLE_EVERY_ROWS == 0) {
+                maxUsed = Math.max(maxUsed, usedAfterGc());
+            }
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(buffer[i]);
+            }
+        }
+
+        long maxGrowth() {
+            return maxUsed - baseline;
+        }
+
+        private long usedAfterGc() {
+            System.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
@@ -86,7 +86,8 @@ class DeleteCommentServiceTest {
                 eq(HistoryType.POST_COMMENT),
                 eq(1L),
                 eq(ActionType.DELETE),
-                eq(CommentHistorySnapshot.from(comment))
+                eq(CommentHistorySnapshot.from(comment)),
+                eq(3L)
         );
     }
 
@@ -70,7 +70,8 @@ class UpdateCommentServiceTest {
                 eq(HistoryType.POST_COMMENT),
                 eq(1L),
                 eq(ActionType.UPDATE),
-                eq(expectedSnapshot)
+                eq(expectedSnapshot),
+                eq(3L)
         );
     }
 
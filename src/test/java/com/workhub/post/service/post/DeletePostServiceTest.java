@@ -106,7 +106,8 @@ class DeletePostServiceTest {
                 eq(com.workhub.global.entity.HistoryType.POST),
                 eq(1L),
                 eq(com.workhub.global.entity.ActionType.DELETE),
-                any(Object.class)
+                any(Object.class),
+                eq(30L)
         );
     }
 }
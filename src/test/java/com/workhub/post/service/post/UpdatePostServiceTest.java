@@ -87,7 +87,8 @@ class UpdatePostServiceTest {
                 eq(com.workhub.global.entity.HistoryType.POST),
                 eq(1L),
                 eq(com.workhub.global.entity.ActionType.UPDATE),
-                any(Object.class)
+                any(Object.class),
+                eq(30L)
         );
         verify(eventPublisher).publishEvent(any(PostUpdatedEvent.class));
     }
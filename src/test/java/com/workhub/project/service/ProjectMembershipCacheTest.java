@@ -0,0 +1,181 @@
+package com.workhub.project.service;
+
+import com.workhub.project.bus.MembershipInvalidationBus;
+import com.workhub.project.entity.ProjectClientMember;
+import com.workhub.project.entity.ProjectDevMember;
+import com.workhub.project.repository.ClientMemberRepository;
+import com.workhub.project.repository.DevMemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ProjectMembershipCacheTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ClientMemberRepository clientMemberRepository = mock(ClientMemberRepository.class);
+    private final DevMemberRepository devMemberRepository = mock(DevMemberRepository.class);
+    private final RecordingBus invalidationBus = new RecordingBus();
+
+    // 저장소 역할을 하는 멤버 목록
+    private final List<ProjectClientMember> clients = new CopyOnWriteArrayList<>();
+    private final List<ProjectDevMember> devs = new CopyOnWriteArrayList<>();
+
+    private ProjectMembershipCache newCache() {
+        when(clientMemberRepository.findByProjectIdIn(anyList())).thenAnswer(invocation -> List.copyOf(clients));
+        when(devMemberRepository.findByProjectIdIn(anyList())).thenAnswer(invocation -> List.copyOf(devs));
+        return new ProjectMembershipCache(
+                clientMemberRepository, devMemberRepository, invalidationBus, meterRegistry, 600, 100);
+    }
+
+    @Test
+    @DisplayName("같은 프로젝트를 다시 조회하면 DB를 거치지 않고 캐시에서 반환한다.")
+    void givenCached_whenGetAgain_thenSkipDatabase() {
+        ProjectMembershipCache cache = newCache();
+        clients.add(ProjectClientMember.of(10L, PROJECT_ID));
+        devs.add(ProjectDevMember.of(20L, PROJECT_ID));
+
+        cache.get(PROJECT_ID);
+        ProjectMembershipCache.ProjectMembership membership = cache.get(PROJECT_ID);
+
+        assertThat(membership.clientIds()).containsExactly(10L);
+        assertThat(membership.devIds()).containsExactly(20L);
+        assertThat(membership.allIds()).containsExactlyInAnyOrder(10L, 20L);
+        assertThat(membership.isDev(20L)).isTrue();
+        verify(clientMemberRepository, times(1)).findByProjectIdIn(anyList());
+        verify(devMemberRepository, times(1)).findByProjectIdIn(anyList());
+        assertThat(meterRegistry.counter("project.membership.cache.lookups", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("project.membership.cache.lookups", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("무효화된 프로젝트는 다음 조회에서 변경된 멤버를 다시 읽는다.")
+    void givenInvalidated_whenGet_thenReload() {
+        ProjectMembershipCache cache = newCache();
+        clients.add(ProjectClientMember.of(10L, PROJECT_ID));
+        cache.get(PROJECT_ID);
+
+        clients.add(ProjectClientMember.of(11L, PROJECT_ID));
+        cache.invalidate(PROJECT_ID);
+
+        assertThat(cache.get(PROJECT_ID).clientIds()).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(meterRegistry.counter("project.membership.cache.invalidations").count()).isEqualTo(1.0);
+        assertThat(invalidationBus.broadcasts).containsExactly(PROJECT_ID);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 무효화를 받으면 이 노드의 캐시만 비우고 다시 알리지 않는다.")
+    void givenRemoteInvalidation_whenGet_thenReloadWithoutRebroadcast() {
+        ProjectMembershipCache cache = newCache();
+        clients.add(ProjectClientMember.of(10L, PROJECT_ID));
+        cache.get(PROJECT_ID);
+
+        clients.clear();
+        invalidationBus.receive(PROJECT_ID);
+
+        assertThat(cache.get(PROJECT_ID).clientIds()).isEmpty();
+        assertThat(invalidationBus.broadcasts).isEmpty();
+    }
+
+    @Test
+    @DisplayName("멤버 변경과 조회가 동시에 일어나도 마지막 변경이 끝난 뒤에는 캐시가 저장소와 일치한다.")
+    void givenConcurrentEdits_whenAllCommitted_thenCacheMatchesStore() throws Exception {
+        ProjectMembershipCache cache = newCache();
+        // 로딩을 느리게 해 조회 도중 커밋/무효화가 끼어드는 구간을 넓힌다.
+        when(devMemberRepository.findByProjectIdIn(anyList())).thenAnswer(invocation -> {
+            List<ProjectDevMember> snapshot = List.copyOf(devs);
+            Thread.sleep(1);
+            return snapshot;
+        });
+
+        int writers = 4;
+        int editsPerWriter = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 4);
+        AtomicBoolean editing = new AtomicBoolean(true);
+        CountDownLatch writersDone = new CountDownLatch(writers);
+
+        for (int r = 0; r < 4; r++) {
+            executor.submit(() -> {
+                while (editing.get()) {
+                    cache.get(PROJECT_ID);
+                }
+            });
+        }
+        for (int w = 0; w < writers; w++) {
+            long base = (w + 1) * 1000L;
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < editsPerWriter; i++) {
+                        // 커밋(저장소 반영) 후 무효화: afterCommit과 같은 순서
+                        devs.add(ProjectDevMember.of(base + i, PROJECT_ID));
+                        cache.invalidate(PROJECT_ID);
+                    }
+                } finally {
+                    writersDone.countDown();
+                }
+            });
+        }
+
+        assertThat(writersDone.await(30, TimeUnit.SECONDS)).isTrue();
+        editing.set(false);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        Set<Long> expected = devs.stream().map(ProjectDevMember::getUserId).collect(Collectors.toSet());
+        assertThat(expected).hasSize(writers * editsPerWriter);
+        assertThat(cache.get(PROJECT_ID).devIds()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("최대 프로젝트 수를 넘으면 캐시 크기를 상한 안으로 유지한다.")
+    void givenMaxProjects_whenLoadMore_thenStayBounded() {
+        newCache();
+        ProjectMembershipCache cache = new ProjectMembershipCache(
+                clientMemberRepository, devMemberRepository, invalidationBus, meterRegistry, 600, 3);
+
+        for (long projectId = 1; projectId <= 10; projectId++) {
+            cache.get(projectId);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(3);
+    }
+
+    /**
+     * 보낸 무효화를 기록하고, 다른 노드에서 온 무효화를 흉내 내는 버스.
+     */
+    private static class RecordingBus implements MembershipInvalidationBus {
+
+        private final List<Long> broadcasts = new CopyOnWriteArrayList<>();
+        private final List<Consumer<Long>> listeners = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void broadcast(Long projectId) {
+            broadcasts.add(projectId);
+        }
+
+        @Override
+        public void subscribe(Consumer<Long> listener) {
+            listeners.add(listener);
+        }
+
+        void receive(Long projectId) {
+            listeners.forEach(listener -> listener.accept(projectId));
+        }
+    }
+}
@@ -35,6 +35,9 @@ class ProjectServiceTest {
     @Mock
     private DevMemberRepository devMemberRepository;
 
+    @Mock
+    private ProjectMembershipCache membershipCache;
+
     @InjectMocks
     private ProjectService projectService;
 
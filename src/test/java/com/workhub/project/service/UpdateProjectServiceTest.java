@@ -38,6 +38,9 @@ class UpdateProjectServiceTest {
     @Mock
     private ProjectService projectService;
 
+    @Mock
+    private ProjectMembershipCache membershipCache;
+
     @Mock
     private HistoryRecorder historyRecorder;
 
@@ -0,0 +1,99 @@
+package com.workhub.projectNotification.bus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workhub.projectNotification.dto.NotificationResponse;
+import com.workhub.projectNotification.entity.NotificationType;
+import com.workhub.projectNotification.service.NotificationEmitterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 로컬 Redis(TEST_REDIS_HOST/TEST_REDIS_PORT, 기본 localhost:6379)를 이용해
+ * 두 노드 간 알림 전달을 검증한다. Redis에 연결할 수 없으면 건너뛴다.
+ */
+class RedisNotificationBusIntegrationTest {
+
+    private static final String CHANNEL = "workhub:notifications:test";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisMessageListenerContainer container;
+    private NotificationEmitterService emittersOnNodeA;
+    private NotificationEmitterService emittersOnNodeB;
+    private RedisNotificationBus nodeA;
+    private RedisNotificationBus nodeB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+                System.getenv().getOrDefault("TEST_REDIS_HOST", "localhost"),
+                Integer.parseInt(System.getenv().getOrDefault("TEST_REDIS_PORT", "6379")));
+        connectionFactory = new LettuceConnectionFactory(config);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        assumeTrue(isRedisAvailable(), "Redis is not available");
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+
+        emittersOnNodeA = mock(NotificationEmitterService.class);
+        emittersOnNodeB = mock(NotificationEmitterService.class);
+        nodeA = new RedisNotificationBus(CHANNEL, redisTemplate, container, objectMapper, emittersOnNodeA, meterRegistry);
+        nodeB = new RedisNotificationBus(CHANNEL, redisTemplate, container, objectMapper, emittersOnNodeB, meterRegistry);
+        container.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (container != null) {
+            container.stop();
+            container.destroy();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("A 노드에서 발행한 알림은 B 노드의 로컬 emitter로 전달되고, A 노드에는 중복 전송되지 않는다.")
+    void givenTwoNodes_whenPublishOnNodeA_thenDeliveredOnNodeBOnce() {
+        NotificationResponse payload = new NotificationResponse(
+                1L, NotificationType.STATUS_CHANGED, "프로젝트", "상태 변경", "/projects/1",
+                1L, null, null, null, null, null,
+                99L, "발신자", null, false, LocalDateTime.now().withNano(0));
+
+        nodeA.publish(10L, payload, 1_700_000_000_000L);
+
+        verify(emittersOnNodeB, timeout(3_000)).send(eq(10L), eq(payload), eq(1_700_000_000_000L));
+        verify(emittersOnNodeA, after(500).times(1)).send(eq(10L), eq(payload), eq(1_700_000_000_000L));
+        assertThat(meterRegistry.get("notification.bus.published").tag("channel", CHANNEL).counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("notification.bus.received").tag("channel", CHANNEL).counter().count())
+                .isEqualTo(1.0);
+        assertThat(nodeA.getNodeId()).isNotEqualTo(nodeB.getNodeId());
+    }
+
+    private boolean isRedisAvailable() {
+        try (var connection = connectionFactory.getConnection()) {
+            return "PONG".equals(connection.ping());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
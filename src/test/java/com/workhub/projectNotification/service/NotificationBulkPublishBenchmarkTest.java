@@ -0,0 +1,82 @@
+package com.workhub.projectNotification.service;
+
+import com.workhub.config.TestAwsConfig;
+import com.workhub.projectNotification.dto.NotificationPublishRequest;
+import com.workhub.projectNotification.entity.NotificationType;
+import com.workhub.projectNotification.repository.ProjectNotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수신자별 publish(수신자당 REQUIRES_NEW + saveAndFlush)와 publishAll(multi-row INSERT) 비교.
+ * 실제 DB가 필요하므로 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestAwsConfig.class)
+class NotificationBulkPublishBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURE_ROUNDS = 5;
+
+    @Autowired
+    private ProjectNotificationService notificationService;
+
+    @Autowired
+    private ProjectNotificationRepository notificationRepository;
+
+    @AfterEach
+    void cleanUp() {
+        notificationRepository.deleteAllInBatch();
+    }
+
+    @ParameterizedTest(name = "receivers={0}")
+    @ValueSource(ints = {10, 100, 1000})
+    @DisplayName("수신자 수별 개별 발행 vs 일괄 발행 소요 시간 비교")
+    void comparePerUserAndBulkPublish(int receiverCount) {
+        Set<Long> receivers = LongStream.rangeClosed(1, receiverCount).boxed().collect(Collectors.toSet());
+        NotificationPublishRequest base = NotificationPublishRequest.forProject(null, NotificationType.STATUS_CHANGED, 1L)
+                .title("벤치마크 프로젝트")
+                .content("프로젝트 상태가 변경되었습니다.")
+                .relatedUrl("/projects/1");
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            receivers.forEach(userId -> notificationService.publish(base.withReceiver(userId)));
+            notificationService.publishAll(base, receivers);
+        }
+        notificationRepository.deleteAllInBatch();
+
+        long perUserNanos = 0;
+        long bulkNanos = 0;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            receivers.forEach(userId -> notificationService.publish(base.withReceiver(userId)));
+            perUserNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            notificationService.publishAll(base, receivers);
+            bulkNanos += System.nanoTime() - start;
+        }
+
+        double perUserMs = perUserNanos / 1_000_000.0 / MEASURE_ROUNDS;
+        double bulkMs = bulkNanos / 1_000_000.0 / MEASURE_ROUNDS;
+        System.out.printf("[notification-publish] receivers=%d perUser=%.2fms bulk=%.2fms speedup=x%.1f%n",
+                receiverCount, perUserMs, bulkMs, perUserMs / bulkMs);
+
+        assertThat(notificationRepository.count()).isEqualTo(2L * receiverCount * MEASURE_ROUNDS);
+    }
+}
@@ -0,0 +1,190 @@
+package com.workhub.projectNotification.service;
+
+import com.workhub.global.notification.NotificationLatencyRecorder;
+import com.workhub.projectNotification.dto.NotificationResponse;
+import com.workhub.projectNotification.entity.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class NotificationEmitterServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SseConnectionRegistry connectionRegistry = new SseConnectionRegistry(meterRegistry);
+    private final NotificationReplayBuffer replayBuffer = new NotificationReplayBuffer(100, 600, 100, meterRegistry);
+    private final NotificationLatencyRecorder latencyRecorder = new NotificationLatencyRecorder(meterRegistry);
+
+    @Test
+    @DisplayName("소켓 쓰기가 막힌 연결이 있어도 발행 스레드는 기다리지 않고, 풀리면 순서대로 전송된다.")
+    void givenBlockedSocket_whenSend_thenPublisherDoesNotWait() throws Exception {
+        NotificationEmitterService emitterService = emitterService(NotificationEmitterService.OverflowPolicy.DROP_AND_REPLAY);
+        BlockingEmitter emitter = new BlockingEmitter();
+        connectionRegistry.add(new SseConnection(1L, emitter, 8));
+
+        long startedAt = System.nanoTime();
+        for (long id = 1; id <= 3; id++) {
+            emitterService.send(1L, notification(id), System.currentTimeMillis());
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(elapsedMillis).isLessThan(500);
+        emitter.release();
+        awaitUntil(() -> emitter.sentIds().size() == 3);
+        assertThat(emitter.sentIds()).containsExactly(1L, 2L, 3L);
+        awaitUntil(() -> meterRegistry.find(NotificationLatencyRecorder.LATENCY_METRIC)
+                .tags("type", "POST_CREATED", "stage", "delivered").timer() != null
+                && meterRegistry.get(NotificationLatencyRecorder.LATENCY_METRIC)
+                .tags("type", "POST_CREATED", "stage", "delivered").timer().count() == 3);
+    }
+
+    @Test
+    @DisplayName("DROP_AND_REPLAY: 큐가 넘치면 새 알림을 버렸다가 큐를 비운 뒤 리플레이 버퍼로 빠짐없이 보충한다.")
+    void givenOverflow_whenDropAndReplay_thenReplayMissedInOrder() throws Exception {
+        NotificationEmitterService emitterService = emitterService(NotificationEmitterService.OverflowPolicy.DROP_AND_REPLAY);
+        BlockingEmitter emitter = new BlockingEmitter();
+        SseConnection connection = new SseConnection(1L, emitter, 2);
+        connectionRegistry.add(connection);
+
+        for (long id = 1; id <= 6; id++) {
+            emitterService.send(1L, notification(id), 0L);
+        }
+        assertThat(connection.isLagging()).isTrue();
+        assertThat(meterRegistry.get("notification.sse.send.lagging").gauge().value()).isEqualTo(1.0);
+
+        emitter.release();
+        awaitUntil(() -> emitter.sentIds().size() == 6);
+        assertThat(emitter.sentIds()).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(connection.isLagging()).isFalse();
+        assertThat(connectionRegistry.connectionsOf(1L)).containsExactly(connection);
+        assertThat(meterRegistry.get("notification.sse.send.overflow").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DROP_AND_REPLAY: 지연 중 id가 작은 알림이 늦게 도착해도 누락 구간에 넣어 보충하고, 이미 보낸 알림은 다시 보내지 않는다.")
+    void givenLateLowerId_whenDropAndReplay_thenReplayedOnceWithoutDuplicates() throws Exception {
+        NotificationEmitterService emitterService = emitterService(NotificationEmitterService.OverflowPolicy.DROP_AND_REPLAY);
+        BlockingEmitter emitter = new BlockingEmitter();
+        SseConnection connection = new SseConnection(1L, emitter, 2);
+        connectionRegistry.add(connection);
+        // 버퍼가 5 이후 구간을 보장하도록 먼저 발행된 알림이 있는 상태
+        replayBuffer.record(1L, notification(1L));
+
+        for (long id = 10; id <= 13; id++) {
+            emitterService.send(1L, notification(id), 0L);
+        }
+        assertThat(connection.isLagging()).isTrue();
+        // 먼저 id를 받았지만 늦게 커밋된 알림
+        emitterService.send(1L, notification(5L), 0L);
+        emitterService.send(1L, notification(14L), 0L);
+
+        emitter.release();
+        awaitUntil(() -> !connection.hasPending() && emitter.sentIds().size() >= 6);
+        Thread.sleep(50);
+        assertThat(emitter.sentIds()).containsExactlyInAnyOrder(5L, 10L, 11L, 12L, 13L, 14L);
+        assertThat(connectionRegistry.connectionsOf(1L)).containsExactly(connection);
+    }
+
+    @Test
+    @DisplayName("DISCONNECT: 큐가 넘치면 연결을 끊고 다른 연결에는 영향을 주지 않는다.")
+    void givenOverflow_whenDisconnect_thenCloseOnlySlowConnection() throws Exception {
+        NotificationEmitterService emitterService = emitterService(NotificationEmitterService.OverflowPolicy.DISCONNECT);
+        BlockingEmitter slowEmitter = new BlockingEmitter();
+        BlockingEmitter fastEmitter = new BlockingEmitter();
+        fastEmitter.release();
+        SseConnection slow = new SseConnection(1L, slowEmitter, 1);
+        SseConnection fast = new SseConnection(1L, fastEmitter, 1);
+        connectionRegistry.add(slow);
+        connectionRegistry.add(fast);
+
+        for (long id = 1; id <= 4; id++) {
+            emitterService.send(1L, notification(id), 0L);
+            long expected = id;
+            awaitUntil(() -> fastEmitter.sentIds().size() == expected);
+        }
+
+        assertThat(slow.isClosed()).isTrue();
+        assertThat(connectionRegistry.connectionsOf(1L)).containsExactly(fast);
+        assertThat(fastEmitter.sentIds()).containsExactly(1L, 2L, 3L, 4L);
+        slowEmitter.release();
+    }
+
+    @Test
+    @DisplayName("재연결 보충분은 큐 크기와 무관하게 모두 보내고, 보충 중 들어온 알림은 중복 없이 이어서 보낸다.")
+    void givenBackfillLargerThanQueue_whenSubscribe_thenSendAllWithoutDuplicates() throws Exception {
+        NotificationEmitterService emitterService = new NotificationEmitterService(
+                connectionRegistry, mock(SseHeartbeatScheduler.class), replayBuffer, latencyRecorder, meterRegistry, 2,
+                NotificationEmitterService.OverflowPolicy.DROP_AND_REPLAY);
+
+        SseEmitter emitter = emitterService.subscribe(1L, () -> {
+            // 보충 목록을 읽는 동안 새 알림 6이 발행되고, 보충 목록에도 6이 포함된 경우
+            emitterService.send(1L, notification(6L), 0L);
+            return List.of(notification(2L), notification(3L), notification(4L), notification(5L), notification(6L));
+        });
+
+        SseConnection connection = connectionRegistry.connectionsOf(1L).iterator().next();
+        assertThat(connection.getEmitter()).isSameAs(emitter);
+        awaitUntil(() -> connection.queuedCount() == 0 && !connection.hasPending());
+        assertThat(List.of(2L, 3L, 4L, 5L, 6L)).allMatch(connection::wasSent);
+        assertThat(meterRegistry.get("notification.sse.send.overflow").counter().count()).isZero();
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private NotificationEmitterService emitterService(NotificationEmitterService.OverflowPolicy policy) {
+        return new NotificationEmitterService(connectionRegistry, mock(SseHeartbeatScheduler.class), replayBuffer,
+                latencyRecorder, meterRegistry, 64, policy);
+    }
+
+    private NotificationResponse notification(Long id) {
+        return new NotificationResponse(id, NotificationType.POST_CREATED, "title", "content", null,
+                1L, null, null, null, null, null, null, null, null, false, LocalDateTime.now());
+    }
+
+    /**
+     * release() 전까지 쓰기가 막히는 emitter. 알림 이벤트의 id만 기록한다.
+     */
+    private static class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final List<Long> sentIds = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            builder.build().stream()
+                    .flatMap(data -> String.valueOf(data.getData()).lines())
+                    .filter(line -> line.startsWith("id:"))
+                    .map(line -> Long.parseLong(line.substring(3).trim()))
+                    .forEach(sentIds::add);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        List<Long> sentIds() {
+            return sentIds;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.workhub.projectNotification.service;
+
+import com.workhub.config.TestAwsConfig;
+import com.workhub.projectNotification.dto.NotificationPageRequest;
+import com.workhub.projectNotification.dto.NotificationPageResponse;
+import com.workhub.projectNotification.entity.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 100k건을 가진 사용자와 100건을 가진 사용자의 알림함 커서 조회 응답 시간 비교.
+ * 첫 페이지/깊은 페이지/미읽음 필터 모두 OFFSET 없이 인덱스 범위 스캔으로 처리되어 알림 수와 무관해야 한다.
+ * 실제 DB가 필요하므로 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestAwsConfig.class)
+class NotificationInboxBenchmarkTest {
+
+    private static final long HEAVY_USER = 1L;
+    private static final long LIGHT_USER = 2L;
+    private static final int HEAVY_COUNT = 100_000;
+    private static final int LIGHT_COUNT = 100;
+    private static final int NOISE_COUNT = 100_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 300;
+
+    // test 프로필은 ddl-auto로 스키마를 만들므로 2.create_indexes.sql의 알림함 인덱스를 직접 만든다.
+    private static final List<String> INDEXES = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_notification_user_id ON project_notification(user_id, project_notification_id DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_notification_user_read_id ON project_notification(user_id, read_at, project_notification_id DESC)"
+    );
+    private static final String SEED_RECEIPTS = """
+            INSERT INTO project_notification (notification_body_id, user_id, read_at, created_at, updated_at)
+            SELECT ?, %s, CASE WHEN g %% 10 = 0 THEN NULL ELSE now() END, now(), now()
+            FROM generate_series(1, ?) g
+            """;
+
+    @Autowired
+    private ProjectNotificationService notificationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long oldestHeavyId;
+
+    @BeforeEach
+    void setUp() {
+        truncate();
+        INDEXES.forEach(jdbcTemplate::execute);
+        Long bodyId = jdbcTemplate.queryForObject("""
+                INSERT INTO notification_body (notification_type, title, notification_content, related_url, project_id, created_at, updated_at)
+                VALUES ('STATUS_CHANGED', '벤치마크 알림', '프로젝트 상태가 변경되었습니다.', '/projects/1', 1, now(), now())
+                RETURNING notification_body_id
+                """, Long.class);
+
+        // 사용자 알림 사이에 다른 사용자 알림이 섞이도록 나눠서 넣는다.
+        for (int round = 0; round < 10; round++) {
+            jdbcTemplate.update(SEED_RECEIPTS.formatted(HEAVY_USER), bodyId, HEAVY_COUNT / 10);
+            jdbcTemplate.update(SEED_RECEIPTS.formatted("10 + g % 1000"), bodyId, NOISE_COUNT / 10);
+            jdbcTemplate.update(SEED_RECEIPTS.formatted(LIGHT_USER), bodyId, LIGHT_COUNT / 10);
+        }
+        jdbcTemplate.execute("ANALYZE project_notification");
+        jdbcTemplate.execute("ANALYZE notification_body");
+        oldestHeavyId = jdbcTemplate.queryForObject(
+                "SELECT MIN(project_notification_id) FROM project_notification WHERE user_id = ?", Long.class, HEAVY_USER);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        truncate();
+    }
+
+    @Test
+    @DisplayName("알림 100k건 사용자의 첫/깊은/미읽음 페이지 응답 시간이 100건 사용자와 같은 수준을 유지한다.")
+    void inboxLatencyStaysFlatForHeavyUser() {
+        long deepCursor = oldestHeavyId + PAGE_SIZE * 5L;
+
+        double lightFirst = p50(() -> notificationService.listPage(LIGHT_USER, page(null, false)));
+        double heavyFirst = p50(() -> notificationService.listPage(HEAVY_USER, page(null, false)));
+        double heavyDeep = p50(() -> notificationService.listPage(HEAVY_USER, page(deepCursor, false)));
+        double heavyUnreadDeep = p50(() -> notificationService.listPage(HEAVY_USER, page(deepCursor + 1000, true)));
+
+        System.out.printf(
+                "[notification-inbox] p50 light=%.3fms heavyFirst=%.3fms heavyDeep=%.3fms heavyUnreadDeep=%.3fms%n",
+                lightFirst, heavyFirst, heavyDeep, heavyUnreadDeep);
+
+        NotificationPageResponse deep = notificationService.listPage(HEAVY_USER, page(deepCursor, false));
+        assertThat(deep.notifications()).hasSize(PAGE_SIZE);
+        assertThat(deep.beforeCursor()).isLessThan(deepCursor);
+
+        // 절대 시간은 환경마다 다르므로 100건 사용자 대비 배수와 여유 시간으로 평탄함만 확인한다.
+        double ceiling = lightFirst * 3 + 2.0;
+        assertThat(heavyFirst).isLessThan(ceiling);
+        assertThat(heavyDeep).isLessThan(ceiling);
+        assertThat(heavyUnreadDeep).isLessThan(ceiling);
+    }
+
+    @Test
+    @DisplayName("알림함 조회 실행 계획은 OFFSET/정렬 없이 사용자-ID 복합 인덱스를 사용한다.")
+    void inboxQueriesUseCompositeIndex() {
+        String all = explain("""
+                SELECT * FROM project_notification
+                WHERE user_id = %d AND project_notification_id < %d
+                ORDER BY project_notification_id DESC LIMIT %d
+                """.formatted(HEAVY_USER, oldestHeavyId + 1000, PAGE_SIZE + 1));
+        String unread = explain("""
+                SELECT * FROM project_notification
+                WHERE user_id = %d AND read_at IS NULL AND project_notification_id < %d
+                ORDER BY project_notification_id DESC LIMIT %d
+                """.formatted(HEAVY_USER, oldestHeavyId + 1000, PAGE_SIZE + 1));
+
+        assertThat(all).contains("idx_notification_user_id").doesNotContain("Sort");
+        assertThat(unread).contains("idx_notification_user_read_id").doesNotContain("Sort");
+    }
+
+    private NotificationPageRequest page(Long before, boolean unreadOnly) {
+        return NotificationPageRequest.of(before, null, PAGE_SIZE, unreadOnly, unreadOnly ? NotificationType.STATUS_CHANGED : null);
+    }
+
+    private double p50(Supplier<NotificationPageResponse> call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.get();
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            call.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2] / 1_000_000.0;
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    private void truncate() {
+        jdbcTemplate.execute("TRUNCATE project_notification, notification_body RESTART IDENTITY CASCADE");
+    }
+}
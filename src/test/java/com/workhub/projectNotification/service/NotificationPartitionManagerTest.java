@@ -0,0 +1,131 @@
+package com.workhub.projectNotification.service;
+
+import com.workhub.projectNotification.repository.NotificationPartitionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class NotificationPartitionManagerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationPartitionRepository repository = mock(NotificationPartitionRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final YearMonth current = YearMonth.now();
+    private NotificationPartitionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(repository.tryMaintenanceLock()).thenReturn(true);
+        manager = new NotificationPartitionManager(repository, transactionManager, meterRegistry, 2, 180,
+                NotificationPartitionManager.RetentionMode.DROP, 5000);
+        manager.setPartitioned(true);
+    }
+
+    @Test
+    @DisplayName("이번 달부터 미리 만들 개월 수만큼 파티션을 만들고, 보관 기간이 통째로 지난 파티션만 제거한다.")
+    void givenExpiredPartition_whenMaintain_thenCreateAheadAndDropExpired() {
+        YearMonth expired = current.minusMonths(8);
+        YearMonth boundary = current.minusMonths(6);
+        when(repository.findAttachedMonths()).thenReturn(List.of(expired, boundary, current));
+        when(repository.countRows(expired)).thenReturn(1234L);
+        when(repository.deleteOrphanBodiesBefore(any(LocalDateTime.class), anyInt())).thenReturn(10);
+
+        manager.maintain();
+
+        verify(repository).createPartition(current);
+        verify(repository).createPartition(current.plusMonths(1));
+        verify(repository).createPartition(current.plusMonths(2));
+        verify(repository).detachPartition(expired);
+        verify(repository).dropPartition(expired);
+        verify(repository, never()).detachPartition(boundary);
+        verify(repository, never()).detachPartition(current);
+        assertThat(meterRegistry.counter("notification.partition.purged.rows").count()).isEqualTo(1234.0);
+        assertThat(meterRegistry.counter("notification.partition.purged.bodies").count()).isEqualTo(10.0);
+        assertThat(meterRegistry.timer("notification.partition.retention").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DEFAULT 파티션에 해당 월의 행이 쌓여 있으면 행을 옮기면서 파티션을 만든다.")
+    void givenRowsInDefaultPartition_whenMaintain_thenMoveRowsIntoNewPartition() {
+        when(repository.partitionExists(current)).thenReturn(true);
+        when(repository.countDefaultRows(current.plusMonths(1))).thenReturn(42L);
+        when(repository.createPartitionFromDefault(current.plusMonths(1))).thenReturn(42);
+
+        manager.maintain();
+
+        verify(repository).setLockTimeout(5000);
+        verify(repository, never()).createPartition(current);
+        verify(repository, never()).createPartitionFromDefault(current);
+        verify(repository).createPartitionFromDefault(current.plusMonths(1));
+        verify(repository, never()).createPartition(current.plusMonths(1));
+        verify(repository).createPartition(current.plusMonths(2));
+        assertThat(meterRegistry.counter("notification.partition.moved.rows").count()).isEqualTo(42.0);
+    }
+
+    @Test
+    @DisplayName("한 달의 파티션 작업이 실패해도 나머지 달의 생성과 보관 정리는 계속한다.")
+    void givenOneMonthFails_whenMaintain_thenOtherMonthsStillProcessed() {
+        YearMonth expired = current.minusMonths(9);
+        YearMonth locked = current.minusMonths(8);
+        when(repository.findAttachedMonths()).thenReturn(List.of(expired, locked, current));
+        doThrow(new CannotAcquireLockException("default partition busy")).when(repository).createPartition(current);
+        doThrow(new CannotAcquireLockException("lock timeout")).when(repository).detachPartition(expired);
+
+        manager.maintain();
+
+        verify(repository).createPartition(current.plusMonths(1));
+        verify(repository).createPartition(current.plusMonths(2));
+        verify(repository, never()).dropPartition(expired);
+        verify(repository).detachPartition(locked);
+        verify(repository).dropPartition(locked);
+        assertThat(meterRegistry.counter("notification.partition.failures", "operation", "create").count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.counter("notification.partition.failures", "operation", "detach").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 관리 잠금을 잡고 있으면 파티션을 건드리지 않는다.")
+    void givenLockHeldElsewhere_whenMaintain_thenSkip() {
+        when(repository.tryMaintenanceLock()).thenReturn(false);
+
+        manager.maintain();
+
+        verify(repository, never()).createPartition(any());
+        verify(repository, never()).detachPartition(any());
+    }
+
+    @Test
+    @DisplayName("커서 ID가 속한 파티션으로 created_at 범위를 계산하고, 파티션을 확정할 수 없으면 범위를 두지 않는다.")
+    void givenPartitionBoundaries_whenResolveCursor_thenBoundCreatedAt() {
+        YearMonth previous = current.minusMonths(1);
+        when(repository.findAttachedMonths()).thenReturn(List.of(previous, current));
+        when(repository.findMinId(previous)).thenReturn(Optional.of(100L));
+        when(repository.findMinId(current)).thenReturn(Optional.of(500L));
+        manager.refreshBoundaries();
+
+        // 이전 달 파티션의 커서: 다음 파티션 최소 ID(500)보다 작으므로 이전 달 말(+경계 여유)까지로 제한된다.
+        assertThat(manager.createdBefore(300L))
+                .isEqualTo(current.atDay(1).atStartOfDay().plus(NotificationPartitionManager.BOUNDARY_SLACK));
+        // 마지막 파티션의 커서: 다음 파티션이 아직 없으므로 상한을 두지 않는다.
+        assertThat(manager.createdBefore(700L)).isNull();
+        assertThat(manager.createdFrom(700L))
+                .isEqualTo(current.atDay(1).atStartOfDay().minus(NotificationPartitionManager.BOUNDARY_SLACK));
+        assertThat(manager.createdFrom(50L)).isNull();
+    }
+}
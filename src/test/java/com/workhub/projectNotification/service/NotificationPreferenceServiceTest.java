@@ -0,0 +1,141 @@
+package com.workhub.projectNotification.service;
+
+import com.workhub.global.error.exception.BusinessException;
+import com.workhub.projectNotification.dto.NotificationPreferenceRequest;
+import com.workhub.projectNotification.dto.NotificationPreferenceResponse;
+import com.workhub.projectNotification.dto.NotificationRouting;
+import com.workhub.projectNotification.entity.NotificationDeliveryMode;
+import com.workhub.projectNotification.entity.NotificationPreference;
+import com.workhub.projectNotification.entity.NotificationType;
+import com.workhub.projectNotification.entity.PreferenceMasks;
+import com.workhub.projectNotification.repository.NotificationPreferenceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class NotificationPreferenceServiceTest {
+
+    private NotificationPreferenceRepository preferenceRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationPreferenceService preferenceService;
+
+    @BeforeEach
+    void setUp() {
+        preferenceRepository = mock(NotificationPreferenceRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        preferenceService = new NotificationPreferenceService(preferenceRepository, meterRegistry, 300, 100);
+    }
+
+    @Test
+    @DisplayName("타입 마스크는 한 비트씩 독립적으로 바뀌고, 다른 타입 설정은 유지된다.")
+    void givenMasks_whenWith_thenOnlyTargetBitChanges() {
+        PreferenceMasks masks = PreferenceMasks.DEFAULT
+                .with(NotificationType.POST_CREATED, NotificationDeliveryMode.MUTE)
+                .with(NotificationType.STATUS_CHANGED, NotificationDeliveryMode.DIGEST)
+                .with(NotificationType.POST_CREATED, NotificationDeliveryMode.IN_APP_ONLY);
+
+        assertThat(masks.modeOf(NotificationType.POST_CREATED)).isEqualTo(NotificationDeliveryMode.IN_APP_ONLY);
+        assertThat(masks.modeOf(NotificationType.STATUS_CHANGED)).isEqualTo(NotificationDeliveryMode.DIGEST);
+        assertThat(masks.modeOf(NotificationType.PROJECT_NODE_UPDATED)).isEqualTo(NotificationDeliveryMode.ALL);
+        assertThat(masks.muted()).isZero();
+        assertThat(masks.with(NotificationType.STATUS_CHANGED, NotificationDeliveryMode.ALL)
+                .with(NotificationType.POST_CREATED, NotificationDeliveryMode.ALL)).isEqualTo(PreferenceMasks.DEFAULT);
+    }
+
+    @Test
+    @DisplayName("수신자를 설정별로 나누고, MUTE 수신자는 저장 대상에서 빠진다.")
+    void givenPreferences_whenRoute_thenSplitByMode() {
+        when(preferenceRepository.findAllByUserIdIn(anyCollection())).thenReturn(List.of(
+                preference(1L, NotificationType.STATUS_CHANGED, NotificationDeliveryMode.MUTE),
+                preference(2L, NotificationType.STATUS_CHANGED, NotificationDeliveryMode.DIGEST),
+                preference(3L, NotificationType.STATUS_CHANGED, NotificationDeliveryMode.IN_APP_ONLY)
+        ));
+
+        NotificationRouting routing = preferenceService.route(NotificationType.STATUS_CHANGED, Set.of(1L, 2L, 3L, 4L), true);
+
+        assertThat(routing.muted()).containsExactly(1L);
+        assertThat(routing.digest()).containsExactly(2L);
+        assertThat(routing.immediate()).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(meterRegistry.get("notification.preference.suppressed").tag("type", "STATUS_CHANGED").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("요약 발행이 불가능하면 DIGEST 수신자도 바로 저장한다.")
+    void givenDigestUnavailable_whenRoute_thenDigestReceiversAreImmediate() {
+        when(preferenceRepository.findAllByUserIdIn(anyCollection())).thenReturn(List.of(
+                preference(2L, NotificationType.POST_CREATED, NotificationDeliveryMode.DIGEST)
+        ));
+
+        NotificationRouting routing = preferenceService.route(NotificationType.POST_CREATED, Set.of(2L), false);
+
+        assertThat(routing.digest()).isEmpty();
+        assertThat(routing.immediate()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("설정이 없는 사용자도 기본값으로 캐시해 두 번째 조회부터는 DB를 읽지 않는다.")
+    void givenRepeatedLookups_whenRoute_thenLoadOnceWithSingleInQuery() {
+        when(preferenceRepository.findAllByUserIdIn(anyCollection())).thenReturn(List.of());
+
+        preferenceService.route(NotificationType.POST_CREATED, Set.of(1L, 2L, 3L), true);
+        preferenceService.route(NotificationType.POST_COMMENT_CREATED, Set.of(1L, 2L, 3L), true);
+
+        verify(preferenceRepository, times(1)).findAllByUserIdIn(anyCollection());
+        assertThat(preferenceService.cacheSize()).isEqualTo(3);
+        assertThat(meterRegistry.get("notification.preference.cache.lookups").tag("result", "hit").counter().count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("설정 변경은 잠근 행의 기존 마스크에 병합하고 캐시에서 지운다.")
+    void givenExistingPreference_whenUpdate_thenMergeAndEvict() {
+        NotificationPreference existing = preference(1L, NotificationType.POST_CREATED, NotificationDeliveryMode.MUTE);
+        when(preferenceRepository.findAllByUserIdIn(anyCollection())).thenReturn(List.of(existing));
+        when(preferenceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(existing));
+        preferenceService.route(NotificationType.POST_CREATED, Set.of(1L), true);
+        assertThat(preferenceService.cacheSize()).isEqualTo(1);
+
+        List<NotificationPreferenceResponse> result = preferenceService.updatePreferences(1L, new NotificationPreferenceRequest(List.of(
+                new NotificationPreferenceRequest.Item(NotificationType.POST_COMMENT_CREATED, NotificationDeliveryMode.DIGEST)
+        )));
+
+        var inOrder = inOrder(preferenceRepository);
+        inOrder.verify(preferenceRepository).insertIfAbsent(1L);
+        inOrder.verify(preferenceRepository).findByIdForUpdate(1L);
+        inOrder.verify(preferenceRepository).save(existing);
+        assertThat(existing.toMasks().modeOf(NotificationType.POST_CREATED)).isEqualTo(NotificationDeliveryMode.MUTE);
+        assertThat(existing.toMasks().modeOf(NotificationType.POST_COMMENT_CREATED)).isEqualTo(NotificationDeliveryMode.DIGEST);
+        assertThat(result).hasSize(NotificationType.values().length);
+        assertThat(preferenceService.cacheSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("타입이나 수신 방식이 빠진 설정 변경 요청은 예외가 발생한다.")
+    void givenMissingMode_whenUpdate_thenThrow() {
+        NotificationPreferenceRequest request = new NotificationPreferenceRequest(List.of(
+                new NotificationPreferenceRequest.Item(NotificationType.POST_CREATED, null)
+        ));
+
+        assertThatThrownBy(() -> preferenceService.updatePreferences(1L, request))
+                .isInstanceOf(BusinessException.class);
+        verify(preferenceRepository, never()).save(any());
+    }
+
+    private NotificationPreference preference(Long userId, NotificationType type, NotificationDeliveryMode mode) {
+        NotificationPreference preference = NotificationPreference.of(userId);
+        preference.apply(PreferenceMasks.DEFAULT.with(type, mode));
+        return preference;
+    }
+}
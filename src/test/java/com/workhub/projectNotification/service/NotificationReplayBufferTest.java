@@ -0,0 +1,89 @@
+package com.workhub.projectNotification.service;
+
+import com.workhub.projectNotification.dto.NotificationResponse;
+import com.workhub.projectNotification.entity.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationReplayBufferTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("버퍼가 lastEventId 이후 구간을 포함하면 DB 없이 이후 알림만 돌려준다.")
+    void givenCoveredLastEventId_whenReplayAfter_thenHit() {
+        NotificationReplayBuffer buffer = new NotificationReplayBuffer(10, 600, 100, meterRegistry);
+        buffer.record(1L, notification(10L));
+        buffer.record(1L, notification(12L));
+        buffer.record(1L, notification(15L));
+
+        Optional<List<NotificationResponse>> replay = buffer.replayAfter(1L, 10L);
+
+        assertThat(replay).isPresent();
+        assertThat(replay.get()).extracting(NotificationResponse::id).containsExactly(12L, 15L);
+        assertThat(meterRegistry.counter("notification.replay.lookups", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("용량 초과로 밀려난 구간을 요청하면 미스로 처리한다.")
+    void givenEvictedRange_whenReplayAfter_thenMiss() {
+        NotificationReplayBuffer buffer = new NotificationReplayBuffer(2, 600, 100, meterRegistry);
+        buffer.record(1L, notification(10L));
+        buffer.record(1L, notification(12L));
+        buffer.record(1L, notification(15L));
+
+        assertThat(buffer.replayAfter(1L, 5L)).isEmpty();
+        assertThat(buffer.replayAfter(1L, 10L)).hasValueSatisfying(list ->
+                assertThat(list).extracting(NotificationResponse::id).containsExactly(12L, 15L));
+        assertThat(meterRegistry.counter("notification.replay.lookups", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("id가 작은 알림이 늦게 도착해도 id 순서 자리에 넣어 리플레이에서 빠뜨리지 않는다.")
+    void givenOutOfOrderRecord_whenReplayAfter_thenIncludedInIdOrder() {
+        NotificationReplayBuffer buffer = new NotificationReplayBuffer(10, 600, 100, meterRegistry);
+        buffer.record(1L, notification(10L));
+        buffer.record(1L, notification(13L));
+        buffer.record(1L, notification(12L));
+        buffer.record(1L, notification(13L));
+
+        assertThat(buffer.replayAfter(1L, 10L)).hasValueSatisfying(list ->
+                assertThat(list).extracting(NotificationResponse::id).containsExactly(12L, 13L));
+    }
+
+    @Test
+    @DisplayName("처음 기록된 알림 이전 구간은 버퍼가 보장하지 않는다.")
+    void givenIdBeforeFirstRecord_whenReplayAfter_thenMiss() {
+        NotificationReplayBuffer buffer = new NotificationReplayBuffer(10, 600, 100, meterRegistry);
+        buffer.record(1L, notification(20L));
+
+        assertThat(buffer.replayAfter(1L, 3L)).isEmpty();
+        assertThat(buffer.replayAfter(2L, 3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자 수 상한을 넘으면 가장 오래 접근하지 않은 사용자의 버퍼를 버린다.")
+    void givenMaxUsersExceeded_whenRecord_thenEvictLeastRecentlyUsed() {
+        NotificationReplayBuffer buffer = new NotificationReplayBuffer(10, 600, 2, meterRegistry);
+        buffer.record(1L, notification(1L));
+        buffer.record(2L, notification(2L));
+        buffer.replayAfter(1L, 1L);
+        buffer.record(3L, notification(3L));
+
+        assertThat(buffer.userCount()).isEqualTo(2);
+        assertThat(buffer.replayAfter(1L, 1L)).isPresent();
+        assertThat(buffer.replayAfter(2L, 2L)).isEmpty();
+    }
+
+    private NotificationResponse notification(Long id) {
+        return new NotificationResponse(id, NotificationType.POST_CREATED, "title", "content", null,
+                1L, null, null, null, null, null, null, null, null, false, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,168 @@
+package com.workhub.projectNotification.service;
+
+import com.workhub.config.TestAwsConfig;
+import com.workhub.projectNotification.dto.NotificationPublishRequest;
+import com.workhub.projectNotification.entity.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수신자마다 본문을 복제하던 기존 구조(legacy_project_notification)와
+ * 본문 1행 + 수신 행 N행 구조의 저장 용량/INSERT 시간 비교.
+ * 실제 DB가 필요하므로 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestAwsConfig.class)
+class NotificationStorageBenchmarkTest {
+
+    private static final int EVENTS = 200;
+    private static final int LEGACY_CHUNK_SIZE = 500;
+
+    private static final String LEGACY_TABLE = """
+            CREATE TABLE IF NOT EXISTS legacy_project_notification (
+                project_notification_id BIGSERIAL PRIMARY KEY,
+                notification_type VARCHAR(30) NOT NULL,
+                title VARCHAR(50) NOT NULL,
+                notification_content VARCHAR(100) NOT NULL,
+                related_url VARCHAR(50) NULL,
+                read_at TIMESTAMP NULL,
+                sender_user_id BIGINT NULL,
+                sender_name VARCHAR(50) NULL,
+                sender_profile_img VARCHAR(255) NULL,
+                user_id BIGINT NULL,
+                project_node_id BIGINT NULL,
+                cs_qna_id BIGINT NULL,
+                post_id BIGINT NULL,
+                project_id BIGINT NULL,
+                cs_post_id BIGINT NULL,
+                comment_id BIGINT NULL,
+                created_at TIMESTAMP NULL,
+                updated_at TIMESTAMP NULL,
+                deleted_at TIMESTAMP NULL
+            )
+            """;
+    private static final String LEGACY_INSERT_PREFIX = """
+            INSERT INTO legacy_project_notification (
+                notification_type, title, notification_content, related_url,
+                sender_user_id, sender_name, sender_profile_img, user_id, project_id,
+                created_at, updated_at
+            ) VALUES
+            """;
+    private static final String LEGACY_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private ProjectNotificationService notificationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute(LEGACY_TABLE);
+        truncate();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        truncate();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS legacy_project_notification");
+    }
+
+    @ParameterizedTest(name = "fanOut={0}")
+    @ValueSource(ints = {5, 30, 200})
+    @DisplayName("수신자 수별 기존 구조 vs 본문/수신 행 분리 구조의 저장 용량과 INSERT 시간 비교")
+    void compareLegacyAndNormalizedLayout(int fanOut) {
+        Set<Long> receivers = LongStream.rangeClosed(1, fanOut).boxed().collect(Collectors.toSet());
+        NotificationPublishRequest base = NotificationPublishRequest.forProject(null, NotificationType.STATUS_CHANGED, 1L)
+                .title("벤치마크 프로젝트 상태 변경 알림")
+                .content("프로젝트 상태가 진행 중에서 검수 요청으로 변경되었습니다.")
+                .relatedUrl("/projects/1")
+                .senderUserId(1L)
+                .senderName("벤치마크 발신자")
+                .senderProfileImg("https://workhub-bucket.s3.ap-northeast-2.amazonaws.com/profile/benchmark-user.png");
+
+        long start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            insertLegacy(base, List.copyOf(receivers));
+        }
+        long legacyNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            notificationService.publishAll(base, receivers);
+        }
+        long normalizedNanos = System.nanoTime() - start;
+
+        jdbcTemplate.execute("ANALYZE legacy_project_notification");
+        jdbcTemplate.execute("ANALYZE notification_body");
+        jdbcTemplate.execute("ANALYZE project_notification");
+        long legacyBytes = relationSize("legacy_project_notification");
+        long normalizedBytes = relationSize("notification_body") + relationSize("project_notification");
+
+        System.out.printf(
+                "[notification-storage] fanOut=%d events=%d legacy=%dKB/%.2fms normalized=%dKB/%.2fms storage=-%.0f%% insert=x%.1f%n",
+                fanOut, EVENTS,
+                legacyBytes / 1024, legacyNanos / 1_000_000.0 / EVENTS,
+                normalizedBytes / 1024, normalizedNanos / 1_000_000.0 / EVENTS,
+                100.0 * (legacyBytes - normalizedBytes) / legacyBytes,
+                (double) legacyNanos / normalizedNanos);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_body", Long.class)).isEqualTo(EVENTS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project_notification", Long.class))
+                .isEqualTo((long) EVENTS * fanOut);
+    }
+
+    private void insertLegacy(NotificationPublishRequest base, List<Long> receivers) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < receivers.size(); from += LEGACY_CHUNK_SIZE) {
+            List<Long> chunk = receivers.subList(from, Math.min(from + LEGACY_CHUNK_SIZE, receivers.size()));
+            String sql = LEGACY_INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), LEGACY_ROW));
+            List<Object> params = new ArrayList<>(chunk.size() * 11);
+            for (Long userId : chunk) {
+                params.add(base.type().name());
+                params.add(base.title());
+                params.add(base.content());
+                params.add("/projects/1");
+                params.add(1L);
+                params.add("벤치마크 발신자");
+                params.add("https://workhub-bucket.s3.ap-northeast-2.amazonaws.com/profile/benchmark-user.png");
+                params.add(userId);
+                params.add(base.projectId());
+                params.add(now);
+                params.add(now);
+            }
+            jdbcTemplate.update(sql, params.toArray());
+        }
+    }
+
+    private long relationSize(String table) {
+        Long size = jdbcTemplate.queryForObject("SELECT pg_total_relation_size(?::regclass)", Long.class, table);
+        return size == null ? 0L : size;
+    }
+
+    private void truncate() {
+        jdbcTemplate.execute("TRUNCATE project_notification, notification_body RESTART IDENTITY CASCADE");
+        jdbcTemplate.execute("TRUNCATE legacy_project_notification RESTART IDENTITY");
+    }
+}
@@ -0,0 +1,272 @@
+package com.workhub.projectNotification.service;
+
+import com.workhub.global.error.exception.BusinessException;
+import com.workhub.global.notification.NotificationLatencyRecorder;
+import com.workhub.projectNotification.bus.NotificationBus;
+import com.workhub.projectNotification.dto.NotificationPageRequest;
+import com.workhub.projectNotification.dto.NotificationPageResponse;
+import com.workhub.projectNotification.dto.NotificationPublishRequest;
+import com.workhub.projectNotification.dto.NotificationReadRequest;
+import com.workhub.projectNotification.dto.NotificationReadResponse;
+import com.workhub.projectNotification.dto.NotificationResponse;
+import com.workhub.projectNotification.entity.NotificationBody;
+import com.workhub.projectNotification.entity.NotificationType;
+import com.workhub.projectNotification.entity.ProjectNotification;
+import com.workhub.projectNotification.repository.ProjectNotificationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectNotificationServiceTest {
+
+    @Mock
+    private ProjectNotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationEmitterService emitterService;
+
+    @Mock
+    private NotificationBus notificationBus;
+
+    @Mock
+    private UnreadCountService unreadCountService;
+
+    @Mock
+    private NotificationReplayBuffer replayBuffer;
+
+    @Mock
+    private NotificationPartitionManager partitionManager;
+
+    @Mock
+    private NotificationPreferenceService preferenceService;
+
+    @Mock
+    private NotificationLatencyRecorder latencyRecorder;
+
+    @InjectMocks
+    private ProjectNotificationService notificationService;
+
+    @Test
+    @DisplayName("일괄 발행 시 수신자 전원의 알림을 한 번에 저장하고 생성된 PK로 SSE를 전송한다.")
+    void givenReceivers_whenPublishAll_thenBulkInsertOnceAndPushWithGeneratedIds() {
+        NotificationPublishRequest base = NotificationPublishRequest.forProject(null, NotificationType.STATUS_CHANGED, 1L)
+                .title("프로젝트")
+                .content("상태 변경")
+                .relatedUrl("/projects/1");
+        AtomicLong sequence = new AtomicLong(100L);
+        when(notificationRepository.bulkInsert(any(NotificationBody.class), anyCollection())).thenAnswer(invocation -> {
+            NotificationBody body = invocation.getArgument(0);
+            Collection<Long> receiverIds = invocation.getArgument(1);
+            return receiverIds.stream()
+                    .map(userId -> ProjectNotification.builder()
+                            .projectNotificationId(sequence.incrementAndGet())
+                            .body(body)
+                            .userId(userId)
+                            .createdAt(LocalDateTime.now())
+                            .build())
+                    .toList();
+        });
+
+        List<NotificationResponse> result = notificationService.publishAll(base, Set.of(10L, 20L, 30L));
+
+        ArgumentCaptor<NotificationBody> bodyCaptor = ArgumentCaptor.forClass(NotificationBody.class);
+        verify(notificationRepository, times(1)).bulkInsert(bodyCaptor.capture(), eq(Set.of(10L, 20L, 30L)));
+        verify(notificationRepository, never()).saveAndFlush(any());
+        assertThat(bodyCaptor.getValue().getProjectId()).isEqualTo(1L);
+        assertThat(bodyCaptor.getValue().getTitle()).isEqualTo("프로젝트");
+        assertThat(result).extracting(NotificationResponse::id).containsExactlyInAnyOrder(101L, 102L, 103L);
+        assertThat(result).extracting(NotificationResponse::title).containsOnly("프로젝트");
+        verify(notificationBus, times(3)).publish(any(), any(NotificationResponse.class), anyLong());
+        verify(notificationBus).publish(eq(10L), any(NotificationResponse.class), anyLong());
+        verify(unreadCountService).increment(Set.of(10L, 20L, 30L));
+    }
+
+    @Test
+    @DisplayName("IN_APP_ONLY 수신자의 알림은 저장하지만 SSE로 전송하지 않는다.")
+    void givenInAppOnlyReceiver_whenPublishAll_thenStoreWithoutPush() {
+        NotificationPublishRequest base = NotificationPublishRequest.forProject(null, NotificationType.STATUS_CHANGED, 1L)
+                .title("프로젝트");
+        AtomicLong sequence = new AtomicLong(100L);
+        when(preferenceService.inAppOnlyReceivers(eq(NotificationType.STATUS_CHANGED), anyCollection())).thenReturn(Set.of(20L));
+        when(notificationRepository.bulkInsert(any(NotificationBody.class), anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> receiverIds = invocation.getArgument(1);
+            return receiverIds.stream()
+                    .map(userId -> ProjectNotification.builder()
+                            .projectNotificationId(sequence.incrementAndGet())
+                            .body(invocation.getArgument(0))
+                            .userId(userId)
+                            .createdAt(LocalDateTime.now())
+                            .build())
+                    .toList();
+        });
+
+        List<NotificationResponse> result = notificationService.publishAll(base, Set.of(10L, 20L));
+
+        assertThat(result).hasSize(2);
+        verify(notificationBus).publish(eq(10L), any(NotificationResponse.class), anyLong());
+        verify(notificationBus, never()).publish(eq(20L), any(NotificationResponse.class), anyLong());
+        verify(unreadCountService).increment(Set.of(10L, 20L));
+    }
+
+    @Test
+    @DisplayName("호출 측 트랜잭션이 롤백되면 버스로 발행하지 않고, 커밋되면 그때 발행한다.")
+    void givenCallerTransaction_whenRollbackOrCommit_thenPublishOnlyAfterCommit() {
+        NotificationPublishRequest base = NotificationPublishRequest.forProject(null, NotificationType.STATUS_CHANGED, 1L)
+                .title("프로젝트");
+        AtomicLong sequence = new AtomicLong(100L);
+        when(notificationRepository.bulkInsert(any(NotificationBody.class), anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> receiverIds = invocation.getArgument(1);
+            return receiverIds.stream()
+                    .map(userId -> ProjectNotification.builder()
+                            .projectNotificationId(sequence.incrementAndGet())
+                            .body(invocation.getArgument(0))
+                            .userId(userId)
+                            .createdAt(LocalDateTime.now())
+                            .build())
+                    .toList();
+        });
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            notificationService.publishAll(base, Set.of(10L, 20L));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verifyNoInteractions(notificationBus);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            notificationService.publishAll(base, Set.of(10L, 20L));
+            verifyNoInteractions(notificationBus);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(notificationBus).publish(eq(10L), any(NotificationResponse.class), anyLong());
+        verify(notificationBus).publish(eq(20L), any(NotificationResponse.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("수신자가 없으면 저장하지 않는다.")
+    void givenNoReceivers_whenPublishAll_thenDoNothing() {
+        NotificationPublishRequest base = NotificationPublishRequest.forPost(null, NotificationType.POST_CREATED, 1L);
+
+        List<NotificationResponse> result = notificationService.publishAll(base, Set.of());
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(notificationRepository, notificationBus);
+    }
+
+    @Test
+    @DisplayName("ids와 upToId를 모두 비우면 전체를 한 번에 읽음 처리하고 카운터를 0으로 맞춘다.")
+    void givenEmptyRequest_whenMarkReadBulk_thenMarkAllReadAndReset() {
+        when(notificationRepository.markAllRead(eq(1L), any(LocalDateTime.class))).thenReturn(7);
+
+        NotificationReadResponse response = notificationService.markReadBulk(1L, new NotificationReadRequest(null, null));
+
+        assertThat(response.updatedCount()).isEqualTo(7);
+        assertThat(response.unreadCount()).isZero();
+        verify(unreadCountService).reset(1L);
+        verify(notificationRepository, never()).markReadUpTo(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("upToId 지정 시 해당 ID 이하만 읽음 처리하고 처리 건수만큼 카운터를 줄인다.")
+    void givenUpToId_whenMarkReadBulk_thenDecrementByUpdated() {
+        when(unreadCountService.get(1L)).thenReturn(10L);
+        when(notificationRepository.markReadUpTo(eq(1L), eq(100L), any(LocalDateTime.class))).thenReturn(4);
+
+        NotificationReadResponse response = notificationService.markReadBulk(1L, new NotificationReadRequest(100L, null));
+
+        assertThat(response.updatedCount()).isEqualTo(4);
+        assertThat(response.unreadCount()).isEqualTo(6L);
+        verify(unreadCountService).decrement(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("ids와 upToId를 함께 지정하면 예외가 발생한다.")
+    void givenIdsAndUpToId_whenMarkReadBulk_thenThrow() {
+        NotificationReadRequest request = new NotificationReadRequest(100L, List.of(1L, 2L));
+
+        assertThatThrownBy(() -> notificationService.markReadBulk(1L, request))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(notificationRepository, unreadCountService);
+    }
+
+    @Test
+    @DisplayName("before 커서 조회 시 size + 1건이 오면 마지막 한 건을 잘라내고 다음 before 커서를 돌려준다.")
+    void givenMoreRowsThanSize_whenListPageBefore_thenTrimAndReturnCursor() {
+        NotificationPageRequest request = NotificationPageRequest.of(100L, null, 3, false, null);
+        when(notificationRepository.findPage(1L, request, null, null)).thenReturn(receipts(99L, 98L, 97L, 96L));
+
+        NotificationPageResponse page = notificationService.listPage(1L, request);
+
+        assertThat(page.notifications()).extracting(NotificationResponse::id).containsExactly(99L, 98L, 97L);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(page.beforeCursor()).isEqualTo(97L);
+        assertThat(page.afterCursor()).isEqualTo(99L);
+    }
+
+    @Test
+    @DisplayName("after 커서 조회 시 넘치는 한 건은 가장 최신 쪽에서 잘라내 after 바로 다음 구간을 돌려준다.")
+    void givenMoreRowsThanSize_whenListPageAfter_thenTrimNewest() {
+        NotificationPageRequest request = NotificationPageRequest.of(null, 10L, 3, true, NotificationType.STATUS_CHANGED);
+        when(notificationRepository.findPage(1L, request, null, null)).thenReturn(receipts(14L, 13L, 12L, 11L));
+
+        NotificationPageResponse page = notificationService.listPage(1L, request);
+
+        assertThat(page.notifications()).extracting(NotificationResponse::id).containsExactly(13L, 12L, 11L);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(page.afterCursor()).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("before와 after를 함께 지정하면 예외가 발생한다.")
+    void givenBeforeAndAfter_whenListPage_thenThrow() {
+        NotificationPageRequest request = NotificationPageRequest.of(100L, 10L, 20, false, null);
+
+        assertThatThrownBy(() -> notificationService.listPage(1L, request))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(notificationRepository);
+    }
+
+    private List<ProjectNotification> receipts(long... ids) {
+        NotificationBody body = NotificationBody.builder()
+                .notificationType(NotificationType.STATUS_CHANGED)
+                .title("프로젝트")
+                .notificationContent("상태 변경")
+                .projectId(1L)
+                .build();
+        return LongStream.of(ids)
+                .mapToObj(id -> ProjectNotification.builder()
+                        .projectNotificationId(id)
+                        .body(body)
+                        .userId(1L)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.workhub.projectNotification.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseConnectionRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SseConnectionRegistry registry = new SseConnectionRegistry(meterRegistry);
+
+    @Test
+    @DisplayName("같은 사용자의 두 번째 연결이 첫 번째 연결을 덮어쓰지 않고, 먼저 닫힌 연결 정리가 새 연결을 지우지 않는다.")
+    void givenTwoTabs_whenFirstClosed_thenSecondRemains() {
+        SseConnection firstTab = new SseConnection(1L, new SseEmitter());
+        SseConnection secondTab = new SseConnection(1L, new SseEmitter());
+
+        registry.add(firstTab);
+        registry.add(secondTab);
+        assertThat(registry.connectionsOf(1L)).containsExactlyInAnyOrder(firstTab, secondTab);
+
+        registry.remove(firstTab);
+
+        assertThat(registry.connectionsOf(1L)).containsExactly(secondTab);
+        assertThat(registry.connectionCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.sse.connections").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이미 제거된 연결을 다시 제거해도 연결 수가 음수가 되지 않는다.")
+    void givenRemovedConnection_whenRemoveAgain_thenNoop() {
+        SseConnection connection = new SseConnection(1L, new SseEmitter());
+        registry.add(connection);
+
+        assertThat(registry.remove(connection)).isTrue();
+        assertThat(registry.remove(connection)).isFalse();
+        assertThat(registry.connectionCount()).isZero();
+        assertThat(registry.userCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 연결을 추가/삭제해도 집계가 일관된다.")
+    void givenConcurrentAddAndRemove_thenCountsConsistent() throws Exception {
+        int users = 50;
+        int connectionsPerUser = 20;
+        List<SseConnection> connections = new ArrayList<>();
+        for (long userId = 1; userId <= users; userId++) {
+            for (int i = 0; i < connectionsPerUser; i++) {
+                connections.add(new SseConnection(userId, new SseEmitter()));
+            }
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (SseConnection connection : connections) {
+                futures.add(executor.submit(() -> {
+                    registry.add(connection);
+                    if (connection.getEmitter().hashCode() % 2 == 0) {
+                        registry.remove(connection);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        long expected = connections.stream().filter(c -> c.getEmitter().hashCode() % 2 != 0).count();
+        int actual = 0;
+        for (long userId = 1; userId <= users; userId++) {
+            actual += registry.connectionsOf(userId).size();
+        }
+        assertThat(registry.connectionCount()).isEqualTo((int) expected);
+        assertThat(actual).isEqualTo((int) expected);
+    }
+}
@@ -0,0 +1,104 @@
+package com.workhub.projectNotification.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 10k 가상 emitter 대상 heartbeat 부하 비교.
+ * - 기존 방식: 스케줄러 스레드 하나가 모든 연결에 순차로 ping
+ * - 타이머 휠: tick마다 슬롯 하나만 처리하고 쓰기는 가상 스레드에서 수행
+ * 1%의 연결은 쓰기마다 20ms 지연되는 느린 소켓으로 시뮬레이션한다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+class SseHeartbeatBenchmarkTest {
+
+    private static final int CONNECTIONS = 10_000;
+    private static final int SLOW_EVERY = 100;
+    private static final long SLOW_WRITE_MS = 20L;
+
+    @Test
+    @DisplayName("순차 sweep vs 타이머 휠 tick 처리 시간 비교")
+    void compareSequentialSweepAndTimerWheel() throws InterruptedException {
+        AtomicInteger writes = new AtomicInteger();
+
+        List<SseConnection> sweepConnections = newConnections(writes, new SseConnectionRegistry(new SimpleMeterRegistry()));
+        long start = System.nanoTime();
+        for (SseConnection connection : sweepConnections) {
+            try {
+                connection.getEmitter().send(SseEmitter.event().name("ping").data("keep-alive"));
+            } catch (IOException ignored) {
+            }
+        }
+        double sweepMs = (System.nanoTime() - start) / 1_000_000.0;
+        int sweepWrites = writes.getAndSet(0);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SseConnectionRegistry registry = new SseConnectionRegistry(meterRegistry);
+        SseHeartbeatScheduler scheduler = new SseHeartbeatScheduler(registry, meterRegistry, 30_000L, 1_000L, 90_000L);
+        newConnections(writes, registry).forEach(scheduler::register);
+
+        double maxTickMs = 0;
+        double totalTickMs = 0;
+        for (int i = 0; i < scheduler.wheelSize(); i++) {
+            long tickStart = System.nanoTime();
+            scheduler.tick();
+            double tickMs = (System.nanoTime() - tickStart) / 1_000_000.0;
+            maxTickMs = Math.max(maxTickMs, tickMs);
+            totalTickMs += tickMs;
+        }
+        for (int i = 0; i < 500 && writes.get() < CONNECTIONS; i++) {
+            Thread.sleep(10);
+        }
+        scheduler.shutdown();
+
+        System.out.printf("[sse-heartbeat] connections=%d sequentialSweep=%.1fms wheelTotal=%.1fms wheelMaxTick=%.2fms (slots=%d)%n",
+                CONNECTIONS, sweepMs, totalTickMs, maxTickMs, scheduler.wheelSize());
+
+        assertThat(sweepWrites).isEqualTo(CONNECTIONS);
+        assertThat(writes.get()).isEqualTo(CONNECTIONS);
+        assertThat(maxTickMs).isLessThan(sweepMs);
+    }
+
+    private List<SseConnection> newConnections(AtomicInteger writes, SseConnectionRegistry registry) {
+        List<SseConnection> connections = new ArrayList<>(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) {
+            SseConnection connection = new SseConnection((long) i, new SimulatedEmitter(writes, i % SLOW_EVERY == 0));
+            registry.add(connection);
+            connections.add(connection);
+        }
+        return connections;
+    }
+
+    private static class SimulatedEmitter extends SseEmitter {
+        private final AtomicInteger writes;
+        private final boolean slow;
+
+        SimulatedEmitter(AtomicInteger writes, boolean slow) {
+            this.writes = writes;
+            this.slow = slow;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (slow) {
+                try {
+                    Thread.sleep(SLOW_WRITE_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            writes.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.workhub.projectNotification.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseHeartbeatSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SseConnectionRegistry registry = new SseConnectionRegistry(meterRegistry);
+    private final SseHeartbeatScheduler scheduler =
+            new SseHeartbeatScheduler(registry, meterRegistry, 30_000L, 1_000L, 90_000L);
+
+    @Test
+    @DisplayName("heartbeat 주기를 tick 단위 슬롯으로 나눈다.")
+    void givenIntervalAndTick_thenWheelSizeIsIntervalOverTick() {
+        assertThat(scheduler.wheelSize()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("최근 실제 알림을 받은 연결은 ping을 생략한다.")
+    void givenRecentEvent_whenProcessSlot_thenSkipPing() {
+        CountingEmitter emitter = new CountingEmitter(false);
+        SseConnection connection = register(emitter);
+        connection.markEventSent();
+
+        scheduler.processSlot(Set.of(connection), System.currentTimeMillis());
+
+        assertThat(emitter.sent.get()).isZero();
+        assertThat(meterRegistry.get("notification.sse.heartbeat.pings").tag("result", "skipped").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("유휴 한도 동안 쓰기에 성공하지 못한 연결은 정리한다.")
+    void givenIdleConnection_whenProcessSlot_thenClose() {
+        SseConnection connection = register(new CountingEmitter(false));
+        Set<SseConnection> slot = ConcurrentHashMap.newKeySet();
+        slot.add(connection);
+
+        scheduler.processSlot(slot, System.currentTimeMillis() + 90_001L);
+
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(registry.connectionCount()).isZero();
+        assertThat(slot).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ping 쓰기에 실패한 연결은 레지스트리에서 제거한다.")
+    void givenBrokenSocket_whenPing_thenRemove() throws InterruptedException {
+        SseConnection connection = register(new CountingEmitter(true));
+
+        scheduler.processSlot(Set.of(connection), System.currentTimeMillis());
+
+        for (int i = 0; i < 100 && !connection.isClosed(); i++) {
+            Thread.sleep(20);
+        }
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(registry.connectionsOf(1L)).isEmpty();
+    }
+
+    private SseConnection register(SseEmitter emitter) {
+        SseConnection connection = new SseConnection(1L, emitter);
+        registry.add(connection);
+        return connection;
+    }
+
+    private static class CountingEmitter extends SseEmitter {
+        private final boolean broken;
+        private final AtomicInteger sent = new AtomicInteger();
+
+        CountingEmitter(boolean broken) {
+            this.broken = broken;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("broken pipe");
+            }
+            sent.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.workhub.projectNotification.service;
+
+import com.workhub.projectNotification.bus.NotificationBus;
+import com.workhub.projectNotification.dto.UnreadCount;
+import com.workhub.projectNotification.repository.ProjectNotificationRepository;
+import com.workhub.projectNotification.unread.InMemoryUnreadCountStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class UnreadCountServiceTest {
+
+    private final ProjectNotificationRepository notificationRepository = mock(ProjectNotificationRepository.class);
+    private final NotificationBus notificationBus = mock(NotificationBus.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SseConnectionRegistry connectionRegistry = new SseConnectionRegistry(meterRegistry);
+    private InMemoryUnreadCountStore store;
+    private UnreadCountService unreadCountService;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryUnreadCountStore(1_000);
+        unreadCountService = new UnreadCountService(store, notificationRepository, notificationBus,
+                connectionRegistry, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 DB에서 계산해 채우고, 이후 조회는 DB를 타지 않는다.")
+    void givenMiss_whenGet_thenRebuildOnceFromDb() {
+        when(notificationRepository.countByUserIdAndReadAtIsNull(1L)).thenReturn(7L);
+
+        assertThat(unreadCountService.get(1L)).isEqualTo(7L);
+        assertThat(unreadCountService.get(1L)).isEqualTo(7L);
+
+        verify(notificationRepository, times(1)).countByUserIdAndReadAtIsNull(1L);
+    }
+
+    @Test
+    @DisplayName("발행/읽음 처리 시 카운터를 증감하고 바뀐 값을 SSE로 푸시한다.")
+    void givenCachedCounter_whenIncrementAndDecrement_thenPushNewCount() {
+        store.set(1L, 3L);
+
+        unreadCountService.increment(List.of(1L));
+        unreadCountService.decrement(1L, 2L);
+
+        verify(notificationBus).publishUnreadCount(1L, 4L);
+        verify(notificationBus).publishUnreadCount(1L, 2L);
+        assertThat(store.get(1L).getAsLong()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("카운터가 없는 사용자는 증감하지 않고 푸시하지도 않는다.")
+    void givenNoCounter_whenIncrement_thenNothing() {
+        unreadCountService.increment(List.of(1L));
+
+        assertThat(store.get(1L)).isEmpty();
+        verify(notificationBus, never()).publishUnreadCount(anyLong(), anyLong());
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("대조 작업은 연결된 사용자의 카운터를 DB 집계로 보정한다.")
+    void givenDriftedCounter_whenReconcile_thenCorrectAndPush() {
+        connectionRegistry.add(new SseConnection(1L, new SseEmitter()));
+        connectionRegistry.add(new SseConnection(2L, new SseEmitter()));
+        store.set(1L, 10L);
+        store.set(2L, 5L);
+        when(notificationRepository.countUnreadByUserIdIn(anyCollection()))
+                .thenReturn(List.of(new UnreadCount(2L, 5L)));
+
+        unreadCountService.reconcile();
+
+        assertThat(store.get(1L).getAsLong()).isZero();
+        assertThat(store.get(2L).getAsLong()).isEqualTo(5L);
+        verify(notificationBus).publishUnreadCount(1L, 0L);
+        verify(notificationBus, never()).publishUnreadCount(2L, 5L);
+    }
+}